@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Allocator of buffers used to write data to the underlying transport.
+ * <p>
+ * A buffer obtained from an allocator should be {@link BufferData#release() released} once it is no longer needed.
+ * When a buffer is passed to a {@link io.helidon.common.buffers.DataWriter}, the writer releases it once written,
+ * and the buffer must not be used after that.
+ * <p>
+ * Implementations must be thread safe.
+ *
+ * @see #unpooled()
+ * @see io.helidon.common.buffers.PooledBufferAllocator
+ */
+@FunctionalInterface
+public interface BufferAllocator {
+    /**
+     * Allocator that creates a new buffer each time, releasing buffers does nothing.
+     *
+     * @return allocator without pooling
+     */
+    static BufferAllocator unpooled() {
+        return BufferData::growing;
+    }
+
+    /**
+     * Allocate a buffer. The buffer grows when necessary to accommodate more bytes.
+     *
+     * @param initialCapacity expected number of bytes to be written to the buffer
+     * @return an empty buffer
+     */
+    BufferData allocate(int initialCapacity);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -640,6 +640,16 @@ public interface BufferData {
      */
     int get(int index);
 
+    /**
+     * Release this buffer, so its memory can be reused by the {@link io.helidon.common.buffers.BufferAllocator}
+     * it was obtained from. The buffer must not be used after it is released.
+     * Buffers that were not obtained from a pooling allocator ignore this call.
+     * <p>
+     * {@link io.helidon.common.buffers.DataWriter} implementations release buffers once they are written.
+     */
+    default void release() {
+    }
+
     /**
      * Read the content of this data as bytes.
      * This method always creates a new byte array.
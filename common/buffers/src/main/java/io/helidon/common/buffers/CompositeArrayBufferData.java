@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,13 @@ class CompositeArrayBufferData extends ReadOnlyBufferData implements CompositeBu
         return this;
     }
 
+    @Override
+    public void release() {
+        for (BufferData datum : data) {
+            datum.release();
+        }
+    }
+
     @Override
     public void writeTo(OutputStream out) {
         if (data.length == 1) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -54,6 +54,13 @@ class CompositeListBufferData extends ReadOnlyBufferData implements CompositeBuf
         return this;
     }
 
+    @Override
+    public void release() {
+        for (BufferData datum : data) {
+            datum.release();
+        }
+    }
+
     @Override
     public void writeTo(OutputStream out) {
         if (data.size() == 1) {
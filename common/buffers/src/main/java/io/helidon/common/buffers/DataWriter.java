@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,11 @@
 
 package io.helidon.common.buffers;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
 /**
  * Write data to the underlying transport (most likely a socket).
  * Do not combine {@link #write(io.helidon.common.buffers.BufferData)} and {@link #writeNow(io.helidon.common.buffers.BufferData)}
@@ -50,6 +55,38 @@ public interface DataWriter extends AutoCloseable {
      */
     void writeNow(BufferData buffer);
 
+    /**
+     * Write a region of a file to underlying transport blocking until the bytes are written.
+     * Implementations may transfer the file without copying it through the heap, the default implementation
+     * reads the file to a buffer and writes it using {@link #writeNow(BufferData)}.
+     *
+     * @param file     file to write
+     * @param position position of the first byte of the file to write
+     * @param length   number of bytes to write
+     * @throws java.io.UncheckedIOException in case the file cannot be read, or it is shorter than requested
+     */
+    default void writeNow(FileChannel file, long position, long length) {
+        byte[] bytes = new byte[(int) Math.min(length, 64 * 1024)];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long current = position;
+        long remaining = length;
+        try {
+            while (remaining > 0) {
+                buffer.clear();
+                buffer.limit((int) Math.min(remaining, bytes.length));
+                int read = file.read(buffer, current);
+                if (read == -1) {
+                    throw new IOException("File ended before all " + length + " bytes were written");
+                }
+                writeNow(BufferData.create(bytes, 0, read));
+                current += read;
+                remaining -= read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Flushes to the underlying transport any pending data that has been written using
      * either {@link #write(BufferData)} or {@link #write(BufferData...)}.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,12 @@ class GrowingBufferData implements BufferData {
         this.length = 0;
     }
 
+    // initial bytes provided by an allocator
+    GrowingBufferData(byte[] initialBytes) {
+        this.bytes = initialBytes;
+        this.length = 0;
+    }
+
     public boolean ready() {
         return writePosition > readPosition;
     }
@@ -141,19 +147,17 @@ class GrowingBufferData implements BufferData {
 
     @Override
     public void write(BufferData toWrite) {
-        ensureSize(toWrite.available());
-        byte[] buffer = new byte[toWrite.available()];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
+        int available = toWrite.available();
+        ensureSize(available);
+        // read directly into our array, no need for an intermediate copy
+        int read = toWrite.read(this.bytes, writePosition, available);
         writePosition += read;
     }
 
     @Override
     public void write(BufferData toWrite, int length) {
         ensureSize(length);
-        byte[] buffer = new byte[length];
-        int read = toWrite.read(buffer);
-        System.arraycopy(buffer, 0, this.bytes, writePosition, read);
+        int read = toWrite.read(this.bytes, writePosition, length);
         writePosition += read;
     }
 
@@ -227,6 +231,38 @@ class GrowingBufferData implements BufferData {
         return Arrays.copyOfRange(bytes, 0, length);
     }
 
+    /**
+     * Allocate a new array when this buffer needs to grow.
+     *
+     * @param length length of the new array
+     * @return a new array
+     */
+    byte[] newArray(int length) {
+        return new byte[length];
+    }
+
+    /**
+     * Called when an array is no longer used by this buffer, after the buffer grew.
+     *
+     * @param discarded array no longer used
+     */
+    void discarded(byte[] discarded) {
+    }
+
+    /**
+     * Remove the underlying array from this buffer, the buffer is empty afterward.
+     *
+     * @return the array used by this buffer until now
+     */
+    byte[] detach() {
+        byte[] current = this.bytes;
+        this.bytes = EMPTY_BYTES;
+        this.length = 0;
+        this.readPosition = 0;
+        this.writePosition = 0;
+        return current;
+    }
+
     private void ensureSize(int i) {
         if (this.bytes.length > writePosition + i) {
             return;
@@ -240,7 +276,9 @@ class GrowingBufferData implements BufferData {
             // int overflow
             throw new IllegalStateException("Growing buffer too big, cannot increase size");
         }
-        this.bytes = new byte[newLength];
-        System.arraycopy(current, 0, this.bytes, 0, length);
+        this.bytes = newArray(newLength);
+        // writes of buffer data do not update length, make sure all written bytes are kept
+        System.arraycopy(current, 0, this.bytes, 0, Math.max(length, writePosition));
+        discarded(current);
     }
 }
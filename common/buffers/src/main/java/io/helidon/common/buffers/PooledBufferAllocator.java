@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.lang.ref.Cleaner;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffer allocator that reuses released byte arrays.
+ * <p>
+ * Arrays are pooled in size classes (powers of two from {@value #MIN_BUFFER_SIZE} bytes up to the configured maximal
+ * buffer size). To limit contention, the pool is split into stripes, and the stripe is chosen based on the current thread.
+ * Thread locals are not used, as each request may be handled by a new virtual thread.
+ * Buffers bigger than the maximal buffer size are allocated and discarded as usual.
+ * <p>
+ * When leak detection is enabled (intended for tests), each buffer is tracked, and a warning with the stack trace of the
+ * allocation is logged when a buffer is garbage collected without being {@link BufferData#release() released}.
+ * Buffers also fail when written to after they were released.
+ */
+public final class PooledBufferAllocator implements BufferAllocator {
+    /**
+     * Smallest size of a pooled buffer.
+     */
+    public static final int MIN_BUFFER_SIZE = 256;
+    /**
+     * Default number of arrays pooled for each size class in each stripe.
+     */
+    public static final int DEFAULT_MAX_POOLED_BUFFERS = 32;
+    /**
+     * Default size of the biggest pooled buffer.
+     */
+    public static final int DEFAULT_MAX_BUFFER_SIZE = 64 * 1024;
+
+    private static final System.Logger LOGGER = System.getLogger(PooledBufferAllocator.class.getName());
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_SIZE);
+
+    private final int maxBufferSize;
+    private final boolean leakDetection;
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final LongAdder leaks = new LongAdder();
+
+    private PooledBufferAllocator(int maxPooledBuffers, int maxBufferSize, boolean leakDetection) {
+        this.maxBufferSize = sizeClassLength(Math.max(maxBufferSize, MIN_BUFFER_SIZE));
+        this.leakDetection = leakDetection;
+
+        int sizeClasses = sizeClass(this.maxBufferSize) + 1;
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(sizeClasses, maxPooledBuffers);
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Create a pooled allocator with default limits and leak detection disabled.
+     *
+     * @return a new pooled allocator
+     */
+    public static PooledBufferAllocator create() {
+        return create(DEFAULT_MAX_POOLED_BUFFERS, DEFAULT_MAX_BUFFER_SIZE, false);
+    }
+
+    /**
+     * Create a pooled allocator.
+     *
+     * @param maxPooledBuffers maximal number of arrays pooled for each size class in each stripe, arrays released when
+     *                         the pool is full are discarded
+     * @param maxBufferSize    size of the biggest pooled buffer, rounded up to a power of two
+     * @param leakDetection    whether to track buffers that are not released (expensive, use in tests)
+     * @return a new pooled allocator
+     */
+    public static PooledBufferAllocator create(int maxPooledBuffers, int maxBufferSize, boolean leakDetection) {
+        if (maxPooledBuffers < 0) {
+            throw new IllegalArgumentException("Maximal number of pooled buffers must not be negative, but is "
+                                                       + maxPooledBuffers);
+        }
+        return new PooledBufferAllocator(maxPooledBuffers, maxBufferSize, leakDetection);
+    }
+
+    @Override
+    public BufferData allocate(int initialCapacity) {
+        byte[] bytes = acquire(Math.max(initialCapacity, MIN_BUFFER_SIZE));
+        if (leakDetection) {
+            LeakCheck leakCheck = new LeakCheck(leaks, new IllegalStateException("Buffer allocated here"));
+            PooledBufferData buffer = new PooledBufferData(this, bytes, leakCheck);
+            buffer.cleanable(CleanerHolder.CLEANER.register(buffer, leakCheck));
+            return buffer;
+        }
+        return new PooledBufferData(this, bytes, null);
+    }
+
+    /**
+     * Number of buffers that were garbage collected without being released. Only counted when leak detection is enabled.
+     *
+     * @return number of leaked buffers
+     */
+    public long leaks() {
+        return leaks.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "PooledBufferAllocator{"
+                + "maxBufferSize=" + maxBufferSize
+                + ", stripes=" + stripes.length
+                + ", leakDetection=" + leakDetection
+                + "}";
+    }
+
+    byte[] acquire(int minLength) {
+        if (minLength > maxBufferSize) {
+            return new byte[minLength];
+        }
+        int sizeClass = sizeClass(minLength);
+        byte[] pooled = stripe().take(sizeClass);
+        return pooled == null ? new byte[MIN_BUFFER_SIZE << sizeClass] : pooled;
+    }
+
+    void release(byte[] bytes) {
+        int length = bytes.length;
+        // only arrays of exactly our size classes are pooled
+        if (length < MIN_BUFFER_SIZE || length > maxBufferSize || Integer.bitCount(length) != 1) {
+            return;
+        }
+        stripe().offer(sizeClass(length), bytes);
+    }
+
+    private static int sizeClass(int length) {
+        if (length <= MIN_BUFFER_SIZE) {
+            return 0;
+        }
+        return 32 - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    private static int sizeClassLength(int length) {
+        return MIN_BUFFER_SIZE << sizeClass(length);
+    }
+
+    private Stripe stripe() {
+        return stripes[(int) Thread.currentThread().threadId() & stripeMask];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final byte[][][] pools;
+        private final int[] sizes;
+
+        private Stripe(int sizeClasses, int maxPooledBuffers) {
+            this.pools = new byte[sizeClasses][maxPooledBuffers][];
+            this.sizes = new int[sizeClasses];
+        }
+
+        private byte[] take(int sizeClass) {
+            lock.lock();
+            try {
+                int size = sizes[sizeClass];
+                if (size == 0) {
+                    return null;
+                }
+                size--;
+                byte[][] pool = pools[sizeClass];
+                byte[] result = pool[size];
+                pool[size] = null;
+                sizes[sizeClass] = size;
+                return result;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void offer(int sizeClass, byte[] bytes) {
+            lock.lock();
+            try {
+                int size = sizes[sizeClass];
+                byte[][] pool = pools[sizeClass];
+                if (size < pool.length) {
+                    pool[size] = bytes;
+                    sizes[sizeClass] = size + 1;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // must not reference the buffer, otherwise it would never become unreachable
+    static final class LeakCheck implements Runnable {
+        private final LongAdder leaks;
+        private final Throwable allocatedAt;
+        private volatile boolean released;
+
+        private LeakCheck(LongAdder leaks, Throwable allocatedAt) {
+            this.leaks = leaks;
+            this.allocatedAt = allocatedAt;
+        }
+
+        @Override
+        public void run() {
+            if (!released) {
+                leaks.increment();
+                LOGGER.log(System.Logger.Level.WARNING, "A pooled buffer was garbage collected without being released,"
+                        + " its memory was not returned to the pool", allocatedAt);
+            }
+        }
+
+        void released() {
+            this.released = true;
+        }
+    }
+
+    // lazily started, as the cleaner uses a thread
+    private static final class CleanerHolder {
+        private static final Cleaner CLEANER = Cleaner.create();
+    }
+}
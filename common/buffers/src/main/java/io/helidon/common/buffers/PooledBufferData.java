@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.lang.ref.Cleaner;
+
+/**
+ * Growing buffer that obtains its arrays from a {@link io.helidon.common.buffers.PooledBufferAllocator}, and returns
+ * them when grown or released.
+ */
+class PooledBufferData extends GrowingBufferData {
+    private final PooledBufferAllocator allocator;
+    private final PooledBufferAllocator.LeakCheck leakCheck;
+
+    private Cleaner.Cleanable cleanable;
+    private boolean released;
+
+    PooledBufferData(PooledBufferAllocator allocator, byte[] bytes, PooledBufferAllocator.LeakCheck leakCheck) {
+        super(bytes);
+        this.allocator = allocator;
+        this.leakCheck = leakCheck;
+    }
+
+    @Override
+    public void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        allocator.release(detach());
+        if (leakCheck != null) {
+            leakCheck.released();
+            cleanable.clean();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return (released ? "released " : "pooled ") + super.toString();
+    }
+
+    @Override
+    byte[] newArray(int length) {
+        if (released) {
+            throw new IllegalStateException("Buffer was already released, it must not be used anymore");
+        }
+        return allocator.acquire(length);
+    }
+
+    @Override
+    void discarded(byte[] discarded) {
+        allocator.release(discarded);
+    }
+
+    void cleanable(Cleaner.Cleanable cleanable) {
+        this.cleanable = cleanable;
+    }
+
+    // for tests, cleaning runs the leak check the same way as when the buffer is garbage collected
+    Cleaner.Cleanable cleanable() {
+        return cleanable;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PooledBufferAllocatorTest {
+    @Test
+    void testArrayReused() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        byte[] bytes = allocator.acquire(300);
+        assertThat(bytes.length, is(512));
+        allocator.release(bytes);
+        // same size class
+        assertThat(allocator.acquire(400), sameInstance(bytes));
+        // pool is empty now
+        assertThat(allocator.acquire(400), not(sameInstance(bytes)));
+    }
+
+    @Test
+    void testSizeClasses() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        assertThat(allocator.acquire(1).length, is(256));
+        assertThat(allocator.acquire(256).length, is(256));
+        assertThat(allocator.acquire(257).length, is(512));
+        assertThat(allocator.acquire(64 * 1024).length, is(64 * 1024));
+        // too big to be pooled
+        assertThat(allocator.acquire(64 * 1024 + 1).length, is(64 * 1024 + 1));
+    }
+
+    @Test
+    void testOversizedNotPooled() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create(8, 1024, false);
+
+        byte[] bytes = allocator.acquire(2048);
+        allocator.release(bytes);
+        assertThat(allocator.acquire(2048), not(sameInstance(bytes)));
+    }
+
+    @Test
+    void testPoolLimit() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create(1, 1024, false);
+
+        byte[] first = allocator.acquire(256);
+        byte[] second = allocator.acquire(256);
+        allocator.release(first);
+        allocator.release(second);
+
+        assertThat(allocator.acquire(256), sameInstance(first));
+        assertThat(allocator.acquire(256), not(sameInstance(second)));
+    }
+
+    @Test
+    void testReleaseReturnsArray() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData buffer = allocator.allocate(10);
+        buffer.write("Hello".getBytes());
+        assertThat(buffer.readString(5), is("Hello"));
+        buffer.release();
+        // second release is ignored
+        buffer.release();
+
+        byte[] bytes = allocator.acquire(256);
+        assertThat(allocator.acquire(256), not(sameInstance(bytes)));
+    }
+
+    @Test
+    void testGrowingKeepsContent() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData buffer = allocator.allocate(10);
+        buffer.write(BufferData.create("0123456789".repeat(20)));
+        buffer.write(BufferData.create("abcdefghij".repeat(20)));
+        assertThat(buffer.available(), is(400));
+        assertThat(buffer.readString(400), is("0123456789".repeat(20) + "abcdefghij".repeat(20)));
+        buffer.release();
+    }
+
+    @Test
+    void testWriteAfterRelease() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create();
+
+        BufferData buffer = allocator.allocate(10);
+        buffer.release();
+
+        assertThat(buffer.available(), is(0));
+        assertThrows(IllegalStateException.class, () -> buffer.write(42));
+    }
+
+    @Test
+    void testCompositeRelease() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create(8, 1024, true);
+
+        BufferData first = allocator.allocate(10);
+        BufferData second = allocator.allocate(10);
+        BufferData.create(first, second).release();
+
+        assertThrows(IllegalStateException.class, () -> first.write(42));
+        assertThrows(IllegalStateException.class, () -> second.write(42));
+    }
+
+    @Test
+    void testLeakDetection() {
+        PooledBufferAllocator allocator = PooledBufferAllocator.create(8, 1024, true);
+
+        PooledBufferData released = (PooledBufferData) allocator.allocate(10);
+        released.release();
+        PooledBufferData leaked = (PooledBufferData) allocator.allocate(10);
+
+        // run the leak checks as if the buffers were garbage collected
+        released.cleanable().clean();
+        leaked.cleanable().clean();
+        assertThat(allocator.leaks(), is(1L));
+    }
+}
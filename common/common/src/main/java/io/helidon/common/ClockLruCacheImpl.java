@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Least recently used cache approximated by the clock (second chance) algorithm.
+ * Reads are lock-free, each read only marks the record as referenced. Writes that exceed the capacity remove records
+ * under a lock: a clock hand moves over the records in a circular order, clearing the referenced flag of each
+ * referenced record, and removing the first record that is not referenced.
+ *
+ * @param <K> type of the keys of the map
+ * @param <V> type of the values of the map
+ * @see io.helidon.common.LruCache.Policy#CLOCK
+ */
+final class ClockLruCacheImpl<K, V> implements LruCache<K, V> {
+    private final ConcurrentHashMap<K, Node<V>> backingMap = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int capacity;
+
+    // guarded by evictionLock
+    private Iterator<Map.Entry<K, Node<V>>> hand;
+
+    ClockLruCacheImpl(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public Optional<V> get(K key) {
+        Node<V> node = backingMap.get(key);
+        if (node == null) {
+            return Optional.empty();
+        }
+        node.reference();
+        return Optional.of(node.value);
+    }
+
+    @Override
+    public Optional<V> remove(K key) {
+        Node<V> node = backingMap.remove(key);
+        return node == null ? Optional.empty() : Optional.of(node.value);
+    }
+
+    @Override
+    public Optional<V> put(K key, V value) {
+        Node<V> previous = backingMap.put(key, new Node<>(value));
+        if (previous == null) {
+            reduceSize();
+            return Optional.empty();
+        }
+        return Optional.of(previous.value);
+    }
+
+    @Override
+    public Optional<V> computeValue(K key, Supplier<Optional<V>> valueSupplier) {
+        Optional<V> currentValue = get(key);
+        if (currentValue.isPresent()) {
+            return currentValue;
+        }
+        // same as the strict implementation, we may replace the value more than once if called from parallel threads
+        Optional<V> newValue = valueSupplier.get();
+        newValue.ifPresent(theValue -> put(key, theValue));
+
+        return newValue;
+    }
+
+    @Override
+    public int size() {
+        return backingMap.size();
+    }
+
+    @Override
+    public int capacity() {
+        return capacity;
+    }
+
+    @Override
+    public void clear() {
+        backingMap.clear();
+    }
+
+    private void reduceSize() {
+        if (backingMap.size() <= capacity) {
+            return;
+        }
+        evictionLock.lock();
+        try {
+            // each referenced record gets a second chance, so two rounds are enough to find a record to remove;
+            // if other threads reference records faster than we scan them, we remove records regardless
+            int secondChances = 2 * backingMap.size();
+            while (backingMap.size() > capacity) {
+                Map.Entry<K, Node<V>> entry = advanceHand();
+                if (entry == null) {
+                    return;
+                }
+                Node<V> node = entry.getValue();
+                if (node.referenced && secondChances-- > 0) {
+                    node.referenced = false;
+                } else {
+                    backingMap.remove(entry.getKey(), node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // must be called while holding the eviction lock
+    private Map.Entry<K, Node<V>> advanceHand() {
+        if (hand == null || !hand.hasNext()) {
+            hand = backingMap.entrySet().iterator();
+            if (!hand.hasNext()) {
+                return null;
+            }
+        }
+        return hand.next();
+    }
+
+    private static final class Node<V> {
+        private final V value;
+        private volatile boolean referenced;
+
+        private Node(V value) {
+            this.value = value;
+            // a new record gets a second chance, so it is not removed before it can be read
+            this.referenced = true;
+        }
+
+        private void reference() {
+            // avoid writing to a shared cache line if already referenced
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package io.helidon.common;
 
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -22,6 +24,8 @@ import java.util.function.Supplier;
  * Least recently used cache.
  * This cache has a capacity. When the capacity is reached, the oldest record is removed from the cache when a new one
  * is added.
+ * <p>
+ * How the record to remove is chosen depends on the {@link io.helidon.common.LruCache.Policy}.
  *
  * @param <K> type of the keys of the map
  * @param <V> type of the values of the map
@@ -41,7 +45,7 @@ public interface LruCache<K, V> {
      * @see #DEFAULT_CAPACITY
      */
     static <K, V> LruCache<K, V> create() {
-        return new LruCacheImpl<>(DEFAULT_CAPACITY);
+        return create(DEFAULT_CAPACITY);
     }
 
     /**
@@ -53,7 +57,23 @@ public interface LruCache<K, V> {
      * @return a new cache instance
      */
     static <K, V> LruCache<K, V> create(int capacity) {
-        return new LruCacheImpl<>(capacity);
+        return create(capacity, Policy.defaultPolicy());
+    }
+
+    /**
+     * Create an instance with custom capacity and eviction policy.
+     *
+     * @param capacity of the cache
+     * @param policy   policy used to choose records to remove when the capacity is reached
+     * @param <K>      key type
+     * @param <V>      value type
+     * @return a new cache instance
+     */
+    static <K, V> LruCache<K, V> create(int capacity, Policy policy) {
+        return switch (policy) {
+            case STRICT -> new LruCacheImpl<>(capacity);
+            case CLOCK -> new ClockLruCacheImpl<>(capacity);
+        };
     }
 
     /**
@@ -112,4 +132,56 @@ public interface LruCache<K, V> {
      * Clear all records in the cache.
      */
     void clear();
+
+    /**
+     * Policy used to choose the record to remove from a full cache.
+     */
+    enum Policy {
+        /**
+         * The least recently used record is always removed.
+         * Records are kept in access order, which requires each read to take an exclusive lock, so readers
+         * of the cache are serialized.
+         */
+        STRICT,
+        /**
+         * Approximation of the least recently used policy ("second chance", or clock algorithm).
+         * Reads do not take any lock, they only mark the record as recently used. When a record must be removed,
+         * records are scanned in a circular order, and the first record that was not used since the previous scan
+         * is removed. This policy scales much better when the cache is read from many threads.
+         */
+        CLOCK;
+
+        /**
+         * Name of the system property to configure the policy used when none is explicitly chosen.
+         */
+        public static final String DEFAULT_POLICY_PROPERTY = "io.helidon.common.lru-cache.policy";
+
+        private static final Policy DEFAULT_POLICY = defaultPolicy(System.getProperty(DEFAULT_POLICY_PROPERTY));
+
+        /**
+         * Policy used when none is explicitly chosen. This is {@link #STRICT}, unless configured
+         * through the {@value #DEFAULT_POLICY_PROPERTY} system property.
+         *
+         * @return default policy
+         */
+        public static Policy defaultPolicy() {
+            return DEFAULT_POLICY;
+        }
+
+        // invalid value must not fail initialization of this class, as caches are used everywhere
+        static Policy defaultPolicy(String configured) {
+            if (configured == null) {
+                return STRICT;
+            }
+            try {
+                return Policy.valueOf(configured.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.getLogger(LruCache.class.getName())
+                        .log(System.Logger.Level.WARNING, "Invalid value \"" + configured + "\" of system property "
+                                + DEFAULT_POLICY_PROPERTY + ", expected one of " + Arrays.toString(values())
+                                + ". Using " + STRICT + " policy.");
+                return STRICT;
+            }
+        }
+    }
 }
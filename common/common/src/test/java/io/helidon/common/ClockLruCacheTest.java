@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Unit test for {@link io.helidon.common.LruCache} with {@link io.helidon.common.LruCache.Policy#CLOCK}.
+ */
+class ClockLruCacheTest {
+    @Test
+    void testPolicy() {
+        assertThat(LruCache.create(10, LruCache.Policy.CLOCK), instanceOf(ClockLruCacheImpl.class));
+        assertThat(LruCache.create(10, LruCache.Policy.STRICT), instanceOf(LruCacheImpl.class));
+        assertThat(LruCache.Policy.defaultPolicy(), is(LruCache.Policy.STRICT));
+    }
+
+    @Test
+    void testCache() {
+        LruCache<String, String> theCache = LruCache.create(10, LruCache.Policy.CLOCK);
+        String value = "cached";
+        String key = "theKey";
+
+        assertThat(theCache.put(key, value), is(Optional.empty()));
+        assertThat(theCache.get(key), is(Optional.of(value)));
+        assertThat(theCache.computeValue(key, () -> Optional.of("not-cached")), is(Optional.of(value)));
+        assertThat(theCache.put(key, "replaced"), is(Optional.of(value)));
+        assertThat(theCache.remove(key), is(Optional.of("replaced")));
+        assertThat(theCache.get(key), is(Optional.empty()));
+        assertThat(theCache.computeValue(key, () -> Optional.of(value)), is(Optional.of(value)));
+        assertThat(theCache.size(), is(1));
+        theCache.clear();
+        assertThat(theCache.size(), is(0));
+    }
+
+    @Test
+    void testMaxCapacity() {
+        LruCache<Integer, Integer> theCache = LruCache.create(10, LruCache.Policy.CLOCK);
+        for (int i = 0; i < 100; i++) {
+            theCache.put(i, i);
+            assertThat(theCache.size(), lessThanOrEqualTo(10));
+        }
+        assertThat(theCache.size(), is(10));
+        assertThat(theCache.capacity(), is(10));
+    }
+
+    @Test
+    void testRecentlyUsedSurvive() {
+        LruCache<Integer, Integer> theCache = LruCache.create(10, LruCache.Policy.CLOCK);
+        for (int i = 0; i < 11; i++) {
+            theCache.put(i, i);
+        }
+        // use the upper half
+        for (int i = 5; i < 10; i++) {
+            assertThat(theCache.get(i), is(Optional.of(i)));
+        }
+        for (int i = 11; i < 15; i++) {
+            theCache.put(i, i);
+        }
+        // recently used records must still be cached
+        for (int i = 5; i < 10; i++) {
+            assertThat(theCache.get(i), is(Optional.of(i)));
+        }
+        assertThat(theCache.size(), is(10));
+    }
+
+    @Test
+    void testConcurrentAccess() throws InterruptedException {
+        LruCache<Integer, Integer> theCache = LruCache.create(100, LruCache.Policy.CLOCK);
+        AtomicInteger wrongValues = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 10_000; i++) {
+                    int key = random.nextInt(1000);
+                    if (!theCache.computeValue(key, () -> Optional.of(key)).equals(Optional.of(key))) {
+                        wrongValues.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(wrongValues.get(), is(0));
+        assertThat(theCache.size(), lessThanOrEqualTo(100));
+    }
+}
@@ -109,4 +109,13 @@ class LruCacheTest {
         assertThat(value, is(Optional.empty()));
 
     }
+
+    @Test
+    void testDefaultPolicyProperty() {
+        assertThat(LruCache.Policy.defaultPolicy(null), is(LruCache.Policy.STRICT));
+        assertThat(LruCache.Policy.defaultPolicy("clock"), is(LruCache.Policy.CLOCK));
+        assertThat(LruCache.Policy.defaultPolicy(" STRICT "), is(LruCache.Policy.STRICT));
+        // invalid values fall back to the strict policy
+        assertThat(LruCache.Policy.defaultPolicy("clok"), is(LruCache.Policy.STRICT));
+    }
 }
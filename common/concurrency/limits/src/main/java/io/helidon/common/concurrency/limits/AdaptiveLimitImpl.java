@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.io.Serial;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.helidon.common.config.ConfigException;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+import io.helidon.metrics.api.Timer;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+/**
+ * Base of limits that adjust the number of permits based on samples of completed requests.
+ * Permits are backed by a semaphore, the limit is changed without locking by adjusting the semaphore
+ * by the difference between the previous and the new limit.
+ */
+abstract class AdaptiveLimitImpl {
+    private final int minLimit;
+    private final int maxLimit;
+    private final Supplier<Long> clock;
+    private final AtomicInteger concurrentRequests;
+    private final AtomicInteger rejectedRequests;
+    private final AdjustableSemaphore semaphore;
+    private final LimitHandlers.LimiterHandler handler;
+    private final AtomicInteger limit;
+    private final int queueLength;
+
+    private Timer rttTimer;
+    private Timer queueWaitTimer;
+
+    AdaptiveLimitImpl(int initialLimit,
+                      int minLimit,
+                      int maxLimit,
+                      Supplier<Long> clock,
+                      int queueLength,
+                      Duration queueTimeout,
+                      boolean fair) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.clock = clock;
+
+        this.concurrentRequests = new AtomicInteger();
+        this.rejectedRequests = new AtomicInteger();
+        this.limit = new AtomicInteger(initialLimit);
+
+        this.queueLength = queueLength;
+        this.semaphore = new AdjustableSemaphore(initialLimit, fair);
+        this.handler = new LimitHandlers.QueuedSemaphoreHandler(semaphore,
+                                                                queueLength,
+                                                                queueTimeout,
+                                                                () -> new AdaptiveToken(clock, concurrentRequests));
+
+        if (maxLimit < minLimit) {
+            throw new ConfigException("Max limit must be higher than min limit, or equal to it");
+        }
+        if (initialLimit > maxLimit) {
+            throw new ConfigException("Initial limit must be lower than max limit, or equal to it");
+        }
+        if (initialLimit < minLimit) {
+            throw new ConfigException("Initial limit must be higher than minimum limit, or equal to it");
+        }
+    }
+
+    Semaphore semaphore() {
+        return semaphore;
+    }
+
+    int currentLimit() {
+        return limit.get();
+    }
+
+    int minLimit() {
+        return minLimit;
+    }
+
+    int maxLimit() {
+        return maxLimit;
+    }
+
+    long now() {
+        return clock.get();
+    }
+
+    Optional<LimitAlgorithm.Token> tryAcquire(boolean wait) {
+        Optional<LimitAlgorithm.Token> token = handler.tryAcquire(false);
+        if (token.isPresent()) {
+            return token;
+        }
+        if (wait && queueLength > 0) {
+            long startWait = clock.get();
+            token = handler.tryAcquire(true);
+            if (token.isPresent()) {
+                if (queueWaitTimer != null) {
+                    queueWaitTimer.record(clock.get() - startWait, TimeUnit.NANOSECONDS);
+                }
+                return token;
+            }
+        }
+        rejectedRequests.getAndIncrement();
+        return token;
+    }
+
+    void invoke(Runnable runnable) throws Exception {
+        invoke(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    <T> T invoke(Callable<T> callable) throws Exception {
+        Optional<LimitAlgorithm.Token> optionalToken = tryAcquire(true);
+        if (optionalToken.isPresent()) {
+            LimitAlgorithm.Token token = optionalToken.get();
+            try {
+                T response = callable.call();
+                token.success();
+                return response;
+            } catch (IgnoreTaskException e) {
+                token.ignore();
+                return e.handle();
+            } catch (Throwable e) {
+                token.dropped();
+                throw e;
+            }
+        } else {
+            throw new LimitException("No more permits available for the semaphore");
+        }
+    }
+
+    /**
+     * Update the limit with a sample of a completed request.
+     *
+     * @param startTime       time the request started in nanoseconds
+     * @param endTime         time the request completed in nanoseconds
+     * @param currentRequests number of requests in progress when the request started, including itself
+     * @param success         whether the request succeeded, {@code false} if it was dropped
+     */
+    abstract void updateWithSample(long startTime, long endTime, int currentRequests, boolean success);
+
+    /**
+     * Register metrics specific to the algorithm.
+     *
+     * @param metricsFactory metrics factory
+     * @param meterRegistry  registry to register meters with
+     * @param name           name of the limit, used as prefix of meter names
+     * @param tags           tags to use with each meter
+     */
+    void registerMetrics(MetricsFactory metricsFactory, MeterRegistry meterRegistry, String name, List<Tag> tags) {
+    }
+
+    void setLimit(int newLimit) {
+        newLimit = Math.min(maxLimit, Math.max(minLimit, newLimit));
+        int oldLimit = limit.getAndSet(newLimit);
+        // concurrent updates each adjust the semaphore by their own difference, so permits always
+        // converge to the last limit set
+        if (newLimit > oldLimit) {
+            semaphore.release(newLimit - oldLimit);
+        } else if (newLimit < oldLimit) {
+            semaphore.reducePermits(oldLimit - newLimit);
+        }
+    }
+
+    /**
+     * Initialize metrics for this limit.
+     *
+     * @param socketName    name of socket for which this limit was created
+     * @param name          name of this limit
+     * @param enableMetrics whether metrics are enabled
+     */
+    void initMetrics(String socketName, String name, boolean enableMetrics) {
+        if (enableMetrics) {
+            MetricsFactory metricsFactory = MetricsFactory.getInstance();
+            MeterRegistry meterRegistry = Metrics.globalRegistry();
+
+            // define tag if socket is not the default
+            List<Tag> tags = socketName.equals("@default")
+                    ? List.of()
+                    : List.of(Tag.create("socketName", socketName));
+
+            // actual value of limit at this time
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_limit", limit::get)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // count of current requests running
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_concurrent_requests", concurrentRequests::get)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // count of number of requests rejected
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_rejected_requests", rejectedRequests::get)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // actual number of requests queued
+            meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_queue_length", semaphore::getQueueLength)
+                                              .scope(VENDOR)
+                                              .tags(tags));
+
+            // histogram of round-trip times, excluding any time queued
+            rttTimer = meterRegistry.getOrCreate(metricsFactory.timerBuilder(name + "_rtt")
+                                                         .scope(VENDOR)
+                                                         .baseUnit(Timer.BaseUnits.MILLISECONDS)
+                                                         .tags(tags));
+
+            // histogram of wait times for a permit in queue
+            queueWaitTimer = meterRegistry.getOrCreate(metricsFactory.timerBuilder(name + "_queue_wait_time")
+                                                               .scope(VENDOR)
+                                                               .baseUnit(Timer.BaseUnits.MILLISECONDS)
+                                                               .tags(tags));
+
+            registerMetrics(metricsFactory, meterRegistry, name, tags);
+        }
+    }
+
+    static double toMillis(double nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private void sample(long startTime, long endTime, int currentRequests, boolean success) {
+        if (rttTimer != null) {
+            rttTimer.record(endTime - startTime, TimeUnit.NANOSECONDS);
+        }
+        updateWithSample(startTime, endTime, currentRequests, success);
+    }
+
+    private static final class AdjustableSemaphore extends Semaphore {
+        @Serial
+        private static final long serialVersionUID = 114L;
+
+        private AdjustableSemaphore(int permits, boolean fair) {
+            super(permits, fair);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+
+    private class AdaptiveToken implements Limit.Token {
+        private final long startTime;
+        private final int currentRequests;
+
+        private AdaptiveToken(Supplier<Long> clock, AtomicInteger concurrentRequests) {
+            startTime = clock.get();
+            currentRequests = concurrentRequests.incrementAndGet();
+        }
+
+        @Override
+        public void dropped() {
+            try {
+                sample(startTime, clock.get(), currentRequests, false);
+            } finally {
+                concurrentRequests.decrementAndGet();
+                semaphore.release();
+            }
+        }
+
+        @Override
+        public void ignore() {
+            concurrentRequests.decrementAndGet();
+            semaphore.release();
+        }
+
+        @Override
+        public void success() {
+            try {
+                sample(startTime, clock.get(), currentRequests, true);
+            } finally {
+                concurrentRequests.decrementAndGet();
+                semaphore.release();
+            }
+        }
+    }
+}
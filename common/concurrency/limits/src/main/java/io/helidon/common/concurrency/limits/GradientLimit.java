@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.common.config.Config;
+
+/**
+ * Gradient based limiter.
+ * <p>
+ * The limit is adjusted based on the ratio (gradient) of the long term RTT to the current RTT. When the current RTT grows
+ * over the long term RTT (multiplied by the tolerance), requests are queueing in the service, and the limit is reduced.
+ * When the RTT is stable, the limit grows by the configured queue size. This detects overload before requests time out
+ * or fail, without the need to configure a limit for each service.
+ * <p>
+ * Samples are aggregated in windows, and the limit is updated once per window.
+ */
+@RuntimeType.PrototypedBy(GradientLimitConfig.class)
+public class GradientLimit implements Limit, RuntimeType.Api<GradientLimitConfig> {
+
+    /**
+     * Default length of the queue.
+     */
+    public static final int DEFAULT_QUEUE_LENGTH = 0;
+
+    /**
+     * Timeout of a request that is enqueued.
+     */
+    public static final String DEFAULT_QUEUE_TIMEOUT_DURATION = "PT1S";
+
+    /**
+     * Default minimal duration of a window of samples.
+     */
+    public static final String DEFAULT_WINDOW_TIME = "PT0.1S";
+
+    /**
+     * Default minimal number of samples in a window.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 10;
+
+    static final String TYPE = "gradient";
+
+    private final GradientLimitConfig config;
+    private final GradientLimitImpl limitImpl;
+
+    private GradientLimit(GradientLimitConfig config) {
+        this.config = config;
+        this.limitImpl = new GradientLimitImpl(config);
+    }
+
+    /**
+     * Create a new fluent API builder to construct {@link io.helidon.common.concurrency.limits.GradientLimit}
+     * instance.
+     *
+     * @return fluent API builder
+     */
+    public static GradientLimitConfig.Builder builder() {
+        return GradientLimitConfig.builder();
+    }
+
+    /**
+     * Create a new instance with all defaults.
+     *
+     * @return a new limit instance
+     */
+    public static GradientLimit create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the gradient limit
+     * @return a new limit instance configured from {@code config}
+     */
+    public static GradientLimit create(Config config) {
+        return builder()
+                .config(config)
+                .build();
+    }
+
+    /**
+     * Create a new instance from configuration.
+     *
+     * @param config configuration of the gradient limit
+     * @return a new limit instance configured from {@code config}
+     */
+    public static GradientLimit create(GradientLimitConfig config) {
+        return new GradientLimit(config);
+    }
+
+    /**
+     * Create a new instance customizing its configuration.
+     *
+     * @param consumer consumer of configuration builder
+     * @return a new limit instance configured from the builder
+     */
+    public static GradientLimit create(Consumer<GradientLimitConfig.Builder> consumer) {
+        return builder()
+                .update(consumer)
+                .build();
+    }
+
+    @Override
+    public <T> T invoke(Callable<T> callable) throws Exception {
+        return limitImpl.invoke(callable);
+    }
+
+    @Override
+    public void invoke(Runnable runnable) throws Exception {
+        limitImpl.invoke(runnable);
+    }
+
+    @Override
+    public Optional<Token> tryAcquire(boolean wait) {
+        return limitImpl.tryAcquire(wait);
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public GradientLimitConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public Limit copy() {
+        return config.build();
+    }
+
+    @Override
+    public void init(String socketName) {
+        limitImpl.initMetrics(socketName, config.name(), config.enableMetrics());
+    }
+}
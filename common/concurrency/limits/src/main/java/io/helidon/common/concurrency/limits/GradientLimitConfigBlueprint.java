@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.concurrency.limits.spi.LimitProvider;
+
+/**
+ * Configuration of {@link io.helidon.common.concurrency.limits.GradientLimit}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured(value = GradientLimit.TYPE, root = false)
+@Prototype.Provides(LimitProvider.class)
+interface GradientLimitConfigBlueprint extends Prototype.Factory<GradientLimit> {
+    /**
+     * Initial limit.
+     * The value must be within [{@link #minLimit()}, {@link #maxLimit()}].
+     *
+     * @return initial limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(20)
+    int initialLimit();
+
+    /**
+     * Maximal limit.
+     * The value must be same or higher than {@link #minLimit()}.
+     *
+     * @return maximal limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(200)
+    int maxLimit();
+
+    /**
+     * Minimal limit.
+     * The value must be same or lower than {@link #maxLimit()}.
+     *
+     * @return minimal limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(1)
+    int minLimit();
+
+    /**
+     * Smoothing factor of limit changes, within (0.0, 1.0].
+     * Lower values make the limit change more slowly.
+     *
+     * @return smoothing factor
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.2)
+    double smoothing();
+
+    /**
+     * Tolerated ratio of the current RTT to the long term RTT before the limit is reduced.
+     * The value must be {@code 1.0} or higher, for example {@code 2.0} tolerates the current RTT being
+     * twice the long term RTT.
+     *
+     * @return RTT tolerance
+     */
+    @Option.Configured
+    @Option.DefaultDouble(1.5)
+    double rttTolerance();
+
+    /**
+     * Number of windows the long term RTT is averaged over.
+     *
+     * @return number of windows of the long term RTT
+     */
+    @Option.Configured
+    @Option.DefaultInt(600)
+    int longWindow();
+
+    /**
+     * Number of permits added above the limit computed from the RTT gradient.
+     * This allows the limit to grow when the RTT does not change, and allows a small number of requests
+     * to queue.
+     *
+     * @return queue size added to the limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(4)
+    int queueSize();
+
+    /**
+     * Minimal duration of a window of samples. The limit is updated once per window.
+     *
+     * @return window duration
+     */
+    @Option.Configured
+    @Option.Default(GradientLimit.DEFAULT_WINDOW_TIME)
+    Duration windowTime();
+
+    /**
+     * Minimal number of samples in a window. The limit is updated once per window.
+     *
+     * @return number of samples
+     */
+    @Option.Configured
+    @Option.DefaultInt(GradientLimit.DEFAULT_WINDOW_SIZE)
+    int windowSize();
+
+    /**
+     * A clock that supplies nanosecond time.
+     *
+     * @return supplier of current nanoseconds, defaults to {@link java.lang.System#nanoTime()}
+     */
+    Optional<Supplier<Long>> clock();
+
+    /**
+     * Name of this instance.
+     *
+     * @return name of the instance
+     */
+    @Option.Default(GradientLimit.TYPE)
+    String name();
+
+    /**
+     * How many requests can be enqueued waiting for a permit after
+     * the limit is reached.
+     * Note that this may not be an exact behavior due to concurrent invocations.
+     * Default value is {@value GradientLimit#DEFAULT_QUEUE_LENGTH}.
+     * If set to {code 0}, there is no queueing.
+     *
+     * @return number of requests to enqueue
+     */
+    @Option.Configured
+    @Option.DefaultInt(GradientLimit.DEFAULT_QUEUE_LENGTH)
+    int queueLength();
+
+    /**
+     * How long to wait for a permit when enqueued.
+     * Defaults to {@value GradientLimit#DEFAULT_QUEUE_TIMEOUT_DURATION}
+     *
+     * @return duration of the timeout
+     */
+    @Option.Configured
+    @Option.Default(GradientLimit.DEFAULT_QUEUE_TIMEOUT_DURATION)
+    Duration queueTimeout();
+
+    /**
+     * Whether the {@link java.util.concurrent.Semaphore} should be {@link java.util.concurrent.Semaphore#isFair()}.
+     * Defaults to {@code false}.
+     *
+     * @return whether this should be a fair semaphore
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean fair();
+
+    /**
+     * Whether to collect metrics for the gradient implementation.
+     *
+     * @return metrics flag
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+}
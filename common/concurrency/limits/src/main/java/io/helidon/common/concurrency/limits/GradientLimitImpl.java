@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.List;
+
+import io.helidon.common.config.ConfigException;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+class GradientLimitImpl extends WindowedLimitImpl {
+    // the long term RTT is a simple average of the first windows, before switching to exponential average
+    private static final int WARMUP_WINDOWS = 10;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final double smoothing;
+    private final double rttTolerance;
+    private final int longWindow;
+    private final int queueSize;
+
+    // only updated by the thread that completes a window
+    private volatile double estimatedLimit;
+    private volatile double longRtt;
+    private volatile double shortRtt;
+    private volatile int longRttWindows;
+
+    GradientLimitImpl(GradientLimitConfig config) {
+        super(config.initialLimit(),
+              config.minLimit(),
+              config.maxLimit(),
+              config.clock().orElseGet(() -> System::nanoTime),
+              config.queueLength(),
+              config.queueTimeout(),
+              config.fair(),
+              config.windowTime(),
+              config.windowSize());
+        this.smoothing = config.smoothing();
+        this.rttTolerance = config.rttTolerance();
+        this.longWindow = config.longWindow();
+        this.queueSize = config.queueSize();
+        this.estimatedLimit = config.initialLimit();
+
+        if (!(smoothing > 0 && smoothing <= 1.0)) {
+            throw new ConfigException("Smoothing must be within (0.0, 1.0]");
+        }
+        if (rttTolerance < 1.0) {
+            throw new ConfigException("RTT tolerance must be 1.0 or higher");
+        }
+        if (longWindow < 1) {
+            throw new ConfigException("Long window must be at least 1");
+        }
+        if (queueSize < 0) {
+            throw new ConfigException("Queue size must not be negative");
+        }
+    }
+
+    double longRtt() {
+        return longRtt;
+    }
+
+    double shortRtt() {
+        return shortRtt;
+    }
+
+    @Override
+    void updateWithWindow(SampleWindow window) {
+        double limit = estimatedLimit;
+        boolean dropped = window.dropped();
+        // a dropped request is a sign of overload, reduce the limit as much as possible
+        double gradient = MIN_GRADIENT;
+
+        if (window.hasRtt()) {
+            double rtt = window.averageRtt();
+            shortRtt = rtt;
+            updateLongRtt(rtt);
+            if (!dropped) {
+                gradient = Math.max(MIN_GRADIENT, Math.min(1.0, rttTolerance * longRtt / Math.max(1, rtt)));
+            }
+        }
+
+        if (!dropped && window.maxInFlight() < limit / 2) {
+            // the limit is not used, so the RTT does not tell us anything about it
+            return;
+        }
+
+        double newLimit = limit * gradient + queueSize;
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        newLimit = Math.max(minLimit(), Math.min(maxLimit(), newLimit));
+        estimatedLimit = newLimit;
+        setLimit((int) newLimit);
+    }
+
+    @Override
+    void registerMetrics(MetricsFactory metricsFactory, MeterRegistry meterRegistry, String name, List<Tag> tags) {
+        // long term RTT the current RTT is compared with
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_long_rtt", () -> toMillis(longRtt))
+                                          .scope(VENDOR)
+                                          .baseUnit(Meter.BaseUnits.MILLISECONDS)
+                                          .tags(tags));
+
+        // RTT of the last window
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_short_rtt", () -> toMillis(shortRtt))
+                                          .scope(VENDOR)
+                                          .baseUnit(Meter.BaseUnits.MILLISECONDS)
+                                          .tags(tags));
+    }
+
+    private void updateLongRtt(double rtt) {
+        int windows = longRttWindows;
+        double value;
+        if (windows < WARMUP_WINDOWS) {
+            value = (longRtt * windows + rtt) / (windows + 1);
+            longRttWindows = windows + 1;
+        } else {
+            double factor = 2.0 / (longWindow + 1);
+            value = longRtt * (1 - factor) + rtt * factor;
+        }
+        // when the current RTT is much lower than the long term RTT (for example after recovering from a latency
+        // spike), let the long term RTT drift down faster, so it does not allow the limit to grow for too long
+        if (value / rtt > 2) {
+            value = value * 0.95;
+        }
+        longRtt = value;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.concurrency.limits.spi.LimitProvider;
+
+/**
+ * Configuration of {@link io.helidon.common.concurrency.limits.VegasLimit}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured(value = VegasLimit.TYPE, root = false)
+@Prototype.Provides(LimitProvider.class)
+interface VegasLimitConfigBlueprint extends Prototype.Factory<VegasLimit> {
+    /**
+     * Initial limit.
+     * The value must be within [{@link #minLimit()}, {@link #maxLimit()}].
+     *
+     * @return initial limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(20)
+    int initialLimit();
+
+    /**
+     * Maximal limit.
+     * The value must be same or higher than {@link #minLimit()}.
+     *
+     * @return maximal limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(200)
+    int maxLimit();
+
+    /**
+     * Minimal limit.
+     * The value must be same or lower than {@link #maxLimit()}.
+     *
+     * @return minimal limit
+     */
+    @Option.Configured
+    @Option.DefaultInt(1)
+    int minLimit();
+
+    /**
+     * Smoothing factor of limit changes, within (0.0, 1.0].
+     * Lower values make the limit change more slowly.
+     *
+     * @return smoothing factor
+     */
+    @Option.Configured
+    @Option.DefaultDouble(1.0)
+    double smoothing();
+
+    /**
+     * Multiplier of the logarithm of the limit, below which the estimated queue is considered small enough
+     * to increase the limit.
+     * Must be lower than {@link #beta()}.
+     *
+     * @return alpha factor
+     */
+    @Option.Configured
+    @Option.DefaultInt(3)
+    int alpha();
+
+    /**
+     * Multiplier of the logarithm of the limit, above which the estimated queue is considered too large
+     * and the limit is decreased.
+     * Must be higher than {@link #alpha()}.
+     *
+     * @return beta factor
+     */
+    @Option.Configured
+    @Option.DefaultInt(6)
+    int beta();
+
+    /**
+     * Multiplier of the limit to get the number of samples after which the RTT without load is measured again.
+     * The RTT without load is the lowest RTT observed, probing allows it to grow when the latency of
+     * the service grows permanently, such as after a change of its dependencies.
+     *
+     * @return probe multiplier
+     */
+    @Option.Configured
+    @Option.DefaultInt(30)
+    int probeMultiplier();
+
+    /**
+     * Minimal duration of a window of samples. The limit is updated once per window.
+     *
+     * @return window duration
+     */
+    @Option.Configured
+    @Option.Default(VegasLimit.DEFAULT_WINDOW_TIME)
+    Duration windowTime();
+
+    /**
+     * Minimal number of samples in a window. The limit is updated once per window.
+     *
+     * @return number of samples
+     */
+    @Option.Configured
+    @Option.DefaultInt(VegasLimit.DEFAULT_WINDOW_SIZE)
+    int windowSize();
+
+    /**
+     * A clock that supplies nanosecond time.
+     *
+     * @return supplier of current nanoseconds, defaults to {@link java.lang.System#nanoTime()}
+     */
+    Optional<Supplier<Long>> clock();
+
+    /**
+     * Name of this instance.
+     *
+     * @return name of the instance
+     */
+    @Option.Default(VegasLimit.TYPE)
+    String name();
+
+    /**
+     * How many requests can be enqueued waiting for a permit after
+     * the limit is reached.
+     * Note that this may not be an exact behavior due to concurrent invocations.
+     * Default value is {@value VegasLimit#DEFAULT_QUEUE_LENGTH}.
+     * If set to {code 0}, there is no queueing.
+     *
+     * @return number of requests to enqueue
+     */
+    @Option.Configured
+    @Option.DefaultInt(VegasLimit.DEFAULT_QUEUE_LENGTH)
+    int queueLength();
+
+    /**
+     * How long to wait for a permit when enqueued.
+     * Defaults to {@value VegasLimit#DEFAULT_QUEUE_TIMEOUT_DURATION}
+     *
+     * @return duration of the timeout
+     */
+    @Option.Configured
+    @Option.Default(VegasLimit.DEFAULT_QUEUE_TIMEOUT_DURATION)
+    Duration queueTimeout();
+
+    /**
+     * Whether the {@link java.util.concurrent.Semaphore} should be {@link java.util.concurrent.Semaphore#isFair()}.
+     * Defaults to {@code false}.
+     *
+     * @return whether this should be a fair semaphore
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean fair();
+
+    /**
+     * Whether to collect metrics for the Vegas implementation.
+     *
+     * @return metrics flag
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+}
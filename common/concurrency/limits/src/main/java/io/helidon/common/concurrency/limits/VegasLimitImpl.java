@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.helidon.common.config.ConfigException;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+
+class VegasLimitImpl extends WindowedLimitImpl {
+    private final double smoothing;
+    private final int alpha;
+    private final int beta;
+    private final int probeMultiplier;
+
+    // only updated by the thread that completes a window
+    private volatile double estimatedLimit;
+    private volatile long rttNoLoad;
+    private volatile int estimatedQueue;
+    private volatile long probeSamples;
+    private volatile double probeJitter;
+
+    VegasLimitImpl(VegasLimitConfig config) {
+        super(config.initialLimit(),
+              config.minLimit(),
+              config.maxLimit(),
+              config.clock().orElseGet(() -> System::nanoTime),
+              config.queueLength(),
+              config.queueTimeout(),
+              config.fair(),
+              config.windowTime(),
+              config.windowSize());
+        this.smoothing = config.smoothing();
+        this.alpha = config.alpha();
+        this.beta = config.beta();
+        this.probeMultiplier = config.probeMultiplier();
+        this.estimatedLimit = config.initialLimit();
+        this.probeJitter = nextProbeJitter();
+
+        if (!(smoothing > 0 && smoothing <= 1.0)) {
+            throw new ConfigException("Smoothing must be within (0.0, 1.0]");
+        }
+        if (alpha < 1 || beta <= alpha) {
+            throw new ConfigException("Alpha must be at least 1, and beta must be higher than alpha");
+        }
+        if (probeMultiplier < 1) {
+            throw new ConfigException("Probe multiplier must be at least 1");
+        }
+    }
+
+    long rttNoLoad() {
+        return rttNoLoad;
+    }
+
+    int estimatedQueue() {
+        return estimatedQueue;
+    }
+
+    @Override
+    void updateWithWindow(SampleWindow window) {
+        double limit = estimatedLimit;
+
+        // periodically forget the RTT without load, so we can adapt to a permanent change in latency
+        long samples = probeSamples + window.samples();
+        if (samples >= probeJitter * probeMultiplier * limit) {
+            probeSamples = 0;
+            probeJitter = nextProbeJitter();
+            if (window.hasRtt()) {
+                rttNoLoad = window.minRtt();
+                return;
+            }
+        } else {
+            probeSamples = samples;
+        }
+
+        boolean dropped = window.dropped();
+        double newLimit;
+        int log10 = log10(limit);
+        if (window.hasRtt()) {
+            long rtt = window.minRtt();
+            long noLoad = rttNoLoad;
+            if (noLoad == 0 || rtt < noLoad) {
+                rttNoLoad = rtt;
+                return;
+            }
+            estimatedQueue = (int) Math.ceil(limit * (1 - (double) noLoad / Math.max(1, rtt)));
+        }
+
+        if (dropped) {
+            newLimit = limit - log10;
+        } else if (window.maxInFlight() * 2 < limit) {
+            // the limit is not used, so the RTT does not tell us anything about it
+            return;
+        } else {
+            int queue = estimatedQueue;
+            if (queue <= log10) {
+                newLimit = limit + beta * log10;
+            } else if (queue < alpha * log10) {
+                newLimit = limit + log10;
+            } else if (queue > beta * log10) {
+                newLimit = limit - log10;
+            } else {
+                // queue is within [alpha, beta], the limit is correct
+                return;
+            }
+        }
+
+        newLimit = Math.max(minLimit(), Math.min(maxLimit(), newLimit));
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        estimatedLimit = newLimit;
+        setLimit((int) newLimit);
+    }
+
+    @Override
+    void registerMetrics(MetricsFactory metricsFactory, MeterRegistry meterRegistry, String name, List<Tag> tags) {
+        // lowest RTT observed since the last probe
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_rtt_no_load", () -> toMillis(rttNoLoad))
+                                          .scope(VENDOR)
+                                          .baseUnit(Meter.BaseUnits.MILLISECONDS)
+                                          .tags(tags));
+
+        // number of requests estimated to be queued in the service
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(name + "_estimated_queue", () -> estimatedQueue)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+    }
+
+    private static int log10(double limit) {
+        return Math.max(1, (int) Math.log10(limit));
+    }
+
+    private static double nextProbeJitter() {
+        // avoid probing at the same time in all instances
+        return ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+}
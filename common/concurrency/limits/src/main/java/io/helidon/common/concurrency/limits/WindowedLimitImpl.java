@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import io.helidon.common.config.ConfigException;
+
+/**
+ * Base of limits that update the limit once per window of samples, rather than with each sample.
+ * Samples are aggregated without locking, the thread that completes a window replaces it with a new one
+ * and updates the limit using the aggregated values.
+ */
+abstract class WindowedLimitImpl extends AdaptiveLimitImpl {
+    private final long windowTime;
+    private final int windowSize;
+    private final AtomicReference<SampleWindow> window;
+
+    WindowedLimitImpl(int initialLimit,
+                      int minLimit,
+                      int maxLimit,
+                      Supplier<Long> clock,
+                      int queueLength,
+                      Duration queueTimeout,
+                      boolean fair,
+                      Duration windowTime,
+                      int windowSize) {
+        super(initialLimit, minLimit, maxLimit, clock, queueLength, queueTimeout, fair);
+        this.windowTime = windowTime.toNanos();
+        this.windowSize = windowSize;
+        this.window = new AtomicReference<>(new SampleWindow(clock.get()));
+
+        if (windowTime.isNegative()) {
+            throw new ConfigException("Window time must not be negative");
+        }
+        if (windowSize < 1) {
+            throw new ConfigException("Window size must be at least 1");
+        }
+    }
+
+    @Override
+    void updateWithSample(long startTime, long endTime, int currentRequests, boolean success) {
+        SampleWindow current = window.get();
+        // a sample added to a window that was just completed by another thread is not used, this is
+        // an acceptable loss of precision for not having to synchronize
+        current.add(endTime - startTime, currentRequests, success);
+
+        if (endTime - current.startTime < windowTime || current.samples() < windowSize) {
+            return;
+        }
+        if (window.compareAndSet(current, new SampleWindow(endTime))) {
+            updateWithWindow(current);
+        }
+    }
+
+    /**
+     * Update the limit with samples of a completed window.
+     * Invoked by a single thread for each window.
+     *
+     * @param window completed window
+     */
+    abstract void updateWithWindow(SampleWindow window);
+
+    /**
+     * Samples of a window.
+     */
+    static final class SampleWindow {
+        private final long startTime;
+        private final LongAdder samples = new LongAdder();
+        private final LongAdder rttSamples = new LongAdder();
+        private final LongAdder rttSum = new LongAdder();
+        private final AtomicLong minRtt = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicInteger maxInFlight = new AtomicInteger();
+        private volatile boolean dropped;
+
+        SampleWindow(long startTime) {
+            this.startTime = startTime;
+        }
+
+        /**
+         * Number of samples in this window, including dropped requests.
+         *
+         * @return number of samples
+         */
+        long samples() {
+            return samples.sum();
+        }
+
+        /**
+         * Whether there is at least one successful request in this window, and RTT is known.
+         *
+         * @return whether RTT is known
+         */
+        boolean hasRtt() {
+            return rttSamples.sum() > 0;
+        }
+
+        /**
+         * Average RTT of successful requests.
+         *
+         * @return average RTT in nanoseconds
+         */
+        double averageRtt() {
+            long count = rttSamples.sum();
+            return count == 0 ? 0 : (double) rttSum.sum() / count;
+        }
+
+        /**
+         * Minimal RTT of successful requests.
+         *
+         * @return minimal RTT in nanoseconds
+         */
+        long minRtt() {
+            return minRtt.get();
+        }
+
+        /**
+         * Maximal number of requests in progress.
+         *
+         * @return maximal number of requests in progress
+         */
+        int maxInFlight() {
+            return maxInFlight.get();
+        }
+
+        /**
+         * Whether any of the requests was dropped.
+         *
+         * @return whether a request was dropped
+         */
+        boolean dropped() {
+            return dropped;
+        }
+
+        void add(long rtt, int inFlight, boolean success) {
+            samples.increment();
+            maxInFlight.accumulateAndGet(inFlight, Math::max);
+            if (success) {
+                rttSamples.increment();
+                rttSum.add(rtt);
+                minRtt.accumulateAndGet(rtt, Math::min);
+            } else {
+                // a dropped request does not provide a meaningful RTT, such as when it timed out
+                dropped = true;
+            }
+        }
+    }
+}
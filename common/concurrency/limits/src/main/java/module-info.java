@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -32,5 +32,7 @@ module io.helidon.common.concurrency.limits {
 
     provides io.helidon.common.concurrency.limits.spi.LimitProvider
             with io.helidon.common.concurrency.limits.FixedLimitProvider,
-                    io.helidon.common.concurrency.limits.AimdLimitProvider;
+                    io.helidon.common.concurrency.limits.AimdLimitProvider,
+                    io.helidon.common.concurrency.limits.GradientLimitProvider,
+                    io.helidon.common.concurrency.limits.VegasLimitProvider;
 }
\ No newline at end of file
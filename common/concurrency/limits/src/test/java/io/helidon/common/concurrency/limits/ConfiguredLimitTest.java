@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -70,4 +70,43 @@ public class ConfiguredLimitTest {
         assertThat("Initial limit", prototype.initialLimit(), is(14));
         assertThat("Backoff ratio", prototype.backoffRatio(), is(0.74));
     }
+
+    @Test
+    public void testGradient() {
+        LimitUsingConfig limitConfig = LimitUsingConfig.create(config.get("third"));
+        Optional<Limit> configuredLimit = limitConfig.concurrencyLimit();
+        assertThat(configuredLimit, not(Optional.empty()));
+        Limit limit = configuredLimit.get();
+
+        assertThat(limit.name(), is("gradient"));
+        assertThat(limit.type(), is("gradient"));
+
+        GradientLimitConfig prototype = ((GradientLimit) limit).prototype();
+        assertThat("Min limit", prototype.minLimit(), is(2));
+        assertThat("Max limit", prototype.maxLimit(), is(50));
+        assertThat("Initial limit", prototype.initialLimit(), is(10));
+        assertThat("Smoothing", prototype.smoothing(), is(0.5));
+        assertThat("RTT tolerance", prototype.rttTolerance(), is(2.0));
+        assertThat("Queue size", prototype.queueSize(), is(3));
+        assertThat("Window time", prototype.windowTime(), is(Duration.ofMillis(500)));
+    }
+
+    @Test
+    public void testVegas() {
+        LimitUsingConfig limitConfig = LimitUsingConfig.create(config.get("fourth"));
+        Optional<Limit> configuredLimit = limitConfig.concurrencyLimit();
+        assertThat(configuredLimit, not(Optional.empty()));
+        Limit limit = configuredLimit.get();
+
+        assertThat(limit.name(), is("vegas"));
+        assertThat(limit.type(), is("vegas"));
+
+        VegasLimitConfig prototype = ((VegasLimit) limit).prototype();
+        assertThat("Max limit", prototype.maxLimit(), is(40));
+        assertThat("Initial limit", prototype.initialLimit(), is(15));
+        assertThat("Alpha", prototype.alpha(), is(2));
+        assertThat("Beta", prototype.beta(), is(5));
+        assertThat("Probe multiplier", prototype.probeMultiplier(), is(20));
+        assertThat("Window size", prototype.windowSize(), is(20));
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.helidon.common.config.ConfigException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GradientLimitTest {
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void increaseOnStableRtt() {
+        GradientLimitImpl limiter = limiter(it -> { });
+
+        for (int i = 0; i < 10; i++) {
+            limiter.updateWithSample(0, RTT, limiter.currentLimit(), true);
+        }
+        assertThat(limiter.currentLimit(), is(greaterThan(20)));
+        assertThat(limiter.longRtt(), is((double) RTT));
+    }
+
+    @Test
+    void decreaseOnRttInflation() {
+        GradientLimitImpl limiter = limiter(it -> { });
+        for (int i = 0; i < 20; i++) {
+            limiter.updateWithSample(0, RTT, limiter.currentLimit(), true);
+        }
+        int stableLimit = limiter.currentLimit();
+
+        for (int i = 0; i < 5; i++) {
+            limiter.updateWithSample(0, 10 * RTT, limiter.currentLimit(), true);
+        }
+        assertThat(limiter.currentLimit(), is(lessThan(stableLimit)));
+        assertThat(limiter.shortRtt(), is(10.0 * RTT));
+    }
+
+    @Test
+    void decreaseOnDrops() {
+        GradientLimitImpl limiter = limiter(it -> it.initialLimit(100));
+        limiter.updateWithSample(0, RTT, 0, false);
+        // 100 * 0.8 + (100 * 0.5 + 4) * 0.2
+        assertThat(limiter.currentLimit(), is(90));
+    }
+
+    @Test
+    void unchangedWhenNotUsed() {
+        GradientLimitImpl limiter = limiter(it -> { });
+        for (int i = 0; i < 10; i++) {
+            limiter.updateWithSample(0, RTT * (i + 1), 1, true);
+        }
+        assertThat(limiter.currentLimit(), is(20));
+    }
+
+    @Test
+    void limitsRespected() {
+        GradientLimitImpl limiter = limiter(it -> it.initialLimit(10)
+                .minLimit(10)
+                .maxLimit(12));
+        for (int i = 0; i < 50; i++) {
+            limiter.updateWithSample(0, RTT, limiter.currentLimit(), true);
+        }
+        assertThat(limiter.currentLimit(), is(12));
+        for (int i = 0; i < 50; i++) {
+            limiter.updateWithSample(0, RTT, limiter.currentLimit(), false);
+        }
+        assertThat(limiter.currentLimit(), is(10));
+    }
+
+    @Test
+    void updatedOncePerWindow() {
+        GradientLimitImpl limiter = limiter(it -> it.windowSize(5));
+        for (int i = 0; i < 4; i++) {
+            limiter.updateWithSample(0, RTT, 0, false);
+        }
+        assertThat(limiter.currentLimit(), is(20));
+        limiter.updateWithSample(0, RTT, 0, false);
+        assertThat(limiter.currentLimit(), is(lessThan(20)));
+    }
+
+    @Test
+    void invalidConfiguration() {
+        assertThrows(ConfigException.class, () -> limiter(it -> it.smoothing(0)));
+        assertThrows(ConfigException.class, () -> limiter(it -> it.rttTolerance(0.9)));
+        assertThrows(ConfigException.class, () -> limiter(it -> it.windowSize(0)));
+        assertThrows(ConfigException.class, () -> limiter(it -> it.initialLimit(300)));
+    }
+
+    @Test
+    public void testSemaphoreReleasedWithToken() {
+        Limit limit = GradientLimit.builder()
+                .initialLimit(5)
+                .build();
+
+        for (int i = 0; i < 5000; i++) {
+            Optional<LimitAlgorithm.Token> token = limit.tryAcquire();
+            assertThat(token, not(Optional.empty()));
+            token.get().success();
+        }
+    }
+
+    @Test
+    void concurrentUpdatesKeepPermitsConsistent() throws Exception {
+        GradientLimitImpl limiter = new GradientLimitImpl(GradientLimitConfig.builder()
+                                                                  .windowTime(Duration.ZERO)
+                                                                  .windowSize(1)
+                                                                  .queueLength(100)
+                                                                  .buildPrototype());
+
+        int threadCount = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1_000; j++) {
+                        Optional<LimitAlgorithm.Token> token = limiter.tryAcquire(true);
+                        if (token.isPresent()) {
+                            if (j % 100 == 0) {
+                                token.get().dropped();
+                            } else {
+                                token.get().success();
+                            }
+                        }
+                        int currentLimit = limiter.currentLimit();
+                        assertThat(currentLimit, is(greaterThanOrEqualTo(1)));
+                        assertThat(currentLimit, is(lessThanOrEqualTo(200)));
+                    }
+                }));
+            }
+            // a failed assertion in a task fails the test through the ExecutionException
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(limiter.semaphore().availablePermits(), is(limiter.currentLimit()));
+    }
+
+    // limiter that is updated with each sample, unless configured otherwise
+    private static GradientLimitImpl limiter(Consumer<GradientLimitConfig.Builder> consumer) {
+        return new GradientLimitImpl(GradientLimitConfig.builder()
+                                             .clock(() -> 0L)
+                                             .windowTime(Duration.ZERO)
+                                             .windowSize(1)
+                                             .update(consumer)
+                                             .buildPrototype());
+    }
+}
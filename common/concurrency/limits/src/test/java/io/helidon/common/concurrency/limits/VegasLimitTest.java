@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.concurrency.limits;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import io.helidon.common.config.ConfigException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class VegasLimitTest {
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void firstSampleMeasuresRtt() {
+        VegasLimitImpl limiter = limiter(it -> { });
+        limiter.updateWithSample(0, RTT, 20, true);
+        assertThat(limiter.rttNoLoad(), is(RTT));
+        assertThat(limiter.currentLimit(), is(20));
+    }
+
+    @Test
+    void increaseWithoutQueue() {
+        VegasLimitImpl limiter = limiter(it -> { });
+        limiter.updateWithSample(0, RTT, 20, true);
+        limiter.updateWithSample(0, RTT, 20, true);
+        // no queue, increase by beta * log10(20)
+        assertThat(limiter.estimatedQueue(), is(0));
+        assertThat(limiter.currentLimit(), is(26));
+    }
+
+    @Test
+    void decreaseWithLargeQueue() {
+        VegasLimitImpl limiter = limiter(it -> { });
+        limiter.updateWithSample(0, RTT, 20, true);
+        limiter.updateWithSample(0, 2 * RTT, 20, true);
+        // half of the requests are queued, which is more than beta * log10(20)
+        assertThat(limiter.estimatedQueue(), is(10));
+        assertThat(limiter.currentLimit(), is(19));
+    }
+
+    @Test
+    void unchangedWithQueueWithinBounds() {
+        VegasLimitImpl limiter = limiter(it -> { });
+        limiter.updateWithSample(0, 4 * RTT, 20, true);
+        limiter.updateWithSample(0, 5 * RTT, 20, true);
+        assertThat(limiter.estimatedQueue(), is(4));
+        assertThat(limiter.currentLimit(), is(20));
+    }
+
+    @Test
+    void decreaseOnDrops() {
+        VegasLimitImpl limiter = limiter(it -> { });
+        limiter.updateWithSample(0, RTT, 20, false);
+        assertThat(limiter.currentLimit(), is(19));
+    }
+
+    @Test
+    void unchangedWhenNotUsed() {
+        VegasLimitImpl limiter = limiter(it -> { });
+        limiter.updateWithSample(0, RTT, 1, true);
+        limiter.updateWithSample(0, RTT, 1, true);
+        limiter.updateWithSample(0, 2 * RTT, 1, true);
+        assertThat(limiter.currentLimit(), is(20));
+    }
+
+    @Test
+    void probeRttNoLoad() {
+        VegasLimitImpl limiter = limiter(it -> it.probeMultiplier(1));
+        limiter.updateWithSample(0, RTT, 20, true);
+        // latency of the service permanently doubles
+        for (int i = 0; i < 20; i++) {
+            limiter.updateWithSample(0, 2 * RTT, limiter.currentLimit(), true);
+        }
+        assertThat(limiter.rttNoLoad(), is(2 * RTT));
+    }
+
+    @Test
+    void invalidConfiguration() {
+        assertThrows(ConfigException.class, () -> limiter(it -> it.smoothing(1.5)));
+        assertThrows(ConfigException.class, () -> limiter(it -> it.alpha(6).beta(6)));
+        assertThrows(ConfigException.class, () -> limiter(it -> it.probeMultiplier(0)));
+        assertThrows(ConfigException.class, () -> limiter(it -> it.minLimit(30)));
+    }
+
+    @Test
+    public void testSemaphoreReleasedWithToken() {
+        Limit limit = VegasLimit.builder()
+                .initialLimit(5)
+                .build();
+
+        for (int i = 0; i < 5000; i++) {
+            Optional<LimitAlgorithm.Token> token = limit.tryAcquire();
+            assertThat(token, not(Optional.empty()));
+            token.get().success();
+        }
+    }
+
+    // limiter that is updated with each sample, unless configured otherwise
+    private static VegasLimitImpl limiter(Consumer<VegasLimitConfig.Builder> consumer) {
+        return new VegasLimitImpl(VegasLimitConfig.builder()
+                                          .clock(() -> 0L)
+                                          .windowTime(Duration.ZERO)
+                                          .windowSize(1)
+                                          .probeMultiplier(1000)
+                                          .update(consumer)
+                                          .buildPrototype());
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,7 +38,9 @@ public final class LruCache<K, V> implements io.helidon.common.LruCache<K, V>, R
     private final io.helidon.common.LruCache<K, V> delegate;
 
     private LruCache(LruCacheConfig<K, V> config) {
-        this.delegate = io.helidon.common.LruCache.create(config.capacity());
+        this.delegate = config.policy()
+                .map(policy -> io.helidon.common.LruCache.<K, V>create(config.capacity(), policy))
+                .orElseGet(() -> io.helidon.common.LruCache.create(config.capacity()));
         this.config = config;
     }
 
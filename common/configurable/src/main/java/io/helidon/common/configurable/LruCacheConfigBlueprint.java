@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.configurable;
 
+import java.util.Optional;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 
@@ -36,4 +38,13 @@ interface LruCacheConfigBlueprint<K, V> extends Prototype.Factory<LruCache<K, V>
     @Option.DefaultInt(LruCache.DEFAULT_CAPACITY)
     @Option.Configured
     int capacity();
+
+    /**
+     * Policy used to choose the record to remove when the capacity is reached.
+     * If not configured, {@link io.helidon.common.LruCache.Policy#defaultPolicy()} is used.
+     *
+     * @return eviction policy
+     */
+    @Option.Configured
+    Optional<io.helidon.common.LruCache.Policy> policy();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -109,4 +109,17 @@ class LruCacheTest {
         assertThat(value, is(Optional.empty()));
 
     }
+
+    @Test
+    void testClockPolicy() {
+        LruCache<Integer, Integer> theCache = LruCache.<Integer, Integer>builder()
+                .capacity(2)
+                .policy(io.helidon.common.LruCache.Policy.CLOCK)
+                .build();
+        for (int i = 0; i < 3; i++) {
+            theCache.put(i, i);
+        }
+        assertThat(theCache.size(), is(2));
+        assertThat(theCache.prototype().policy(), is(Optional.of(io.helidon.common.LruCache.Policy.CLOCK)));
+    }
 }
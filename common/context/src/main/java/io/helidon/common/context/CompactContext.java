@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.context;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.helidon.common.LazyValue;
+
+/**
+ * A {@link Context} implementation that keeps all registered items in a single copy-on-write array.
+ * <p>
+ * Contexts usually hold just a few items, so a linear scan of a small array is cheaper than maintaining
+ * a map of registries, and lookups do not need any locking. Results of lookups delegated to the parent are cached
+ * when all parent contexts are compact; the cache is invalidated whenever any of the parent contexts is modified.
+ *
+ * @see Context.Builder#compact(boolean)
+ */
+class CompactContext implements Context {
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final ParentLookup[] NO_LOOKUPS = new ParentLookup[0];
+    // lookups are expected to be stable (types used by the application), if we get over the limit, start over
+    private static final int MAX_PARENT_LOOKUPS = 8;
+
+    private final AtomicLong contextCounter = new AtomicLong(1);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Context parent;
+    // parent used for cached lookups, only set if all parent contexts are compact
+    private final CompactContext compactParent;
+    private final String contextId;
+
+    private volatile Entry[] entries = NO_ENTRIES;
+    // only modified while holding the lock, always after entries are updated
+    private volatile long modifications;
+    private volatile ParentLookup[] parentLookups = NO_LOOKUPS;
+
+    CompactContext(Builder builder) {
+        this.parent = builder.parent();
+        this.contextId = builder.id();
+        if (parent instanceof CompactContext compact && (compact.parent == null || compact.compactParent != null)) {
+            this.compactParent = compact;
+        } else {
+            this.compactParent = null;
+        }
+    }
+
+    @Override
+    public String id() {
+        return contextId;
+    }
+
+    @Override
+    public <T> void register(T instance) {
+        Objects.requireNonNull(instance, "Parameter 'instance' is null!");
+        add(new Entry(null, instance.getClass(), instance, null));
+    }
+
+    @Override
+    public <T> void supply(Class<T> type, Supplier<T> supplier) {
+        Objects.requireNonNull(type, "Parameter 'type' is null!");
+        Objects.requireNonNull(supplier, "Parameter 'supplier' is null!");
+        add(new Entry(null, type, null, LazyValue.create(supplier)));
+    }
+
+    @Override
+    public <T> Optional<T> get(Class<T> type) {
+        Objects.requireNonNull(type, "Parameter 'type' is null!");
+        T result = find(null, type);
+        if (result == null) {
+            return parentGet(null, type);
+        }
+        return Optional.of(result);
+    }
+
+    @Override
+    public <T> void register(Object classifier, T instance) {
+        Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
+        Objects.requireNonNull(instance, "Parameter 'instance' is null!");
+        add(new Entry(classifier, instance.getClass(), instance, null));
+    }
+
+    @Override
+    public <T> void supply(Object classifier, Class<T> type, Supplier<T> supplier) {
+        Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
+        Objects.requireNonNull(type, "Parameter 'type' is null!");
+        Objects.requireNonNull(supplier, "Parameter 'supplier' is null!");
+        add(new Entry(classifier, type, null, LazyValue.create(supplier)));
+    }
+
+    @Override
+    public <T> Optional<T> get(Object classifier, Class<T> type) {
+        Objects.requireNonNull(classifier, "Parameter 'classifier' is null!");
+        Objects.requireNonNull(type, "Parameter 'type' is null!");
+        T result = find(classifier, type);
+        if (result == null) {
+            return parentGet(classifier, type);
+        }
+        return Optional.of(result);
+    }
+
+    long nextChildId() {
+        return contextCounter.getAndUpdate(operand -> (operand == Long.MAX_VALUE) ? 1 : (operand + 1));
+    }
+
+    /*
+    Sum of modifications of this context and all its parents. As the number of modifications of each
+    context only grows, the sum changes whenever any of the contexts is modified.
+     */
+    private long chainModifications() {
+        long result = modifications;
+        CompactContext current = compactParent;
+        while (current != null) {
+            result += current.modifications;
+            current = current.compactParent;
+        }
+        return result;
+    }
+
+    // we actually want to do an instance equality for types
+    @SuppressWarnings("ObjectEquality")
+    private void add(Entry entry) {
+        lock.lock();
+        try {
+            Entry[] current = entries;
+            int existing = -1;
+            for (int i = 0; i < current.length; i++) {
+                Entry registered = current[i];
+                if (registered.type == entry.type && Objects.equals(registered.classifier, entry.classifier)) {
+                    existing = i;
+                    break;
+                }
+            }
+            Entry[] updated;
+            if (existing == -1) {
+                updated = Arrays.copyOf(current, current.length + 1);
+            } else {
+                // the replaced entry moves to the end, as it is now the last registered one
+                updated = new Entry[current.length];
+                System.arraycopy(current, 0, updated, 0, existing);
+                System.arraycopy(current, existing + 1, updated, existing, current.length - existing - 1);
+            }
+            updated[updated.length - 1] = entry;
+            entries = updated;
+            modifications++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> T find(Object classifier, Class<T> type) {
+        Entry[] current = entries;
+        for (int i = current.length - 1; i >= 0; i--) {
+            Entry entry = current[i];
+            if (Objects.equals(entry.classifier, classifier) && type.isAssignableFrom(entry.type)) {
+                return type.cast(entry.value());
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "ObjectEquality"})
+    private <T> Optional<T> parentGet(Object classifier, Class<T> type) {
+        if (parent == null) {
+            return Optional.empty();
+        }
+        if (compactParent == null) {
+            return classifier == null ? parent.get(type) : parent.get(classifier, type);
+        }
+
+        // obtain the modifications before the lookup, so a concurrent modification always invalidates the result
+        long chainModifications = compactParent.chainModifications();
+        for (ParentLookup lookup : parentLookups) {
+            if (lookup.type == type && Objects.equals(lookup.classifier, classifier)) {
+                if (lookup.chainModifications == chainModifications) {
+                    return (Optional<T>) lookup.result;
+                }
+                break;
+            }
+        }
+
+        Optional<T> result = classifier == null ? parent.get(type) : parent.get(classifier, type);
+        cacheLookup(new ParentLookup(classifier, type, result, chainModifications));
+        return result;
+    }
+
+    // we actually want to do an instance equality for types
+    @SuppressWarnings("ObjectEquality")
+    private void cacheLookup(ParentLookup lookup) {
+        // concurrent updates may lose a cached lookup, it will be looked up again
+        ParentLookup[] current = parentLookups;
+        if (current.length >= MAX_PARENT_LOOKUPS) {
+            parentLookups = new ParentLookup[] {lookup};
+            return;
+        }
+        ParentLookup[] updated = new ParentLookup[current.length + 1];
+        int index = 0;
+        for (ParentLookup cached : current) {
+            if (cached.type != lookup.type || !Objects.equals(cached.classifier, lookup.classifier)) {
+                updated[index++] = cached;
+            }
+        }
+        updated[index++] = lookup;
+        parentLookups = index == updated.length ? updated : Arrays.copyOf(updated, index);
+    }
+
+    private record Entry(Object classifier, Class<?> type, Object instance, LazyValue<?> supplier) {
+        Object value() {
+            return supplier == null ? instance : supplier.get();
+        }
+
+        @Override
+        public String toString() {
+            return supplier == null ? String.valueOf(instance) : type.getName();
+        }
+    }
+
+    private record ParentLookup(Object classifier, Class<?> type, Optional<?> result, long chainModifications) {
+    }
+}
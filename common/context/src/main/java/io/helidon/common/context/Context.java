@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -169,9 +169,11 @@ public interface Context {
         private static final AtomicLong PARENT_CONTEXT_COUNTER = new AtomicLong(1);
         // this will cycle through long values from 1 to Long.MAX_VALUE
         private static final AtomicLong CHILD_CONTEXT_COUNTER = new AtomicLong(1);
+        private static final boolean COMPACT_DEFAULT = Boolean.getBoolean("io.helidon.common.context.compact");
         private Context parent;
         private String id;
         private boolean notGlobal = true;
+        private boolean compact = COMPACT_DEFAULT;
 
         /**
          * This constructor was accidentally left public.
@@ -194,7 +196,7 @@ public interface Context {
                 parent = Contexts.globalContext();
             }
 
-            return new ListContext(this);
+            return compact ? new CompactContext(this) : new ListContext(this);
         }
 
         Builder global() {
@@ -209,6 +211,9 @@ public interface Context {
             if (parent instanceof ListContext) {
                 return parent.id() + ":" + ((ListContext) parent).nextChildId();
             }
+            if (parent instanceof CompactContext) {
+                return parent.id() + ":" + ((CompactContext) parent).nextChildId();
+            }
 
             // we cannot depend on the parent, so let's use a simple counter (across all contexts)
             long nextId = CHILD_CONTEXT_COUNTER.getAndUpdate(operand -> (operand == Long.MAX_VALUE) ? 1 : (operand + 1));
@@ -237,6 +242,24 @@ public interface Context {
             return this;
         }
 
+        /**
+         * Whether to create a compact context.
+         * A compact context keeps registered instances in a small copy-on-write array, so lookups do not need any locking,
+         * and caches lookups delegated to its parent, as long as the parent and all its parents are compact as well.
+         * This makes creating contexts and looking up instances cheaper for the usual case of a context with just a few
+         * registered instances, such as a context of a request.
+         * <p>
+         * Defaults to the value of the system property {@code io.helidon.common.context.compact}, or {@code false} if
+         * not set. Setting the system property also makes the {@link Contexts#globalContext() global context} compact.
+         *
+         * @param compact whether to create a compact context
+         * @return updated builder instance
+         */
+        public Builder compact(boolean compact) {
+            this.compact = compact;
+            return this;
+        }
+
         Context parent() {
             return parent;
         }
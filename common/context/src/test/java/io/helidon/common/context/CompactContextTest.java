@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.context;
+
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.IsNot.not;
+
+/**
+ * Tests {@link io.helidon.common.context.CompactContext}.
+ */
+class CompactContextTest {
+
+    @Test
+    void testCreate() {
+        Context context = compact(null);
+        Context child = compact(context);
+
+        assertThat(context, instanceOf(CompactContext.class));
+        assertThat(child.id(), startsWith(context.id() + ":"));
+        assertThat(compact(context).id(), not(child.id()));
+    }
+
+    @Test
+    void registerAndGetLast() {
+        Context context = compact(null);
+        assertThat(context.get(String.class), is(Optional.empty()));
+        assertThat(context.get(Integer.class), is(Optional.empty()));
+        context.register("aaa");
+        assertThat(context.get(String.class), is(Optional.of("aaa")));
+        assertThat(context.get(Integer.class), is(Optional.empty()));
+        context.register(1);
+        assertThat(context.get(String.class), is(Optional.of("aaa")));
+        assertThat(context.get(Integer.class), is(Optional.of(1)));
+        assertThat(context.get(Object.class), is(Optional.of(1)));
+        context.register("bbb");
+        assertThat(context.get(String.class), is(Optional.of("bbb")));
+        assertThat(context.get(Object.class), is(Optional.of("bbb")));
+    }
+
+    @Test
+    void registerAndGetLastClassifier() {
+        Context context = compact(null);
+        String classifier = "classifier";
+        assertThat(context.get(classifier, String.class), is(Optional.empty()));
+        context.register(classifier, "aaa");
+        assertThat(context.get(classifier, String.class), is(Optional.of("aaa")));
+        assertThat(context.get(String.class), is(Optional.empty()));
+        assertThat(context.get("other", String.class), is(Optional.empty()));
+        context.register(classifier, 1);
+        assertThat(context.get(classifier, Object.class), is(Optional.of(1)));
+        context.register(classifier, "bbb");
+        context.register("ccc");
+        assertThat(context.get(classifier, String.class), is(Optional.of("bbb")));
+        assertThat(context.get(classifier, Object.class), is(Optional.of("bbb")));
+        assertThat(context.get(String.class), is(Optional.of("ccc")));
+    }
+
+    @Test
+    void testParent() {
+        Context parent = compact(null);
+        parent.register("ppp");
+        Context context = compact(parent);
+        assertThat(context.get(String.class), is(Optional.of("ppp")));
+        context.register(1);
+        assertThat(context.get(String.class), is(Optional.of("ppp")));
+        context.register("aaa");
+        assertThat(context.get(String.class), is(Optional.of("aaa")));
+        assertThat(parent.get(String.class), is(Optional.of("ppp")));
+    }
+
+    @Test
+    void testNonCompactParent() {
+        Context parent = Context.create();
+        parent.register("ppp");
+        Context context = compact(parent);
+        assertThat(context.get(String.class), is(Optional.of("ppp")));
+        parent.register("qqq");
+        assertThat(context.get(String.class), is(Optional.of("qqq")));
+    }
+
+    @Test
+    void testCachedParentLookupInvalidated() {
+        String classifier = "classifier";
+        Context root = compact(null);
+        Context parent = compact(root);
+        Context context = compact(parent);
+
+        assertThat(context.get(String.class), is(Optional.empty()));
+        assertThat(context.get(classifier, String.class), is(Optional.empty()));
+        root.register("rrr");
+        assertThat(context.get(String.class), is(Optional.of("rrr")));
+        assertThat(context.get(classifier, String.class), is(Optional.empty()));
+        parent.register("ppp");
+        assertThat(context.get(String.class), is(Optional.of("ppp")));
+        root.register(classifier, "ccc");
+        assertThat(context.get(String.class), is(Optional.of("ppp")));
+        assertThat(context.get(classifier, String.class), is(Optional.of("ccc")));
+    }
+
+    @Test
+    void testManyParentLookups() {
+        Context parent = compact(null);
+        Context context = compact(parent);
+        Object[] instances = {"a", 1, 2L, 3.0, 4.0F, (short) 5, (byte) 6, 'c', true, new Date(), new StringBuilder()};
+        for (Object instance : instances) {
+            parent.register(instance);
+        }
+        for (int i = 0; i < 3; i++) {
+            for (Object instance : instances) {
+                assertThat(context.get(instance.getClass()), is(Optional.of(instance)));
+            }
+        }
+    }
+
+    @Test
+    void testSupply() {
+        AtomicInteger counter = new AtomicInteger(0);
+        Context context = compact(null);
+        context.register(1);
+        Date date = new Date();
+        context.register(date);
+        context.register("aaa");
+        context.supply(String.class, () -> {
+            counter.incrementAndGet();
+            return "bbb";
+        });
+        context.register(2);
+        assertThat(context.get(Date.class), is(Optional.of(date)));
+        assertThat(counter.get(), is(0));
+        assertThat(context.get(String.class), is(Optional.of("bbb")));
+        assertThat(counter.get(), is(1));
+        assertThat(context.get(String.class), is(Optional.of("bbb")));
+        assertThat(counter.get(), is(1));
+    }
+
+    @Test
+    void testSupplyClassifier() {
+        String classifier = "classifier";
+        AtomicInteger counter = new AtomicInteger(0);
+        Context context = compact(null);
+        context.register(classifier, "aaa");
+        context.supply(classifier, String.class, () -> {
+            counter.incrementAndGet();
+            return "bbb";
+        });
+        assertThat(counter.get(), is(0));
+        assertThat(context.get(classifier, String.class), is(Optional.of("bbb")));
+        assertThat(context.get(classifier, String.class), is(Optional.of("bbb")));
+        assertThat(counter.get(), is(1));
+        assertThat(context.get(String.class), is(Optional.empty()));
+    }
+
+    private static Context compact(Context parent) {
+        Context.Builder builder = Context.builder()
+                .compact(true);
+        if (parent == null) {
+            // no parent at all, so lookups of children can be cached
+            builder.global();
+        } else {
+            builder.parent(parent);
+        }
+        return builder.build();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,8 @@ import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 
 import io.helidon.common.buffers.BufferData;
@@ -151,6 +153,42 @@ public sealed class PlainSocket implements HelidonSocket permits TlsSocket {
         }
     }
 
+    /**
+     * Whether files can be transferred directly to this socket, which requires a plaintext socket
+     * backed by a {@link java.nio.channels.SocketChannel}.
+     *
+     * @return whether {@link #transferFrom(java.nio.channels.FileChannel, long, long)} can be used
+     */
+    boolean supportsTransfer() {
+        return !isSecure() && delegate.getChannel() != null;
+    }
+
+    /**
+     * Transfer a region of a file directly to the socket channel. The operating system may do this without
+     * copying the bytes through user space.
+     *
+     * @param file     file to transfer
+     * @param position position of the first byte of the file to transfer
+     * @param length   number of bytes to transfer
+     */
+    void transferFrom(FileChannel file, long position, long length) {
+        SocketChannel channel = delegate.getChannel();
+        long current = position;
+        long remaining = length;
+        try {
+            while (remaining > 0) {
+                long written = file.transferTo(current, remaining, channel);
+                if (written == 0 && current >= file.size()) {
+                    throw new IOException("File ended before all " + length + " bytes were written");
+                }
+                current += written;
+                remaining -= written;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     SocketAddress localSocketAddress() {
         return delegate.getLocalSocketAddress();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.common.socket;
 
+import java.nio.channels.FileChannel;
 import java.util.concurrent.ExecutorService;
 
 import io.helidon.common.buffers.BufferData;
@@ -78,7 +79,20 @@ public abstract class SocketWriter implements DataWriter {
 
     @Override
     public void writeNow(BufferData buffer) {
-        socket.write(buffer);
+        try {
+            socket.write(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Override
+    public void writeNow(FileChannel file, long position, long length) {
+        if (socket instanceof PlainSocket plainSocket && plainSocket.supportsTransfer()) {
+            plainSocket.transferFrom(file, position, length);
+        } else {
+            DataWriter.super.writeNow(file, position, length);
+        }
     }
 
     /**
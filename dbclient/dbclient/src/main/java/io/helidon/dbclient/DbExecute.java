@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,7 @@
  */
 package io.helidon.dbclient;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -352,6 +353,30 @@ public interface DbExecute {
         return createDmlStatement(statement).params(parameters).execute();
     }
 
+    /**
+     * Create and execute a data modification statement using a statement defined in the configuration file,
+     * once for each of the parameter sets, in batches.
+     *
+     * @param statementName the name of the configuration node with statement
+     * @param parameterSets parameter sets, see {@link DbStatementDml#executeBatch(Iterable)}
+     * @return number of rows modified by each of the executed batches
+     */
+    default List<Long> namedBatch(String statementName, Iterable<?> parameterSets) {
+        return createNamedDmlStatement(statementName).executeBatch(parameterSets);
+    }
+
+    /**
+     * Create and execute a data modification statement using a statement passed as an argument,
+     * once for each of the parameter sets, in batches.
+     *
+     * @param statement     the data modification statement to be executed
+     * @param parameterSets parameter sets, see {@link DbStatementDml#executeBatch(Iterable)}
+     * @return number of rows modified by each of the executed batches
+     */
+    default List<Long> batch(String statement, Iterable<?> parameterSets) {
+        return createDmlStatement(statement).executeBatch(parameterSets);
+    }
+
     /*
      * Unwrap support
      */
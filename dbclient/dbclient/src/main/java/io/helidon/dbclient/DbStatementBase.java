@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -97,6 +97,44 @@ public abstract class DbStatementBase<S extends DbStatement<S>> implements DbSta
         return function.apply(queryFuture, serviceContext);
     }
 
+    /**
+     * Convert a single parameter set of a batch to statement parameters.
+     * Lists and arrays are used as indexed parameters, maps as named parameters, and other objects
+     * are mapped to named parameters using the registered {@link DbMapper mappers}.
+     *
+     * @param parameterSet parameter set
+     * @return statement parameters
+     * @see DbStatementDml#executeBatch(Iterable)
+     */
+    protected DbStatementParameters batchParameters(Object parameterSet) {
+        if (parameterSet == null) {
+            throw new DbClientException("Batch parameter set must not be null");
+        }
+        if (parameterSet instanceof List<?> list) {
+            DbStatementParameters result = new DbIndexedStatementParameters();
+            list.forEach(result::addParam);
+            return result;
+        }
+        if (parameterSet instanceof Object[] array) {
+            DbStatementParameters result = new DbIndexedStatementParameters();
+            for (Object parameter : array) {
+                result.addParam(parameter);
+            }
+            return result;
+        }
+        Map<?, ?> map;
+        if (parameterSet instanceof Map<?, ?> parameterMap) {
+            map = parameterMap;
+        } else {
+            @SuppressWarnings("unchecked")
+            Class<Object> theClass = (Class<Object>) parameterSet.getClass();
+            map = context.dbMapperManager().toNamedParameters(parameterSet, theClass);
+        }
+        DbStatementParameters result = new DbNamedStatementParameters();
+        map.forEach((name, value) -> result.addParam(String.valueOf(name), value));
+        return result;
+    }
+
     /**
      * Decorate the given stream to invoke {@link Stream#close()} on terminal operations.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 package io.helidon.dbclient;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Data Manipulation Language (DML) database statement.
@@ -23,6 +24,11 @@ import java.util.List;
  */
 public interface DbStatementDml extends DbStatement<DbStatementDml> {
 
+    /**
+     * Default number of parameter sets sent to the database in a single batch by {@link #executeBatch(Iterable)}.
+     */
+    int DEFAULT_BATCH_SIZE = 1000;
+
     /**
      * Execute this statement using the parameters configured with {@code params} and {@code addParams} methods.
      *
@@ -57,4 +63,54 @@ public interface DbStatementDml extends DbStatement<DbStatementDml> {
      */
     DbStatementDml returnColumns(List<String> columnNames);
 
+    /**
+     * Configure the number of parameter sets sent to the database in a single batch by {@link #executeBatch(Iterable)}.
+     * Defaults to {@value #DEFAULT_BATCH_SIZE}.
+     *
+     * @param batchSize maximal number of parameter sets in a single batch
+     * @return updated db statement
+     * @throws UnsupportedOperationException when batch execution is not supported by the provider
+     */
+    default DbStatementDml batchSize(int batchSize) {
+        throw new UnsupportedOperationException("Batch execution is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Execute this statement once for each of the provided parameter sets, sending them to the database in batches
+     * of the configured {@link #batchSize(int) size}.
+     * Each parameter set is one of:
+     * <ul>
+     *     <li>{@link List} or array of indexed parameters</li>
+     *     <li>{@link java.util.Map} of named parameters</li>
+     *     <li>any other object, mapped to named parameters using a registered {@link DbMapper}</li>
+     * </ul>
+     * All parameter sets must use the same kind of parameters. Parameters configured with {@code params}
+     * and {@code addParams} methods are ignored.
+     * <p>
+     * When executed outside of a transaction, each batch may be committed separately, and a failure
+     * does not roll back batches that were already executed.
+     *
+     * @param parameterSets parameter sets, the statement is executed once for each of them
+     * @return number of modified records for each of the executed batches, in order of execution
+     * @throws UnsupportedOperationException when batch execution is not supported by the provider
+     */
+    default List<Long> executeBatch(Iterable<?> parameterSets) {
+        throw new UnsupportedOperationException("Batch execution is not supported by " + getClass().getName());
+    }
+
+    /**
+     * Execute this statement once for each of the provided parameter sets, sending them to the database in batches.
+     * The stream is consumed lazily and closed once the statement is executed.
+     *
+     * @param parameterSets parameter sets, the statement is executed once for each of them
+     * @return number of modified records for each of the executed batches, in order of execution
+     * @see #executeBatch(Iterable)
+     */
+    default List<Long> executeBatch(Stream<?> parameterSets) {
+        try (parameterSets) {
+            Stream<Object> stream = parameterSets.map(Object.class::cast);
+            return executeBatch((Iterable<Object>) stream::iterator);
+        }
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -43,6 +43,7 @@ class JdbcClient extends DbClientBase implements DbClient {
                 .clientServices(builder.clientServices())
                 .dbType(builder.connectionPool().dbType())
                 .parametersSetter(builder.parametersConfig())
+                .statementCache(builder.statementCacheConfig())
                 .build());
         connectionPool = builder.connectionPool();
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,10 +30,12 @@ public final class JdbcClientBuilder
 
     private JdbcConnectionPool connectionPool;
     private JdbcParametersConfigBlueprint parametersConfig;
+    private JdbcStatementCacheConfigBlueprint statementCacheConfig;
 
     JdbcClientBuilder() {
         super();
         this.parametersConfig = JdbcParametersConfig.create();
+        this.statementCacheConfig = JdbcStatementCacheConfig.create();
     }
 
     /**
@@ -58,6 +60,10 @@ public final class JdbcClientBuilder
         if (parameters.exists()) {
             this.parametersConfig = JdbcParametersConfig.create(parameters);
         }
+        Config statementCache = config.get("statement-cache");
+        if (statementCache.exists()) {
+            this.statementCacheConfig = JdbcStatementCacheConfig.create(statementCache);
+        }
         return this;
     }
 
@@ -72,6 +78,17 @@ public final class JdbcClientBuilder
         return this;
     }
 
+    /**
+     * Configure statement cache.
+     *
+     * @param statementCacheConfig statement cache configuration
+     * @return updated builder instance
+     */
+    public JdbcClientBuilder statementCache(JdbcStatementCacheConfig statementCacheConfig) {
+        this.statementCacheConfig = statementCacheConfig;
+        return this;
+    }
+
     /**
      * Configure a connection pool.
      *
@@ -101,4 +118,13 @@ public final class JdbcClientBuilder
         return parametersConfig;
     }
 
+    /**
+     * Get the statement cache configuration.
+     *
+     * @return statement cache configuration
+     */
+    JdbcStatementCacheConfigBlueprint statementCacheConfig() {
+        return statementCacheConfig;
+    }
+
 }
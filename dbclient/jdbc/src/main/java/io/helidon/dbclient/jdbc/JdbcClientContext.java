@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,12 @@
  */
 package io.helidon.dbclient.jdbc;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Optional;
+
+import io.helidon.common.LruCache;
 import io.helidon.dbclient.DbClientContext;
 
 /**
@@ -25,17 +31,50 @@ import io.helidon.dbclient.DbClientContext;
 class JdbcClientContext extends DbClientContext {
 
     private final JdbcParametersConfigBlueprint parametersConfig;
-
+    private final LruCache<String, NamedStatementParser.ParsedStatement> parsedStatements;
+    private final PreparedStatementCache preparedStatements;
 
     JdbcClientContext(Builder builder) {
         super(builder);
         this.parametersConfig = builder.parametersConfig;
+        int parsedStatementsCapacity = builder.statementCacheConfig.parsedStatements();
+        this.parsedStatements = parsedStatementsCapacity > 0 ? LruCache.create(parsedStatementsCapacity) : null;
+        this.preparedStatements = PreparedStatementCache.create(builder.statementCacheConfig.preparedStatements());
     }
 
     JdbcParametersConfigBlueprint parametersConfig() {
         return parametersConfig;
     }
 
+    /**
+     * Parse statement with named parameters, the parsed form is cached when enabled.
+     *
+     * @param stmt statement text
+     * @return parsed statement
+     */
+    NamedStatementParser.ParsedStatement parseNamedStatement(String stmt) {
+        if (parsedStatements == null) {
+            return NamedStatementParser.parse(stmt);
+        }
+        return parsedStatements.computeValue(stmt, () -> Optional.of(NamedStatementParser.parse(stmt)))
+                .orElseThrow();
+    }
+
+    /**
+     * Prepare a statement on the connection, reusing a cached statement when enabled.
+     *
+     * @param connection database connection
+     * @param stmt       statement text
+     * @return prepared statement
+     * @throws SQLException when the statement could not be prepared
+     */
+    PreparedStatement prepareStatement(Connection connection, String stmt) throws SQLException {
+        if (preparedStatements == null) {
+            return connection.prepareStatement(stmt);
+        }
+        return preparedStatements.prepare(connection, stmt);
+    }
+
     /**
      * Create Helidon JDBC database client context builder.
      *
@@ -51,10 +90,12 @@ class JdbcClientContext extends DbClientContext {
     static final class Builder extends DbClientContext.BuilderBase<Builder, JdbcClientContext> {
 
         private JdbcParametersConfigBlueprint parametersConfig;
+        private JdbcStatementCacheConfigBlueprint statementCacheConfig;
 
         private Builder() {
             super();
             this.parametersConfig = JdbcParametersConfig.create();
+            this.statementCacheConfig = JdbcStatementCacheConfig.create();
         }
 
         /**
@@ -68,6 +109,17 @@ class JdbcClientContext extends DbClientContext {
             return this;
         }
 
+        /**
+         * Configure statement cache.
+         *
+         * @param statementCacheConfig statement cache configuration
+         * @return updated builder instance
+         */
+        Builder statementCache(JdbcStatementCacheConfigBlueprint statementCacheConfig) {
+            this.statementCacheConfig = statementCacheConfig;
+            return this;
+        }
+
         @Override
         public JdbcClientContext build() {
             return new JdbcClientContext(this);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,10 @@
  */
 package io.helidon.dbclient.jdbc;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 import io.helidon.dbclient.DbExecuteContext;
 
 /**
@@ -30,6 +34,14 @@ class JdbcExecuteContext extends DbExecuteContext {
         return clientContext(JdbcClientContext.class).parametersConfig();
     }
 
+    NamedStatementParser.ParsedStatement parseNamedStatement(String stmt) {
+        return clientContext(JdbcClientContext.class).parseNamedStatement(stmt);
+    }
+
+    PreparedStatement prepareStatement(Connection connection, String stmt) throws SQLException {
+        return clientContext(JdbcClientContext.class).prepareStatement(connection, stmt);
+    }
+
     /**
      * Create a new execution context.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -75,7 +75,12 @@ public abstract class JdbcStatement<S extends DbStatement<S>> extends DbStatemen
         }
     }
 
-    private JdbcExecuteContext jdbcContext() {
+    /**
+     * Get the JDBC execution context.
+     *
+     * @return JDBC execution context
+     */
+    JdbcExecuteContext jdbcContext() {
         return context(JdbcExecuteContext.class);
     }
 
@@ -137,7 +142,7 @@ public abstract class JdbcStatement<S extends DbStatement<S>> extends DbStatemen
     protected PreparedStatement prepareStatement(Connection connection, String stmtName, String stmt) {
         try {
             this.connection = connection;
-            return connection.prepareStatement(stmt);
+            return jdbcContext().prepareStatement(connection, stmt);
         } catch (SQLException e) {
             throw new DbClientException(String.format("Failed to prepare statement: %s", stmtName), e);
         }
@@ -147,33 +152,10 @@ public abstract class JdbcStatement<S extends DbStatement<S>> extends DbStatemen
         PreparedStatement preparedStatement = null;
         try {
             // Parameters names must be replaced with ? and names occurrence order must be stored.
-            NamedStatementParser parser = new NamedStatementParser(stmt);
-            String convertedStmt = parser.convert();
-            LOGGER.log(Level.TRACE, () -> String.format("Converted statement: %s", convertedStmt));
-            preparedStatement = prepareStatement(stmtName, convertedStmt);
-            List<String> namesOrder = parser.namesOrder();
-            // Set parameters into prepared statement
-            int i = 1; // JDBC set position parameter starts from 1.
-            for (String name : namesOrder) {
-                if (parameters.containsKey(name)) {
-                    Object value = parameters.get(name);
-                    if (LOGGER.isLoggable(Level.TRACE)) {
-                        LOGGER.log(Level.TRACE, String.format("Mapped parameter %d: %s -> %s", i, name, value));
-                    }
-                    setParameter(preparedStatement, i, value);
-                    i++;
-                } else {
-                    if (context().missingMapParametersAsNull()) {
-                        if (LOGGER.isLoggable(Level.TRACE)) {
-                            LOGGER.log(Level.TRACE, String.format("Mapped parameter %d: %s -> null", i, name));
-                        }
-                        setParameter(preparedStatement, i, null);
-                        i++;
-                    } else {
-                        throw new DbClientException(namedStatementErrorMessage(namesOrder, parameters));
-                    }
-                }
-            }
+            NamedStatementParser.ParsedStatement parsed = jdbcContext().parseNamedStatement(stmt);
+            LOGGER.log(Level.TRACE, () -> String.format("Converted statement: %s", parsed.statement()));
+            preparedStatement = prepareStatement(stmtName, parsed.statement());
+            setNamedParameters(preparedStatement, parsed.namesOrder(), parameters);
             return preparedStatement;
         } catch (SQLException e) {
             closePreparedStatement(preparedStatement);
@@ -185,19 +167,115 @@ public abstract class JdbcStatement<S extends DbStatement<S>> extends DbStatemen
         PreparedStatement preparedStatement = null;
         try {
             preparedStatement = prepareStatement(stmtName, stmt);
-            int i = 1; // JDBC set position parameter starts from 1.
-            for (Object value : parameters) {
+            setIndexedParameters(preparedStatement, parameters);
+            return preparedStatement;
+        } catch (SQLException e) {
+            closePreparedStatement(preparedStatement);
+            throw new DbClientException(String.format("Failed to prepare statement with indexed params: %s", stmtName), e);
+        }
+    }
+
+    /**
+     * Execute the statement once for each of the parameter sets, using JDBC batches of the provided size.
+     * The statement is prepared only once, the kind of parameters (named or indexed) is given by the first parameter set.
+     *
+     * @param serviceContext client service context
+     * @param parameterSets  parameter sets
+     * @param batchSize      maximal number of parameter sets in a single batch
+     * @return number of modified records for each of the executed batches
+     * @throws SQLException when the statement execution failed
+     */
+    List<Long> executeBatch(DbClientServiceContext serviceContext, Iterable<?> parameterSets, int batchSize)
+            throws SQLException {
+        String stmtName = serviceContext.statementName();
+        String stmt = serviceContext.statement();
+        List<Long> result = new ArrayList<>();
+        PreparedStatement preparedStatement = null;
+        List<String> namesOrder = null;
+        try {
+            int pending = 0;
+            for (Object parameterSet : parameterSets) {
+                DbStatementParameters stmtParams = batchParameters(parameterSet);
+                if (preparedStatement == null) {
+                    if (stmtParams instanceof DbNamedStatementParameters) {
+                        NamedStatementParser.ParsedStatement parsed = jdbcContext().parseNamedStatement(stmt);
+                        LOGGER.log(Level.TRACE, () -> String.format("Converted statement: %s", parsed.statement()));
+                        namesOrder = parsed.namesOrder();
+                        preparedStatement = prepareStatement(stmtName, parsed.statement());
+                    } else {
+                        preparedStatement = prepareStatement(stmtName, stmt);
+                    }
+                }
+                if (namesOrder != null && stmtParams instanceof DbNamedStatementParameters named) {
+                    setNamedParameters(preparedStatement, namesOrder, named.parameters());
+                } else if (namesOrder == null && stmtParams instanceof DbIndexedStatementParameters indexed) {
+                    setIndexedParameters(preparedStatement, indexed.parameters());
+                } else {
+                    throw new DbClientException(String.format(
+                            "Cannot mix named and indexed parameter sets in a batch of statement: %s", stmtName));
+                }
+                preparedStatement.addBatch();
+                if (++pending == batchSize) {
+                    result.add(updateCount(preparedStatement.executeBatch()));
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                result.add(updateCount(preparedStatement.executeBatch()));
+            }
+            return result;
+        } finally {
+            closePreparedStatement(preparedStatement);
+        }
+    }
+
+    private void setNamedParameters(PreparedStatement preparedStatement,
+                                    List<String> namesOrder,
+                                    Map<String, Object> parameters) throws SQLException {
+        // Set parameters into prepared statement
+        int i = 1; // JDBC set position parameter starts from 1.
+        for (String name : namesOrder) {
+            if (parameters.containsKey(name)) {
+                Object value = parameters.get(name);
                 if (LOGGER.isLoggable(Level.TRACE)) {
-                    LOGGER.log(Level.TRACE, String.format("Indexed parameter %d: %s", i, value));
+                    LOGGER.log(Level.TRACE, String.format("Mapped parameter %d: %s -> %s", i, name, value));
                 }
                 setParameter(preparedStatement, i, value);
                 i++;
+            } else {
+                if (context().missingMapParametersAsNull()) {
+                    if (LOGGER.isLoggable(Level.TRACE)) {
+                        LOGGER.log(Level.TRACE, String.format("Mapped parameter %d: %s -> null", i, name));
+                    }
+                    setParameter(preparedStatement, i, null);
+                    i++;
+                } else {
+                    throw new DbClientException(namedStatementErrorMessage(namesOrder, parameters));
+                }
+            }
+        }
+    }
+
+    private void setIndexedParameters(PreparedStatement preparedStatement, List<Object> parameters) throws SQLException {
+        int i = 1; // JDBC set position parameter starts from 1.
+        for (Object value : parameters) {
+            if (LOGGER.isLoggable(Level.TRACE)) {
+                LOGGER.log(Level.TRACE, String.format("Indexed parameter %d: %s", i, value));
+            }
+            setParameter(preparedStatement, i, value);
+            i++;
+        }
+    }
+
+    // Statements that succeeded without a known number of modified records (Statement.SUCCESS_NO_INFO) are not counted
+    private static long updateCount(int[] updateCounts) {
+        long result = 0;
+        for (int updateCount : updateCounts) {
+            if (updateCount > 0) {
+                result += updateCount;
             }
-            return preparedStatement;
-        } catch (SQLException e) {
-            closePreparedStatement(preparedStatement);
-            throw new DbClientException(String.format("Failed to prepare statement with indexed params: %s", stmtName), e);
         }
+        return result;
     }
 
     private void closePreparedStatement(PreparedStatement preparedStatement) {
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.dbclient.jdbc;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * JDBC statement cache configuration.
+ */
+@Prototype.Blueprint
+@Prototype.Configured(value = "statement-cache", root = false)
+interface JdbcStatementCacheConfigBlueprint {
+
+    /**
+     * Maximal number of statements with named parameters kept in their parsed form, so the statement text
+     * is not parsed again on each execution. The cache is shared by all executions of the client.
+     * Value of {@code 0} disables the cache.
+     * Default value is {@code 256}.
+     *
+     * @return capacity of the parsed statements cache
+     */
+    @Option.Configured
+    @Option.DefaultInt(256)
+    int parsedStatements();
+
+    /**
+     * Maximal number of {@link java.sql.PreparedStatement} instances cached for each database connection.
+     * Value of {@code 0} (default) disables the cache.
+     * <p>Enable only when neither the connection pool nor the JDBC driver cache prepared statements.
+     * Statements are prepared on the physical connection (obtained using {@link java.sql.Connection#unwrap(Class)})
+     * and are kept open until evicted from the cache, or until the physical connection is closed.
+     * Statements returning generated keys or columns are never cached.
+     *
+     * @return number of prepared statements cached for each connection
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int preparedStatements();
+
+}
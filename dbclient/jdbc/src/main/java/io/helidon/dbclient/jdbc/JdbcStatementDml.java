@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,6 +51,7 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml> implements DbStatem
     // - value of true indicates that Statement.RETURN_GENERATED_KEYS as autoGeneratedKeys will be passed
     //   to PreparedStatement creation
     private boolean returnGeneratedKeys;
+    private int batchSize = DEFAULT_BATCH_SIZE;
 
     /**
      * Create a new instance.
@@ -84,6 +85,27 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml> implements DbStatem
         return doExecute((future, context) -> doInsert(this, future, context, this::closeConnection));
     }
 
+    @Override
+    public DbStatementDml batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but is " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public List<Long> executeBatch(Iterable<?> parameterSets) {
+        Objects.requireNonNull(parameterSets, "Batch parameter sets value is null");
+        return doExecute((future, context) -> {
+            try {
+                return doExecuteBatch(this, future, context, parameterSets, batchSize);
+            } finally {
+                closeConnection();
+            }
+        });
+    }
+
     @Override
     public DbStatementDml returnGeneratedKeys() {
         if (!columnNames.isEmpty()) {
@@ -112,7 +134,7 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml> implements DbStatem
             } else if (!columnNames.isEmpty()) {
                 return connection.prepareStatement(stmt, columnNames.toArray(EMPTY_STRING_ARRAY));
             }
-            return connection.prepareStatement(stmt);
+            return jdbcContext().prepareStatement(connection, stmt);
         } catch (SQLException e) {
             throw new DbClientException(String.format("Failed to prepare statement: %s", stmtName), e);
         }
@@ -140,6 +162,34 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml> implements DbStatem
         }
     }
 
+    /**
+     * Execute the given statement once for each of the parameter sets, in batches.
+     *
+     * @param dbStmt        db statement
+     * @param future        query future
+     * @param context       service context
+     * @param parameterSets parameter sets
+     * @param batchSize     maximal number of parameter sets in a single batch
+     * @return number of modified records for each of the executed batches
+     */
+    static List<Long> doExecuteBatch(JdbcStatement<? extends DbStatementDml> dbStmt,
+                                     CompletableFuture<Long> future,
+                                     DbClientServiceContext context,
+                                     Iterable<?> parameterSets,
+                                     int batchSize) {
+        try {
+            List<Long> result = dbStmt.executeBatch(context, parameterSets, batchSize);
+            long total = 0;
+            for (long count : result) {
+                total += count;
+            }
+            future.complete(total);
+            return result;
+        } catch (SQLException ex) {
+            throw new DbStatementException("Failed to execute statement batch", dbStmt.context().statement(), ex);
+        }
+    }
+
     /**
      * Execute the given insert statement.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,7 @@ class JdbcTransactionStatementDml extends JdbcTransactionStatement<DbStatementDm
     // - value of true indicates that Statement.RETURN_GENERATED_KEYS as autoGeneratedKeys will be passed
     //   to PreparedStatement creation
     private boolean returnGeneratedKeys;
+    private int batchSize = DEFAULT_BATCH_SIZE;
 
     /**
      * Create a new instance.
@@ -73,6 +74,25 @@ class JdbcTransactionStatementDml extends JdbcTransactionStatement<DbStatementDm
         return doExecute((future, context) -> JdbcStatementDml.doInsert(this, future, context, null));
     }
 
+    @Override
+    public DbStatementDml batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but is " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public List<Long> executeBatch(Iterable<?> parameterSets) {
+        Objects.requireNonNull(parameterSets, "Batch parameter sets value is null");
+        return doExecute((future, context) -> JdbcStatementDml.doExecuteBatch(this,
+                                                                             future,
+                                                                             context,
+                                                                             parameterSets,
+                                                                             batchSize));
+    }
+
     @Override
     public DbStatementDml returnGeneratedKeys() {
         if (!columnNames.isEmpty()) {
@@ -101,7 +121,7 @@ class JdbcTransactionStatementDml extends JdbcTransactionStatement<DbStatementDm
             } else if (!columnNames.isEmpty()) {
                 return connection.prepareStatement(stmt, columnNames.toArray(JdbcStatementDml.EMPTY_STRING_ARRAY));
             }
-            return connection.prepareStatement(stmt);
+            return jdbcContext().prepareStatement(connection, stmt);
         } catch (SQLException e) {
             throw new DbClientException(String.format("Failed to prepare statement: %s", stmtName), e);
         }
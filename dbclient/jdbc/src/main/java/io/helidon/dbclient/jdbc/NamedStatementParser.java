@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -538,6 +538,18 @@ class NamedStatementParser {
      */
     private CharClass cl;
 
+    /**
+     * Parse the statement.
+     *
+     * @param statement statement with named parameters
+     * @return statement translated to indexed notation with the order of named parameters
+     */
+    static ParsedStatement parse(String statement) {
+        NamedStatementParser parser = new NamedStatementParser(statement);
+        String convertedStatement = parser.convert();
+        return new ParsedStatement(convertedStatement, List.copyOf(parser.namesOrder()));
+    }
+
     NamedStatementParser(String statement) {
         this.sb = new StringBuilder(statement.length());
         this.nap = new StringBuilder(32);
@@ -572,4 +584,13 @@ class NamedStatementParser {
         return names;
     }
 
+    /**
+     * Statement translated to indexed notation.
+     *
+     * @param statement  statement with named parameters replaced with '?' characters
+     * @param namesOrder named parameters in the same order as listed in the statement (may contain duplicate items)
+     */
+    record ParsedStatement(String statement, List<String> namesOrder) {
+    }
+
 }
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.dbclient.jdbc;
+
+import java.lang.System.Logger.Level;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of {@link PreparedStatement} instances for each physical database connection.
+ * <p>A cached statement is removed from the cache while in use, and returned to the cache when closed by the caller,
+ * so the same statement is never used by two executions at the same time.
+ */
+final class PreparedStatementCache {
+
+    private static final System.Logger LOGGER = System.getLogger(PreparedStatementCache.class.getName());
+
+    // cached statements reference their physical connection, so entries must be removed explicitly once the connection
+    // is closed by the pool; this is done when a statement is prepared on a connection not seen before
+    private final Map<Connection, ConnectionCache> caches = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    private PreparedStatementCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Create a new cache.
+     *
+     * @param capacity number of statements cached for each connection, {@code 0} to disable the cache
+     * @return new cache, or {@code null} when disabled
+     */
+    static PreparedStatementCache create(int capacity) {
+        return capacity > 0 ? new PreparedStatementCache(capacity) : null;
+    }
+
+    /**
+     * Get a cached statement, or prepare a new one.
+     * The statement is returned to the cache when closed.
+     *
+     * @param connection connection obtained from the connection pool
+     * @param stmt       statement text
+     * @return prepared statement
+     * @throws SQLException when the statement could not be prepared
+     */
+    PreparedStatement prepare(Connection connection, String stmt) throws SQLException {
+        Connection physical = physicalConnection(connection);
+        ConnectionCache cache = connectionCache(physical);
+        PreparedStatement statement = cache.take(stmt);
+        if (statement == null) {
+            statement = physical.prepareStatement(stmt);
+        }
+        return cachedStatement(cache, stmt, statement);
+    }
+
+    /**
+     * Number of physical connections with cached statements.
+     *
+     * @return number of connections
+     */
+    int connections() {
+        return caches.size();
+    }
+
+    private ConnectionCache connectionCache(Connection physical) {
+        ConnectionCache cache = caches.get(physical);
+        if (cache == null) {
+            cache = caches.computeIfAbsent(physical, it -> new ConnectionCache(it, capacity));
+            // a new physical connection usually replaces one retired by the pool
+            removeStale();
+        }
+        return cache;
+    }
+
+    private void removeStale() {
+        caches.values().removeIf(ConnectionCache::closeIfStale);
+    }
+
+    private static Connection physicalConnection(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                return connection.unwrap(Connection.class);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.TRACE, "Could not unwrap connection, statements are cached for the connection itself", e);
+        }
+        return connection;
+    }
+
+    private static PreparedStatement cachedStatement(ConnectionCache cache, String stmt, PreparedStatement statement) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatementCache.class.getClassLoader(),
+                                                          new Class<?>[] {PreparedStatement.class},
+                                                          new CachedStatementHandler(cache, stmt, statement));
+    }
+
+    private static void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, String.format("Could not close PreparedStatement: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Statements of a single physical connection, in access order.
+     */
+    private static final class ConnectionCache {
+
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+
+        private ConnectionCache(Connection connection, int capacity) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() > capacity) {
+                        close(eldest.getValue());
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        private synchronized boolean closeIfStale() {
+            boolean closed;
+            try {
+                closed = connection.isClosed();
+            } catch (SQLException e) {
+                closed = true;
+            }
+            if (closed) {
+                statements.values().forEach(PreparedStatementCache::close);
+                statements.clear();
+            }
+            return closed;
+        }
+
+        private synchronized PreparedStatement take(String stmt) throws SQLException {
+            PreparedStatement statement = statements.remove(stmt);
+            if (statement != null && statement.isClosed()) {
+                // physical connection was closed
+                return null;
+            }
+            return statement;
+        }
+
+        private synchronized void offer(String stmt, PreparedStatement statement) {
+            PreparedStatement previous = statements.put(stmt, statement);
+            if (previous != null) {
+                // the same statement was used concurrently, keep only one of them
+                close(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the statement to the cache instead of closing it.
+     */
+    private static final class CachedStatementHandler implements InvocationHandler {
+
+        // methods that change statement settings, which would be used by the next user of a cached statement
+        private static final Set<String> SETTINGS_METHODS = Set.of("setMaxRows",
+                                                                   "setLargeMaxRows",
+                                                                   "setFetchSize",
+                                                                   "setFetchDirection",
+                                                                   "setQueryTimeout",
+                                                                   "setMaxFieldSize",
+                                                                   "setEscapeProcessing",
+                                                                   "setCursorName",
+                                                                   "setPoolable",
+                                                                   "closeOnCompletion");
+
+        private final ConnectionCache cache;
+        private final String stmt;
+        private final PreparedStatement statement;
+        private boolean closed;
+        private boolean batched;
+        private boolean modified;
+
+        private CachedStatementHandler(ConnectionCache cache, String stmt, PreparedStatement statement) {
+            this.cache = cache;
+            this.stmt = stmt;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "close":
+                if (!closed) {
+                    closed = true;
+                    release();
+                }
+                return null;
+            case "isClosed":
+                return closed || statement.isClosed();
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                if (closed) {
+                    throw new SQLException("Statement is closed");
+                }
+                if (method.getName().equals("addBatch")) {
+                    batched = true;
+                } else if (SETTINGS_METHODS.contains(method.getName())) {
+                    modified = true;
+                }
+                try {
+                    return method.invoke(statement, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+
+        private void release() {
+            try {
+                if (statement.isClosed()) {
+                    return;
+                }
+                if (modified) {
+                    // settings cannot be reliably reset to the driver defaults
+                    close(statement);
+                    return;
+                }
+                statement.clearParameters();
+                if (batched) {
+                    // a failed batch may still contain queued parameter sets
+                    statement.clearBatch();
+                }
+                cache.offer(stmt, statement);
+            } catch (SQLException e) {
+                // statement cannot be reused
+                close(statement);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import io.helidon.dbclient.DbClient;
+import io.helidon.dbclient.DbClientException;
+import io.helidon.dbclient.DbStatementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests batch execution of DML statements.
+ */
+class JdbcStatementBatchTest {
+
+    private Connection connection;
+    private PreparedStatement statement;
+    private DbClient dbClient;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeBatch()).thenReturn(new int[] {1, 1}, new int[] {1, Statement.SUCCESS_NO_INFO}, new int[] {1});
+        dbClient = new JdbcClientBuilder()
+                .connectionPool(() -> connection)
+                .build();
+    }
+
+    @Test
+    void testIndexedBatches() throws Exception {
+        List<Long> result = dbClient.execute()
+                .createDmlStatement("UPDATE Pokemons SET name=? WHERE id=?")
+                .batchSize(2)
+                .executeBatch(IntStream.range(0, 5).mapToObj(i -> List.of("Name" + i, i)));
+
+        assertThat(result, is(List.of(2L, 1L, 1L)));
+        verify(connection).prepareStatement("UPDATE Pokemons SET name=? WHERE id=?");
+        verify(statement, times(5)).addBatch();
+        verify(statement, times(3)).executeBatch();
+        verify(statement).setString(1, "Name4");
+        verify(statement).setInt(2, 4);
+        verify(statement).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void testNamedBatches() throws Exception {
+        List<Long> result = dbClient.execute()
+                .batch("UPDATE Pokemons SET name=:name WHERE id=:id",
+                       List.of(Map.of("id", 1, "name", "Pikachu"),
+                               Map.of("id", 2, "name", "Raichu")));
+
+        assertThat(result, is(List.of(2L)));
+        verify(connection).prepareStatement("UPDATE Pokemons SET name=? WHERE id=?");
+        verify(statement).setString(1, "Raichu");
+        verify(statement).setInt(2, 2);
+        verify(statement, times(1)).executeBatch();
+    }
+
+    @Test
+    void testEmptyBatch() throws Exception {
+        List<Long> result = dbClient.execute()
+                .batch("DELETE FROM Pokemons WHERE id=?", List.of());
+
+        assertThat(result, is(List.of()));
+        verify(connection, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void testFailedBatch() throws Exception {
+        when(statement.executeBatch()).thenThrow(new BatchUpdateException());
+
+        assertThrows(DbStatementException.class, () -> dbClient.execute()
+                .batch("DELETE FROM Pokemons WHERE id=?", List.of(List.of(1), List.of(2))));
+        verify(statement).close();
+        verify(connection, times(1)).close();
+    }
+
+    @Test
+    void testMixedParameterSets() {
+        assertThrows(DbClientException.class, () -> dbClient.execute()
+                .batch("UPDATE Pokemons SET name=:name WHERE id=:id",
+                       List.of(Map.of("id", 1, "name", "Pikachu"),
+                               List.of("Raichu", 2))));
+    }
+}
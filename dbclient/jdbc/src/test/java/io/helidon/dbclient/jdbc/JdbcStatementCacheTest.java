@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Map;
+
+import io.helidon.dbclient.DbClient;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests {@link JdbcStatementCacheConfig}.
+ */
+class JdbcStatementCacheTest {
+
+    private static final String STMT = "UPDATE Pokemons SET name=:name WHERE id=:id";
+    private static final String CONVERTED_STMT = "UPDATE Pokemons SET name=? WHERE id=?";
+
+    private Connection connection;
+    private PreparedStatement statement;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        connection = mock(Connection.class);
+        statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeUpdate()).thenReturn(1);
+    }
+
+    @Test
+    void testParsedStatementsCached() {
+        JdbcClientContext context = client(JdbcStatementCacheConfig.create()).context();
+        NamedStatementParser.ParsedStatement parsed = context.parseNamedStatement(STMT);
+
+        assertThat(parsed.statement(), is(CONVERTED_STMT));
+        assertThat(context.parseNamedStatement(STMT), sameInstance(parsed));
+    }
+
+    @Test
+    void testParsedStatementsCacheDisabled() {
+        JdbcClientContext context = client(JdbcStatementCacheConfig.builder().parsedStatements(0).build()).context();
+        NamedStatementParser.ParsedStatement parsed = context.parseNamedStatement(STMT);
+
+        assertThat(context.parseNamedStatement(STMT), not(sameInstance(parsed)));
+        assertThat(context.parseNamedStatement(STMT), is(parsed));
+    }
+
+    @Test
+    void testPreparedStatementsNotCachedByDefault() throws Exception {
+        DbClient dbClient = client(JdbcStatementCacheConfig.create());
+        update(dbClient, "Pikachu", 1);
+        update(dbClient, "Raichu", 2);
+
+        verify(connection, times(2)).prepareStatement(CONVERTED_STMT);
+        verify(statement, times(2)).close();
+    }
+
+    @Test
+    void testPreparedStatementsCached() throws Exception {
+        DbClient dbClient = client(JdbcStatementCacheConfig.builder().preparedStatements(10).build());
+        long first = update(dbClient, "Pikachu", 1);
+        long second = update(dbClient, "Raichu", 2);
+
+        assertThat(first, is(1L));
+        assertThat(second, is(1L));
+        verify(connection, times(1)).prepareStatement(CONVERTED_STMT);
+        verify(statement, times(2)).clearParameters();
+        verify(statement, never()).close();
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void testPreparedStatementsEvicted() throws Exception {
+        DbClient dbClient = client(JdbcStatementCacheConfig.builder().preparedStatements(1).build());
+        update(dbClient, "Pikachu", 1);
+        dbClient.execute().dml("DELETE FROM Pokemons WHERE id=?", 1);
+
+        // both statements are the same mock, the first one was evicted by the second one
+        verify(statement, times(1)).close();
+    }
+
+    @Test
+    void testRetiredConnectionsRemoved() throws Exception {
+        PreparedStatementCache cache = PreparedStatementCache.create(10);
+        for (int i = 0; i < 5; i++) {
+            Connection pooled = mock(Connection.class);
+            when(pooled.prepareStatement(anyString())).thenReturn(mock(PreparedStatement.class));
+            cache.prepare(pooled, CONVERTED_STMT).close();
+            // the pool retires the connection
+            when(pooled.isClosed()).thenReturn(true);
+        }
+        assertThat(cache.connections(), is(1));
+
+        cache.prepare(connection, CONVERTED_STMT).close();
+        cache.prepare(connection, CONVERTED_STMT).close();
+        assertThat(cache.connections(), is(1));
+        verify(connection, times(1)).prepareStatement(CONVERTED_STMT);
+    }
+
+    @Test
+    void testBatchClearedOnRelease() throws Exception {
+        PreparedStatementCache cache = PreparedStatementCache.create(10);
+        PreparedStatement batch = cache.prepare(connection, CONVERTED_STMT);
+        batch.addBatch();
+        // batch failed, statement is closed without executing it
+        batch.close();
+        cache.prepare(connection, CONVERTED_STMT).close();
+
+        verify(statement, times(1)).clearBatch();
+        verify(statement, never()).close();
+        verify(connection, times(1)).prepareStatement(CONVERTED_STMT);
+    }
+
+    @Test
+    void testModifiedStatementNotCached() throws Exception {
+        PreparedStatementCache cache = PreparedStatementCache.create(10);
+        PreparedStatement modified = cache.prepare(connection, CONVERTED_STMT);
+        modified.setMaxRows(10);
+        modified.close();
+        cache.prepare(connection, CONVERTED_STMT).close();
+
+        verify(statement, times(1)).close();
+        verify(connection, times(2)).prepareStatement(CONVERTED_STMT);
+    }
+
+    private static long update(DbClient dbClient, String name, int id) {
+        return dbClient.execute()
+                .createDmlStatement(STMT)
+                .params(Map.of("name", name, "id", id))
+                .execute();
+    }
+
+    private JdbcClient client(JdbcStatementCacheConfig statementCacheConfig) {
+        return new JdbcClientBuilder()
+                .connectionPool(() -> connection)
+                .statementCache(statementCacheConfig)
+                .build()
+                .unwrap(JdbcClient.class);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -103,8 +103,17 @@ abstract class MongoDbStatement<S extends DbStatement<S>> extends DbStatementBas
      * @return prepared statement string
      */
     String prepareStatement(DbClientServiceContext serviceContext) {
-        String statement = serviceContext.statement();
-        DbStatementParameters stmtParams = serviceContext.statementParameters();
+        return prepareStatement(serviceContext.statement(), serviceContext.statementParameters());
+    }
+
+    /**
+     * Prepare the statement string using the provided parameters.
+     *
+     * @param statement  statement text
+     * @param stmtParams statement parameters
+     * @return prepared statement string
+     */
+    String prepareStatement(String statement, DbStatementParameters stmtParams) {
         if (stmtParams instanceof DbIndexedStatementParameters indexed) {
             List<Object> params = indexed.parameters();
             return StatementParsers.indexedParser(statement, params).convert();
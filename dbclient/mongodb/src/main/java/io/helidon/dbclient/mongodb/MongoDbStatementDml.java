@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,16 +15,26 @@
  */
 package io.helidon.dbclient.mongodb;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Stream;
 
+import io.helidon.dbclient.DbClientServiceContext;
 import io.helidon.dbclient.DbExecuteContext;
 import io.helidon.dbclient.DbResultDml;
 import io.helidon.dbclient.DbStatementDml;
 import io.helidon.dbclient.DbStatementType;
 
+import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.InsertOneModel;
+import com.mongodb.client.model.UpdateManyModel;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.InsertOneResult;
 import com.mongodb.client.result.UpdateResult;
@@ -43,6 +53,7 @@ public class MongoDbStatementDml extends MongoDbStatement<DbStatementDml> implem
     private static final System.Logger LOGGER = System.getLogger(MongoDbStatementDml.class.getName());
     // Whether generated ID shall be returned
     private boolean returnGeneratedKeys;
+    private int batchSize = DEFAULT_BATCH_SIZE;
     private final DbStatementType type;
     private final DocumentCodec codec = new DocumentCodec();
     private final DecoderContext decoderContext = DecoderContext.builder().build();
@@ -128,6 +139,43 @@ public class MongoDbStatementDml extends MongoDbStatement<DbStatementDml> implem
         });
     }
 
+    @Override
+    public DbStatementDml batchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but is " + batchSize);
+        }
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public List<Long> executeBatch(Iterable<?> parameterSets) {
+        Objects.requireNonNull(parameterSets, "Batch parameter sets value is null");
+        return doExecute((future, context) -> {
+            try {
+                List<Long> result = executeBatch(context, parameterSets);
+                long total = 0;
+                for (long count : result) {
+                    total += count;
+                }
+                future.complete(total);
+                LOGGER.log(System.Logger.Level.DEBUG, () -> String.format(
+                        "%s DML %s batch execution succeeded",
+                        type.name(),
+                        context().statementName()));
+                return result;
+            } catch (UnsupportedOperationException ex) {
+                throw ex;
+            } catch (Throwable throwable) {
+                LOGGER.log(System.Logger.Level.DEBUG, () -> String.format(
+                        "%s DML %s batch execution failed",
+                        type.name(),
+                        context().statementName()));
+                throw throwable;
+            }
+        });
+    }
+
     @Override
     public DbStatementDml returnGeneratedKeys() {
         returnGeneratedKeys = true;
@@ -139,6 +187,59 @@ public class MongoDbStatementDml extends MongoDbStatement<DbStatementDml> implem
         throw new UnsupportedOperationException("Retrieval of specific auto-generated columns is not supported for Mongo");
     }
 
+    // Write models of a single batch are grouped by collection, as each collection is written separately
+    private List<Long> executeBatch(DbClientServiceContext context, Iterable<?> parameterSets) {
+        List<Long> result = new ArrayList<>();
+        Map<String, List<WriteModel<Document>>> batch = new LinkedHashMap<>();
+        int pending = 0;
+        for (Object parameterSet : parameterSets) {
+            String preparedStmt = prepareStatement(context.statement(), batchParameters(parameterSet));
+            MongoStatement stmt = new MongoStatement(type, preparedStmt);
+            batch.computeIfAbsent(stmt.getCollection(), it -> new ArrayList<>())
+                    .add(writeModel(stmt));
+            if (++pending == batchSize) {
+                result.add(executeBatch(batch));
+                batch.clear();
+                pending = 0;
+            }
+        }
+        if (pending > 0) {
+            result.add(executeBatch(batch));
+        }
+        return result;
+    }
+
+    private long executeBatch(Map<String, List<WriteModel<Document>>> batch) {
+        long result = 0;
+        for (Map.Entry<String, List<WriteModel<Document>>> entry : batch.entrySet()) {
+            MongoCollection<Document> mc = db().getCollection(entry.getKey());
+            List<WriteModel<Document>> models = entry.getValue();
+            if (models.stream().allMatch(InsertOneModel.class::isInstance)) {
+                List<Document> documents = new ArrayList<>(models.size());
+                for (WriteModel<Document> model : models) {
+                    documents.add(((InsertOneModel<Document>) model).getDocument());
+                }
+                mc.insertMany(documents);
+                result += documents.size();
+            } else {
+                BulkWriteResult bulkResult = mc.bulkWrite(models);
+                result += bulkResult.getInsertedCount() + bulkResult.getModifiedCount() + bulkResult.getDeletedCount();
+            }
+        }
+        return result;
+    }
+
+    private static WriteModel<Document> writeModel(MongoStatement stmt) {
+        return switch (stmt.getOperation()) {
+            case INSERT -> new InsertOneModel<>(stmt.getValue());
+            case UPDATE -> new UpdateManyModel<>(stmt.getQuery(), stmt.getValue());
+            case DELETE -> new DeleteManyModel<>(stmt.getQuery());
+            default -> throw new UnsupportedOperationException(String.format(
+                    "Statement operation %s is not supported in a batch",
+                    stmt.getOperation()));
+        };
+    }
+
     private Long executeInsert(MongoStatement stmt) {
         MongoCollection<Document> mc = db().getCollection(stmt.getCollection());
         mc.insertOne(stmt.getValue());
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,6 +65,9 @@ public interface Bulkhead extends FtHandler, RuntimeType.Api<BulkheadConfig> {
      * @return a new bulkhead
      */
     static Bulkhead create(BulkheadConfig config) {
+        if (config.lockFree()) {
+            return new LockFreeBulkheadImpl(config);
+        }
         return new BulkheadImpl(config);
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -71,6 +71,20 @@ interface BulkheadConfigBlueprint extends Prototype.Factory<Bulkhead> {
     @Option.Singular
     List<Bulkhead.QueueListener> queueListeners();
 
+    /**
+     * Whether to use the lock-free bulkhead implementation.
+     * The lock-free bulkhead uses an atomic permit counter and a non-blocking queue of waiting callers
+     * instead of a fair lock and semaphore, which scales better when many threads compete for the bulkhead.
+     * Waiting callers are parked without holding a monitor, so virtual threads are never pinned.
+     * Permits are handed over to waiting callers in the order they were enqueued, though a newly arriving
+     * call may obtain a permit released at the same time a caller is being enqueued.
+     *
+     * @return whether to use the lock-free implementation, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean lockFree();
+
     /**
      * Name for debugging, error reporting, monitoring.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,8 +24,8 @@ import io.helidon.builder.api.RuntimeType;
  * CircuitBreaker protects a potentially failing endpoint from overloading and the application
  * from spending resources on those endpoints.
  * <p>
- * In case too many errors are detected, the circuit opens and all new requests fail with a
- * {@link CircuitBreakerOpenException} for a period of time.
+ * In case too many errors (or, if configured, too many slow calls) are detected, the circuit opens and all new requests
+ * fail with a {@link CircuitBreakerOpenException} for a period of time.
  * After this period, attempts are made to check if the service is up again - if so, the circuit closes
  * and requests can process as usual again.
  */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,14 @@ interface CircuitBreakerConfigBlueprint extends Prototype.Factory<CircuitBreaker
      * Default volume.
      */
     int DEFAULT_VOLUME = 10;
+    /**
+     * Default number of buckets of a time-based window.
+     */
+    int DEFAULT_WINDOW_BUCKETS = 10;
+    /**
+     * Default slow call ratio.
+     */
+    int DEFAULT_SLOW_CALL_RATIO = 100;
 
     /**
      * Name of this circuit breaker.
@@ -83,6 +91,56 @@ interface CircuitBreakerConfigBlueprint extends Prototype.Factory<CircuitBreaker
     @Option.DefaultInt(DEFAULT_VOLUME)
     int volume();
 
+    /**
+     * Duration of a time-based rolling window used to calculate ratio of failed and slow requests.
+     * When configured, all calls completed within this duration are considered, and {@link #volume()}
+     * is the minimal number of such calls needed before the circuit may open, so a few failures
+     * during a period of low traffic do not open the circuit.
+     * <p>
+     * When not configured, the window consists of the last {@link #volume()} calls.
+     *
+     * @return duration of the time-based window
+     * @see #windowBuckets()
+     */
+    @Option.Configured
+    Optional<Duration> window();
+
+    /**
+     * Number of buckets the time-based {@link #window()} is split into. Results of calls are aggregated
+     * per bucket, and the whole bucket is discarded once it leaves the window, so more buckets make the window
+     * more precise. For example a window of 10 seconds with 10 buckets slides by one second.
+     * Default is {@value #DEFAULT_WINDOW_BUCKETS}.
+     *
+     * @return number of buckets
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_WINDOW_BUCKETS)
+    int windowBuckets();
+
+    /**
+     * Calls that take at least this duration are considered slow, whether they succeed or fail.
+     * When the ratio of slow calls in the rolling window reaches {@link #slowCallRatio()}, the circuit opens,
+     * even if the calls succeed. In half-open state, a slow call opens the circuit again.
+     * <p>
+     * When not configured, duration of calls is not tracked.
+     *
+     * @return duration of a call considered slow
+     */
+    @Option.Configured
+    Optional<Duration> slowCallThreshold();
+
+    /**
+     * How many slow calls out of 100 will trigger the circuit to open.
+     * Only used when {@link #slowCallThreshold()} is configured.
+     * Default is {@value #DEFAULT_SLOW_CALL_RATIO}.
+     *
+     * @return percent of slow calls that trigger the circuit to open
+     * @see #slowCallThreshold()
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_SLOW_CALL_RATIO)
+    int slowCallRatio();
+
     /**
      * How many successful calls will close a half-open circuit.
      * Nevertheless, the first failed call will open the circuit again.
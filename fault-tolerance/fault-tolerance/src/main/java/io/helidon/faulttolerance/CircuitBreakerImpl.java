@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,13 @@
 
 package io.helidon.faulttolerance;
 
+import java.time.Duration;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 import io.helidon.metrics.api.Counter;
@@ -37,13 +39,20 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private final long delayMillis;
     // how many successful calls will close a half-open breaker
     private final int successThreshold;
+    // calls that take at least this long are slow, 0 if not tracked
+    private final long slowCallThresholdNanos;
+    private final LongSupplier nanoTime;
 
     /*
     Runtime
      */
     private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
-    // rolling window for counting errors to (maybe) open the breaker
+    // rolling window for counting errors to (maybe) open the breaker, null if time-based window is used
     private final ResultWindow results;
+    // rolling window for counting slow calls, null if slow calls are not tracked or time-based window is used
+    private final ResultWindow slowResults;
+    // time-based window for counting both errors and slow calls, null if count-based window is used
+    private final TimeWindow timeWindow;
     // to close from half-open
     private final AtomicInteger successCounter = new AtomicInteger();
     private final AtomicBoolean halfOpenInProgress = new AtomicBoolean();
@@ -58,9 +67,33 @@ class CircuitBreakerImpl implements CircuitBreaker {
 
     @Service.Inject
     CircuitBreakerImpl(CircuitBreakerConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    // for tests
+    CircuitBreakerImpl(CircuitBreakerConfig config, LongSupplier nanoTime) {
+        this.nanoTime = nanoTime;
         this.delayMillis = config.delay().toMillis();
         this.successThreshold = config.successThreshold();
-        this.results = new ResultWindow(config.volume(), config.errorRatio());
+        this.slowCallThresholdNanos = config.slowCallThreshold()
+                .map(Duration::toNanos)
+                .orElse(0L);
+        if (config.window().isPresent()) {
+            this.timeWindow = new TimeWindow(config.window().get(),
+                                             config.windowBuckets(),
+                                             config.volume(),
+                                             config.errorRatio(),
+                                             config.slowCallRatio(),
+                                             nanoTime);
+            this.results = null;
+            this.slowResults = null;
+        } else {
+            this.timeWindow = null;
+            this.results = new ResultWindow(config.volume(), config.errorRatio());
+            this.slowResults = slowCallThresholdNanos > 0
+                    ? new ResultWindow(config.volume(), config.slowCallRatio())
+                    : null;
+        }
         this.executor = config.executor().orElseGet(FaultTolerance.executor());
         this.errorChecker = ErrorChecker.create(config.skipOn(), config.applyOn());
         this.name = config.name().orElseGet(() -> "circuit-breaker-" + System.identityHashCode(config));
@@ -134,21 +167,22 @@ class CircuitBreakerImpl implements CircuitBreaker {
     }
 
     private <U> U executeTask(Supplier<? extends U> supplier) {
+        long start = startTime();
         try {
             U result = supplier.get();
-            results.update(ResultWindow.Result.SUCCESS);
+            updateResults(ResultWindow.Result.SUCCESS, isSlow(start));
             return result;
         } catch (Throwable t) {
             Throwable throwable = SupplierHelper.unwrapThrowable(t);
             if (errorChecker.shouldSkip(throwable)) {
-                results.update(ResultWindow.Result.SUCCESS);
+                updateResults(ResultWindow.Result.SUCCESS, isSlow(start));
             } else {
-                results.update(ResultWindow.Result.FAILURE);
+                updateResults(ResultWindow.Result.FAILURE, isSlow(start));
             }
             throw SupplierHelper.toRuntimeException(throwable);
         } finally {
-            if (results.shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
-                results.reset();
+            if (shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
+                resetResults();
                 // if we successfully switch to open, we need to schedule switch to half-open
                 scheduleHalf();
                 // update metrics for this transition
@@ -162,8 +196,16 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private <U> U halfOpenTask(Supplier<? extends U> supplier) {
         // half-open
         if (halfOpenInProgress.compareAndSet(false, true)) {
+            long start = startTime();
             try {
                 U result = supplier.get();
+                if (isSlow(start)) {
+                    // slow call is a failure
+                    successCounter.set(0);
+                    state.set(State.OPEN);
+                    scheduleHalf();
+                    return result;
+                }
                 // success
                 int successes = successCounter.incrementAndGet();
                 if (successes >= successThreshold) {
@@ -174,7 +216,7 @@ class CircuitBreakerImpl implements CircuitBreaker {
                 return result;
             } catch (Throwable t) {
                 Throwable throwable = SupplierHelper.unwrapThrowable(t);
-                if (errorChecker.shouldSkip(throwable)) {
+                if (errorChecker.shouldSkip(throwable) && !isSlow(start)) {
                     // success
                     int successes = successCounter.incrementAndGet();
                     if (successes >= successThreshold) {
@@ -208,7 +250,44 @@ class CircuitBreakerImpl implements CircuitBreaker {
     }
 
     private void resetCounters() {
-        results.reset();
+        resetResults();
         successCounter.set(0);
     }
+
+    private long startTime() {
+        return slowCallThresholdNanos > 0 ? nanoTime.getAsLong() : 0L;
+    }
+
+    private boolean isSlow(long startTime) {
+        return slowCallThresholdNanos > 0 && nanoTime.getAsLong() - startTime >= slowCallThresholdNanos;
+    }
+
+    private void updateResults(ResultWindow.Result result, boolean slow) {
+        if (timeWindow == null) {
+            results.update(result);
+            if (slowResults != null) {
+                slowResults.update(slow ? ResultWindow.Result.FAILURE : ResultWindow.Result.SUCCESS);
+            }
+        } else {
+            timeWindow.update(result, slow);
+        }
+    }
+
+    private boolean shouldOpen() {
+        if (timeWindow == null) {
+            return results.shouldOpen() || (slowResults != null && slowResults.shouldOpen());
+        }
+        return timeWindow.shouldOpen();
+    }
+
+    private void resetResults() {
+        if (timeWindow == null) {
+            results.reset();
+            if (slowResults != null) {
+                slowResults.reset();
+            }
+        } else {
+            timeWindow.reset();
+        }
+    }
 }
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.lang.System.Logger.Level;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.Tag;
+import io.helidon.metrics.api.Timer;
+
+/**
+ * Bulkhead that does not use locks. Permits are tracked by an atomic counter, callers that cannot obtain
+ * a permit are added to a non-blocking queue and parked until a permit is handed over to them by a completing
+ * call.
+ *
+ * @see BulkheadConfigBlueprint#lockFree()
+ */
+class LockFreeBulkheadImpl implements Bulkhead {
+    private static final System.Logger LOGGER = System.getLogger(LockFreeBulkheadImpl.class.getName());
+
+    private final AtomicInteger permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final int queueLength;
+    private final String name;
+    private final AtomicLong concurrentExecutions = new AtomicLong(0L);
+    private final AtomicLong callsAccepted = new AtomicLong(0L);
+    private final AtomicLong callsRejected = new AtomicLong(0L);
+    private final List<QueueListener> listeners;
+    private final BulkheadConfig config;
+    private final boolean metricsEnabled;
+
+    private Counter callsCounterMetric;
+    private Timer waitingDurationMetric;
+
+    LockFreeBulkheadImpl(BulkheadConfig config) {
+        this.permits = new AtomicInteger(config.limit());
+        this.queueLength = config.queueLength();
+        this.name = config.name().orElseGet(() -> "bulkhead-" + System.identityHashCode(config));
+        this.listeners = config.queueListeners();
+        this.config = config;
+
+        this.metricsEnabled = config.enableMetrics() || MetricsUtils.defaultEnabled();
+        if (metricsEnabled) {
+            Tag nameTag = Tag.create("name", name);
+            callsCounterMetric = MetricsUtils.counterBuilder(FT_BULKHEAD_CALLS_TOTAL, nameTag);
+            waitingDurationMetric = MetricsUtils.timerBuilder(FT_BULKHEAD_WAITINGDURATION, nameTag);
+            MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSRUNNING, concurrentExecutions::get, nameTag);
+            MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSWAITING, () -> (long) queued.get(), nameTag);
+            MetricsUtils.gaugeBuilder(FT_BULKHEAD_EXECUTIONSREJECTED, callsRejected::get, nameTag);
+        }
+    }
+
+    @Override
+    public BulkheadConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> T invoke(Supplier<? extends T> supplier) {
+        if (metricsEnabled) {
+            callsCounterMetric.increment();
+        }
+
+        // execute immediately if a permit can be acquired
+        if (tryAcquire()) {
+            if (LOGGER.isLoggable(Level.DEBUG)) {
+                LOGGER.log(Level.DEBUG, name + " invoke immediate " + supplier);
+            }
+            return execute(supplier);
+        }
+
+        if (!reserveQueueSlot()) {
+            callsRejected.incrementAndGet();
+            throw new BulkheadException("Bulkhead queue \"" + name + "\" is full");
+        }
+
+        Waiter waiter;
+        try {
+            listeners.forEach(l -> l.enqueueing(supplier));
+            waiter = new Waiter(supplier);
+            waiters.add(waiter);
+        } catch (Throwable t) {
+            queued.decrementAndGet();
+            throw t;
+        }
+
+        // a permit may have been released after our attempt to acquire it, and before we were enqueued
+        if (tryAcquire()) {
+            if (waiter.complete(Waiter.ACQUIRED)) {
+                leaveQueue(waiter);
+            } else {
+                // a permit was handed over to us concurrently, or we were cancelled; either way this one is not needed
+                release();
+            }
+        }
+
+        if (!await(waiter)) {
+            callsRejected.incrementAndGet();
+            throw new BulkheadException("Bulkhead \"" + name + "\" interrupted while acquiring");
+        }
+
+        if (metricsEnabled) {
+            waitingDurationMetric.record(System.nanoTime() - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        // unblocked so we can proceed with execution
+        listeners.forEach(l -> l.dequeued(supplier));
+
+        // do not run if cancelled while queued
+        if (waiter.state() == Waiter.CANCELLED) {
+            return null;
+        }
+
+        // invoke supplier now
+        if (LOGGER.isLoggable(Level.DEBUG)) {
+            LOGGER.log(Level.DEBUG, name + " invoking " + supplier);
+        }
+        return execute(supplier);
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long concurrentExecutions() {
+                return concurrentExecutions.get();
+            }
+
+            @Override
+            public long callsAccepted() {
+                return callsAccepted.get();
+            }
+
+            @Override
+            public long callsRejected() {
+                return callsRejected.get();
+            }
+
+            @Override
+            public long waitingQueueSize() {
+                return queued.get();
+            }
+        };
+    }
+
+    @Override
+    public boolean cancelSupplier(Supplier<?> supplier) {
+        Iterator<Waiter> iterator = waiters.iterator();
+        while (iterator.hasNext()) {
+            Waiter waiter = iterator.next();
+            if (waiter.supplier == supplier && waiter.complete(Waiter.CANCELLED)) {
+                leaveQueue(waiter);
+                LockSupport.unpark(waiter.thread);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // this method must be called while holding a permit
+    private <T> T execute(Supplier<? extends T> supplier) {
+        callsAccepted.incrementAndGet();
+        concurrentExecutions.incrementAndGet();
+        try {
+            T result = supplier.get();
+            if (LOGGER.isLoggable(Level.DEBUG)) {
+                LOGGER.log(Level.DEBUG, name + " finished execution: " + supplier
+                        + " (success)");
+            }
+            return result;
+        } catch (Throwable t) {
+            Throwable throwable = SupplierHelper.unwrapThrowable(t);
+            LOGGER.log(Level.DEBUG, name + " finished execution: " + supplier
+                    + " (failure)", throwable);
+            throw SupplierHelper.toRuntimeException(throwable);
+        } finally {
+            concurrentExecutions.decrementAndGet();
+            release();
+        }
+    }
+
+    /*
+    Wait until the waiter leaves the queue. Returns false if interrupted while still queued.
+     */
+    private boolean await(Waiter waiter) {
+        while (waiter.state() == Waiter.WAITING) {
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                if (waiter.complete(Waiter.ABANDONED)) {
+                    leaveQueue(waiter);
+                    return false;
+                }
+                if (waiter.state() == Waiter.GRANTED) {
+                    // the permit was handed over concurrently with the interrupt, pass it on
+                    release();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean tryAcquire() {
+        int available = permits.get();
+        while (available > 0) {
+            int witness = permits.compareAndExchange(available, available - 1);
+            if (witness == available) {
+                return true;
+            }
+            available = witness;
+        }
+        return false;
+    }
+
+    private boolean reserveQueueSlot() {
+        int current = queued.get();
+        while (current < queueLength) {
+            int witness = queued.compareAndExchange(current, current + 1);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+
+    /*
+    Release a permit. The permit is handed over to the first waiting caller, if there is one, otherwise
+    it is returned to the counter.
+     */
+    private void release() {
+        while (true) {
+            Waiter waiter = waiters.poll();
+            if (waiter == null) {
+                permits.incrementAndGet();
+                // a caller may have been enqueued after we checked the queue, but before the permit was returned;
+                // such a caller may have missed the permit, so try to take it back and hand it over
+                if (waiters.isEmpty() || !tryAcquire()) {
+                    return;
+                }
+            } else if (waiter.complete(Waiter.GRANTED)) {
+                queued.decrementAndGet();
+                LockSupport.unpark(waiter.thread);
+                return;
+            }
+        }
+    }
+
+    private void leaveQueue(Waiter waiter) {
+        queued.decrementAndGet();
+        waiters.remove(waiter);
+    }
+
+    /**
+     * A caller waiting for a permit.
+     * The state of a waiter changes exactly once, the thread that changes it is responsible for
+     * updating the number of queued callers.
+     */
+    private static final class Waiter {
+        private static final int WAITING = 0;
+        // permit handed over by a completing call
+        private static final int GRANTED = 1;
+        // permit acquired by the waiting thread itself
+        private static final int ACQUIRED = 2;
+        // cancelled through Bulkhead.cancelSupplier
+        private static final int CANCELLED = 3;
+        // interrupted while waiting
+        private static final int ABANDONED = 4;
+
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private final Supplier<?> supplier;
+        private final Thread thread;
+        private final long enqueuedAt;
+
+        private Waiter(Supplier<?> supplier) {
+            this.supplier = supplier;
+            this.thread = Thread.currentThread();
+            this.enqueuedAt = System.nanoTime();
+        }
+
+        private int state() {
+            return state.get();
+        }
+
+        private boolean complete(int newState) {
+            return state.compareAndSet(WAITING, newState);
+        }
+    }
+}
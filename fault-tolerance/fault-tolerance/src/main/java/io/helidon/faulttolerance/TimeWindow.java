@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Time-based rolling window of results.
+ * The window is split into buckets of equal duration, each bucket aggregates results of calls completed
+ * during its time slot. A bucket is replaced once its slot leaves the window, there are no locks involved.
+ * As with {@link io.helidon.faulttolerance.ResultWindow}, the status is eventually consistent.
+ */
+final class TimeWindow {
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final int bucketCount;
+    private final long bucketNanos;
+    private final int minCalls;
+    private final int errorRatio;
+    private final int slowCallRatio;
+    private final LongSupplier nanoTime;
+
+    TimeWindow(Duration window, int bucketCount, int minCalls, int errorRatio, int slowCallRatio) {
+        this(window, bucketCount, minCalls, errorRatio, slowCallRatio, System::nanoTime);
+    }
+
+    // for tests
+    TimeWindow(Duration window, int bucketCount, int minCalls, int errorRatio, int slowCallRatio, LongSupplier nanoTime) {
+        if (bucketCount < 1) {
+            throw new IllegalArgumentException("Number of window buckets must be at least 1, but is " + bucketCount);
+        }
+        long windowNanos = window.toNanos();
+        if (windowNanos < bucketCount) {
+            throw new IllegalArgumentException("Window " + window + " is too short for " + bucketCount + " buckets");
+        }
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        this.bucketCount = bucketCount;
+        this.bucketNanos = windowNanos / bucketCount;
+        this.minCalls = Math.max(minCalls, 1);
+        this.errorRatio = errorRatio;
+        this.slowCallRatio = slowCallRatio;
+        this.nanoTime = nanoTime;
+    }
+
+    void update(ResultWindow.Result result, boolean slow) {
+        Bucket bucket = currentBucket();
+        bucket.calls.increment();
+        if (result == ResultWindow.Result.FAILURE) {
+            bucket.failures.increment();
+        }
+        if (slow) {
+            bucket.slowCalls.increment();
+        }
+    }
+
+    /**
+     * Open if we have seen enough calls within the window, and either failures or slow calls are at or over
+     * their threshold.
+     *
+     * @return outcome of test.
+     */
+    boolean shouldOpen() {
+        long epoch = epoch();
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > epoch - bucketCount && bucket.epoch <= epoch) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slowCalls += bucket.slowCalls.sum();
+            }
+        }
+        if (calls < minCalls) {
+            return false;
+        }
+        return reached(failures, calls, errorRatio) || reached(slowCalls, calls, slowCallRatio);
+    }
+
+    void reset() {
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    private static boolean reached(long count, long calls, int ratio) {
+        return count > 0 && count * 100 >= calls * ratio;
+    }
+
+    private long epoch() {
+        return Math.floorDiv(nanoTime.getAsLong(), bucketNanos);
+    }
+
+    private Bucket currentBucket() {
+        long epoch = epoch();
+        int index = (int) Math.floorMod(epoch, bucketCount);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch >= epoch) {
+                // a bucket newer than ours may only exist if this thread was delayed, close enough
+                return bucket;
+            }
+            Bucket newBucket = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, newBucket)) {
+                return newBucket;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2025, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 import io.helidon.metrics.api.Counter;
@@ -45,7 +46,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 class BulkheadMetricsTest extends BulkheadBaseTest {
 
     @Test
-    void testBulkhead() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+    void testBulkhead() throws InterruptedException, ExecutionException, TimeoutException {
         // Create bulkhead of 1 with queue length 1
         String name = "unit:testBulkhead";
         CountDownLatch enqueuedSubmitted = new CountDownLatch(1);
@@ -126,4 +127,59 @@ class BulkheadMetricsTest extends BulkheadBaseTest {
         assertThat(running.value(), is(0L));
         assertThat(waiting.value(), is(0L));
     }
+
+    @Test
+    void testLockFreeBulkhead() throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch enqueuedSubmitted = new CountDownLatch(1);
+        Bulkhead bulkhead = BulkheadConfig.builder()
+                .limit(1)
+                .queueLength(1)
+                .name("unit:testLockFreeBulkheadMetrics")
+                .enableMetrics(true)
+                .lockFree(true)
+                .addQueueListener(new Bulkhead.QueueListener() {
+                    @Override
+                    public <T> void enqueueing(Supplier<? extends T> supplier) {
+                        enqueuedSubmitted.countDown();
+                    }
+                })
+                .build();
+
+        Task inProgress = new Task(0);
+        CompletableFuture<Integer> inProgressResult = Async.invokeStatic(
+                () -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        Task enqueued = new Task(1);
+        CompletableFuture<Integer> enqueuedResult = Async.invokeStatic(
+                () -> bulkhead.invoke(enqueued::run));
+        if (!enqueuedSubmitted.await(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            fail("Task enqueued never submitted");
+        }
+        assertEventually(() -> bulkhead.stats().waitingQueueSize() == 1, WAIT_TIMEOUT_MILLIS);
+
+        // Check metrics, waiting duration is recorded when a queued call obtains its permit
+        Tag nameTag = Tag.create("name", bulkhead.name());
+        Gauge<Long> waiting = MetricsUtils.gauge(FT_BULKHEAD_EXECUTIONSWAITING, nameTag);
+        assertThat(waiting.value(), is(1L));
+        Timer waitingDuration = MetricsUtils.timer(FT_BULKHEAD_WAITINGDURATION, nameTag);
+        assertThat(waitingDuration.count(), is(0L));
+
+        inProgress.unblock();
+        inProgressResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (!enqueued.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task enqueued not started");
+        }
+
+        assertThat(waiting.value(), is(0L));
+        assertThat(waitingDuration.count(), is(1L));
+        assertThat(waitingDuration.totalTime(TimeUnit.NANOSECONDS), greaterThan(0.0));
+
+        enqueued.unblock();
+        enqueuedResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        Counter callsTotal = MetricsUtils.counter(FT_BULKHEAD_CALLS_TOTAL, nameTag);
+        assertThat(callsTotal.count(), is(2L));
+    }
 }
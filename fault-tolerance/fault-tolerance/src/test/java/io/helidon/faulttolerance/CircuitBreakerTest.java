@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.Test;
 
@@ -31,6 +32,9 @@ class CircuitBreakerTest extends CircuitBreakerBaseTest {
 
     private static final long WAIT_TIMEOUT_MILLIS = 2000;
 
+    // time used to detect slow calls, only moves forward during a slow call
+    private final AtomicLong nanoTime = new AtomicLong();
+
     @Test
     void testCircuitBreaker() throws InterruptedException, ExecutionException, TimeoutException {
         CircuitBreaker breaker = CircuitBreaker.builder()
@@ -96,4 +100,84 @@ class CircuitBreakerTest extends CircuitBreakerBaseTest {
 
         assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
     }
+
+    @Test
+    void testOpenOnSlowCalls() {
+        CircuitBreakerConfig config = CircuitBreaker.builder()
+                .volume(4)
+                .errorRatio(75)
+                .slowCallThreshold(Duration.ofMillis(20))
+                .slowCallRatio(50)
+                .buildPrototype();
+        CircuitBreaker breaker = new CircuitBreakerImpl(config, nanoTime::get);
+
+        good(breaker);
+        slow(breaker);
+        good(breaker);
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+
+        slow(breaker);      // should open - half of the calls are slow, even though all succeeded
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        breakerOpen(breaker);
+    }
+
+    @Test
+    void testSlowCallInHalfOpen() throws InterruptedException, ExecutionException, TimeoutException {
+        CircuitBreakerConfig config = CircuitBreaker.builder()
+                .volume(1)
+                .delay(Duration.ofMillis(100))
+                .slowCallThreshold(Duration.ofMillis(20))
+                .buildPrototype();
+        CircuitBreaker breaker = new CircuitBreakerImpl(config, nanoTime::get);
+
+        slow(breaker);
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+
+        Future<Boolean> schedule = ((CircuitBreakerImpl) breaker).schedule();
+        schedule.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(breaker.state(), is(CircuitBreaker.State.HALF_OPEN));
+
+        slow(breaker);      // slow call is a failure in half-open state
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    }
+
+    @Test
+    void testTimeWindow() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .window(Duration.ofMinutes(1))
+                .volume(5)
+                .errorRatio(40)
+                .build();
+
+        bad(breaker);
+        bad(breaker);
+        bad(breaker);
+
+        // not enough calls within the window yet
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+
+        good(breaker);
+        good(breaker);      // should open - 60% of 5 calls failed
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+        breakerOpen(breaker);
+
+        breaker.state(CircuitBreaker.State.CLOSED);
+        for (int i = 0; i < 20; i++) {
+            good(breaker);
+        }
+        bad(breaker);
+        bad(breaker);
+
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+    }
+
+    private void slow(CircuitBreaker breaker) {
+        breaker.invoke(() -> {
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(40));
+            return 1;
+        });
+    }
 }
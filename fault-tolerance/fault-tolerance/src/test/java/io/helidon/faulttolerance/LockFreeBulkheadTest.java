@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.helidon.logging.common.LogConfig;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class LockFreeBulkheadTest extends BulkheadBaseTest {
+
+    @BeforeAll
+    static void setupTest() {
+        LogConfig.configureRuntime();
+    }
+
+    @Test
+    void testLockFreeBulkheadCreated() {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .lockFree(true)
+                .build();
+        assertThat(bulkhead, instanceOf(LockFreeBulkheadImpl.class));
+    }
+
+    @Test
+    void testBulkhead() throws InterruptedException, ExecutionException, java.util.concurrent.TimeoutException {
+        // Create bulkhead of 1 with queue length 1
+        String name = "unit:testLockFreeBulkhead";
+        CountDownLatch enqueuedSubmitted = new CountDownLatch(1);
+        CountDownLatch dequeued = new CountDownLatch(1);
+        Bulkhead bulkhead = BulkheadConfig.builder()
+                .limit(1)
+                .queueLength(1)
+                .name(name)
+                .lockFree(true)
+                .addQueueListener(new Bulkhead.QueueListener() {
+                    @Override
+                    public <T> void enqueueing(Supplier<? extends T> supplier) {
+                        enqueuedSubmitted.countDown();
+                    }
+
+                    @Override
+                    public <T> void dequeued(Supplier<? extends T> supplier) {
+                        dequeued.countDown();
+                    }
+                })
+                .build();
+
+        // Submit first inProgress task
+        Task inProgress = new Task(0);
+        CompletableFuture<Integer> inProgressResult = Async.invokeStatic(
+                () -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        // Submit new task that should be queued
+        Task enqueued = new Task(1);
+        CompletableFuture<Integer> enqueuedResult = Async.invokeStatic(
+                () -> bulkhead.invoke(enqueued::run));
+        if (!enqueuedSubmitted.await(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            fail("Task enqueued never submitted");
+        }
+        assertEventually(() -> bulkhead.stats().waitingQueueSize() == 1, WAIT_TIMEOUT_MILLIS);
+
+        // Submit new task that should be rejected
+        Task rejected = new Task(2);
+        BulkheadException exception = assertThrows(BulkheadException.class, () -> bulkhead.invoke(rejected::run));
+        assertThat(exception.getMessage(), is("Bulkhead queue \"" + name + "\" is full"));
+        assertThat(rejected.isStarted(), is(false));
+        assertThat(bulkhead.stats().callsRejected(), is(1L));
+
+        assertThat(enqueued.isStarted(), is(false));
+        assertThat(dequeued.getCount(), is(1L));
+
+        // Unblock inProgress task, its permit is handed over to the enqueued task
+        inProgress.unblock();
+        assertThat(inProgressResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(0));
+        if (!enqueued.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task enqueued not started");
+        }
+        assertThat(dequeued.getCount(), is(0L));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(1L));
+
+        enqueued.unblock();
+        assertThat(enqueuedResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), is(1));
+        assertThat(bulkhead.stats().callsAccepted(), is(2L));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(0L));
+    }
+
+    @Test
+    void testZeroQueueLength() throws InterruptedException {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(0)
+                .lockFree(true)
+                .build();
+
+        Task inProgress = new Task(0);
+        Async.invokeStatic(() -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+        assertThrows(BulkheadException.class, () -> bulkhead.invoke(() -> 1));
+        inProgress.unblock();
+        assertEventually(() -> bulkhead.stats().concurrentExecutions() == 0, WAIT_TIMEOUT_MILLIS);
+        assertThat(bulkhead.invoke(() -> 1), is(1));
+    }
+
+    @Test
+    void testCancelSupplier() throws Exception {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(1)
+                .lockFree(true)
+                .build();
+
+        Task inProgress = new Task(0);
+        CompletableFuture<Integer> inProgressResult = Async.invokeStatic(() -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        Task enqueued = new Task(1);
+        Supplier<Integer> supplier = enqueued::run;
+        CompletableFuture<Integer> enqueuedResult = Async.invokeStatic(() -> bulkhead.invoke(supplier));
+        assertEventually(() -> bulkhead.stats().waitingQueueSize() == 1, WAIT_TIMEOUT_MILLIS);
+
+        // cancelled supplier is released from the queue without being executed
+        assertThat(bulkhead.cancelSupplier(supplier), is(true));
+        assertThat(enqueuedResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS), nullValue());
+        assertThat(enqueued.isStarted(), is(false));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+        assertThat(bulkhead.cancelSupplier(supplier), is(false));
+
+        inProgress.unblock();
+        inProgressResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(bulkhead.invoke(() -> 2), is(2));
+    }
+
+    @Test
+    void testInterruptedWhileQueued() throws Exception {
+        String name = "unit:testLockFreeInterrupted";
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(1)
+                .queueLength(1)
+                .name(name)
+                .lockFree(true)
+                .build();
+
+        Task inProgress = new Task(0);
+        CompletableFuture<Integer> inProgressResult = Async.invokeStatic(() -> bulkhead.invoke(inProgress::run));
+        if (!inProgress.waitUntilStarted(WAIT_TIMEOUT_MILLIS)) {
+            fail("Task inProgress not started");
+        }
+
+        AtomicReference<Throwable> thrown = new AtomicReference<>();
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                bulkhead.invoke(() -> 1);
+            } catch (Throwable t) {
+                thrown.set(t);
+            }
+        });
+        assertEventually(() -> bulkhead.stats().waitingQueueSize() == 1, WAIT_TIMEOUT_MILLIS);
+        waiting.interrupt();
+        waiting.join(WAIT_TIMEOUT_MILLIS);
+
+        assertThat(thrown.get(), notNullValue());
+        assertThat(thrown.get(), instanceOf(BulkheadException.class));
+        assertThat(thrown.get().getMessage(), is("Bulkhead \"" + name + "\" interrupted while acquiring"));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+
+        // the permit is still usable once the running task completes
+        inProgress.unblock();
+        inProgressResult.get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(bulkhead.invoke(() -> 2), is(2));
+    }
+
+    @Test
+    void testContention() throws InterruptedException {
+        int limit = 4;
+        int callers = 200;
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limit(limit)
+                .queueLength(callers)
+                .lockFree(true)
+                .build();
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicInteger completed = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < 10; j++) {
+                    bulkhead.invoke(() -> {
+                        int current = running.incrementAndGet();
+                        maxRunning.accumulateAndGet(current, Math::max);
+                        Thread.yield();
+                        running.decrementAndGet();
+                        return completed.incrementAndGet();
+                    });
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join(WAIT_TIMEOUT_MILLIS);
+        }
+
+        assertThat(completed.get(), is(callers * 10));
+        assertThat(maxRunning.get(), lessThanOrEqualTo(limit));
+        assertThat(bulkhead.stats().callsAccepted(), is((long) callers * 10));
+        assertThat(bulkhead.stats().callsRejected(), is(0L));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(0L));
+        assertThat(bulkhead.stats().concurrentExecutions(), is(0L));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimeWindowTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong(-3 * SECOND);
+
+    @Test
+    void testNotOpenBeforeMinimalCalls() {
+        TimeWindow window = new TimeWindow(Duration.ofSeconds(10), 10, 5, 20, 100, now::get);
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat("Should not open before minimal number of calls", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat("Should open after minimal number of calls", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testOpenOnErrorRatio() {
+        TimeWindow window = new TimeWindow(Duration.ofSeconds(10), 10, 5, 40, 100, now::get);
+        for (int i = 0; i < 7; i++) {
+            window.update(ResultWindow.Result.SUCCESS, false);
+            now.addAndGet(SECOND);
+        }
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat("Should not open under 40%", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat("Should open over 40%", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testOpenOnSlowCallRatio() {
+        TimeWindow window = new TimeWindow(Duration.ofSeconds(10), 10, 4, 50, 75, now::get);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, true);
+        assertThat("Should open at 75% of slow calls", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testOldBucketsLeaveWindow() {
+        TimeWindow window = new TimeWindow(Duration.ofSeconds(10), 10, 4, 50, 100, now::get);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.FAILURE, false);
+        now.addAndGet(5 * SECOND);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat("Should open with 75% of failures", window.shouldOpen(), is(true));
+
+        now.addAndGet(5 * SECOND);
+        assertThat("Failures left the window", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat("Should not open with 25% of failures", window.shouldOpen(), is(false));
+
+        // the bucket with the first failures is reused
+        now.addAndGet(10 * SECOND);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        window.update(ResultWindow.Result.SUCCESS, false);
+        assertThat("Should not open without failures", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testReset() {
+        TimeWindow window = new TimeWindow(Duration.ofSeconds(10), 10, 1, 50, 100, now::get);
+        window.update(ResultWindow.Result.FAILURE, false);
+        assertThat("Should open after failure", window.shouldOpen(), is(true));
+        window.reset();
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testInvalidBuckets() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new TimeWindow(Duration.ofSeconds(10), 0, 1, 50, 100));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.encoding.brotli;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.encoding.ContentDecoder;
+import io.helidon.http.encoding.ContentEncoder;
+import io.helidon.http.encoding.ContentEncoding;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.decoder.BrotliInputStream;
+import com.aayushatharva.brotli4j.encoder.BrotliOutputStream;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import static io.helidon.http.HeaderNames.CONTENT_LENGTH;
+
+/**
+ * Support for brotli (RFC 7932) content encoding.
+ * Brotli uses a native library; if it is not available for the current platform, this encoding is disabled
+ * and other encodings are used instead.
+ */
+@RuntimeType.PrototypedBy(BrotliEncodingConfig.class)
+public class BrotliEncoding implements ContentEncoding, RuntimeType.Api<BrotliEncodingConfig> {
+    /**
+     * Default compression quality.
+     */
+    public static final int DEFAULT_QUALITY = 4;
+    /**
+     * Default window size in bits.
+     */
+    public static final int DEFAULT_WINDOW = 22;
+
+    static final String TYPE = "br";
+
+    private static final System.Logger LOGGER = System.getLogger(BrotliEncoding.class.getName());
+    private static final Header CONTENT_ENCODING_BR = HeaderValues.createCached(HeaderNames.CONTENT_ENCODING,
+                                                                                false,
+                                                                                false,
+                                                                                TYPE);
+
+    private final BrotliEncodingConfig config;
+    private final Encoder.Parameters parameters;
+    private final boolean available;
+
+    private BrotliEncoding(BrotliEncodingConfig config) {
+        if (config.quality() < 0 || config.quality() > 11) {
+            throw new IllegalArgumentException("Brotli quality must be between 0 and 11, but is " + config.quality());
+        }
+        if (config.window() < 10 || config.window() > 24) {
+            throw new IllegalArgumentException("Brotli window must be between 10 and 24, but is " + config.window());
+        }
+        this.config = config;
+        this.parameters = new Encoder.Parameters()
+                .setQuality(config.quality())
+                .setWindow(config.window());
+        this.available = Brotli4jLoader.isAvailable();
+        if (!available && LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+            LOGGER.log(System.Logger.Level.DEBUG,
+                       "Brotli native library is not available, brotli encoding is disabled",
+                       Brotli4jLoader.getUnavailabilityCause());
+        }
+    }
+
+    /**
+     * Create a new brotli encoding with default configuration.
+     *
+     * @return a new brotli encoding
+     */
+    public static BrotliEncoding create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new brotli encoding from its configuration.
+     *
+     * @param config configuration
+     * @return a new brotli encoding
+     */
+    public static BrotliEncoding create(BrotliEncodingConfig config) {
+        return new BrotliEncoding(config);
+    }
+
+    /**
+     * Create a new brotli encoding customizing its configuration.
+     *
+     * @param consumer configuration consumer
+     * @return a new brotli encoding
+     */
+    public static BrotliEncoding create(Consumer<BrotliEncodingConfig.Builder> consumer) {
+        return builder().update(consumer).build();
+    }
+
+    /**
+     * A new builder to configure brotli encoding.
+     *
+     * @return a new builder
+     */
+    public static BrotliEncodingConfig.Builder builder() {
+        return BrotliEncodingConfig.builder();
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of(TYPE);
+    }
+
+    @Override
+    public boolean supportsEncoding() {
+        return available;
+    }
+
+    @Override
+    public boolean supportsDecoding() {
+        return available;
+    }
+
+    @Override
+    public ContentDecoder decoder() {
+        return network -> {
+            try {
+                return new BrotliInputStream(network);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Override
+    public ContentEncoder encoder() {
+        return new ContentEncoder() {
+            @Override
+            public OutputStream apply(OutputStream network) {
+                try {
+                    return new BrotliOutputStream(network, parameters);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void headers(WritableHeaders<?> headers) {
+                headers.add(CONTENT_ENCODING_BR);
+                headers.remove(CONTENT_LENGTH);
+            }
+        };
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public BrotliEncodingConfig prototype() {
+        return config;
+    }
+}
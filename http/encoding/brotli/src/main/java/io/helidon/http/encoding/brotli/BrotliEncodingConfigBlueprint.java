@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.encoding.brotli;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.http.encoding.spi.ContentEncodingProvider;
+
+/**
+ * Configuration of {@link io.helidon.http.encoding.brotli.BrotliEncoding}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured(value = BrotliEncoding.TYPE, root = false)
+@Prototype.Provides(ContentEncodingProvider.class)
+interface BrotliEncodingConfigBlueprint extends Prototype.Factory<BrotliEncoding> {
+    /**
+     * Compression quality, from {@code 0} (fastest) to {@code 11} (best compression).
+     * Defaults to {@value BrotliEncoding#DEFAULT_QUALITY}, which is suitable for dynamic content; the highest
+     * levels are only practical for content that is compressed once and cached.
+     *
+     * @return compression quality
+     */
+    @Option.Configured
+    @Option.DefaultInt(BrotliEncoding.DEFAULT_QUALITY)
+    int quality();
+
+    /**
+     * Base two logarithm of the sliding window size, from {@code 10} to {@code 24}.
+     * Defaults to {@value BrotliEncoding#DEFAULT_WINDOW}.
+     *
+     * @return window size in bits
+     */
+    @Option.Configured
+    @Option.DefaultInt(BrotliEncoding.DEFAULT_WINDOW)
+    int window();
+
+    /**
+     * Name of this instance.
+     *
+     * @return name of the instance
+     */
+    @Option.Default(BrotliEncoding.TYPE)
+    String name();
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.encoding.brotli;
+
+import io.helidon.common.Weighted;
+import io.helidon.common.config.Config;
+import io.helidon.http.encoding.ContentEncoding;
+import io.helidon.http.encoding.spi.ContentEncodingProvider;
+
+/**
+ * Support for brotli content encoding.
+ */
+public class BrotliEncodingProvider implements ContentEncodingProvider, Weighted {
+    /**
+     * Default constructor required by Java {@link java.util.ServiceLoader}.
+     */
+    public BrotliEncodingProvider() {
+    }
+
+    @Override
+    public String configKey() {
+        return BrotliEncoding.TYPE;
+    }
+
+    @Override
+    public ContentEncoding create(Config config, String name) {
+        return BrotliEncoding.builder()
+                .config(config)
+                .name(name)
+                .build();
+    }
+
+    @Override
+    public double weight() {
+        // higher than gzip, as brotli compresses better, lower than zstd, which is faster
+        return Weighted.DEFAULT_WEIGHT + 110;
+    }
+}
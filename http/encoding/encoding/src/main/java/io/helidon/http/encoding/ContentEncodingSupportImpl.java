@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,7 +35,9 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
     private final boolean decodingEnabled;
     private final Map<String, ContentEncoder> encoders;
     private final Map<String, ContentDecoder> decoders;
-    private final ContentEncoder firstEncoder;
+    // encoding ids in order of preference (order of configured content encodings)
+    private final Map<String, Integer> preference;
+    private final List<String> preferredIds;
     private final ContentEncodingContextConfig config;
 
     ContentEncodingSupportImpl(ContentEncodingContextConfig config) {
@@ -43,17 +45,18 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
 
         Map<String, ContentEncoder> encoders = new HashMap<>();
         Map<String, ContentDecoder> decoders = new HashMap<>();
-        ContentEncoder firstEncoder = null;
+        Map<String, Integer> preference = new HashMap<>();
+        List<String> preferredIds = new ArrayList<>();
 
         for (ContentEncoding contentEncoding : config.contentEncodings()) {
             Set<String> ids = contentEncoding.ids();
             if (contentEncoding.supportsEncoding()) {
                 for (String id : ids) {
                     ContentEncoder encoder = contentEncoding.encoder();
-                    if (firstEncoder == null) {
-                        firstEncoder = encoder;
+                    if (encoders.putIfAbsent(id, encoder) == null) {
+                        preference.put(id, preferredIds.size());
+                        preferredIds.add(id);
                     }
-                    encoders.putIfAbsent(id, encoder);
                 }
             }
 
@@ -72,7 +75,8 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
 
         this.encoders = encoders;
         this.decoders = decoders;
-        this.firstEncoder = firstEncoder;
+        this.preference = preference;
+        this.preferredIds = preferredIds;
     }
 
     @Override
@@ -126,17 +130,9 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
             Accept-Encoding: gzip, compress, br
             Accept-Encoding: br;q=1.0, gzip;q=0.8, *;q=0.1
          */
-        List<EncodingWithQ> supported = encodings(acceptEncoding);
-        for (EncodingWithQ encodingWithQ : supported) {
-            if ("*".equals(encodingWithQ.encoding)) {
-                return firstEncoder;
-            }
-            if (contentEncodingSupported(encodingWithQ.encoding)) {
-                return encoders.get(encodingWithQ.encoding);
-            }
-        }
-
-        return ContentEncoder.NO_OP;
+        List<EncodingWithQ> accepted = encodings(acceptEncoding);
+        String chosen = choose(accepted);
+        return chosen == null ? ContentEncoder.NO_OP : encoders.get(chosen);
     }
 
     @Override
@@ -144,6 +140,42 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
         return config;
     }
 
+    /**
+     * Choose the encoding with the highest quality. If more encodings have the same quality, the one
+     * that is preferred by us (configured first) is used, so the best available codec wins.
+     * Encodings with zero quality are never used, and {@code *} stands for any encoding not listed explicitly.
+     *
+     * @param accepted encodings accepted by the client, sorted by quality
+     * @return chosen encoding id, or {@code null} if none of the accepted encodings is supported
+     */
+    String choose(List<EncodingWithQ> accepted) {
+        String chosen = null;
+        double chosenQ = 0;
+        int chosenPreference = Integer.MAX_VALUE;
+
+        for (EncodingWithQ encodingWithQ : accepted) {
+            if (encodingWithQ.q <= 0 || encodingWithQ.q < chosenQ) {
+                // sorted by quality, nothing better can follow
+                break;
+            }
+            String candidate = "*".equals(encodingWithQ.encoding)
+                    ? anyNotListed(accepted)
+                    : encodingWithQ.encoding;
+            if (candidate == null || !encoders.containsKey(candidate)) {
+                continue;
+            }
+            // identity is only used when nothing else is acceptable with the same quality
+            int candidatePreference = preference.getOrDefault(candidate, Integer.MAX_VALUE);
+            if (chosen == null || candidatePreference < chosenPreference) {
+                chosen = candidate;
+                chosenQ = encodingWithQ.q;
+                chosenPreference = candidatePreference;
+            }
+        }
+
+        return chosen;
+    }
+
     /**
      * Extract encodings from header value and sort them based on quality.
      *
@@ -160,6 +192,22 @@ class ContentEncodingSupportImpl implements ContentEncodingContext {
         return supported;
     }
 
+    private String anyNotListed(List<EncodingWithQ> accepted) {
+        for (String id : preferredIds) {
+            boolean listed = false;
+            for (EncodingWithQ encodingWithQ : accepted) {
+                if (encodingWithQ.encoding.equals(id)) {
+                    listed = true;
+                    break;
+                }
+            }
+            if (!listed) {
+                return id;
+            }
+        }
+        return null;
+    }
+
     static class EncodingWithQ implements Comparable<EncodingWithQ> {
         private final String encoding;
         private final double q;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.http.encoding;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 import io.helidon.http.encoding.ContentEncodingSupportImpl.EncodingWithQ;
@@ -43,6 +44,33 @@ class ContentEncodingSupportTest {
         assertThat(encodings.get(2).toString(), is("br;q=1.0"));
     }
 
+    @Test
+    void testChoosePreferredForSameQuality() {
+        ContentEncodingSupportImpl support = support("zstd", "br", "gzip");
+
+        assertThat(support.choose(encodings("gzip, br, zstd")), is("zstd"));
+        assertThat(support.choose(encodings("gzip, deflate, br")), is("br"));
+        assertThat(support.choose(encodings("identity, gzip")), is("gzip"));
+    }
+
+    @Test
+    void testChooseHighestQuality() {
+        ContentEncodingSupportImpl support = support("zstd", "br", "gzip");
+
+        assertThat(support.choose(encodings("zstd;q=0.5, gzip;q=0.8, br;q=0.8")), is("br"));
+        assertThat(support.choose(encodings("compress, gzip;q=0.1")), is("gzip"));
+    }
+
+    @Test
+    void testChooseWildcardAndZeroQuality() {
+        ContentEncodingSupportImpl support = support("zstd", "br", "gzip");
+
+        assertThat(support.choose(encodings("zstd;q=0, *")), is("br"));
+        assertThat(support.choose(encodings("gzip;q=0")), is((String) null));
+        assertThat(support.choose(encodings("compress")), is((String) null));
+        assertThat(support.choose(encodings("identity")), is("identity"));
+    }
+
     @Test
     void testEncodingsParserWithQs() {
         List<EncodingWithQ> encodings = encodings("gzip;q=1.0, deflate;q=0.6,  identity;q=0.3");
@@ -51,4 +79,45 @@ class ContentEncodingSupportTest {
         assertThat(encodings.get(1).toString(), is("deflate;q=0.6"));
         assertThat(encodings.get(2).toString(), is("identity;q=0.3"));
     }
+
+    private static ContentEncodingSupportImpl support(String... ids) {
+        ContentEncodingContextConfig.Builder builder = ContentEncodingContextConfig.builder()
+                .contentEncodingsDiscoverServices(false);
+        for (String id : ids) {
+            builder.addContentEncoding(new TestEncoding(id));
+        }
+        return new ContentEncodingSupportImpl(builder.buildPrototype());
+    }
+
+    private record TestEncoding(String name) implements ContentEncoding {
+        @Override
+        public Set<String> ids() {
+            return Set.of(name);
+        }
+
+        @Override
+        public boolean supportsEncoding() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsDecoding() {
+            return true;
+        }
+
+        @Override
+        public ContentDecoder decoder() {
+            return ContentDecoder.NO_OP;
+        }
+
+        @Override
+        public ContentEncoder encoder() {
+            return ContentEncoder.NO_OP;
+        }
+
+        @Override
+        public String type() {
+            return name;
+        }
+    }
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.encoding.zstd;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.encoding.ContentDecoder;
+import io.helidon.http.encoding.ContentEncoder;
+import io.helidon.http.encoding.ContentEncoding;
+
+import com.github.luben.zstd.RecyclingBufferPool;
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+
+import static io.helidon.http.HeaderNames.CONTENT_LENGTH;
+
+/**
+ * Support for zstd (Zstandard, RFC 8878) content encoding.
+ * Native buffers of the compression streams are recycled, so repeated requests do not allocate them again.
+ */
+@RuntimeType.PrototypedBy(ZstdEncodingConfig.class)
+public class ZstdEncoding implements ContentEncoding, RuntimeType.Api<ZstdEncodingConfig> {
+    /**
+     * Default compression level.
+     */
+    public static final int DEFAULT_LEVEL = 3;
+
+    static final String TYPE = "zstd";
+
+    private static final Header CONTENT_ENCODING_ZSTD = HeaderValues.createCached(HeaderNames.CONTENT_ENCODING,
+                                                                                  false,
+                                                                                  false,
+                                                                                  TYPE);
+
+    private final ZstdEncodingConfig config;
+    private final int level;
+
+    private ZstdEncoding(ZstdEncodingConfig config) {
+        int level = config.level();
+        if (level < Zstd.minCompressionLevel() || level > Zstd.maxCompressionLevel()) {
+            throw new IllegalArgumentException("Zstd compression level must be between " + Zstd.minCompressionLevel()
+                                                       + " and " + Zstd.maxCompressionLevel() + ", but is " + level);
+        }
+        this.config = config;
+        this.level = level;
+    }
+
+    /**
+     * Create a new zstd encoding with default configuration.
+     *
+     * @return a new zstd encoding
+     */
+    public static ZstdEncoding create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new zstd encoding from its configuration.
+     *
+     * @param config configuration
+     * @return a new zstd encoding
+     */
+    public static ZstdEncoding create(ZstdEncodingConfig config) {
+        return new ZstdEncoding(config);
+    }
+
+    /**
+     * Create a new zstd encoding customizing its configuration.
+     *
+     * @param consumer configuration consumer
+     * @return a new zstd encoding
+     */
+    public static ZstdEncoding create(Consumer<ZstdEncodingConfig.Builder> consumer) {
+        return builder().update(consumer).build();
+    }
+
+    /**
+     * A new builder to configure zstd encoding.
+     *
+     * @return a new builder
+     */
+    public static ZstdEncodingConfig.Builder builder() {
+        return ZstdEncodingConfig.builder();
+    }
+
+    @Override
+    public Set<String> ids() {
+        return Set.of(TYPE);
+    }
+
+    @Override
+    public boolean supportsEncoding() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsDecoding() {
+        return true;
+    }
+
+    @Override
+    public ContentDecoder decoder() {
+        return network -> {
+            try {
+                return new ZstdInputStream(network, RecyclingBufferPool.INSTANCE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    @Override
+    public ContentEncoder encoder() {
+        return new ContentEncoder() {
+            @Override
+            public OutputStream apply(OutputStream network) {
+                try {
+                    return new ZstdOutputStream(network, RecyclingBufferPool.INSTANCE)
+                            .setLevel(level);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
+            @Override
+            public void headers(WritableHeaders<?> headers) {
+                headers.add(CONTENT_ENCODING_ZSTD);
+                headers.remove(CONTENT_LENGTH);
+            }
+        };
+    }
+
+    @Override
+    public String name() {
+        return config.name();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public ZstdEncodingConfig prototype() {
+        return config;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.encoding.zstd;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.http.encoding.spi.ContentEncodingProvider;
+
+/**
+ * Configuration of {@link io.helidon.http.encoding.zstd.ZstdEncoding}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured(value = ZstdEncoding.TYPE, root = false)
+@Prototype.Provides(ContentEncodingProvider.class)
+interface ZstdEncodingConfigBlueprint extends Prototype.Factory<ZstdEncoding> {
+    /**
+     * Compression level, from {@code 1} (fastest) to {@code 22} (best compression); negative levels trade
+     * compression ratio for even higher speed.
+     * Defaults to {@value ZstdEncoding#DEFAULT_LEVEL}, which compresses better than gzip while being faster.
+     *
+     * @return compression level
+     */
+    @Option.Configured
+    @Option.DefaultInt(ZstdEncoding.DEFAULT_LEVEL)
+    int level();
+
+    /**
+     * Name of this instance.
+     *
+     * @return name of the instance
+     */
+    @Option.Default(ZstdEncoding.TYPE)
+    String name();
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.helidon.common.features.api.Feature;
+import io.helidon.common.features.api.HelidonFlavor;
+
+/**
+ * Zstandard content encoding support.
+ */
+@Feature(value = "Zstd",
+        description = "Zstandard content encoding support",
+        in = HelidonFlavor.SE,
+        path = {"Encoding", "Zstd"}
+)
+module io.helidon.http.encoding.zstd {
+
+    requires com.github.luben.zstd_jni;
+    requires io.helidon.builder.api;
+    requires io.helidon.common;
+    requires io.helidon.http.encoding;
+
+    requires static io.helidon.common.features.api;
+
+    exports io.helidon.http.encoding.zstd;
+
+    provides io.helidon.http.encoding.spi.ContentEncodingProvider
+            with io.helidon.http.encoding.zstd.ZstdEncodingProvider;
+
+}
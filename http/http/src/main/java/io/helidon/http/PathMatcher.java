@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,4 +52,19 @@ public interface PathMatcher {
     default Optional<String> matchingElement() {
         return Optional.empty();
     }
+
+    /**
+     * Literal (static) path this matcher is bound to.
+     * Routing may use this information to pre-compute a prefix tree of routes, so only routes that can
+     * possibly match a requested path are evaluated.
+     * <p>
+     * The default implementation returns {@link PathMatchers.LiteralPath#any()}, which means the matcher may
+     * match any path and will always be evaluated. Custom implementations must only override this method if they
+     * can guarantee they never match a path outside of the returned literal path.
+     *
+     * @return literal path of this matcher
+     */
+    default PathMatchers.LiteralPath literalPath() {
+        return PathMatchers.LiteralPath.any();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -335,6 +335,11 @@ public final class PathMatchers {
             return Optional.of(path);
         }
 
+        @Override
+        public LiteralPath literalPath() {
+            return new LiteralPath(path, true);
+        }
+
         @Override
         public String toString() {
             return "exact: " + path;
@@ -344,6 +349,7 @@ public final class PathMatchers {
     static final class PrefixPathMatcher implements PathMatcher {
         private final String prefix;
         private final String exactMatch;
+        private final LiteralPath literalPath;
 
         PrefixPathMatcher(String prefix) {
             this.prefix = prefix;
@@ -352,6 +358,11 @@ public final class PathMatchers {
             } else {
                 exactMatch = prefix;
             }
+            // prefix may end in the middle of a segment (/te matches /test), only full segments are literal
+            int lastSlash = prefix.endsWith("/") ? prefix.length() - 1 : prefix.lastIndexOf('/');
+            this.literalPath = lastSlash <= 0
+                    ? LiteralPath.any()
+                    : new LiteralPath(prefix.substring(0, lastSlash), false);
         }
 
         @Override
@@ -410,6 +421,11 @@ public final class PathMatchers {
             return Optional.of(exactMatch + "/*");
         }
 
+        @Override
+        public LiteralPath literalPath() {
+            return literalPath;
+        }
+
         @Override
         public String toString() {
             return "prefix: " + prefix;
@@ -424,6 +440,7 @@ public final class PathMatchers {
         private final Pattern leftPattern;
         private final String patternString;
         private final String sourcePattern;
+        private final LiteralPath literalPath;
 
         PatternPathMatcher(String pattern, Map<String, String> paramToGroupName, String sourcePattern) {
             this.patternString = pattern;
@@ -431,6 +448,7 @@ public final class PathMatchers {
             this.leftPattern = Pattern.compile(pattern + "(?<" + RIGHT_PART_PARAM_NAME + ">/.+)?");
             this.paramToGroupName = paramToGroupName;
             this.sourcePattern = sourcePattern;
+            this.literalPath = patternLiteralPath(sourcePattern);
         }
 
         @Override
@@ -480,6 +498,32 @@ public final class PathMatchers {
             return Optional.of(sourcePattern);
         }
 
+        @Override
+        public LiteralPath literalPath() {
+            return literalPath;
+        }
+
+        private static LiteralPath patternLiteralPath(String sourcePattern) {
+            if (sourcePattern.isEmpty() || sourcePattern.charAt(0) != '/') {
+                return LiteralPath.any();
+            }
+            // all segments before the first segment that contains a parameter, glob, optional part or escape
+            int lastSlash = 0;
+            for (int i = 0; i < sourcePattern.length(); i++) {
+                switch (sourcePattern.charAt(i)) {
+                case '/' -> lastSlash = i;
+                case '{', '[', ']', '*', '\\' -> {
+                    return lastSlash == 0
+                            ? LiteralPath.any()
+                            : new LiteralPath(sourcePattern.substring(0, lastSlash), false);
+                }
+                default -> {
+                }
+                }
+            }
+            return new LiteralPath(sourcePattern, false);
+        }
+
         private Parameters extractParams(Matcher matcher) {
             // Old school, but slightly faster than stream.
             Map<String, String> params = new HashMap<>(paramToGroupName.size());
@@ -643,6 +687,30 @@ public final class PathMatchers {
         }
     }
 
+    /**
+     * Literal (static) part of a path matcher.
+     * <p>
+     * Paths are compared by segments (separated by {@code /}). A matcher with literal path {@code /greet/hello} only
+     * matches paths that start with segments {@code greet} and {@code hello}, such as {@code /greet/hello} or
+     * {@code /greet/hello/world}. If {@link #exact()} is {@code true}, the matcher does a full match only
+     * on the literal path itself; prefix matching (used for services) still accepts any path under it.
+     *
+     * @param path  literal path, always starting with {@code /}; {@code /} if the matcher may match any path
+     * @param exact whether a full match is only possible on exactly this path
+     */
+    public record LiteralPath(String path, boolean exact) {
+        private static final LiteralPath ANY = new LiteralPath("/", false);
+
+        /**
+         * Literal path of a matcher that may match any path.
+         *
+         * @return literal path matching any path
+         */
+        public static LiteralPath any() {
+            return ANY;
+        }
+    }
+
     /**
      * Path matching result.
      *
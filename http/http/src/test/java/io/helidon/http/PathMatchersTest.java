@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -108,6 +108,22 @@ class PathMatchersTest {
         assertThat("/foo/baz", pathMatcherMatches("/foo[/{var}]/baz"));
     }
 
+    @Test
+    void testLiteralPath() {
+        assertThat(PathMatchers.create("/greet/hello").literalPath(),
+                   is(new PathMatchers.LiteralPath("/greet/hello", true)));
+        assertThat(PathMatchers.create("/").literalPath(), is(new PathMatchers.LiteralPath("/", true)));
+        assertThat(PathMatchers.create("/greet/*").literalPath(), is(new PathMatchers.LiteralPath("/greet", false)));
+        assertThat(PathMatchers.prefix("/gre").literalPath(), is(PathMatchers.LiteralPath.any()));
+        assertThat(PathMatchers.prefix("/greet/he").literalPath(), is(new PathMatchers.LiteralPath("/greet", false)));
+        assertThat(PathMatchers.create("/greet/{name}").literalPath(), is(new PathMatchers.LiteralPath("/greet", false)));
+        assertThat(PathMatchers.create("/greet/hello/{name}/*").literalPath(),
+                   is(new PathMatchers.LiteralPath("/greet/hello", false)));
+        assertThat(PathMatchers.create("/{name}").literalPath(), is(PathMatchers.LiteralPath.any()));
+        assertThat(PathMatchers.create("/foo[/bar]").literalPath(), is(PathMatchers.LiteralPath.any()));
+        assertThat(PathMatchers.any().literalPath(), is(PathMatchers.LiteralPath.any()));
+    }
+
     private static org.hamcrest.Matcher<String> pathMatcherMatches(String pattern) {
         PathMatcher matcher = PathMatchers.create(pattern);
         return new TypeSafeMatcher<>() {
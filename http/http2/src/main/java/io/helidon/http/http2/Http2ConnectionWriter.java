@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,38 +16,120 @@
 
 package io.helidon.http.http2;
 
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.socket.SocketContext;
+import io.helidon.common.socket.SocketWriterException;
 
 /**
  * HTTP/2 connection writer.
+ * <p>
+ * Frames written by streams are serialized and added to a queue. The thread that finds the queue idle becomes the drainer,
+ * and writes all pending frames (including frames queued by other streams in the meantime) in batches,
+ * each batch with a single write to the underlying data writer. Other threads wait until their frames are written
+ * by the drainer, so a write that returns has reached the data writer (this is required for connection-level frames,
+ * such as {@code GOAWAY}, that are followed by closing the connection).
+ * A batch is written when it reaches the configured number of frames or bytes, or when the queue is empty.
+ * <p>
+ * When a write fails, all frames that were not written yet are discarded and their writers fail with
+ * the same exception, as will any subsequent write.
  */
 public class Http2ConnectionWriter implements Http2StreamWriter {
+    /**
+     * Default maximal number of frames written to the socket with a single write.
+     */
+    public static final int DEFAULT_WRITE_BATCH_FRAMES = 64;
+    /**
+     * Default number of bytes after which a batch of frames is written to the socket.
+     */
+    public static final int DEFAULT_WRITE_BATCH_BYTES = 64 * 1024;
+
     private final DataWriter writer;
 
-    private final Lock streamLock = new ReentrantLock(true);
+    // only guards the outbound dynamic table, header blocks must be queued in the same order as encoded
+    private final Lock headersLock = new ReentrantLock();
+    private final Queue<QueuedFrame> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainRequests = new AtomicInteger();
     private final SocketContext ctx;
     private final Http2FrameListener listener;
     private final Http2Headers.DynamicTable outboundDynamicTable;
     private final Http2HuffmanEncoder responseHuffman;
     private final BufferData headerBuffer = BufferData.growing(512);
+    private final int writeBatchFrames;
+    private final int writeBatchBytes;
+    private final BufferAllocator bufferAllocator;
+
+    private volatile RuntimeException failure;
 
     /**
-     * A new writer.
+     * A new writer with default write batch limits.
      *
      * @param ctx                connection context
      * @param writer             data writer
      * @param sendFrameListeners send frame listeners
      */
     public Http2ConnectionWriter(SocketContext ctx, DataWriter writer, List<Http2FrameListener> sendFrameListeners) {
+        this(ctx, writer, sendFrameListeners, DEFAULT_WRITE_BATCH_FRAMES, DEFAULT_WRITE_BATCH_BYTES);
+    }
+
+    /**
+     * A new writer.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param writeBatchFrames   maximal number of frames written with a single write, {@code 1} writes each frame separately
+     * @param writeBatchBytes    number of bytes after which pending frames are written even if more frames are queued
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 int writeBatchFrames,
+                                 int writeBatchBytes) {
+        this(ctx, writer, sendFrameListeners, writeBatchFrames, writeBatchBytes, BufferAllocator.unpooled());
+    }
+
+    /**
+     * A new writer using an allocator for frame payloads.
+     * Payload of each frame is copied to a buffer obtained from the allocator when the frame is queued, and the buffer
+     * is released once written to the data writer.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param writeBatchFrames   maximal number of frames written with a single write, {@code 1} writes each frame separately
+     * @param writeBatchBytes    number of bytes after which pending frames are written even if more frames are queued
+     * @param bufferAllocator    allocator of frame payload buffers
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 int writeBatchFrames,
+                                 int writeBatchBytes,
+                                 BufferAllocator bufferAllocator) {
+        if (writeBatchFrames < 1) {
+            throw new IllegalArgumentException("Write batch frames must be at least 1, but is " + writeBatchFrames);
+        }
+        if (writeBatchBytes < 1) {
+            throw new IllegalArgumentException("Write batch bytes must be at least 1, but is " + writeBatchBytes);
+        }
         this.ctx = ctx;
         this.listener = Http2FrameListener.create(sendFrameListeners);
         this.writer = writer;
+        this.writeBatchFrames = writeBatchFrames;
+        this.writeBatchBytes = writeBatchBytes;
+        this.bufferAllocator = bufferAllocator;
 
         // initial size is based on our settings, then updated with client settings
         this.outboundDynamicTable = Http2Headers.DynamicTable.create(Http2Setting.HEADER_TABLE_SIZE.defaultValue());
@@ -56,7 +138,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
 
     @Override
     public void write(Http2FrameData frame) {
-        lockedWrite(frame);
+        enqueue(serialize(frame));
     }
 
     @Override
@@ -70,14 +152,17 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
     public int writeHeaders(Http2Headers headers, int streamId, Http2Flag.HeaderFlags flags, FlowControl.Outbound flowControl) {
         // this is executing in the thread of the stream
         // we must enforce parallelism of exactly 1, to make sure the dynamic table is updated
-        // and then immediately written
+        // and then queued in the same order
 
         int maxFrameSize = flowControl.maxFrameSize();
 
-        lock();
+        checkFailure();
+        int written = 0;
+        QueuedFrame headerFrames;
+        lock(headersLock);
         try {
-
-            int written = 0;
+            // header block frames must not be interleaved with other frames, they are queued as a single buffer
+            List<BufferData> headerBlock = new ArrayList<>();
             headerBuffer.clear();
             headers.write(outboundDynamicTable, responseHuffman, headerBuffer);
 
@@ -90,50 +175,54 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
                 written += frameHeader.length();
                 written += Http2FrameHeader.LENGTH;
 
-                noLockWrite(new Http2FrameData(frameHeader, headerBuffer));
-                return written;
-            }
+                headerBlock.add(serialize(new Http2FrameData(frameHeader, headerBuffer)));
+            } else {
+                // Split header frame to smaller continuation frames RFC 9113 §6.10
+                BufferData[] fragments = Http2Headers.split(headerBuffer, maxFrameSize);
 
-            // Split header frame to smaller continuation frames RFC 9113 §6.10
-            BufferData[] fragments = Http2Headers.split(headerBuffer, maxFrameSize);
-
-            // First header fragment
-            BufferData fragment = fragments[0];
-            Http2FrameHeader frameHeader;
-            frameHeader = Http2FrameHeader.create(fragment.available(),
-                    Http2FrameTypes.HEADERS,
-                    Http2Flag.HeaderFlags.create(0),
-                    streamId);
-            written += frameHeader.length();
-            written += Http2FrameHeader.LENGTH;
-            noLockWrite(new Http2FrameData(frameHeader, fragment));
-
-            // Header continuation fragments in the middle
-            for (int i = 1; i < fragments.length; i++) {
-                fragment = fragments[i];
+                // First header fragment
+                BufferData fragment = fragments[0];
+                Http2FrameHeader frameHeader;
+                frameHeader = Http2FrameHeader.create(fragment.available(),
+                        Http2FrameTypes.HEADERS,
+                        Http2Flag.HeaderFlags.create(0),
+                        streamId);
+                written += frameHeader.length();
+                written += Http2FrameHeader.LENGTH;
+                headerBlock.add(serialize(new Http2FrameData(frameHeader, fragment)));
+
+                // Header continuation fragments in the middle
+                for (int i = 1; i < fragments.length; i++) {
+                    fragment = fragments[i];
+                    frameHeader = Http2FrameHeader.create(fragment.available(),
+                            Http2FrameTypes.CONTINUATION,
+                            Http2Flag.ContinuationFlags.create(0),
+                            streamId);
+                    written += frameHeader.length();
+                    written += Http2FrameHeader.LENGTH;
+                    headerBlock.add(serialize(new Http2FrameData(frameHeader, fragment)));
+                }
+
+                // Last header continuation fragment
+                fragment = fragments[fragments.length - 1];
                 frameHeader = Http2FrameHeader.create(fragment.available(),
                         Http2FrameTypes.CONTINUATION,
-                        Http2Flag.ContinuationFlags.create(0),
+                        // Last fragment needs to indicate the end of headers
+                        Http2Flag.ContinuationFlags.create(flags.value() | Http2Flag.END_OF_HEADERS),
                         streamId);
                 written += frameHeader.length();
                 written += Http2FrameHeader.LENGTH;
-                noLockWrite(new Http2FrameData(frameHeader, fragment));
+                headerBlock.add(serialize(new Http2FrameData(frameHeader, fragment)));
             }
-
-            // Last header continuation fragment
-            fragment = fragments[fragments.length - 1];
-            frameHeader = Http2FrameHeader.create(fragment.available(),
-                    Http2FrameTypes.CONTINUATION,
-                    // Last fragment needs to indicate the end of headers
-                    Http2Flag.ContinuationFlags.create(flags.value() | Http2Flag.END_OF_HEADERS),
-                    streamId);
-            written += frameHeader.length();
-            written += Http2FrameHeader.LENGTH;
-            noLockWrite(new Http2FrameData(frameHeader, fragment));
-            return written;
+            headerFrames = new QueuedFrame(BufferData.create(headerBlock));
+            queue.add(headerFrames);
         } finally {
-            streamLock.unlock();
+            headersLock.unlock();
         }
+        drain();
+        headerFrames.await();
+        checkFailure(headerFrames);
+        return written;
     }
 
     @Override
@@ -159,32 +248,28 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
      * @throws InterruptedException in case we fail to lock on the stream
      */
     public void updateHeaderTableSize(long newSize) throws InterruptedException {
-        lock();
+        lock(headersLock);
         try {
             outboundDynamicTable.protocolMaxTableSize(newSize);
         } finally {
-            streamLock.unlock();
+            headersLock.unlock();
         }
     }
 
-    private void lockedWrite(Http2FrameData frame) {
-        lock();
-        try {
-            noLockWrite(frame);
-        } finally {
-            streamLock.unlock();
-        }
+    // for tests
+    int queued() {
+        return queue.size();
     }
 
-    private void lock() {
+    private static void lock(Lock lock) {
         try {
-            streamLock.lockInterruptibly();
+            lock.lockInterruptibly();
         } catch (InterruptedException e) {
             throw new IllegalStateException("Interrupted", e);
         }
     }
 
-    private void noLockWrite(Http2FrameData frame) {
+    private BufferData serialize(Http2FrameData frame) {
         Http2FrameHeader frameHeader = frame.header();
         int streamId = frameHeader.streamId();
         listener.frameHeader(ctx, streamId, frameHeader);
@@ -193,12 +278,110 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         listener.frameHeader(ctx, streamId, headerData);
 
         if (frameHeader.length() == 0) {
-            writer.writeNow(headerData);
+            return headerData;
+        }
+        BufferData payload = frame.data();
+        BufferData data = bufferAllocator.allocate(payload.available());
+        data.write(payload);
+        listener.frame(ctx, streamId, data);
+        return BufferData.create(headerData, data);
+    }
+
+    private void enqueue(BufferData data) {
+        checkFailure();
+        QueuedFrame frame = new QueuedFrame(data);
+        queue.add(frame);
+        drain();
+        frame.await();
+        checkFailure(frame);
+    }
+
+    private void drain() {
+        if (drainRequests.getAndIncrement() != 0) {
+            // another thread is draining the queue, and will write our frames as well
+            return;
+        }
+        List<QueuedFrame> batch = new ArrayList<>();
+        int missed = 1;
+        try {
+            do {
+                if (failure != null) {
+                    // frames queued concurrently with a failed write
+                    discard(batch);
+                } else {
+                    int batchBytes = 0;
+                    QueuedFrame frame;
+                    while ((frame = queue.poll()) != null) {
+                        batch.add(frame);
+                        batchBytes += frame.data.available();
+                        if (batch.size() >= writeBatchFrames || batchBytes >= writeBatchBytes) {
+                            writeBatch(batch);
+                            batchBytes = 0;
+                        }
+                    }
+                    writeBatch(batch);
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        } catch (RuntimeException e) {
+            // the connection is broken, frames that were not written yet are discarded
+            // and their writers are notified
+            failure = e;
+            do {
+                // frames may still be queued by threads that did not see the failure yet
+                discard(batch);
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+            throw e;
+        }
+    }
+
+    private void writeBatch(List<QueuedFrame> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        if (batch.size() == 1) {
+            writer.writeNow(batch.getFirst().data);
         } else {
-            BufferData data = frame.data().copy();
-            listener.frame(ctx, streamId, data);
-            writer.writeNow(BufferData.create(headerData, data));
+            // composite buffer is written to the socket with a single write
+            BufferData[] data = new BufferData[batch.size()];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = batch.get(i).data;
+            }
+            writer.writeNow(BufferData.create(data));
+        }
+        for (QueuedFrame frame : batch) {
+            frame.complete(true);
+        }
+        batch.clear();
+    }
+
+    private void discard(List<QueuedFrame> batch) {
+        for (QueuedFrame frame : batch) {
+            frame.discard();
+        }
+        batch.clear();
+        QueuedFrame frame;
+        while ((frame = queue.poll()) != null) {
+            frame.discard();
+        }
+    }
+
+    private void checkFailure(QueuedFrame frame) {
+        if (!frame.written) {
+            checkFailure();
+        }
+    }
+
+    private void checkFailure() {
+        RuntimeException e = failure;
+        if (e == null) {
+            return;
         }
+        if (e instanceof UncheckedIOException uioe) {
+            throw new UncheckedIOException("Connection write failed", uioe.getCause());
+        }
+        throw new SocketWriterException(e);
     }
 
     private void splitAndWrite(Http2FrameData frame, FlowControl.Outbound flowControl) {
@@ -207,7 +390,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
             Http2FrameData[] splitFrames = flowControl.cut(currFrame);
             if (splitFrames.length == 1) {
                 // windows are wide enough
-                lockedWrite(currFrame);
+                write(currFrame);
                 flowControl.decrementWindowSize(currFrame.header().length());
                 break;
             } else if (splitFrames.length == 0) {
@@ -215,11 +398,56 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
                 flowControl.blockTillUpdate();
             } else if (splitFrames.length == 2) {
                 // write send-able part and block until window update with the rest
-                lockedWrite(splitFrames[0]);
+                write(splitFrames[0]);
                 flowControl.decrementWindowSize(splitFrames[0].header().length());
                 flowControl.blockTillUpdate();
                 currFrame = splitFrames[1];
             }
         }
     }
+
+    private static final class QueuedFrame {
+        private final BufferData data;
+        private final Thread writer = Thread.currentThread();
+        private volatile boolean done;
+        private boolean written;
+
+        private QueuedFrame(BufferData data) {
+            this.data = data;
+        }
+
+        /*
+        Called by the drainer once the frame is written to the socket, or discarded.
+         */
+        void complete(boolean written) {
+            this.written = written;
+            this.done = true;
+            if (writer != Thread.currentThread()) {
+                LockSupport.unpark(writer);
+            }
+        }
+
+        void discard() {
+            // the buffer is not passed to the data writer, so it must be released here
+            data.release();
+            complete(false);
+        }
+
+        /*
+        Wait until the drainer writes (or discards) this frame, if it was not done by the current thread.
+         */
+        void await() {
+            boolean interrupted = false;
+            while (!done) {
+                LockSupport.park(this);
+                if (Thread.interrupted()) {
+                    // the frame is already queued, it will be written (or discarded) by the drainer
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.http.http2;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -74,7 +75,7 @@ public class Http2Headers {
      * Header name of the status pseudo header.
      */
     public static final HeaderName STATUS_NAME = HeaderNames.create(STATUS);
-    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0);
+    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0, 0);
     private static final System.Logger LOGGER = System.getLogger(Http2Headers.class.getName());
     private static final String TRAILERS = "trailers";
     private static final String HTTP = "http";
@@ -400,7 +401,7 @@ public class Http2Headers {
                             growingBuffer,
                             STATUS_NAME,
                             status().codeText(),
-                            true,
+                            false,
                             false);
             } else {
                 writeHeader(growingBuffer, indexed);
@@ -415,7 +416,7 @@ public class Http2Headers {
                 indexed = StaticHeader.METHOD_POST;
             }
             if (indexed == null) {
-                writeHeader(huffman, table, growingBuffer, METHOD_NAME, method.text(), true, false);
+                writeHeader(huffman, table, growingBuffer, METHOD_NAME, method.text(), false, false);
             } else {
                 writeHeader(growingBuffer, indexed);
             }
@@ -427,7 +428,7 @@ public class Http2Headers {
             } else if (scheme.equals(HTTPS)) {
                 writeHeader(growingBuffer, StaticHeader.SCHEME_HTTPS);
             } else {
-                writeHeader(huffman, table, growingBuffer, SCHEME_NAME, scheme, true, false);
+                writeHeader(huffman, table, growingBuffer, SCHEME_NAME, scheme, false, false);
             }
         }
         if (pseudoHeaders.hasPath()) {
@@ -437,19 +438,19 @@ public class Http2Headers {
             } else if (path.equals(PATH_INDEX)) {
                 writeHeader(growingBuffer, StaticHeader.PATH_INDEX);
             } else {
-                writeHeader(huffman, table, growingBuffer, PATH_NAME, path, true, false);
+                writeHeader(huffman, table, growingBuffer, PATH_NAME, path, false, false);
             }
         }
         if (pseudoHeaders.hasAuthority()) {
-            writeHeader(huffman, table, growingBuffer, AUTHORITY_NAME, pseudoHeaders.authority, true, false);
+            writeHeader(huffman, table, growingBuffer, AUTHORITY_NAME, pseudoHeaders.authority, false, false);
         }
 
         for (Header header : headers) {
             String value = header.get();
-            boolean shouldIndex = !header.changing();
+            boolean changing = header.changing();
             boolean neverIndex = header.sensitive();
 
-            writeHeader(huffman, table, growingBuffer, header.headerName(), value, shouldIndex, neverIndex);
+            writeHeader(huffman, table, growingBuffer, header.headerName(), value, changing, neverIndex);
         }
     }
 
@@ -684,19 +685,33 @@ public class Http2Headers {
         headers.remove(pseudoHeader, it -> valueConsumer.accept(it.get()));
     }
 
+    private static void writeString(Http2HuffmanEncoder huffman, BufferData buffer, String value) {
+        if (value.length() > 3) {
+            huffman.encode(buffer, value);
+        } else {
+            byte[] valueBytes = value.getBytes(StandardCharsets.US_ASCII);
+            buffer.writeHpackInt(valueBytes.length, 0, 7);
+            buffer.write(valueBytes);
+        }
+    }
+
     private void writeHeader(Http2HuffmanEncoder huffman, DynamicTable table,
                              BufferData buffer,
                              HeaderName name,
                              String value,
-                             boolean shouldIndex,
+                             boolean changing,
                              boolean neverIndex) {
         IndexedHeaderRecord record = table.find(name, value);
         HeaderApproach approach;
+        boolean exactMatch = record != null && value.equals(record.value());
+        // the peer does not add never indexed fields to its table, we must not add them either
+        boolean shouldIndex = !neverIndex && !exactMatch && table.shouldIndex(name, value, changing);
 
         if (record == null) {
             // neither name nor value exists in an index
             if (shouldIndex) {
                 table.add(name, value);
+                table.indexed(name);
             }
             approach = new HeaderApproach(shouldIndex,
                                           neverIndex,
@@ -705,8 +720,11 @@ public class Http2Headers {
                                           0);
         } else {
             // at least name is available in index, maybe even value
-            if (value.equals(record.value())) {
+            if (exactMatch) {
                 // this is the exact same name and value
+                if (record.index() > StaticHeader.MAX_INDEX) {
+                    table.reused(name);
+                }
                 approach = new HeaderApproach(false,
                                               neverIndex,
                                               false,
@@ -716,6 +734,7 @@ public class Http2Headers {
                 // same name
                 if (shouldIndex) {
                     table.add(name, value);
+                    table.indexed(name);
                 }
                 // in both cases, we use index to record name
                 approach = new HeaderApproach(shouldIndex,
@@ -726,7 +745,8 @@ public class Http2Headers {
             }
         }
 
-        approach.write(huffman, buffer, name, value);
+        // changing values that are not repeated, and sensitive values are not cached
+        approach.write(huffman, table, buffer, name, value, !neverIndex && (shouldIndex || !changing));
     }
 
     private void writeHeader(BufferData buffer,
@@ -806,13 +826,17 @@ public class Http2Headers {
         private static final Map<Integer, StaticHeader> BY_INDEX = new HashMap<>();
         private static final Map<String, StaticHeader> BY_NAME_NO_VALUE = new HashMap<>();
         private static final Map<String, Map<String, StaticHeader>> BY_NAME_VALUE = new HashMap<>();
+        // first static header for each known header name, by HeaderName#index(), avoids hashing of names
+        private static final StaticHeader[] BY_HEADER_NAME_INDEX;
 
         static {
             int maxIndex = 0;
+            int maxHeaderNameIndex = -1;
 
             for (StaticHeader predefinedHeader : StaticHeader.values()) {
                 BY_INDEX.put(predefinedHeader.index(), predefinedHeader);
                 maxIndex = Math.max(maxIndex, predefinedHeader.index);
+                maxHeaderNameIndex = Math.max(maxHeaderNameIndex, predefinedHeader.headerName().index());
                 // Indexed headers may be referenced either with or without value, so we need to store them in both tables
                 if (predefinedHeader.hasValue()) {
                     BY_NAME_VALUE.computeIfAbsent(predefinedHeader.headerName().lowerCase(), it -> new HashMap<>())
@@ -822,6 +846,14 @@ public class Http2Headers {
             }
 
             MAX_INDEX = maxIndex;
+
+            BY_HEADER_NAME_INDEX = new StaticHeader[maxHeaderNameIndex + 1];
+            for (StaticHeader predefinedHeader : StaticHeader.values()) {
+                int headerNameIndex = predefinedHeader.headerName().index();
+                if (headerNameIndex >= 0 && BY_HEADER_NAME_INDEX[headerNameIndex] == null) {
+                    BY_HEADER_NAME_INDEX[headerNameIndex] = predefinedHeader;
+                }
+            }
         }
 
         private final boolean isPseudoHeader;
@@ -863,6 +895,17 @@ public class Http2Headers {
         }
 
         static StaticHeader find(HeaderName headerName, String headerValue) {
+            int headerNameIndex = headerName.index();
+            if (headerNameIndex >= 0) {
+                // known header name, all static headers with such names are in the array
+                if (headerNameIndex >= BY_HEADER_NAME_INDEX.length) {
+                    return null;
+                }
+                StaticHeader first = BY_HEADER_NAME_INDEX[headerNameIndex];
+                if (first == null || !first.hasValue) {
+                    return first;
+                }
+            }
             Map<String, StaticHeader> map = BY_NAME_VALUE.get(headerName.lowerCase());
             if (map == null) {
                 return BY_NAME_NO_VALUE.get(headerName.lowerCase());
@@ -1016,7 +1059,12 @@ public class Http2Headers {
             return !hasName;
         }
 
-        public void write(Http2HuffmanEncoder huffman, BufferData buffer, HeaderName headerName, String value) {
+        public void write(Http2HuffmanEncoder huffman,
+                          DynamicTable table,
+                          BufferData buffer,
+                          HeaderName headerName,
+                          String value,
+                          boolean cacheValue) {
             /*
              0   1   2   3   4   5   6   7
            +---+---+---+---+---+---+---+---+
@@ -1078,25 +1126,10 @@ public class Http2Headers {
             }
 
             if (hasName) {
-                String name = headerName.lowerCase();
-                if (name.length() > 3) {
-                    huffman.encode(buffer, name);
-                } else {
-                    byte[] nameBytes = name.getBytes(StandardCharsets.US_ASCII);
-                    buffer.writeHpackInt(nameBytes.length, 0, 7);
-                    buffer.write(nameBytes);
-                }
-
+                table.writeString(huffman, buffer, headerName.lowerCase(), true);
             }
             if (hasValue) {
-                if (value.length() > 3) {
-                    huffman.encode(buffer, value);
-                } else {
-                    byte[] valueBytes = value.getBytes(StandardCharsets.US_ASCII);
-                    buffer.writeHpackInt(valueBytes.length, 0, 7);
-                    buffer.write(valueBytes);
-                }
-
+                table.writeString(huffman, buffer, value, cacheValue);
             }
         }
 
@@ -1128,10 +1161,30 @@ public class Http2Headers {
      * The table caches header names and values and then uses indexes only when transferring headers over network.
      */
     public static class DynamicTable {
+        // number of insertions of a header name without any reuse of an inserted value, after which the name is not indexed
+        private static final int MAX_UNUSED_INSERTIONS = 8;
+        // maximal number of header names tracked for the indexing policy
+        private static final int MAX_TRACKED_NAMES = 256;
+        // encoded strings cache limits
+        private static final int MAX_CACHED_STRINGS = 256;
+        private static final int MAX_CACHED_STRING_LENGTH = 256;
+
         private final List<DynamicHeader> headers = new ArrayList<>();
+        // latest entry for each name and value, and for each name; keys are lower case names
+        private final Map<String, Map<String, DynamicHeader>> byNameValue = new HashMap<>();
+        private final Map<String, DynamicHeader> byName = new HashMap<>();
+        // only used when encoding
+        private final Map<String, NameUsage> nameUsage = new HashMap<>();
+        private final Map<String, byte[]> encodedStrings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+                return size() > MAX_CACHED_STRINGS;
+            }
+        };
         private volatile long protocolMaxTableSize;
         private long maxTableSize;
         private int currentTableSize;
+        private long insertions;
 
         private DynamicTable(long protocolMaxTableSize) {
             this.protocolMaxTableSize = protocolMaxTableSize;
@@ -1175,7 +1228,7 @@ public class Http2Headers {
             }
             this.maxTableSize = number;
             if (maxTableSize == 0) {
-                headers.clear();
+                clear();
             }
             while (maxTableSize < currentTableSize) {
                 evict();
@@ -1226,21 +1279,102 @@ public class Http2Headers {
                 }
                 candidate = staticHeader;
             }
-            for (int i = 0; i < headers.size(); i++) {
-                DynamicHeader header = headers.get(i);
-                if (header.headerName.equals(headerName)) {
-                    if (header.value().equals(headerValue)) {
-                        return new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                    if (candidate == null) {
-                        candidate = new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
+            if (headers.isEmpty()) {
+                return candidate;
+            }
+            String name = headerName.lowerCase();
+            Map<String, DynamicHeader> values = byNameValue.get(name);
+            if (values != null) {
+                DynamicHeader header = values.get(headerValue);
+                if (header != null) {
+                    return new IndexedHeader(header, index(header));
+                }
+            }
+            if (candidate == null) {
+                DynamicHeader header = byName.get(name);
+                if (header != null) {
+                    candidate = new IndexedHeader(header, index(header));
                 }
             }
 
             return candidate;
         }
 
+        /*
+        Adaptive indexing policy of the encoder.
+        Entries that would take a large part of the table are not indexed, as they would evict many other entries.
+        Values of changing headers (the default for headers that are not explicitly cached) are only indexed when
+        the same value is repeated on this connection.
+        Header names that were inserted repeatedly and none of the inserted values was ever reused (such as request ids)
+        are no longer indexed, so they do not evict entries that are reused.
+         */
+        private boolean shouldIndex(HeaderName headerName, String headerValue, boolean changing) {
+            int size = headerName.lowerCase().length() + headerValue.length() + 32;
+            if (size > maxTableSize / 2) {
+                return false;
+            }
+            NameUsage usage = nameUsage.get(headerName.lowerCase());
+            if (usage == null) {
+                if (nameUsage.size() >= MAX_TRACKED_NAMES) {
+                    return !changing;
+                }
+                usage = new NameUsage();
+                nameUsage.put(headerName.lowerCase(), usage);
+            }
+            if (!usage.reused && usage.insertions >= MAX_UNUSED_INSERTIONS) {
+                return false;
+            }
+            if (changing) {
+                boolean repeated = headerValue.equals(usage.lastValue);
+                usage.lastValue = headerValue;
+                return repeated;
+            }
+            return true;
+        }
+
+        private void indexed(HeaderName headerName) {
+            NameUsage usage = nameUsage.get(headerName.lowerCase());
+            if (usage != null) {
+                usage.insertions++;
+            }
+        }
+
+        private void reused(HeaderName headerName) {
+            NameUsage usage = nameUsage.get(headerName.lowerCase());
+            if (usage != null) {
+                usage.reused = true;
+            }
+        }
+
+        // HPACK string literal (length and huffman or raw bytes), cached for repeated values
+        private void writeString(Http2HuffmanEncoder huffman, BufferData buffer, String value, boolean cacheable) {
+            if (!cacheable || value.length() > MAX_CACHED_STRING_LENGTH) {
+                Http2Headers.writeString(huffman, buffer, value);
+                return;
+            }
+            byte[] encoded = encodedStrings.get(value);
+            if (encoded == null) {
+                BufferData encodedBuffer = BufferData.growing(value.length() + 8);
+                Http2Headers.writeString(huffman, encodedBuffer, value);
+                encoded = new byte[encodedBuffer.available()];
+                encodedBuffer.read(encoded);
+                encodedStrings.put(value, encoded);
+            }
+            buffer.write(encoded);
+        }
+
+        private int index(DynamicHeader header) {
+            // the latest inserted entry has the lowest index
+            return StaticHeader.MAX_INDEX + 1 + (int) (insertions - header.sequence());
+        }
+
+        private void clear() {
+            headers.clear();
+            byNameValue.clear();
+            byName.clear();
+            currentTableSize = 0;
+        }
+
         private void evict() {
             if (headers.isEmpty()) {
                 return;
@@ -1249,12 +1383,26 @@ public class Http2Headers {
 
             if (removed != null) {
                 currentTableSize -= removed.size();
+                // the oldest entry is evicted, so it is only mapped if there is no newer entry with the same name (and value)
+                String name = removed.headerName().lowerCase();
+                byName.remove(name, removed);
+                Map<String, DynamicHeader> values = byNameValue.get(name);
+                if (values != null) {
+                    values.remove(removed.value(), removed);
+                    if (values.isEmpty()) {
+                        byNameValue.remove(name);
+                    }
+                }
             }
         }
 
         private int add(HeaderName name, String value, int size) {
-            headers.add(0, new DynamicHeader(name, value, size));
+            DynamicHeader header = new DynamicHeader(name, value, size, ++insertions);
+            headers.add(0, header);
             currentTableSize += size;
+            byName.put(name.lowerCase(), header);
+            byNameValue.computeIfAbsent(name.lowerCase(), it -> new HashMap<>())
+                    .put(value, header);
             return 0;
         }
 
@@ -1269,7 +1417,13 @@ public class Http2Headers {
         }
     }
 
-    private record DynamicHeader(HeaderName headerName, String value, int size) implements HeaderRecord {
+    private record DynamicHeader(HeaderName headerName, String value, int size, long sequence) implements HeaderRecord {
+    }
+
+    private static final class NameUsage {
+        private int insertions;
+        private boolean reused;
+        private String lastValue;
     }
 
     private record IndexedHeader(HeaderRecord delegate, int index) implements IndexedHeaderRecord {
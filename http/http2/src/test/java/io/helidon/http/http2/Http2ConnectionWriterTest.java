@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataWriter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class Http2ConnectionWriterTest {
+    private static final int FRAME_LENGTH = Http2FrameHeader.LENGTH + 4;
+
+    @Test
+    void testFramesQueuedDuringWriteAreBatched() throws Exception {
+        BlockingDataWriter dataWriter = new BlockingDataWriter();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> drainer = executor.submit(() -> writer.write(frame(1, 0)));
+            assertThat(dataWriter.writeStarted.await(10, TimeUnit.SECONDS), is(true));
+
+            // the first write blocks, these frames are queued and written by the drainer
+            List<Future<?>> queued = writeAll(executor, writer, 4);
+            awaitQueued(writer, 4);
+            dataWriter.release.countDown();
+            drainer.get(10, TimeUnit.SECONDS);
+            for (Future<?> future : queued) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(dataWriter.writeSizes, contains(FRAME_LENGTH, 4 * FRAME_LENGTH));
+    }
+
+    @Test
+    void testBatchFrameLimit() throws Exception {
+        BlockingDataWriter dataWriter = new BlockingDataWriter();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of(), 2, Integer.MAX_VALUE);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> drainer = executor.submit(() -> writer.write(frame(1, 0)));
+            assertThat(dataWriter.writeStarted.await(10, TimeUnit.SECONDS), is(true));
+            List<Future<?>> queued = writeAll(executor, writer, 5);
+            awaitQueued(writer, 5);
+            dataWriter.release.countDown();
+            drainer.get(10, TimeUnit.SECONDS);
+            for (Future<?> future : queued) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        assertThat(dataWriter.writeSizes, contains(FRAME_LENGTH, 2 * FRAME_LENGTH, 2 * FRAME_LENGTH, FRAME_LENGTH));
+    }
+
+    @Test
+    void testConcurrentStreamsKeepFrameOrder() throws Exception {
+        int streams = 32;
+        int framesPerStream = 200;
+        RecordingDataWriter dataWriter = new RecordingDataWriter();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int stream = 0; stream < streams; stream++) {
+                int streamId = stream * 2 + 1;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < framesPerStream; i++) {
+                        writer.write(frame(streamId, i));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        BufferData written = BufferData.create(dataWriter.writes);
+        int[] expected = new int[streams * 2 + 1];
+        while (written.available() > 0) {
+            Http2FrameHeader header = Http2FrameHeader.create(written);
+            int sequence = written.readInt32();
+            assertThat("Frame order of stream " + header.streamId(), sequence, is(expected[header.streamId()]));
+            expected[header.streamId()]++;
+        }
+        for (int stream = 0; stream < streams; stream++) {
+            assertThat(expected[stream * 2 + 1], is(framesPerStream));
+        }
+    }
+
+    @Test
+    void testFailedWriteFailsFollowingWrites() {
+        DataWriter dataWriter = new RecordingDataWriter() {
+            @Override
+            public void writeNow(BufferData buffer) {
+                throw new UncheckedIOException(new IOException("Broken pipe"));
+            }
+        };
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+
+        assertThrows(UncheckedIOException.class, () -> writer.write(frame(1, 0)));
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> writer.write(frame(1, 1)));
+        assertThat(e.getCause().getMessage(), is("Broken pipe"));
+    }
+
+    @Test
+    void testWriteReturnsAfterFrameIsWritten() throws Exception {
+        BlockingDataWriter dataWriter = new BlockingDataWriter();
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> drainer = executor.submit(() -> writer.write(frame(1, 0)));
+            assertThat(dataWriter.writeStarted.await(10, TimeUnit.SECONDS), is(true));
+
+            // a connection-level frame (such as GOAWAY) must be written before write returns, as the connection is closed next
+            Future<?> goAway = executor.submit(() -> {
+                writer.write(frame(0, 1));
+                return dataWriter.writes.size();
+            });
+            awaitQueued(writer, 1);
+            dataWriter.release.countDown();
+            drainer.get(10, TimeUnit.SECONDS);
+            assertThat(goAway.get(10, TimeUnit.SECONDS), is(2));
+        }
+    }
+
+    @Test
+    void testFailedWriteFailsQueuedWrites() throws Exception {
+        BlockingDataWriter dataWriter = new BlockingDataWriter() {
+            @Override
+            public void writeNow(BufferData buffer) {
+                super.writeNow(buffer);
+                throw new UncheckedIOException(new IOException("Broken pipe"));
+            }
+        };
+        Http2ConnectionWriter writer = new Http2ConnectionWriter(null, dataWriter, List.of());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> drainer = executor.submit(() -> writer.write(frame(1, 0)));
+            assertThat(dataWriter.writeStarted.await(10, TimeUnit.SECONDS), is(true));
+            List<Future<?>> queued = writeAll(executor, writer, 3);
+            awaitQueued(writer, 3);
+            dataWriter.release.countDown();
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> drainer.get(10, TimeUnit.SECONDS));
+            assertThat(e.getCause(), instanceOf(UncheckedIOException.class));
+            // frames discarded after the failure are reported to their writers
+            for (Future<?> future : queued) {
+                e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+                assertThat(e.getCause(), instanceOf(UncheckedIOException.class));
+                assertThat(e.getCause().getCause().getMessage(), is("Broken pipe"));
+            }
+        }
+        assertThat(dataWriter.writeSizes, contains(FRAME_LENGTH));
+    }
+
+    private static List<Future<?>> writeAll(ExecutorService executor, Http2ConnectionWriter writer, int count) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            int sequence = i;
+            futures.add(executor.submit(() -> writer.write(frame(3, sequence))));
+        }
+        return futures;
+    }
+
+    private static void awaitQueued(Http2ConnectionWriter writer, int count) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (writer.queued() < count) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Expected " + count + " queued frames, but got " + writer.queued());
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Http2FrameData frame(int streamId, int sequence) {
+        BufferData data = BufferData.create(4);
+        data.writeInt32(sequence);
+        Http2FrameHeader header = Http2FrameHeader.create(4,
+                                                          Http2FrameTypes.DATA,
+                                                          Http2Flag.DataFlags.create(0),
+                                                          streamId);
+        return new Http2FrameData(header, data);
+    }
+
+    private static class RecordingDataWriter implements DataWriter {
+        final List<BufferData> writes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void write(BufferData... buffers) {
+            writeNow(buffers);
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            writeNow(buffer);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            writeNow(BufferData.create(buffers));
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            writes.add(buffer.copy());
+        }
+    }
+
+    private static class BlockingDataWriter extends RecordingDataWriter {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Integer> writeSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            writeSizes.add(buffer.available());
+            writeStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            super.writeNow(buffer);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,8 +21,10 @@ import java.util.HexFormat;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
 import io.helidon.http.Headers;
 import io.helidon.http.Method;
+import io.helidon.http.Status;
 import io.helidon.http.WritableHeaders;
 import io.helidon.http.http2.Http2Headers.DynamicTable;
 import io.helidon.http.http2.Http2Headers.HeaderRecord;
@@ -33,6 +35,7 @@ import org.mockito.Mockito;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 class Http2HeadersTest {
     private static final HeaderName CUSTOM_HEADER_NAME = HeaderNames.create("custom-key");
@@ -183,6 +186,102 @@ class Http2HeadersTest {
         assertThat(actual, is(expected));
     }
 
+    @Test
+    void testEncodeDecodeWithEvictions() {
+        // small table, so entries are evicted on both sides
+        DynamicTable encoderTable = DynamicTable.create(256);
+        DynamicTable decoderTable = DynamicTable.create(256);
+        Http2HuffmanEncoder huffman = Http2HuffmanEncoder.create();
+
+        for (int i = 0; i < 200; i++) {
+            WritableHeaders<?> headers = WritableHeaders.create();
+            headers.set(HeaderNames.CONTENT_TYPE, "application/json");
+            headers.set(HeaderNames.SERVER, "Helidon");
+            headers.set(HeaderNames.CACHE_CONTROL, "max-age=" + (i % 5));
+            headers.set(CUSTOM_HEADER_NAME, "value-" + (i % 7));
+            Http2Headers http2Headers = Http2Headers.create(headers);
+            http2Headers.status(Status.OK_200);
+
+            BufferData buffer = BufferData.growing(128);
+            http2Headers.write(encoderTable, huffman, buffer);
+            Http2Headers decoded = decode(buffer, decoderTable);
+
+            assertThat(decoded.status(), is(Status.OK_200));
+            Headers decodedHeaders = decoded.httpHeaders();
+            assertThat(decodedHeaders.get(HeaderNames.CONTENT_TYPE).get(), is("application/json"));
+            assertThat(decodedHeaders.get(HeaderNames.SERVER).get(), is("Helidon"));
+            assertThat(decodedHeaders.get(HeaderNames.CACHE_CONTROL).get(), is("max-age=" + (i % 5)));
+            assertThat(decodedHeaders.get(CUSTOM_HEADER_NAME).get(), is("value-" + (i % 7)));
+            assertThat(decoderTable.currentTableSize(), is(encoderTable.currentTableSize()));
+        }
+    }
+
+    @Test
+    void testNotReusedHeaderStopsBeingIndexed() {
+        DynamicTable encoderTable = DynamicTable.create(Http2Settings.create());
+        DynamicTable decoderTable = DynamicTable.create(Http2Settings.create());
+        Http2HuffmanEncoder huffman = Http2HuffmanEncoder.create();
+        HeaderName requestId = HeaderNames.create("x-request-id");
+
+        int tableSize = 0;
+        for (int i = 0; i < 20; i++) {
+            WritableHeaders<?> headers = WritableHeaders.create();
+            // not changing, so it is indexed until the policy finds out the values are never reused
+            headers.set(HeaderValues.create(requestId, false, false, "request-" + i));
+            BufferData buffer = BufferData.growing(64);
+            Http2Headers.create(headers).write(encoderTable, huffman, buffer);
+            Http2Headers decoded = decode(buffer, decoderTable);
+
+            assertThat(decoded.httpHeaders().get(requestId).get(), is("request-" + i));
+            assertThat(decoderTable.currentTableSize(), is(encoderTable.currentTableSize()));
+            if (i == 7) {
+                tableSize = encoderTable.currentTableSize();
+            }
+        }
+        assertThat("Unique values should not be indexed after a few attempts",
+                   encoderTable.currentTableSize(),
+                   is(tableSize));
+    }
+
+    @Test
+    void testRepeatedValueIndexed() {
+        DynamicTable encoderTable = DynamicTable.create(Http2Settings.create());
+        DynamicTable decoderTable = DynamicTable.create(Http2Settings.create());
+        Http2HuffmanEncoder huffman = Http2HuffmanEncoder.create();
+
+        int[] sizes = new int[3];
+        for (int i = 0; i < sizes.length; i++) {
+            WritableHeaders<?> headers = WritableHeaders.create();
+            headers.set(HeaderNames.CONTENT_TYPE, "application/json");
+            BufferData buffer = BufferData.growing(64);
+            Http2Headers.create(headers).write(encoderTable, huffman, buffer);
+            sizes[i] = buffer.available();
+            Http2Headers decoded = decode(buffer, decoderTable);
+
+            assertThat(decoded.httpHeaders().get(HeaderNames.CONTENT_TYPE).get(), is("application/json"));
+            assertThat(decoderTable.currentTableSize(), is(encoderTable.currentTableSize()));
+        }
+        // first is a literal, second is a literal added to the table, third is an index
+        assertThat(sizes[1], lessThanOrEqualTo(sizes[0]));
+        assertThat(sizes[2], is(1));
+    }
+
+    @Test
+    void testSensitiveHeaderNotIndexed() {
+        DynamicTable encoderTable = DynamicTable.create(Http2Settings.create());
+        DynamicTable decoderTable = DynamicTable.create(Http2Settings.create());
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(HeaderValues.create(HeaderNames.AUTHORIZATION, false, true, "Bearer secret"));
+
+        BufferData buffer = BufferData.growing(64);
+        Http2Headers.create(headers).write(encoderTable, Http2HuffmanEncoder.create(), buffer);
+        Http2Headers decoded = decode(buffer, decoderTable);
+
+        assertThat(decoded.httpHeaders().get(HeaderNames.AUTHORIZATION).get(), is("Bearer secret"));
+        assertThat(encoderTable.currentTableSize(), is(0));
+        assertThat(decoderTable.currentTableSize(), is(0));
+    }
+
     /*
     https://www.rfc-editor.org/rfc/rfc7541.html#appendix-C.4
     */
@@ -265,4 +364,16 @@ class Http2HeadersTest {
                                    Http2HuffmanDecoder.create(),
                                    new Http2FrameData(header, data));
     }
+
+    private Http2Headers decode(BufferData data, DynamicTable dynamicTable) {
+        Http2FrameHeader header = Http2FrameHeader.create(data.available(),
+                                                          Http2FrameTypes.HEADERS,
+                                                          Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
+                                                          1);
+
+        return Http2Headers.create(Mockito.mock(Http2Stream.class),
+                                   dynamicTable,
+                                   Http2HuffmanDecoder.create(),
+                                   new Http2FrameData(header, data));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.media.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.helidon.common.GenericType;
+import io.helidon.http.Headers;
+import io.helidon.http.HttpMediaType;
+import io.helidon.http.media.EntityReader;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reader of a JSON array into a lazy {@link java.util.stream.Stream} or {@link java.util.Iterator} of its elements.
+ * Elements are deserialized one by one as they are consumed, so the array is never fully materialized.
+ *
+ * @param <T> type of the stream or iterator
+ */
+class JacksonStreamReader<T> implements EntityReader<T> {
+    private final ObjectMapper objectMapper;
+
+    JacksonStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public T read(GenericType<T> type, InputStream stream, Headers headers) {
+        return read(type, stream, contentTypeCharset(headers));
+    }
+
+    @Override
+    public T read(GenericType<T> type,
+                  InputStream stream,
+                  Headers requestHeaders,
+                  Headers responseHeaders) {
+        return read(type, stream, contentTypeCharset(responseHeaders));
+    }
+
+    @Override
+    public boolean streaming() {
+        return true;
+    }
+
+    /**
+     * Whether the type is a {@link java.util.stream.Stream} or an {@link java.util.Iterator} of elements.
+     *
+     * @param type type to check
+     * @return whether the type can be streamed
+     */
+    static boolean isStreamType(GenericType<?> type) {
+        Class<?> rawType = type.rawType();
+        return Stream.class.equals(rawType) || Iterator.class.equals(rawType);
+    }
+
+    /**
+     * Element type of a {@link java.util.stream.Stream} or an {@link java.util.Iterator}.
+     *
+     * @param type stream or iterator type
+     * @return element type, {@link java.lang.Object} if the type is not parameterized
+     */
+    static Type elementType(GenericType<?> type) {
+        if (type.type() instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T read(GenericType<T> type, InputStream in, Charset charset) {
+        MappingIterator<Object> iterator;
+        try {
+            // the iterator closes the parser (and the stream) once the end of the array is reached
+            iterator = objectMapper.readerFor(objectMapper.getTypeFactory().constructType(elementType(type)))
+                    .readValues(new InputStreamReader(in, charset));
+        } catch (IOException e) {
+            try {
+                in.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw new JacksonRuntimeException("Failed to deserialize JSON to " + type, e);
+        }
+        if (Iterator.class.equals(type.rawType())) {
+            return (T) iterator;
+        }
+        return (T) StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(() -> close(iterator));
+    }
+
+    private static void close(AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            throw new JacksonRuntimeException("Failed to close JSON stream", e);
+        }
+    }
+
+    private Charset contentTypeCharset(Headers headers) {
+        return headers.contentType()
+                .flatMap(HttpMediaType::charset)
+                .map(Charset::forName)
+                .orElse(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.media.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Headers;
+import io.helidon.http.HttpMediaType;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.media.EntityWriter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writer of a {@link java.util.stream.Stream} or {@link java.util.Iterator} as a JSON array.
+ * Elements are serialized one by one directly to the output stream, which is flushed after each
+ * {@value #FLUSH_ELEMENTS} elements.
+ *
+ * @param <T> type of the stream or iterator
+ */
+class JacksonStreamWriter<T> implements EntityWriter<T> {
+    /**
+     * Number of elements written between flushes of the output stream.
+     */
+    static final int FLUSH_ELEMENTS = 256;
+
+    private final ObjectMapper objectMapper;
+
+    JacksonStreamWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void write(GenericType<T> type,
+                      T object,
+                      OutputStream outputStream,
+                      Headers requestHeaders,
+                      WritableHeaders<?> responseHeaders) {
+
+        responseHeaders.setIfAbsent(HeaderValues.CONTENT_TYPE_JSON);
+
+        for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
+            if (acceptedType.test(MediaTypes.APPLICATION_JSON)) {
+                Optional<String> charset = acceptedType.charset();
+                if (charset.isPresent()) {
+                    Charset characterSet = Charset.forName(charset.get());
+                    write(type, object, new OutputStreamWriter(outputStream, characterSet));
+                } else {
+                    write(type, object, outputStream);
+                }
+                return;
+            }
+        }
+
+        write(type, object, outputStream);
+    }
+
+    @Override
+    public void write(GenericType<T> type, T object, OutputStream outputStream, WritableHeaders<?> headers) {
+        headers.setIfAbsent(HeaderValues.CONTENT_TYPE_JSON);
+        write(type, object, outputStream);
+    }
+
+    private void write(GenericType<T> type, T object, Writer out) {
+        try (SequenceWriter sequence = writer(type).writeValuesAsArray(out)) {
+            write(object, sequence);
+        } catch (IOException e) {
+            throw new JacksonRuntimeException("Failed to serialize to JSON: " + type, e);
+        }
+    }
+
+    private void write(GenericType<T> type, T object, OutputStream out) {
+        try (out; SequenceWriter sequence = writer(type).writeValuesAsArray(out)) {
+            write(object, sequence);
+        } catch (IOException e) {
+            throw new JacksonRuntimeException("Failed to serialize to JSON: " + type, e);
+        }
+    }
+
+    private void write(T object, SequenceWriter sequence) throws IOException {
+        if (object instanceof Stream<?> stream) {
+            try (stream) {
+                write(stream.iterator(), sequence);
+            }
+        } else {
+            write((Iterator<?>) object, sequence);
+        }
+    }
+
+    private void write(Iterator<?> elements, SequenceWriter sequence) throws IOException {
+        int written = 0;
+        while (elements.hasNext()) {
+            sequence.write(elements.next());
+            if (++written == FLUSH_ELEMENTS) {
+                sequence.flush();
+                written = 0;
+            }
+        }
+    }
+
+    private ObjectWriter writer(GenericType<T> type) {
+        // flushing after each element would send tiny chunks over the network, flush is done by this writer
+        return objectMapper.writerFor(objectMapper.getTypeFactory().constructType(JacksonStreamReader.elementType(type)))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+}
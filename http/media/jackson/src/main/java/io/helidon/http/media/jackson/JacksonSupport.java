@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,12 +40,17 @@ import static io.helidon.http.HeaderValues.CONTENT_TYPE_JSON;
 
 /**
  * {@link java.util.ServiceLoader} provider implementation for Jackson media support.
+ * <p>
+ * Entities of type {@link java.util.stream.Stream} or {@link java.util.Iterator} are read from and written as
+ * a JSON array element by element, without materializing the whole array in memory.
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class JacksonSupport implements MediaSupport {
     private final ObjectMapper objectMapper;
     private final JacksonReader reader;
     private final JacksonWriter writer;
+    private final JacksonStreamReader streamReader;
+    private final JacksonStreamWriter streamWriter;
 
     private final String name;
 
@@ -53,6 +58,8 @@ public class JacksonSupport implements MediaSupport {
         this.objectMapper = objectMapper;
         this.reader = reader;
         this.writer = writer;
+        this.streamReader = new JacksonStreamReader(objectMapper);
+        this.streamWriter = new JacksonStreamWriter(objectMapper);
         this.name = name;
     }
 
@@ -124,11 +131,19 @@ public class JacksonSupport implements MediaSupport {
         return "jackson";
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
     @Override
     public <T> ReaderResponse<T> reader(GenericType<T> type, Headers requestHeaders) {
         if (requestHeaders.contentType()
                 .map(it -> it.test(MediaTypes.APPLICATION_JSON))
                 .orElse(true)) {
+            if (JacksonStreamReader.isStreamType(type)) {
+                return new ReaderResponse<>(SupportLevel.SUPPORTED, this::streamReader);
+            }
             if (objectMapper.canDeserialize(objectMapper.constructType(type.type()))) {
                 return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
             }
@@ -144,6 +159,9 @@ public class JacksonSupport implements MediaSupport {
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
             if (acceptedType.test(MediaTypes.APPLICATION_JSON)) {
+                if (JacksonStreamReader.isStreamType(type)) {
+                    return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+                }
                 if (objectMapper.canSerialize(type.rawType())) {
                     return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
                 }
@@ -152,6 +170,9 @@ public class JacksonSupport implements MediaSupport {
         }
 
         if (requestHeaders.acceptedTypes().isEmpty()) {
+            if (JacksonStreamReader.isStreamType(type)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
             if (objectMapper.canSerialize(type.rawType())) {
                 return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
             }
@@ -167,6 +188,9 @@ public class JacksonSupport implements MediaSupport {
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
             if (acceptedType.test(MediaTypes.APPLICATION_JSON) || acceptedType.mediaType().isWildcardType()) {
+                if (JacksonStreamReader.isStreamType(type)) {
+                    return new ReaderResponse<>(SupportLevel.SUPPORTED, this::streamReader);
+                }
                 if (objectMapper.canDeserialize(objectMapper.constructType(type.type()))) {
                     return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
                 }
@@ -174,6 +198,9 @@ public class JacksonSupport implements MediaSupport {
         }
 
         if (requestHeaders.acceptedTypes().isEmpty()) {
+            if (JacksonStreamReader.isStreamType(type)) {
+                return new ReaderResponse<>(SupportLevel.SUPPORTED, this::streamReader);
+            }
             if (objectMapper.canDeserialize(objectMapper.constructType(type.type()))) {
                 return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
             }
@@ -186,12 +213,18 @@ public class JacksonSupport implements MediaSupport {
     public <T> WriterResponse<T> writer(GenericType<T> type, WritableHeaders<?> requestHeaders) {
         if (requestHeaders.contains(HeaderNames.CONTENT_TYPE)) {
             if (requestHeaders.contains(CONTENT_TYPE_JSON)) {
+                if (JacksonStreamReader.isStreamType(type)) {
+                    return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+                }
                 if (objectMapper.canSerialize(type.rawType())) {
                     return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
                 }
                 return WriterResponse.unsupported();
             }
         } else {
+            if (JacksonStreamReader.isStreamType(type)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
             if (objectMapper.canSerialize(type.rawType())) {
                 return new WriterResponse<>(SupportLevel.SUPPORTED, this::writer);
             }
@@ -207,4 +240,12 @@ public class JacksonSupport implements MediaSupport {
     <T> EntityWriter<T> writer() {
         return writer;
     }
+
+    <T> EntityReader<T> streamReader() {
+        return streamReader;
+    }
+
+    <T> EntityWriter<T> streamWriter() {
+        return streamWriter;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.media.jsonb;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import io.helidon.common.GenericType;
+import io.helidon.http.Headers;
+import io.helidon.http.HttpMediaType;
+import io.helidon.http.media.EntityReader;
+
+import jakarta.json.Json;
+import jakarta.json.JsonValue;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+/**
+ * Reader of a JSON array into a lazy {@link java.util.stream.Stream} or {@link java.util.Iterator} of its elements.
+ * The array is parsed using JSON-P, and each element is bound using JSON-B once it is consumed,
+ * so the array is never fully materialized.
+ *
+ * @param <T> type of the stream or iterator
+ */
+class JsonbStreamReader<T> implements EntityReader<T> {
+    private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(Map.of());
+
+    private final Jsonb jsonb;
+
+    JsonbStreamReader(Jsonb jsonb) {
+        this.jsonb = jsonb;
+    }
+
+    @Override
+    public T read(GenericType<T> type, InputStream stream, Headers headers) {
+        return read(type, stream, contentTypeCharset(headers));
+    }
+
+    @Override
+    public T read(GenericType<T> type,
+                  InputStream stream,
+                  Headers requestHeaders,
+                  Headers responseHeaders) {
+        return read(type, stream, contentTypeCharset(responseHeaders));
+    }
+
+    @Override
+    public boolean streaming() {
+        return true;
+    }
+
+    /**
+     * Whether the type is a {@link java.util.stream.Stream} or an {@link java.util.Iterator} of elements.
+     *
+     * @param type type to check
+     * @return whether the type can be streamed
+     */
+    static boolean isStreamType(GenericType<?> type) {
+        Class<?> rawType = type.rawType();
+        return Stream.class.equals(rawType) || Iterator.class.equals(rawType);
+    }
+
+    /**
+     * Element type of a {@link java.util.stream.Stream} or an {@link java.util.Iterator}.
+     *
+     * @param type stream or iterator type
+     * @return element type, {@link java.lang.Object} if the type is not parameterized
+     */
+    static Type elementType(GenericType<?> type) {
+        if (type.type() instanceof ParameterizedType parameterized) {
+            return parameterized.getActualTypeArguments()[0];
+        }
+        return Object.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T read(GenericType<T> type, InputStream in, Charset charset) {
+        ElementIterator iterator = new ElementIterator(PARSER_FACTORY.createParser(new InputStreamReader(in, charset)),
+                                                       elementType(type));
+        if (Iterator.class.equals(type.rawType())) {
+            return (T) iterator;
+        }
+        return (T) StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(iterator::close);
+    }
+
+    private Charset contentTypeCharset(Headers headers) {
+        return headers.contentType()
+                .flatMap(HttpMediaType::charset)
+                .map(Charset::forName)
+                .orElse(StandardCharsets.UTF_8);
+    }
+
+    /*
+    Iterates over elements of a JSON array, the parser (and the stream) is closed once the end of the array is reached.
+     */
+    private final class ElementIterator implements Iterator<Object>, AutoCloseable {
+        private final JsonParser parser;
+        private final Type elementType;
+
+        private boolean started;
+        private boolean closed;
+        private JsonValue next;
+
+        private ElementIterator(JsonParser parser, Type elementType) {
+            this.parser = parser;
+            this.elementType = elementType;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (closed) {
+                return false;
+            }
+            try {
+                if (!started) {
+                    started = true;
+                    if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                        throw new JsonbException("Expected a JSON array");
+                    }
+                }
+                if (!parser.hasNext() || parser.next() == JsonParser.Event.END_ARRAY) {
+                    close();
+                    return false;
+                }
+                next = parser.getValue();
+                return true;
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            JsonValue value = next;
+            next = null;
+            return jsonb.fromJson(value.toString(), elementType);
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                parser.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.media.jsonb;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Headers;
+import io.helidon.http.HttpMediaType;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.media.EntityWriter;
+
+import jakarta.json.bind.Jsonb;
+
+/**
+ * Writer of a {@link java.util.stream.Stream} or {@link java.util.Iterator} as a JSON array.
+ * Elements are bound one by one directly to the output stream, which is flushed after each
+ * {@value #FLUSH_ELEMENTS} elements.
+ *
+ * @param <T> type of the stream or iterator
+ */
+class JsonbStreamWriter<T> implements EntityWriter<T> {
+    /**
+     * Number of elements written between flushes of the output stream.
+     */
+    static final int FLUSH_ELEMENTS = 256;
+
+    private final Jsonb jsonb;
+
+    JsonbStreamWriter(Jsonb jsonb) {
+        this.jsonb = jsonb;
+    }
+
+    @Override
+    public void write(GenericType<T> type,
+                      T object,
+                      OutputStream outputStream,
+                      Headers requestHeaders,
+                      WritableHeaders<?> responseHeaders) {
+
+        responseHeaders.setIfAbsent(HeaderValues.CONTENT_TYPE_JSON);
+
+        for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
+            if (acceptedType.test(MediaTypes.APPLICATION_JSON)) {
+                Optional<String> charset = acceptedType.charset();
+                if (charset.isPresent()) {
+                    write(type, object, outputStream, Charset.forName(charset.get()));
+                } else {
+                    write(type, object, outputStream, StandardCharsets.UTF_8);
+                }
+                return;
+            }
+        }
+
+        write(type, object, outputStream, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void write(GenericType<T> type, T object, OutputStream outputStream, WritableHeaders<?> headers) {
+        headers.setIfAbsent(HeaderValues.CONTENT_TYPE_JSON);
+        write(type, object, outputStream, StandardCharsets.UTF_8);
+    }
+
+    private void write(GenericType<T> type, T object, OutputStream out, Charset charset) {
+        Type elementType = JsonbStreamReader.elementType(type);
+        try (Writer writer = new OutputStreamWriter(out, charset)) {
+            if (object instanceof Stream<?> stream) {
+                try (stream) {
+                    write(stream.iterator(), elementType, writer);
+                }
+            } else {
+                write((Iterator<?>) object, elementType, writer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(Iterator<?> elements, Type elementType, Writer writer) throws IOException {
+        // JSON-B closes the writer after each element, and would flush it as well
+        Writer elementWriter = new ElementWriter(writer);
+        boolean first = true;
+        int written = 0;
+        writer.write('[');
+        while (elements.hasNext()) {
+            if (first) {
+                first = false;
+            } else {
+                writer.write(',');
+            }
+            Object element = elements.next();
+            if (elementType == Object.class) {
+                jsonb.toJson(element, elementWriter);
+            } else {
+                jsonb.toJson(element, elementType, elementWriter);
+            }
+            if (++written == FLUSH_ELEMENTS) {
+                writer.flush();
+                written = 0;
+            }
+        }
+        writer.write(']');
+    }
+
+    private static final class ElementWriter extends FilterWriter {
+        private ElementWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,9 @@ import static io.helidon.http.HeaderValues.CONTENT_TYPE_JSON;
 
 /**
  * {@link java.util.ServiceLoader} provider implementation for JSON Binding media support.
+ * <p>
+ * Entities of type {@link java.util.stream.Stream} or {@link java.util.Iterator} are read from and written as
+ * a JSON array element by element, without materializing the whole array in memory.
  */
 public class JsonbSupport implements MediaSupport {
     private static final GenericType<JsonObject> JSON_OBJECT_TYPE = GenericType.create(JsonObject.class);
@@ -45,6 +48,8 @@ public class JsonbSupport implements MediaSupport {
 
     private final JsonbReader reader = new JsonbReader(JSON_B);
     private final JsonbWriter writer = new JsonbWriter(JSON_B);
+    private final JsonbStreamReader streamReader = new JsonbStreamReader(JSON_B);
+    private final JsonbStreamWriter streamWriter = new JsonbStreamWriter(JSON_B);
 
     private final String name;
 
@@ -87,6 +92,11 @@ public class JsonbSupport implements MediaSupport {
         return "jsonb";
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
     @Override
     public <T> ReaderResponse<T> reader(GenericType<T> type, Headers requestHeaders) {
         if (requestHeaders.contentType()
@@ -96,7 +106,7 @@ public class JsonbSupport implements MediaSupport {
                 // leave this to JSON-P
                 return ReaderResponse.unsupported();
             }
-            return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
+            return readerResponse(type);
         }
 
         return ReaderResponse.unsupported();
@@ -113,12 +123,12 @@ public class JsonbSupport implements MediaSupport {
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
             if (acceptedType.test(MediaTypes.APPLICATION_JSON)) {
-                return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
+                return writerResponse(type);
             }
         }
 
         if (requestHeaders.acceptedTypes().isEmpty()) {
-            return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
+            return writerResponse(type);
         }
 
         return WriterResponse.unsupported();
@@ -135,12 +145,12 @@ public class JsonbSupport implements MediaSupport {
         // check if accepted
         for (HttpMediaType acceptedType : requestHeaders.acceptedTypes()) {
             if (acceptedType.test(MediaTypes.APPLICATION_JSON) || acceptedType.mediaType().isWildcardType()) {
-                return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
+                return readerResponse(type);
             }
         }
 
         if (requestHeaders.acceptedTypes().isEmpty()) {
-            return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
+            return readerResponse(type);
         }
 
         return ReaderResponse.unsupported();
@@ -153,9 +163,12 @@ public class JsonbSupport implements MediaSupport {
         }
         if (requestHeaders.contains(HeaderNames.CONTENT_TYPE)) {
             if (requestHeaders.contains(CONTENT_TYPE_JSON)) {
-                return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
+                return writerResponse(type);
             }
         } else {
+            if (JsonbStreamReader.isStreamType(type)) {
+                return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+            }
             return new WriterResponse<>(SupportLevel.SUPPORTED, this::writer);
         }
         return WriterResponse.unsupported();
@@ -168,4 +181,27 @@ public class JsonbSupport implements MediaSupport {
     <T> EntityWriter<T> writer() {
         return writer;
     }
+
+    <T> EntityReader<T> streamReader() {
+        return streamReader;
+    }
+
+    <T> EntityWriter<T> streamWriter() {
+        return streamWriter;
+    }
+
+    // streams and iterators are read and written lazily, element by element
+    private <T> ReaderResponse<T> readerResponse(GenericType<T> type) {
+        if (JsonbStreamReader.isStreamType(type)) {
+            return new ReaderResponse<>(SupportLevel.SUPPORTED, this::streamReader);
+        }
+        return new ReaderResponse<>(SupportLevel.COMPATIBLE, this::reader);
+    }
+
+    private <T> WriterResponse<T> writerResponse(GenericType<T> type) {
+        if (JsonbStreamReader.isStreamType(type)) {
+            return new WriterResponse<>(SupportLevel.SUPPORTED, this::streamWriter);
+        }
+        return new WriterResponse<>(SupportLevel.COMPATIBLE, this::writer);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,11 +18,17 @@ package io.helidon.http.media.jsonb;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.config.Config;
@@ -51,6 +57,8 @@ class JsonbMediaTest {
     private static final Charset ISO_8859_2 = Charset.forName("ISO-8859-2");
     private static final GenericType<Book> BOOK_TYPE = GenericType.create(Book.class);
     private static final GenericType<List<Book>> BOOK_LIST_TYPE = new GenericType<List<Book>>() { };
+    private static final GenericType<Stream<Book>> BOOK_STREAM_TYPE = new GenericType<Stream<Book>>() { };
+    private static final GenericType<Iterator<Book>> BOOK_ITERATOR_TYPE = new GenericType<Iterator<Book>>() { };
     private final MediaSupport provider;
 
     JsonbMediaTest() {
@@ -209,6 +217,105 @@ class JsonbMediaTest {
         assertThat(books, hasItems(new Book("čř"), new Book("šň")));
     }
 
+    @Test
+    void testWriteStream() {
+        WritableHeaders<?> headers = WritableHeaders.create();
+
+        MediaSupport.WriterResponse<Stream<Book>> res = provider.writer(BOOK_STREAM_TYPE, headers);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Book> books = IntStream.range(0, 1000)
+                .mapToObj(i -> new Book("book-" + i))
+                .onClose(() -> closed.set(true));
+
+        res.supplier().get()
+                .write(BOOK_STREAM_TYPE, books, os, headers);
+
+        assertThat(headers, HttpHeaderMatcher.hasHeader(HeaderValues.CONTENT_TYPE_JSON));
+        assertThat(closed.get(), is(true));
+
+        // sanity check, parse back to books
+        List<Book> sanity = provider.reader(BOOK_LIST_TYPE, headers)
+                .supplier()
+                .get()
+                .read(BOOK_LIST_TYPE, new ByteArrayInputStream(os.toByteArray()), headers);
+
+        assertThat(sanity.size(), is(1000));
+        assertThat(sanity.get(0), is(new Book("book-0")));
+        assertThat(sanity.get(999), is(new Book("book-999")));
+    }
+
+    @Test
+    void testWriteEmptyIterator() {
+        WritableHeaders<?> headers = WritableHeaders.create();
+
+        MediaSupport.WriterResponse<Iterator<Book>> res = provider.writer(BOOK_ITERATOR_TYPE, headers);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        res.supplier().get()
+                .write(BOOK_ITERATOR_TYPE, Collections.emptyIterator(), os, headers);
+
+        assertThat(os.toString(StandardCharsets.UTF_8), is("[]"));
+    }
+
+    @Test
+    void testReadServerStream() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        requestHeaders.contentType(MediaTypes.APPLICATION_JSON);
+
+        MediaSupport.ReaderResponse<Stream<Book>> res = provider.reader(BOOK_STREAM_TYPE, requestHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+        assertThat(res.supplier().get().streaming(), is(true));
+
+        byte[] entity = "[{\"title\": \"first\"}, {\"title\": \"second\"}]".getBytes(StandardCharsets.UTF_8);
+        CloseTrackingInputStream is = new CloseTrackingInputStream(entity);
+        List<Book> books;
+        try (Stream<Book> stream = res.supplier().get().read(BOOK_STREAM_TYPE, is, requestHeaders)) {
+            books = stream.toList();
+        }
+
+        assertThat(books, hasItems(new Book("first"), new Book("second")));
+        assertThat(is.closed, is(true));
+    }
+
+    @Test
+    void testReadClientIterator() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        responseHeaders.contentType(HttpMediaType.create(MediaTypes.APPLICATION_JSON).withCharset(ISO_8859_2));
+
+        MediaSupport.ReaderResponse<Iterator<Book>> res = provider.reader(BOOK_ITERATOR_TYPE, requestHeaders, responseHeaders);
+        assertThat(res.support(), is(MediaSupport.SupportLevel.SUPPORTED));
+
+        CloseTrackingInputStream is =
+                new CloseTrackingInputStream("[{\"title\": \"čř\"}, {\"title\": \"šň\"}]".getBytes(ISO_8859_2));
+        Iterator<Book> books = res.supplier().get()
+                .read(BOOK_ITERATOR_TYPE, is, requestHeaders, responseHeaders);
+
+        assertThat(books.next(), is(new Book("čř")));
+        assertThat(books.next(), is(new Book("šň")));
+        assertThat(books.hasNext(), is(false));
+        // the stream is closed once the end of the array is reached
+        assertThat(is.closed, is(true));
+    }
+
+    private static class CloseTrackingInputStream extends ByteArrayInputStream {
+        private volatile boolean closed;
+
+        private CloseTrackingInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
     public static class Book {
         private String title;
 
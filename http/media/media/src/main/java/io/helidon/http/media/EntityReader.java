@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -50,4 +50,16 @@ public interface EntityReader<T> {
            InputStream stream,
            Headers requestHeaders,
            Headers responseHeaders);
+
+    /**
+     * Whether this reader reads the entity lazily.
+     * A streaming reader returns a value (such as a {@link java.util.stream.Stream}) that reads the stream
+     * only when consumed, and is responsible for closing the stream once the value is exhausted or closed.
+     * The stream is not closed by the media context after {@code read} returns for such readers.
+     *
+     * @return whether this reader reads the entity lazily, defaults to {@code false}
+     */
+    default boolean streaming() {
+        return false;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -162,6 +162,11 @@ public class FormParamsSupport implements MediaSupport {
         return "form-params";
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
     private static <T> EntityReader<T> urlEncodedReader() {
         return URL_READER;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,4 +55,17 @@ interface MediaContextConfigBlueprint extends Prototype.Factory<MediaContext> {
     @Option.Configured
     @Option.DefaultBoolean(true)
     boolean registerDefaults();
+
+    /**
+     * Maximal number of cached reader and writer resolutions.
+     * Resolutions are cached for each combination of entity type, direction, and values of {@code Content-Type}
+     * and {@code Accept} headers, as long as the involved media supports are
+     * {@link io.helidon.http.media.MediaSupport#cacheable() cacheable}.
+     * When the cache is full, it is cleared. Set to {@code 0} to disable the cache.
+     *
+     * @return size of the resolution cache
+     */
+    @Option.Configured
+    @Option.DefaultInt(256)
+    int resolutionCacheSize();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,10 +21,14 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 import io.helidon.common.GenericType;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
 import io.helidon.http.Headers;
 import io.helidon.http.WritableHeaders;
 import io.helidon.http.media.MediaSupport.ReaderResponse;
@@ -38,110 +42,107 @@ class MediaContextImpl implements MediaContext {
     private static final System.Logger LOGGER = System.getLogger(MediaContextImpl.class.getName());
     private static final ConcurrentHashMap<GenericType<?>, AtomicBoolean> LOGGED_READERS = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<GenericType<?>, AtomicBoolean> LOGGED_WRITERS = new ConcurrentHashMap<>();
+    // cached resolution when no support can handle the type
+    private static final Object NO_MATCH = new Object();
 
     private final List<MediaSupport> supports;
     private final MediaContext fallback;
     private final MediaContextConfig prototype;
+    // number of leading supports that are cacheable
+    private final int cacheableSupports;
+    private final int resolutionCacheSize;
+    private final Map<ResolutionKey, Object> resolutions = new ConcurrentHashMap<>();
 
     MediaContextImpl(MediaContextConfig prototype) {
         this.supports = prototype.mediaSupports();
         this.supports.forEach(it -> it.init(this));
         this.fallback = prototype.fallback().orElse(null);
         this.prototype = prototype;
+
+        int cacheable = 0;
+        while (cacheable < supports.size() && supports.get(cacheable).cacheable()) {
+            cacheable++;
+        }
+        this.cacheableSupports = cacheable;
+        this.resolutionCacheSize = prototype.resolutionCacheSize();
     }
 
     @Override
     public <T> EntityReader<T> reader(GenericType<T> type, Headers headers) {
-        ReaderResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            ReaderResponse<T> response = support.reader(type, headers);
-            if (response.support() == SUPPORTED) {
-                return entityReader(response);
-            } else if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-        if (compatible == null) {
+        ResolutionKey key = resolutionKey(Direction.SERVER_READ, type, headers, HeaderNames.CONTENT_TYPE, null, null);
+        ReaderResponse<T> response = resolve(key,
+                                             it -> it.reader(type, headers),
+                                             ReaderResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingReader.instance();
             } else {
                 return fallback.reader(type, headers);
             }
         }
-        return entityReader(compatible);
+        return entityReader(response);
     }
 
     @Override
     public <T> EntityWriter<T> writer(GenericType<T> type,
                                       Headers requestHeaders,
                                       WritableHeaders<?> responseHeaders) {
-        WriterResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            WriterResponse<T> response = support.writer(type, requestHeaders, responseHeaders);
-            if (response.support() == SUPPORTED) {
-                return entityWriter(response);
-            }
-            if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-
-        if (compatible == null) {
+        ResolutionKey key = resolutionKey(Direction.SERVER_WRITE,
+                                          type,
+                                          requestHeaders,
+                                          HeaderNames.ACCEPT,
+                                          responseHeaders,
+                                          HeaderNames.CONTENT_TYPE);
+        WriterResponse<T> response = resolve(key,
+                                             it -> it.writer(type, requestHeaders, responseHeaders),
+                                             WriterResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingWriter.instance();
             } else {
                 return fallback.writer(type, requestHeaders, responseHeaders);
             }
         }
-        return entityWriter(compatible);
+        return entityWriter(response);
     }
 
     @Override
     public <T> EntityReader<T> reader(GenericType<T> type,
                                       Headers requestHeaders,
                                       Headers responseHeaders) {
-
-        ReaderResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            ReaderResponse<T> response = support.reader(type, requestHeaders, responseHeaders);
-            if (response.support() == SUPPORTED) {
-                return entityReader(response);
-            }
-            if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-        if (compatible == null) {
+        ResolutionKey key = resolutionKey(Direction.CLIENT_READ,
+                                          type,
+                                          requestHeaders,
+                                          HeaderNames.ACCEPT,
+                                          responseHeaders,
+                                          HeaderNames.CONTENT_TYPE);
+        ReaderResponse<T> response = resolve(key,
+                                             it -> it.reader(type, requestHeaders, responseHeaders),
+                                             ReaderResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingReader.instance();
             } else {
                 return fallback.reader(type, requestHeaders, responseHeaders);
             }
         }
-        return entityReader(compatible);
+        return entityReader(response);
     }
 
     @Override
     public <T> EntityWriter<T> writer(GenericType<T> type, WritableHeaders<?> requestHeaders) {
-        WriterResponse<T> compatible = null;
-        for (MediaSupport support : supports) {
-            WriterResponse<T> response = support.writer(type, requestHeaders);
-            if (response.support() == SUPPORTED) {
-                return entityWriter(response);
-            }
-            if (response.support() == COMPATIBLE) {
-                compatible = compatible == null ? response : compatible;
-            }
-        }
-
-        if (compatible == null) {
+        ResolutionKey key = resolutionKey(Direction.CLIENT_WRITE, type, requestHeaders, HeaderNames.CONTENT_TYPE, null, null);
+        WriterResponse<T> response = resolve(key,
+                                             it -> it.writer(type, requestHeaders),
+                                             WriterResponse::support);
+        if (response == null) {
             if (fallback == null) {
                 return FailingWriter.instance();
             } else {
                 return fallback.writer(type, requestHeaders);
             }
         }
-        return entityWriter(compatible);
+        return entityWriter(response);
     }
 
     @Override
@@ -149,12 +150,91 @@ class MediaContextImpl implements MediaContext {
         return prototype;
     }
 
+    /*
+    Find the first supported response, or the first compatible response if none is supported.
+    Returns null if no support can handle the entity.
+     */
+    private <R> R resolve(ResolutionKey key,
+                          Function<MediaSupport, R> query,
+                          Function<R, MediaSupport.SupportLevel> level) {
+        if (key != null) {
+            Object cached = resolutions.get(key);
+            if (cached != null) {
+                return cached == NO_MATCH ? null : (R) cached;
+            }
+        }
+
+        R compatible = null;
+        for (int i = 0; i < supports.size(); i++) {
+            R response = query.apply(supports.get(i));
+            MediaSupport.SupportLevel supportLevel = level.apply(response);
+            if (supportLevel == SUPPORTED) {
+                // all supports queried so far must be cacheable
+                if (key != null && i < cacheableSupports) {
+                    cache(key, response);
+                }
+                return response;
+            }
+            if (supportLevel == COMPATIBLE) {
+                compatible = compatible == null ? response : compatible;
+            }
+        }
+        // all supports were queried
+        if (key != null && cacheableSupports == supports.size()) {
+            cache(key, compatible == null ? NO_MATCH : compatible);
+        }
+        return compatible;
+    }
+
+    private void cache(ResolutionKey key, Object resolution) {
+        if (resolutions.size() >= resolutionCacheSize) {
+            // keys are expected to be stable (entity types and media types used by the application), if we
+            // get over the limit, start over instead of tracking usage of each entry
+            resolutions.clear();
+        }
+        resolutions.put(key, resolution);
+    }
+
+    private ResolutionKey resolutionKey(Direction direction,
+                                        GenericType<?> type,
+                                        Headers firstHeaders,
+                                        HeaderName firstName,
+                                        Headers secondHeaders,
+                                        HeaderName secondName) {
+        if (resolutionCacheSize == 0 || cacheableSupports == 0) {
+            return null;
+        }
+        return new ResolutionKey(direction,
+                                 type,
+                                 headerValue(firstHeaders, firstName),
+                                 secondHeaders == null ? null : headerValue(secondHeaders, secondName));
+    }
+
+    private static String headerValue(Headers headers, HeaderName name) {
+        return headers.contains(name) ? headers.get(name).values() : null;
+    }
+
     private <T> EntityWriter<T> entityWriter(WriterResponse<T> response) {
         return new CloseStreamWriter(response.supplier().get());
     }
 
     private <T> EntityReader<T> entityReader(ReaderResponse<T> response) {
-        return new CloseStreamReader(response.supplier().get());
+        EntityReader<T> reader = response.supplier().get();
+        if (reader.streaming()) {
+            // the stream is closed by the value returned from the reader
+            return reader;
+        }
+        return new CloseStreamReader(reader);
+    }
+
+    private enum Direction {
+        SERVER_READ,
+        SERVER_WRITE,
+        CLIENT_READ,
+        CLIENT_WRITE
+    }
+
+    private record ResolutionKey(Direction direction, GenericType<?> type, String firstHeader, String secondHeader) {
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -91,6 +91,20 @@ public interface MediaSupport extends NamedService {
         return WriterResponse.unsupported();
     }
 
+    /**
+     * Whether responses of this support can be cached by the {@link MediaContext}.
+     * A support can be cached if the responses of its {@code reader} and {@code writer} methods only depend on
+     * the entity type, and on the values of {@code Content-Type} and {@code Accept} headers, and if the same
+     * response instance can be used for any number of requests.
+     * When all supports that are queried for an entity type are cacheable, the media context remembers
+     * the winning response and does not query the supports again for the same type and headers.
+     *
+     * @return whether the responses of this support are cacheable, defaults to {@code false}
+     */
+    default boolean cacheable() {
+        return false;
+    }
+
     /**
      * How does this provider support the entity type.
      */
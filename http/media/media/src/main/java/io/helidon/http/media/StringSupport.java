@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -114,6 +114,11 @@ public class StringSupport implements MediaSupport {
         return "string";
     }
 
+    @Override
+    public boolean cacheable() {
+        return true;
+    }
+
     private static <T> EntityReader<T> reader() {
         return READER;
     }
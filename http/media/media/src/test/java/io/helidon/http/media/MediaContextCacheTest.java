@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.media;
+
+import java.io.InputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.GenericType;
+import io.helidon.http.Headers;
+import io.helidon.http.HttpMediaType;
+import io.helidon.http.WritableHeaders;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MediaContextCacheTest {
+    private static final HttpMediaType TEXT_PLAIN = HttpMediaType.create("text/plain");
+    private static final HttpMediaType TEXT_HTML = HttpMediaType.create("text/html");
+
+    @Test
+    void testCacheableResolutionCached() {
+        CountingSupport first = new CountingSupport(true, false);
+        CountingSupport second = new CountingSupport(true, true);
+        MediaContext context = MediaContext.builder()
+                .registerDefaults(false)
+                .mediaSupportsDiscoverServices(false)
+                .addMediaSupport(first)
+                .addMediaSupport(second)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            context.reader(GenericType.STRING, headers(TEXT_PLAIN));
+        }
+        assertThat(first.queries.get(), is(1));
+        assertThat(second.queries.get(), is(1));
+
+        // different content type is resolved again
+        context.reader(GenericType.STRING, headers(TEXT_HTML));
+        assertThat(first.queries.get(), is(2));
+        assertThat(second.queries.get(), is(2));
+
+        // different direction is resolved again
+        context.writer(GenericType.STRING, headers(TEXT_PLAIN));
+        assertThat(first.queries.get(), is(3));
+        assertThat(second.queries.get(), is(3));
+    }
+
+    @Test
+    void testNotCacheableResolutionNotCached() {
+        CountingSupport first = new CountingSupport(false, false);
+        CountingSupport second = new CountingSupport(true, true);
+        MediaContext context = MediaContext.builder()
+                .registerDefaults(false)
+                .mediaSupportsDiscoverServices(false)
+                .addMediaSupport(first)
+                .addMediaSupport(second)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            context.reader(GenericType.STRING, headers(TEXT_PLAIN));
+        }
+        assertThat(first.queries.get(), is(10));
+        assertThat(second.queries.get(), is(10));
+    }
+
+    @Test
+    void testSupportedBeforeNotCacheable() {
+        CountingSupport first = new CountingSupport(true, true);
+        CountingSupport second = new CountingSupport(false, true);
+        MediaContext context = MediaContext.builder()
+                .registerDefaults(false)
+                .mediaSupportsDiscoverServices(false)
+                .addMediaSupport(first)
+                .addMediaSupport(second)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            context.reader(GenericType.STRING, headers(TEXT_PLAIN));
+        }
+        assertThat(first.queries.get(), is(1));
+        assertThat(second.queries.get(), is(0));
+    }
+
+    @Test
+    void testNoMatchCached() {
+        CountingSupport support = new CountingSupport(true, false);
+        MediaContext context = MediaContext.builder()
+                .registerDefaults(false)
+                .mediaSupportsDiscoverServices(false)
+                .addMediaSupport(support)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            EntityReader<String> reader = context.reader(GenericType.STRING, headers(TEXT_PLAIN));
+            assertThat(reader, not(instanceOf(CountingSupport.Reader.class)));
+        }
+        assertThat(support.queries.get(), is(1));
+    }
+
+    @Test
+    void testCacheDisabled() {
+        CountingSupport support = new CountingSupport(true, true);
+        MediaContext context = MediaContext.builder()
+                .registerDefaults(false)
+                .mediaSupportsDiscoverServices(false)
+                .addMediaSupport(support)
+                .resolutionCacheSize(0)
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            context.reader(GenericType.STRING, headers(TEXT_PLAIN));
+        }
+        assertThat(support.queries.get(), is(10));
+    }
+
+    private static WritableHeaders<?> headers(HttpMediaType contentType) {
+        return WritableHeaders.create().contentType(contentType);
+    }
+
+    private static final class CountingSupport implements MediaSupport {
+        private final AtomicInteger queries = new AtomicInteger();
+        private final boolean cacheable;
+        private final boolean supported;
+
+        private CountingSupport(boolean cacheable, boolean supported) {
+            this.cacheable = cacheable;
+            this.supported = supported;
+        }
+
+        @Override
+        public <T> ReaderResponse<T> reader(GenericType<T> type, Headers requestHeaders) {
+            return response();
+        }
+
+        @Override
+        public <T> WriterResponse<T> writer(GenericType<T> type, WritableHeaders<?> requestHeaders) {
+            queries.incrementAndGet();
+            return WriterResponse.unsupported();
+        }
+
+        @Override
+        public boolean cacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public String name() {
+            return "counting";
+        }
+
+        @Override
+        public String type() {
+            return "counting";
+        }
+
+        private <T> ReaderResponse<T> response() {
+            queries.incrementAndGet();
+            if (supported) {
+                return new ReaderResponse<>(SupportLevel.SUPPORTED, Reader::new);
+            }
+            return ReaderResponse.unsupported();
+        }
+
+        private static final class Reader<T> implements EntityReader<T> {
+            @Override
+            public T read(GenericType<T> type, InputStream stream, Headers headers) {
+                return null;
+            }
+
+            @Override
+            public T read(GenericType<T> type, InputStream stream, Headers requestHeaders, Headers responseHeaders) {
+                return null;
+            }
+        }
+    }
+}
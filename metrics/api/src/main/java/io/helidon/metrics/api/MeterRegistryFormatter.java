@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package io.helidon.metrics.api;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
 /**
@@ -35,4 +38,32 @@ public interface MeterRegistryFormatter {
      * @return formatted metadata output
      */
     Optional<Object> formatMetadata();
+
+    /**
+     * Formats the meter registry's data, writing it directly to an output stream rather than preparing the whole
+     * output in memory first.
+     * <p>
+     * The default implementation writes the output of {@link #format()} as UTF-8 text. Formatters producing large
+     * textual output should override this method and write the output incrementally.
+     *
+     * @return writer of the formatted output, empty if there is no output
+     */
+    default Optional<StreamingOutput> formatStreaming() {
+        return format().map(output -> outputStream -> outputStream.write(output.toString()
+                                                                                 .getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Formatted output written directly to an output stream.
+     */
+    @FunctionalInterface
+    interface StreamingOutput {
+        /**
+         * Writes the formatted output.
+         *
+         * @param outputStream stream to write to, the stream is not closed by this method
+         * @throws java.io.IOException in case writing to the stream fails
+         */
+        void write(OutputStream outputStream) throws IOException;
+    }
 }
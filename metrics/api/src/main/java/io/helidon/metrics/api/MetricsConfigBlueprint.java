@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -265,6 +265,18 @@ interface MetricsConfigBlueprint {
     @Option.Configured("timers.json-units-default")
     Optional<TimeUnit> jsonUnitsDefault();
 
+    /**
+     * Whether formatters should cache the formatted metadata of meters (such as the {@code HELP} and {@code TYPE} lines
+     * of the Prometheus exposition format) between requests for metrics output.
+     * Enabling the cache saves work when the metrics endpoint is scraped frequently and there are many meters, at the
+     * cost of keeping the formatted metadata in memory.
+     *
+     * @return whether to cache formatted meter metadata
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean cacheMetadata();
+
     /**
      * Reports whether the specified scope is enabled, according to any scope configuration that
      * is part of this metrics configuration.
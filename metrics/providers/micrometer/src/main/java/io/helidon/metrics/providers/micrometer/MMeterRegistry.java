@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -107,7 +108,17 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
             new HashMap<>();
     private final Map<String, Set<io.helidon.metrics.api.Meter>> scopeMembership = new HashMap<>();
 
-    private final Map<io.helidon.metrics.api.Meter.Id, MMeter<?>> metersById = new HashMap<>();
+    /*
+    Both maps below are updated only while holding the write lock, but are concurrent so they can be read without locking.
+     */
+    private final Map<io.helidon.metrics.api.Meter.Id, MMeter<?>> metersById = new ConcurrentHashMap<>();
+
+    /**
+     * Results of searches by name and tags done by {@link #meter(Class, String, Iterable)}. Entries are added while holding
+     * the read lock, and the whole cache is cleared while holding the write lock whenever a meter is added or removed, as
+     * that may change the outcome of a search.
+     */
+    private final Map<MeterKey, MMeter<?>> lookupCache = new ConcurrentHashMap<>();
     private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
     private MMeterRegistry(io.micrometer.core.instrument.MeterRegistry delegate,
@@ -230,6 +241,7 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
             buildersByPromMeterId.clear();
             scopeMembership.clear();
             metersById.clear();
+            lookupCache.clear();
         } finally {
             lock.writeLock().unlock();
         }
@@ -310,6 +322,13 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
                                                                       String name,
                                                                       Iterable<io.helidon.metrics.api.Tag> tags) {
 
+        // Meters are typically looked up repeatedly using the same name and tags, so avoid locking and searching if we can.
+        MeterKey key = MeterKey.create(name, tags);
+        MMeter<?> cachedMeter = lookupCache.get(key);
+        if (cachedMeter != null) {
+            return Optional.of(checkedMeter(mClass, cachedMeter));
+        }
+
         lock.readLock().lock();
         try {
             Search search = delegate().find(name)
@@ -319,20 +338,16 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
             if (match == null) {
                 return Optional.empty();
             }
-            io.helidon.metrics.api.Meter neutralMeter = meters.get(match);
+            MMeter<?> neutralMeter = meters.get(match);
             if (neutralMeter == null) {
                 LOGGER.log(Level.WARNING, String.format("Found no Helidon counterpart for Micrometer meter %s %s",
                                                         name,
                                                         Util.list(tags)));
                 return Optional.empty();
             }
-            if (mClass.isInstance(neutralMeter)) {
-                return Optional.of(mClass.cast(neutralMeter));
-            }
-            throw new IllegalArgumentException(
-                    String.format("Matching meter is of type %s but %s was requested",
-                                  match.getClass().getName(),
-                                  mClass.getName()));
+            // Holding the read lock guarantees the cache is not being cleared because of a concurrent add or remove.
+            lookupCache.putIfAbsent(key, neutralMeter);
+            return Optional.of(checkedMeter(mClass, neutralMeter));
         } finally {
             lock.readLock().unlock();
         }
@@ -377,6 +392,16 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
         return delegate;
     }
 
+    private static <M extends io.helidon.metrics.api.Meter> M checkedMeter(Class<M> mClass, MMeter<?> neutralMeter) {
+        if (mClass.isInstance(neutralMeter)) {
+            return mClass.cast(neutralMeter);
+        }
+        throw new IllegalArgumentException(
+                String.format("Matching meter is of type %s but %s was requested",
+                              neutralMeter.delegate().getClass().getName(),
+                              mClass.getName()));
+    }
+
     @Override
     public Iterable<io.helidon.metrics.api.Meter> meters(Iterable<String> scopeSelection) {
         lock.readLock().lock();
@@ -418,6 +443,7 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
             onRemoveListeners.clear();
             scopeMembership.clear();
             metersById.clear();
+            lookupCache.clear();
         } finally {
             lock.writeLock().unlock();
         }
@@ -569,7 +595,8 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
     /*
      * Returns an existing meter matching the specified builder metadata and ID, or null if none.
      *
-     * The caller must have acquired either the read or write lock.
+     * The meters by ID map is concurrent, so the caller does not need to acquire a lock. A caller about to register a new meter
+     * must hold the write lock and check again, as the meter might have been registered concurrently.
      */
     private <M extends Meter,
             HB extends MMeter.Builder<?, M, HB, HM>,
@@ -621,21 +648,14 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
 
         io.helidon.metrics.api.Meter.Id id = mBuilder.id();
 
-        lock.readLock().lock();
-
-        try {
-            MMeter<?> foundMeter = meterIfRegistered(mBuilder, id);
-            if (foundMeter != null) {
-                return (HM) foundMeter;
-            }
-        } finally {
-            lock.readLock().unlock();
+        // The meters by ID map is concurrent, so meters which are already registered are found without locking.
+        MMeter<?> foundMeter = meterIfRegistered(mBuilder, id);
+        if (foundMeter != null) {
+            return (HM) foundMeter;
         }
 
         /*
-         Effectively, "promote" our lock from read (which we acquired a few lines above) to write. Because ReentrantReadWriteLock
-         does not actually support promoting, we have to release the read lock (which we did just above), acquire the write
-         lock, and recheck what we checked earlier while we had the read lock.
+         Acquire the write lock and recheck what we checked just above, as the meter might have been registered concurrently.
          */
 
         lock.writeLock().lock();
@@ -806,7 +826,11 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
                                 Meter delegate,
                                 Optional<String> scope) {
         meters.put(delegate, newNeutralMeter);
-        metersById.put(id, newNeutralMeter);
+        // there is no neutral meter for unsupported meter types, and the concurrent map does not accept null values
+        if (newNeutralMeter != null) {
+            metersById.put(id, newNeutralMeter);
+        }
+        lookupCache.clear();
         scope.ifPresent(s -> scopeMembership.computeIfAbsent(s, key -> new HashSet<>())
                 .add(newNeutralMeter));
     }
@@ -814,6 +838,7 @@ class MMeterRegistry implements io.helidon.metrics.api.MeterRegistry {
     private MMeter<?> recordRemove(MMeter<?> removedHelidonMeter) {
 
         metersById.remove(removedHelidonMeter.id());
+        lookupCache.clear();
         removedHelidonMeter.markAsDeleted();
         removedHelidonMeter.scope().ifPresent(scope -> {
             Set<io.helidon.metrics.api.Meter> scopeMembers = scopeMembership.get(scope);
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics.providers.micrometer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import io.helidon.metrics.api.Tag;
+
+/**
+ * Lookup key of a meter, composed of the meter name and its tags sorted by tag name.
+ * The hash code is computed once, so the key is cheap to use in hash-based caches.
+ */
+final class MeterKey {
+    private static final String[] NO_TAGS = new String[0];
+
+    private final String name;
+    // tag names and values, alternating, sorted by tag name
+    private final String[] tags;
+    private final int hash;
+
+    private MeterKey(String name, String[] tags) {
+        this.name = name;
+        this.tags = tags;
+        this.hash = 31 * name.hashCode() + Arrays.hashCode(tags);
+    }
+
+    /**
+     * Create a key for a meter name and tags. The order of the tags is not significant.
+     *
+     * @param name meter name
+     * @param tags meter tags
+     * @return a new key
+     */
+    static MeterKey create(String name, Iterable<Tag> tags) {
+        List<Tag> tagList = new ArrayList<>();
+        tags.forEach(tagList::add);
+        if (tagList.isEmpty()) {
+            return new MeterKey(name, NO_TAGS);
+        }
+        if (tagList.size() > 1) {
+            tagList.sort(Comparator.comparing(Tag::key));
+        }
+        String[] keysAndValues = new String[tagList.size() * 2];
+        for (int i = 0; i < tagList.size(); i++) {
+            Tag tag = tagList.get(i);
+            keysAndValues[2 * i] = tag.key();
+            keysAndValues[2 * i + 1] = tag.value();
+        }
+        return new MeterKey(name, keysAndValues);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MeterKey meterKey)) {
+            return false;
+        }
+        return hash == meterKey.hash
+                && name.equals(meterKey.name)
+                && Arrays.equals(tags, meterKey.tags);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return name + Arrays.toString(tags);
+    }
+}
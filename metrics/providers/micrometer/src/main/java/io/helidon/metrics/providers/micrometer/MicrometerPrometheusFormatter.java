@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,15 @@
  */
 package io.helidon.metrics.providers.micrometer;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +39,8 @@ import io.helidon.metrics.api.MeterRegistryFormatter;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.prometheus.client.Collector;
+import io.prometheus.client.CollectorRegistry;
 import io.prometheus.client.exporter.common.TextFormat;
 
 /**
@@ -54,6 +65,7 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
     private final Iterable<String> meterNameSelection;
     private final MediaType resultMediaType;
     private final MeterRegistry meterRegistry;
+    private final boolean cacheMetadata;
 
     private MicrometerPrometheusFormatter(Builder builder) {
         scopeTagName = builder.scopeTagName;
@@ -62,6 +74,7 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
         resultMediaType = builder.resultMediaType;
         meterRegistry = Objects.requireNonNullElseGet(builder.meterRegistry,
                                                       io.helidon.metrics.api.Metrics::globalRegistry);
+        cacheMetadata = builder.cacheMetadata;
     }
 
     /**
@@ -119,26 +132,38 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
      */
     @Override
     public Optional<Object> format() {
-
-        Optional<PrometheusMeterRegistry> prometheusMeterRegistry = prometheusMeterRegistry(meterRegistry);
-        if (prometheusMeterRegistry.isPresent()) {
-
-            // Scraping the Prometheus registry lets us limit the output to include only specified names.
-            Set<String> meterNamesOfInterest = meterNamesOfInterest(prometheusMeterRegistry.get(),
-                                                                    scopeSelection,
-                                                                    meterNameSelection);
-            if (meterNamesOfInterest.isEmpty()) {
-                return Optional.empty();
-            }
-
-            String prometheusOutput = prometheusMeterRegistry.get()
-                    .scrape(MicrometerPrometheusFormatter.MEDIA_TYPE_TO_FORMAT.get(
-                                    resultMediaType),
-                            meterNamesOfInterest);
-
-            return prometheusOutput.isBlank() ? Optional.empty() : Optional.of(prometheusOutput);
+        Optional<WriterOutput> output = streamingOutput();
+        if (output.isEmpty()) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        StringWriter writer = new StringWriter();
+        try {
+            output.get().write(writer);
+        } catch (IOException e) {
+            // writing to a string writer does not fail
+            throw new UncheckedIOException(e);
+        }
+        String prometheusOutput = writer.toString();
+        return prometheusOutput.isBlank() ? Optional.empty() : Optional.of(prometheusOutput);
+    }
+
+    /**
+     * Returns a writer of the Prometheus output governed by the previously-specified media type, optionally filtered
+     * by the previously-specified scope and meter name selections.
+     * <p>
+     * The output is written to the output stream one meter at a time, without preparing the whole output in memory.
+     * The returned output is backed by the samples selected when this method is invoked, so it can be written only once.
+     *
+     * @return writer of the filtered Prometheus output
+     */
+    @Override
+    public Optional<MeterRegistryFormatter.StreamingOutput> formatStreaming() {
+        return streamingOutput().<MeterRegistryFormatter.StreamingOutput>map(output -> outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            output.write(writer);
+            // do not close, the caller owns the stream
+            writer.flush();
+        });
     }
 
     @Override
@@ -146,6 +171,32 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
         return Optional.empty();
     }
 
+    private Optional<WriterOutput> streamingOutput() {
+        Optional<PrometheusMeterRegistry> prometheusMeterRegistry = prometheusMeterRegistry(meterRegistry);
+        if (prometheusMeterRegistry.isEmpty()) {
+            return Optional.empty();
+        }
+
+        // Filtering the Prometheus registry samples lets us limit the output to include only specified names.
+        Set<String> meterNamesOfInterest = meterNamesOfInterest(prometheusMeterRegistry.get(),
+                                                                scopeSelection,
+                                                                meterNameSelection);
+        if (meterNamesOfInterest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean openMetrics = TextFormat.CONTENT_TYPE_OPENMETRICS_100.equals(MEDIA_TYPE_TO_FORMAT.get(resultMediaType));
+        PrometheusExpositionWriter expositionWriter = PrometheusExpositionWriter.create(openMetrics, cacheMetadata);
+        CollectorRegistry collectorRegistry = prometheusMeterRegistry.get().getPrometheusRegistry();
+        // check the filtered samples before handing out the output, so callers can still report "not found"
+        // before they commit a response status
+        Enumeration<Collector.MetricFamilySamples> samples = collectorRegistry.filteredMetricFamilySamples(meterNamesOfInterest);
+        if (!samples.hasMoreElements()) {
+            return Optional.empty();
+        }
+        return Optional.of(writer -> expositionWriter.write(writer, samples));
+    }
+
     /**
      * Prepares a set containing the names of meters from the specified Prometheus meter registry which match
      * the specified scope and meter name selections.
@@ -174,8 +225,6 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
                                      Iterable<String> scopeSelection,
                                      Iterable<String> meterNameSelection) {
 
-        Set<String> result = new HashSet<>();
-
         var scopes = new HashSet<>();
         scopeSelection.forEach(scopes::add);
 
@@ -188,33 +237,31 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
 
         Predicate<String> namePredicate = names.isEmpty() ? n -> true : names::contains;
 
+        // Collect units and suffixes of all meters with the same name in a single pass over the meters.
+        Map<String, MeterNameParts> partsByMeterName = new HashMap<>();
         for (Meter meter : prometheusMeterRegistry.getMeters()) {
-            String meterName = meter.getId().getName();
-            if (!namePredicate.test(meterName) || !scopePredicate.test(meter)) {
-                continue;
+            Meter.Id meterId = meter.getId();
+            MeterNameParts parts = partsByMeterName.computeIfAbsent(meterId.getName(), it -> new MeterNameParts());
+            String normalizedUnit = normalizeUnit(meterId.getBaseUnit());
+            if (!normalizedUnit.isBlank()) {
+                parts.units.add("_" + normalizedUnit);
+            }
+            parts.suffixes.addAll(meterNameSuffixes(meterId.getType()));
+            if (!parts.selected && namePredicate.test(meterId.getName()) && scopePredicate.test(meter)) {
+                parts.selected = true;
             }
-            Set<String> allUnitsForMeterName = new HashSet<>();
-            allUnitsForMeterName.add("");
-            Set<String> allSuffixesForMeterName = new HashSet<>();
-            allSuffixesForMeterName.add("");
-
-            prometheusMeterRegistry.find(meterName)
-                    .meters()
-                    .forEach(m -> {
-                        Meter.Id meterId = m.getId();
-                        String normalizedUnit = normalizeUnit(meterId.getBaseUnit());
-                        if (!normalizedUnit.isBlank()) {
-                            allUnitsForMeterName.add("_" + normalizedUnit);
-                        }
-                        allSuffixesForMeterName.addAll(meterNameSuffixes(meterId.getType()));
-                    });
+        }
 
+        Set<String> result = new HashSet<>();
+        partsByMeterName.forEach((meterName, parts) -> {
+            if (!parts.selected) {
+                return;
+            }
             String normalizedMeterName = normalizeNameToPrometheus(meterName);
-
-            allUnitsForMeterName
-                    .forEach(units -> allSuffixesForMeterName
+            parts.units
+                    .forEach(units -> parts.suffixes
                             .forEach(suffix -> result.add(normalizedMeterName + units + suffix)));
-        }
+        });
         return result;
     }
 
@@ -230,17 +277,6 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
         return Optional.empty();
     }
 
-    private static String flushForMeterAndClear(StringBuilder helpAndType, StringBuilder metricData) {
-        StringBuilder result = new StringBuilder();
-        if (!metricData.isEmpty()) {
-            result.append(helpAndType.toString())
-                    .append(metricData);
-        }
-        helpAndType.setLength(0);
-        metricData.setLength(0);
-        return result.toString();
-    }
-
     private static String normalizeUnit(String unit) {
         return unit == null ? "" : unit;
     }
@@ -255,6 +291,7 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
         private Iterable<String> scopeSelection = Set.of();
         private MediaType resultMediaType = MediaTypes.TEXT_PLAIN;
         private MeterRegistry meterRegistry;
+        private boolean cacheMetadata;
 
         /**
          * Used only internally.
@@ -314,5 +351,35 @@ public class MicrometerPrometheusFormatter implements MeterRegistryFormatter {
             this.resultMediaType = resultMediaType;
             return identity();
         }
+
+        /**
+         * Sets whether to reuse the formatted metadata ({@code HELP}, {@code TYPE} and {@code UNIT} lines) of meters
+         * across scrapes.
+         *
+         * @param cacheMetadata whether to cache formatted metadata
+         * @return updated builder
+         * @see io.helidon.metrics.api.MetricsConfig#cacheMetadata()
+         */
+        public Builder cacheMetadata(boolean cacheMetadata) {
+            this.cacheMetadata = cacheMetadata;
+            return identity();
+        }
+    }
+
+    /*
+    Output written to a character writer.
+     */
+    @FunctionalInterface
+    private interface WriterOutput {
+        void write(Writer writer) throws IOException;
+    }
+
+    /*
+    Units and suffixes used by the Prometheus registry for all meters with the same name.
+     */
+    private static final class MeterNameParts {
+        private final Set<String> units = new HashSet<>(Set.of(""));
+        private final Set<String> suffixes = new HashSet<>(Set.of(""));
+        private boolean selected;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -68,7 +68,8 @@ public class MicrometerPrometheusFormatterProvider implements MeterRegistryForma
         MicrometerPrometheusFormatter.Builder builder = MicrometerPrometheusFormatter.builder(meterRegistry)
                 .resultMediaType(mediaType)
                 .scopeSelection(scopeSelection)
-                .meterNameSelection(nameSelection);
+                .meterNameSelection(nameSelection)
+                .cacheMetadata(metricsConfig.cacheMetadata());
         scopeTagName.ifPresent(builder::scopeTagName);
         return builder.build();
     }
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics.providers.micrometer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.prometheus.client.Collector;
+import io.prometheus.client.exemplars.Exemplar;
+
+/**
+ * Writes Prometheus metric family samples in the Prometheus text exposition format (version 0.0.4) or in the OpenMetrics
+ * format (version 1.0.0) directly to a {@link java.io.Writer}, one metric family at a time.
+ * <p>
+ * The output is the same as produced by {@link io.prometheus.client.exporter.common.TextFormat}. Unlike that class, this
+ * writer can optionally reuse the formatted metadata lines ({@code # HELP}, {@code # TYPE} and {@code # UNIT}) of each metric
+ * family between scrapes, as the metadata of a meter does not change once it is registered.
+ */
+final class PrometheusExpositionWriter {
+
+    // metadata is expected to be stable (one entry per metric family), if we get over the limit, start over
+    private static final int MAX_CACHED_METADATA = 4096;
+    private static final Map<MetadataKey, String> METADATA_CACHE = new ConcurrentHashMap<>();
+
+    private final boolean openMetrics;
+    private final boolean cacheMetadata;
+
+    private PrometheusExpositionWriter(boolean openMetrics, boolean cacheMetadata) {
+        this.openMetrics = openMetrics;
+        this.cacheMetadata = cacheMetadata;
+    }
+
+    /**
+     * Creates a new writer.
+     *
+     * @param openMetrics   whether to use the OpenMetrics format instead of the Prometheus text format
+     * @param cacheMetadata whether to reuse formatted metadata lines between scrapes
+     * @return new writer
+     */
+    static PrometheusExpositionWriter create(boolean openMetrics, boolean cacheMetadata) {
+        return new PrometheusExpositionWriter(openMetrics, cacheMetadata);
+    }
+
+    /**
+     * Writes the metric families to the writer. The writer is neither flushed nor closed.
+     *
+     * @param writer   writer to write to
+     * @param families metric families to write
+     * @throws IOException in case the writer fails
+     */
+    void write(Writer writer, Enumeration<Collector.MetricFamilySamples> families) throws IOException {
+        if (openMetrics) {
+            writeOpenMetrics(writer, families);
+        } else {
+            writeText(writer, families);
+        }
+    }
+
+    // number of cached metadata entries, for testing
+    static int cachedMetadata() {
+        return METADATA_CACHE.size();
+    }
+
+    private static void writeEscapedHelp(Writer writer, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\' -> writer.write("\\\\");
+            case '\n' -> writer.write("\\n");
+            default -> writer.write(c);
+            }
+        }
+    }
+
+    private static void writeEscapedLabelValue(Writer writer, String value) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+            case '\\' -> writer.write("\\\\");
+            case '"' -> writer.write("\\\"");
+            case '\n' -> writer.write("\\n");
+            default -> writer.write(c);
+            }
+        }
+    }
+
+    private static String typeString(Collector.Type type) {
+        return switch (type) {
+            case GAUGE, STATE_SET, INFO -> "gauge";
+            case COUNTER -> "counter";
+            case SUMMARY -> "summary";
+            case HISTOGRAM, GAUGE_HISTOGRAM -> "histogram";
+            default -> "untyped";
+        };
+    }
+
+    private static String openMetricsTypeString(Collector.Type type) {
+        return switch (type) {
+            case GAUGE -> "gauge";
+            case COUNTER -> "counter";
+            case SUMMARY -> "summary";
+            case HISTOGRAM -> "histogram";
+            case GAUGE_HISTOGRAM -> "gaugehistogram";
+            case STATE_SET -> "stateset";
+            case INFO -> "info";
+            default -> "unknown";
+        };
+    }
+
+    private static void writeTimestamp(Writer writer, long timestampMs) throws IOException {
+        writer.write(Long.toString(timestampMs / 1000L));
+        writer.write('.');
+        long millis = timestampMs % 1000L;
+        if (millis < 100L) {
+            writer.write('0');
+        }
+        if (millis < 10L) {
+            writer.write('0');
+        }
+        writer.write(Long.toString(millis));
+    }
+
+    private void writeText(Writer writer, Enumeration<Collector.MetricFamilySamples> families) throws IOException {
+        // created and gauge histogram samples are reported as separate gauge families after all other families
+        Map<String, Collector.MetricFamilySamples> separateFamilies = new TreeMap<>();
+        while (families.hasMoreElements()) {
+            Collector.MetricFamilySamples family = families.nextElement();
+            writeMetadata(writer, family);
+
+            String createdName = family.name + "_created";
+            String gcountName = family.name + "_gcount";
+            String gsumName = family.name + "_gsum";
+            for (Collector.MetricFamilySamples.Sample sample : family.samples) {
+                if (sample.name.equals(createdName) || sample.name.equals(gcountName) || sample.name.equals(gsumName)) {
+                    separateFamilies.computeIfAbsent(sample.name,
+                                                     it -> new Collector.MetricFamilySamples(it,
+                                                                                             Collector.Type.GAUGE,
+                                                                                             family.help,
+                                                                                             new ArrayList<>()))
+                            .samples.add(sample);
+                    continue;
+                }
+                writer.write(sample.name);
+                int labels = sample.labelNames.size();
+                if (labels > 0) {
+                    writer.write('{');
+                    for (int i = 0; i < labels; i++) {
+                        writer.write(sample.labelNames.get(i));
+                        writer.write("=\"");
+                        writeEscapedLabelValue(writer, sample.labelValues.get(i));
+                        writer.write("\",");
+                    }
+                    writer.write('}');
+                }
+                writer.write(' ');
+                writer.write(Collector.doubleToGoString(sample.value));
+                if (sample.timestampMs != null) {
+                    writer.write(' ');
+                    writer.write(sample.timestampMs.toString());
+                }
+                writer.write('\n');
+            }
+        }
+        if (!separateFamilies.isEmpty()) {
+            writeText(writer, Collections.enumeration(separateFamilies.values()));
+        }
+    }
+
+    private void writeOpenMetrics(Writer writer, Enumeration<Collector.MetricFamilySamples> families) throws IOException {
+        while (families.hasMoreElements()) {
+            Collector.MetricFamilySamples family = families.nextElement();
+            writeMetadata(writer, family);
+
+            for (Collector.MetricFamilySamples.Sample sample : family.samples) {
+                writer.write(sample.name);
+                int labels = sample.labelNames.size();
+                if (labels > 0) {
+                    writer.write('{');
+                    for (int i = 0; i < labels; i++) {
+                        if (i > 0) {
+                            writer.write(',');
+                        }
+                        writer.write(sample.labelNames.get(i));
+                        writer.write("=\"");
+                        writeEscapedLabelValue(writer, sample.labelValues.get(i));
+                        writer.write('"');
+                    }
+                    writer.write('}');
+                }
+                writer.write(' ');
+                writer.write(Collector.doubleToGoString(sample.value));
+                if (sample.timestampMs != null) {
+                    writer.write(' ');
+                    writeTimestamp(writer, sample.timestampMs);
+                }
+                Exemplar exemplar = sample.exemplar;
+                if (exemplar != null) {
+                    writer.write(" # {");
+                    for (int i = 0; i < exemplar.getNumberOfLabels(); i++) {
+                        if (i > 0) {
+                            writer.write(',');
+                        }
+                        writer.write(exemplar.getLabelName(i));
+                        writer.write("=\"");
+                        writeEscapedLabelValue(writer, exemplar.getLabelValue(i));
+                        writer.write('"');
+                    }
+                    writer.write("} ");
+                    writer.write(Collector.doubleToGoString(exemplar.getValue()));
+                    if (exemplar.getTimestampMs() != null) {
+                        writer.write(' ');
+                        writeTimestamp(writer, exemplar.getTimestampMs());
+                    }
+                }
+                writer.write('\n');
+            }
+        }
+        writer.write("# EOF\n");
+    }
+
+    private void writeMetadata(Writer writer, Collector.MetricFamilySamples family) throws IOException {
+        if (!cacheMetadata) {
+            writeMetadataLines(writer, family);
+            return;
+        }
+        MetadataKey key = new MetadataKey(openMetrics, family.name, family.type, family.unit, family.help);
+        String metadata = METADATA_CACHE.get(key);
+        if (metadata == null) {
+            StringWriter metadataWriter = new StringWriter();
+            writeMetadataLines(metadataWriter, family);
+            metadata = metadataWriter.toString();
+            if (METADATA_CACHE.size() >= MAX_CACHED_METADATA) {
+                METADATA_CACHE.clear();
+            }
+            METADATA_CACHE.put(key, metadata);
+        }
+        writer.write(metadata);
+    }
+
+    private void writeMetadataLines(Writer writer, Collector.MetricFamilySamples family) throws IOException {
+        if (openMetrics) {
+            writer.write("# TYPE ");
+            writer.write(family.name);
+            writer.write(' ');
+            writer.write(openMetricsTypeString(family.type));
+            writer.write('\n');
+            if (!family.unit.isEmpty()) {
+                writer.write("# UNIT ");
+                writer.write(family.name);
+                writer.write(' ');
+                writer.write(family.unit);
+                writer.write('\n');
+            }
+            writer.write("# HELP ");
+            writer.write(family.name);
+            writer.write(' ');
+            writeEscapedLabelValue(writer, family.help);
+            writer.write('\n');
+            return;
+        }
+        String suffix = switch (family.type) {
+            case COUNTER -> "_total";
+            case INFO -> "_info";
+            default -> "";
+        };
+        writer.write("# HELP ");
+        writer.write(family.name);
+        writer.write(suffix);
+        writer.write(' ');
+        writeEscapedHelp(writer, family.help);
+        writer.write('\n');
+        writer.write("# TYPE ");
+        writer.write(family.name);
+        writer.write(suffix);
+        writer.write(' ');
+        writer.write(typeString(family.type));
+        writer.write('\n');
+    }
+
+    private record MetadataKey(boolean openMetrics, String name, Collector.Type type, String unit, String help) {
+    }
+}
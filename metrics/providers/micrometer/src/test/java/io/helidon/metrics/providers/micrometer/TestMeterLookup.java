@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics.providers.micrometer;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+import io.helidon.metrics.api.Timer;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TestMeterLookup {
+
+    private static MeterRegistry meterRegistry;
+
+    @BeforeAll
+    static void prep() {
+        meterRegistry = Metrics.globalRegistry();
+    }
+
+    @Test
+    void testRepeatedLookup() {
+        Counter counter = meterRegistry.getOrCreate(Counter.builder("lookup1")
+                                                            .tags(List.of(Tag.create("a", "1"), Tag.create("b", "2"))));
+
+        Optional<Counter> first = meterRegistry.meter(Counter.class, "lookup1", List.of(Tag.create("a", "1"),
+                                                                                         Tag.create("b", "2")));
+        // tag order is not significant
+        Optional<Counter> second = meterRegistry.meter(Counter.class, "lookup1", List.of(Tag.create("b", "2"),
+                                                                                          Tag.create("a", "1")));
+
+        assertThat("First lookup", first.orElseThrow(), sameInstance(counter));
+        assertThat("Second lookup", second.orElseThrow(), sameInstance(counter));
+        assertThat("Get or create", meterRegistry.getOrCreate(Counter.builder("lookup1")
+                                                                      .tags(List.of(Tag.create("b", "2"),
+                                                                                    Tag.create("a", "1")))),
+                   sameInstance(counter));
+    }
+
+    @Test
+    void testLookupAfterRemove() {
+        List<Tag> tags = List.of(Tag.create("a", "1"));
+        Counter counter = meterRegistry.getOrCreate(Counter.builder("lookup2").tags(tags));
+        assertThat("Before removal", meterRegistry.meter(Counter.class, "lookup2", tags).orElseThrow(),
+                   sameInstance(counter));
+
+        meterRegistry.remove(counter);
+        assertThat("After removal", meterRegistry.meter(Counter.class, "lookup2", tags).isPresent(), is(false));
+
+        Counter newCounter = meterRegistry.getOrCreate(Counter.builder("lookup2").tags(tags));
+        assertThat("After registering again", newCounter, not(sameInstance(counter)));
+        assertThat("Lookup after registering again", meterRegistry.meter(Counter.class, "lookup2", tags).orElseThrow(),
+                   sameInstance(newCounter));
+    }
+
+    @Test
+    void testLookupWrongType() {
+        List<Tag> tags = List.of(Tag.create("a", "1"));
+        meterRegistry.getOrCreate(Counter.builder("lookup3").tags(tags));
+
+        // the first lookup caches the meter, the second one is served from the cache
+        assertThat("Counter lookup", meterRegistry.meter(Counter.class, "lookup3", tags).isPresent(), is(true));
+        assertThrows(IllegalArgumentException.class, () -> meterRegistry.meter(Timer.class, "lookup3", tags));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics.providers.micrometer;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import io.prometheus.client.Info;
+import io.prometheus.client.Summary;
+import io.prometheus.client.exporter.common.TextFormat;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+
+class TestPrometheusExpositionWriter {
+
+    private static CollectorRegistry registry;
+
+    @BeforeAll
+    static void prep() {
+        registry = new CollectorRegistry(true);
+
+        Counter.build("requests", "Number of \"requests\" \\ with\nnew line")
+                .labelNames("method", "path")
+                .register(registry)
+                .labels("GET", "/a\"b\\c\nd")
+                .inc(3);
+        Gauge.build("temperature", "Current temperature")
+                .unit("celsius")
+                .register(registry)
+                .set(Double.NaN);
+        Histogram histogram = Histogram.build("latency", "Request latency")
+                .labelNames("method")
+                .buckets(0.1, 1, 10)
+                .register(registry);
+        histogram.labels("GET").observe(0.5);
+        histogram.labels("POST").observe(Double.POSITIVE_INFINITY);
+        Summary.build("sizes", "Response sizes")
+                .quantile(0.5, 0.05)
+                .register(registry)
+                .observe(42);
+        Info.build("build", "Build information")
+                .register(registry)
+                .info("version", "1.0");
+    }
+
+    @Test
+    void testPrometheusText() throws IOException {
+        String expected = expected(TextFormat.CONTENT_TYPE_004);
+
+        assertThat("Output without cached metadata", write(false, false), is(expected));
+        assertThat("Output with metadata cached", write(false, true), is(expected));
+        assertThat("Output with cached metadata", write(false, true), is(expected));
+    }
+
+    @Test
+    void testOpenMetrics() throws IOException {
+        String expected = expected(TextFormat.CONTENT_TYPE_OPENMETRICS_100);
+
+        assertThat("Output without cached metadata", write(true, false), is(expected));
+        assertThat("Output with metadata cached", write(true, true), is(expected));
+        assertThat("Output with cached metadata", write(true, true), is(expected));
+        assertThat("Cached metadata", PrometheusExpositionWriter.cachedMetadata(), greaterThan(0));
+    }
+
+    private static String expected(String contentType) throws IOException {
+        StringWriter writer = new StringWriter();
+        TextFormat.writeFormat(contentType, writer, registry.metricFamilySamples());
+        return writer.toString();
+    }
+
+    private static String write(boolean openMetrics, boolean cacheMetadata) throws IOException {
+        StringWriter writer = new StringWriter();
+        PrometheusExpositionWriter.create(openMetrics, cacheMetadata)
+                .write(writer, registry.metricFamilySamples());
+        return writer.toString();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,9 @@
  */
 package io.helidon.metrics.providers.micrometer;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -23,6 +26,7 @@ import io.helidon.common.media.type.MediaTypes;
 import io.helidon.common.testing.junit5.OptionalMatcher;
 import io.helidon.metrics.api.Counter;
 import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.MeterRegistryFormatter;
 import io.helidon.metrics.api.MetricsConfig;
 import io.helidon.metrics.api.MetricsFactory;
 import io.helidon.metrics.api.ScopingConfig;
@@ -238,6 +242,62 @@ class TestPrometheusFormatting {
                          endsWith(OPENMETRICS_EOF)));
     }
 
+    @Test
+    void testStreaming() throws IOException {
+        Counter c = meterRegistry.getOrCreate(Counter.builder("c5"));
+        c.increment();
+
+        Timer d = meterRegistry.getOrCreate(Timer.builder("t5"));
+        d.record(4, TimeUnit.SECONDS);
+
+        MicrometerPrometheusFormatter formatter = MicrometerPrometheusFormatter.builder(meterRegistry)
+                .resultMediaType(MediaTypes.TEXT_PLAIN)
+                .scopeTagName(SCOPE_TAG_NAME)
+                .meterNameSelection(Set.of("c5", "t5"))
+                .cacheMetadata(true)
+                .build();
+
+        Optional<MeterRegistryFormatter.StreamingOutput> streamingOpt = formatter.formatStreaming();
+        assertThat("Streaming output", streamingOpt, OptionalMatcher.optionalPresent());
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        streamingOpt.get().write(baos);
+        String streamed = baos.toString(StandardCharsets.UTF_8);
+
+        assertThat("Streamed output",
+                   streamed,
+                   allOf(containsString("# TYPE c5_total counter\n"),
+                         containsString("c5_total{this_scope=\"app\",} 1.0\n"),
+                         containsString("t5_seconds_sum{this_scope=\"app\",} 4.0\n")));
+        assertThat("Formatted output", checkAndCast(formatter.format()), is(streamed));
+    }
+
+    @Test
+    void testStreamingNoMatch() {
+        MicrometerPrometheusFormatter formatter = MicrometerPrometheusFormatter.builder(meterRegistry)
+                .resultMediaType(MediaTypes.APPLICATION_OPENMETRICS_TEXT)
+                .scopeTagName(SCOPE_TAG_NAME)
+                .meterNameSelection(Set.of("doesNotExist"))
+                .build();
+
+        assertThat("Streaming output", formatter.formatStreaming(), OptionalMatcher.optionalEmpty());
+    }
+
+    @Test
+    void testStreamingNoScopeMatch() {
+        Counter c = meterRegistry.getOrCreate(Counter.builder("c6"));
+        c.increment();
+
+        MicrometerPrometheusFormatter formatter = MicrometerPrometheusFormatter.builder(meterRegistry)
+                .resultMediaType(MediaTypes.APPLICATION_OPENMETRICS_TEXT)
+                .scopeTagName(SCOPE_TAG_NAME)
+                .scopeSelection(Set.of("doesNotExist"))
+                .meterNameSelection(Set.of("c6"))
+                .build();
+
+        assertThat("Streaming output", formatter.formatStreaming(), OptionalMatcher.optionalEmpty());
+        assertThat("Formatted output", formatter.format(), OptionalMatcher.optionalEmpty());
+    }
+
     private static String scopeExpr(String meterName, String key, String value, String suffix) {
         return meterName + "{" + key + "=\"" + value + "\"} " + suffix;
     }
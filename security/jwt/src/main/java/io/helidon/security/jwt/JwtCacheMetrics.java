@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.jwt;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+
+/*
+ * Metrics of the verified JWT cache. Metrics API is an optional dependency, this class must only be loaded
+ * when it is available.
+ */
+final class JwtCacheMetrics {
+    private static final System.Logger LOGGER = System.getLogger(JwtCacheMetrics.class.getName());
+
+    private JwtCacheMetrics() {
+    }
+
+    static void register(String name, LongAdder hits, LongAdder misses) {
+        MeterRegistry registry = Metrics.globalRegistry();
+        boolean registered = !registry.meters(meter -> meter.id().name().equals(VerifiedJwtCache.HITS_METRIC)
+                && name.equals(meter.id().tagsMap().get("name")))
+                .isEmpty();
+        if (registered) {
+            // the meters would report another cache
+            LOGGER.log(System.Logger.Level.WARNING, "Metrics of verified JWT cache \"" + name
+                    + "\" are already registered by another cache, metrics of this cache are not registered."
+                    + " Configure a distinct name of each cache.");
+            return;
+        }
+        List<Tag> tags = List.of(Tag.create("name", name));
+        registry.getOrCreate(FunctionalCounter.builder(VerifiedJwtCache.HITS_METRIC, hits, LongAdder::sum)
+                                     .scope(Meter.Scope.VENDOR)
+                                     .tags(tags));
+        registry.getOrCreate(FunctionalCounter.builder(VerifiedJwtCache.MISSES_METRIC, misses, LongAdder::sum)
+                                     .scope(Meter.Scope.VENDOR)
+                                     .tags(tags));
+    }
+}
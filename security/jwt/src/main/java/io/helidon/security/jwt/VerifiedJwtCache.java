@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.common.LruCache;
+import io.helidon.common.config.Config;
+import io.helidon.security.jwt.jwk.JwkKeys;
+
+/**
+ * Cache of signed JWTs that were already verified and validated, so a token that is sent repeatedly does not need
+ * to be parsed and have its signature verified on each request.
+ * <p>
+ * Tokens are cached under a SHA-256 digest of the token, the token itself is not kept as a key.
+ * A cached token is only returned for the same {@link io.helidon.security.jwt.jwk.JwkKeys} instance it was verified with,
+ * so a token verified with a JWK set that has since been replaced (rotated) must be verified again.
+ * Each token expires from the cache at its expiration time ({@code exp} claim), but stays cached at most
+ * for the configured {@link Builder#maxTtl(java.time.Duration) maximal time to live}.
+ * <p>
+ * Number of cache hits and misses is exported as {@value #HITS_METRIC} and {@value #MISSES_METRIC} vendor
+ * counters, tagged with the {@link Builder#name(String) name} of the cache, if Helidon Metrics API is available.
+ * Each cache should have a distinct name, metrics of a cache with the name of an already registered cache are not
+ * exported.
+ * <p>
+ * Only tokens that passed all verifications and validations required by the caller should be added to the cache.
+ */
+public final class VerifiedJwtCache {
+    /**
+     * Name of the counter of cache hits.
+     */
+    public static final String HITS_METRIC = "security.jwt.cache.hits";
+    /**
+     * Name of the counter of cache misses.
+     */
+    public static final String MISSES_METRIC = "security.jwt.cache.misses";
+    /**
+     * Default capacity of the cache.
+     */
+    public static final int DEFAULT_CAPACITY = 1000;
+    /**
+     * Default maximal time to live of a cached token.
+     */
+    public static final Duration DEFAULT_MAX_TTL = Duration.ofMinutes(5);
+
+    private static final boolean METRICS_AVAILABLE = metricsAvailable();
+
+    private final LruCache<String, Entry> cache;
+    private final long maxTtlMillis;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private VerifiedJwtCache(Builder builder) {
+        this.cache = LruCache.create(builder.capacity);
+        this.maxTtlMillis = builder.maxTtl.toMillis();
+
+        if (METRICS_AVAILABLE) {
+            JwtCacheMetrics.register(builder.name, hits, misses);
+        }
+    }
+
+    /**
+     * A new builder.
+     *
+     * @return builder instance
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a cache with default configuration.
+     *
+     * @return a new cache
+     */
+    public static VerifiedJwtCache create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a cache from configuration.
+     *
+     * @param config configuration of the cache
+     * @return a new cache
+     */
+    public static VerifiedJwtCache create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * Get a verified token from the cache.
+     *
+     * @param token token string, as received
+     * @param keys  keys the token should be verified with
+     * @return signed JWT that was verified with the same keys and is not expired, or empty if not cached
+     */
+    public Optional<SignedJwt> get(String token, JwkKeys keys) {
+        String key = digest(token);
+        Optional<Entry> cached = cache.get(key);
+        if (cached.isPresent()) {
+            Entry entry = cached.get();
+            if (entry.keys() == keys && entry.expiresAt() > System.currentTimeMillis()) {
+                hits.increment();
+                return Optional.of(entry.signedJwt());
+            }
+            // expired, or verified with keys that are no longer used
+            cache.remove(key);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    /**
+     * Add a verified token to the cache.
+     * Tokens that are already expired are ignored.
+     *
+     * @param token     token string, as received
+     * @param keys      keys the token was verified with
+     * @param signedJwt signed JWT parsed from the token, that passed verification and validation
+     */
+    public void put(String token, JwkKeys keys, SignedJwt signedJwt) {
+        long now = System.currentTimeMillis();
+        long expiresAt = signedJwt.getJwt()
+                .expirationTime()
+                .map(Instant::toEpochMilli)
+                .map(it -> Math.min(it, now + maxTtlMillis))
+                .orElse(now + maxTtlMillis);
+        if (expiresAt > now) {
+            cache.put(digest(token), new Entry(signedJwt, keys, expiresAt));
+        }
+    }
+
+    /**
+     * Remove all cached tokens, for example when the keys were rotated in place.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Number of cached tokens.
+     *
+     * @return cache size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Number of cache hits.
+     *
+     * @return number of tokens found in the cache
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of cache misses.
+     *
+     * @return number of tokens not found in the cache
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    private static boolean metricsAvailable() {
+        try {
+            Class.forName("io.helidon.metrics.api.Metrics", false, VerifiedJwtCache.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new JwtException("SHA-256 digest is not available", e);
+        }
+    }
+
+    private record Entry(SignedJwt signedJwt, JwkKeys keys, long expiresAt) {
+    }
+
+    /**
+     * Fluent API builder for {@link VerifiedJwtCache}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<Builder, VerifiedJwtCache> {
+        private int capacity = DEFAULT_CAPACITY;
+        private Duration maxTtl = DEFAULT_MAX_TTL;
+        private String name = "jwt";
+
+        private Builder() {
+        }
+
+        @Override
+        public VerifiedJwtCache build() {
+            return new VerifiedJwtCache(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         * <p>
+         * Configuration options:
+         * <ul>
+         *     <li>{@code capacity} - maximal number of cached tokens</li>
+         *     <li>{@code max-ttl} - maximal time a token stays cached, as a {@link java.time.Duration} string</li>
+         *     <li>{@code name} - name of the cache used in metrics</li>
+         * </ul>
+         *
+         * @param config configuration of the cache
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("capacity").asInt().ifPresent(this::capacity);
+            config.get("max-ttl").as(Duration.class).ifPresent(this::maxTtl);
+            config.get("name").asString().ifPresent(this::name);
+            return this;
+        }
+
+        /**
+         * Maximal number of cached tokens. When reached, the least recently used token is removed.
+         * Defaults to {@value VerifiedJwtCache#DEFAULT_CAPACITY}.
+         *
+         * @param capacity capacity of the cache
+         * @return updated builder instance
+         */
+        public Builder capacity(int capacity) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Capacity must be positive, but is " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Maximal time a token stays cached, even if it expires later.
+         * Defaults to 5 minutes.
+         *
+         * @param maxTtl maximal time to live
+         * @return updated builder instance
+         */
+        public Builder maxTtl(Duration maxTtl) {
+            Objects.requireNonNull(maxTtl, "Max TTL must not be null");
+            this.maxTtl = maxTtl;
+            return this;
+        }
+
+        /**
+         * Name of this cache, used as the {@code name} tag of the cache metrics.
+         * Each cache should have a distinct name, such as the configuration key of the provider that uses it.
+         * Defaults to {@code jwt}.
+         *
+         * @param name cache name
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = Objects.requireNonNull(name, "Name must not be null");
+            return this;
+        }
+    }
+}
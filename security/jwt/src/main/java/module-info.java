@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,8 @@ module io.helidon.security.jwt {
 
     requires io.helidon.security.util;
 
+    requires static io.helidon.metrics.api;
+
     requires transitive io.helidon.common.configurable;
     requires transitive io.helidon.common;
     requires transitive io.helidon.config;
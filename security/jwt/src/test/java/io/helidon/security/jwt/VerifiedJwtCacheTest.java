@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.jwt;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import io.helidon.common.configurable.Resource;
+import io.helidon.security.jwt.jwk.JwkKeys;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Unit test for {@link VerifiedJwtCache}.
+ */
+class VerifiedJwtCacheTest {
+    private static JwkKeys keys;
+
+    @BeforeAll
+    static void init() {
+        keys = JwkKeys.builder()
+                .resource(Resource.create("jwk_data.json"))
+                .build();
+    }
+
+    @Test
+    void testHitAndMiss() {
+        VerifiedJwtCache cache = VerifiedJwtCache.create();
+        SignedJwt signedJwt = sign(Instant.now().plusSeconds(60));
+        String token = signedJwt.tokenContent();
+
+        assertThat(cache.get(token, keys), is(Optional.empty()));
+        cache.put(token, keys, signedJwt);
+        assertThat(cache.get(token, keys).orElseThrow(), sameInstance(signedJwt));
+
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    void testRotatedKeys() {
+        VerifiedJwtCache cache = VerifiedJwtCache.create();
+        SignedJwt signedJwt = sign(Instant.now().plusSeconds(60));
+        String token = signedJwt.tokenContent();
+        cache.put(token, keys, signedJwt);
+
+        JwkKeys rotated = JwkKeys.builder()
+                .resource(Resource.create("jwk_data.json"))
+                .build();
+        assertThat(cache.get(token, rotated), is(Optional.empty()));
+        // the stale entry is removed
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testExpiredToken() {
+        VerifiedJwtCache cache = VerifiedJwtCache.create();
+        SignedJwt signedJwt = sign(Instant.now().minusSeconds(1));
+        cache.put(signedJwt.tokenContent(), keys, signedJwt);
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    void testMaxTtl() throws InterruptedException {
+        VerifiedJwtCache cache = VerifiedJwtCache.builder()
+                .maxTtl(Duration.ofMillis(10))
+                .build();
+        SignedJwt signedJwt = sign(Instant.now().plusSeconds(60));
+        String token = signedJwt.tokenContent();
+        cache.put(token, keys, signedJwt);
+
+        Thread.sleep(50);
+        assertThat(cache.get(token, keys), is(Optional.empty()));
+    }
+
+    @Test
+    void testCapacity() {
+        VerifiedJwtCache cache = VerifiedJwtCache.builder()
+                .capacity(2)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            SignedJwt signedJwt = sign(Instant.now().plusSeconds(60 + i));
+            cache.put(signedJwt.tokenContent(), keys, signedJwt);
+        }
+        assertThat(cache.size(), is(2));
+    }
+
+    private static SignedJwt sign(Instant expiration) {
+        Jwt jwt = Jwt.builder()
+                .algorithm("RS256")
+                .keyId("cc34c0a0-bd5a-4a3c-a50d-a2a7db7643df")
+                .subject("jack")
+                .expirationTime(expiration)
+                .build();
+        return SignedJwt.sign(jwt, keys);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -46,6 +46,7 @@ import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.JwtValidator;
 import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.jwt.VerifiedJwtCache;
 import io.helidon.security.jwt.jwk.Jwk;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.providers.common.OutboundConfig;
@@ -83,6 +84,7 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
     private final Map<OutboundTarget, JwtOutboundTarget> targetToJwtConfig = new IdentityHashMap<>();
     private final Jwk defaultJwk;
     private final boolean useJwtGroups;
+    private final VerifiedJwtCache verifiedTokenCache;
 
     private JwtProvider(Builder builder) {
         this.optional = builder.optional;
@@ -98,6 +100,7 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
         this.expectedAudience = builder.expectedAudience;
         this.verifySignature = builder.verifySignature;
         this.useJwtGroups = builder.useJwtGroups;
+        this.verifiedTokenCache = builder.verifySignature ? builder.verifiedTokenCache : null;
 
         if (null == atnTokenHandler) {
             defaultTokenHandler = TokenHandler.builder()
@@ -156,6 +159,13 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
     }
 
     private AuthenticationResponse authenticateToken(String token) {
+        if (verifiedTokenCache != null) {
+            Optional<SignedJwt> cached = verifiedTokenCache.get(token, verifyKeys);
+            if (cached.isPresent()) {
+                SignedJwt signedJwt = cached.get();
+                return AuthenticationResponse.success(buildSubject(signedJwt.getJwt(), signedJwt));
+            }
+        }
         SignedJwt signedJwt;
         try {
             signedJwt = SignedJwt.parseToken(token);
@@ -176,6 +186,9 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
                         .build();
                 Errors validate = jwtValidator.validate(jwt);
                 if (validate.isValid()) {
+                    if (verifiedTokenCache != null) {
+                        verifiedTokenCache.put(token, verifyKeys, signedJwt);
+                    }
                     return AuthenticationResponse.success(buildSubject(jwt, signedJwt));
                 } else {
                     return failOrAbstain(validate.toString());
@@ -616,6 +629,7 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
         private String issuer;
         private String expectedAudience;
         private boolean useJwtGroups = true;
+        private VerifiedJwtCache verifiedTokenCache;
 
         private Builder() {
         }
@@ -817,6 +831,13 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
                 verifyKeys(atnToken);
                 atnToken.get("jwt-audience").asString().ifPresent(this::expectedAudience);
                 atnToken.get("verify-signature").asBoolean().ifPresent(this::verifySignature);
+                Config cacheConfig = atnToken.get("verified-token-cache");
+                if (cacheConfig.exists() && cacheConfig.get("enabled").asBoolean().orElse(true)) {
+                    verifiedTokenCache(VerifiedJwtCache.builder()
+                                               .name(config.key().isRoot() ? "jwt" : config.key().toString())
+                                               .config(cacheConfig)
+                                               .build());
+                }
             }
             Config signToken = config.get("sign-token");
             if (signToken.exists()) {
@@ -852,6 +873,22 @@ public final class JwtProvider implements AuthenticationProvider, OutboundSecuri
             return this;
         }
 
+        /**
+         * Cache of verified inbound tokens. When configured, a token that was already verified and validated
+         * is not parsed and verified again until it expires (or until the cache maximal time to live is reached).
+         * The cache is only used when signature verification is enabled.
+         * <p>
+         * The cache is disabled by default. When configured, it can be disabled using {@code enabled: false}.
+         *
+         * @param verifiedTokenCache cache of verified tokens
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = "atn-token.verified-token-cache")
+        public Builder verifiedTokenCache(VerifiedJwtCache verifiedTokenCache) {
+            this.verifiedTokenCache = verifiedTokenCache;
+            return this;
+        }
+
         private void verifyKeys(Config config) {
             config.get("jwk.resource").map(Resource::create).ifPresent(this::verifyJwk);
         }
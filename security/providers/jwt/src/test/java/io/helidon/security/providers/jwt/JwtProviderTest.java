@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -37,6 +37,7 @@ import io.helidon.security.SecurityResponse;
 import io.helidon.security.Subject;
 import io.helidon.security.jwt.Jwt;
 import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.jwt.VerifiedJwtCache;
 import io.helidon.security.jwt.jwk.JwkEC;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.jwt.jwk.JwkOctet;
@@ -92,6 +93,54 @@ public class JwtProviderTest {
         assertThat(authenticationResponse.status(), is(SecurityResponse.SecurityStatus.FAILURE));
     }
 
+    @Test
+    public void testVerifiedTokenCache() {
+        VerifiedJwtCache cache = VerifiedJwtCache.create();
+        JwtProvider provider = JwtProvider.builder()
+                .config(providersConfig.get("jwt"))
+                .verifiedTokenCache(cache)
+                .build();
+
+        Subject subject = Subject.create(Principal.builder()
+                                                 .name("user1")
+                                                 .id("user1-id")
+                                                 .build());
+        SecurityContext context = Mockito.mock(SecurityContext.class);
+        when(context.user()).thenReturn(Optional.of(subject));
+
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.securityContext()).thenReturn(context);
+        SecurityEnvironment outboundEnv = SecurityEnvironment.builder()
+                .path("/rsa")
+                .transport("http")
+                .targetUri(URI.create("http://localhost:8080/rsa"))
+                .build();
+
+        OutboundSecurityResponse response = provider.outboundSecurity(request, outboundEnv, EndpointConfig.create());
+        String signedToken = response.requestHeaders().get("Authorization").get(0).substring("bearer ".length());
+
+        ProviderRequest atnRequest = mock(ProviderRequest.class);
+        when(atnRequest.env()).thenReturn(SecurityEnvironment.builder()
+                                                  .header("Authorization", "bearer " + signedToken)
+                                                  .build());
+
+        for (int i = 0; i < 3; i++) {
+            AuthenticationResponse authenticationResponse = provider.authenticate(atnRequest);
+            assertThat(authenticationResponse.status(), is(SecurityResponse.SecurityStatus.SUCCESS));
+            assertThat(authenticationResponse.user().map(Subject::principal).map(Principal::id),
+                       is(Optional.of("user1-id")));
+        }
+        assertThat(cache.misses(), is(1L));
+        assertThat(cache.hits(), is(2L));
+
+        // invalid tokens are never cached
+        when(atnRequest.env()).thenReturn(SecurityEnvironment.builder()
+                                                  .header("Authorization", "bearer " + WRONG_TOKEN)
+                                                  .build());
+        assertThat(provider.authenticate(atnRequest).status(), is(SecurityResponse.SecurityStatus.FAILURE));
+        assertThat(cache.size(), is(1));
+    }
+
     @Test
     public void testEcBothWays() {
         String username = "user1";
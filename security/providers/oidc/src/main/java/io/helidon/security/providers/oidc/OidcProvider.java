@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,6 +41,7 @@ import io.helidon.security.ProviderRequest;
 import io.helidon.security.SecurityEnvironment;
 import io.helidon.security.Subject;
 import io.helidon.security.abac.scope.ScopeValidator;
+import io.helidon.security.jwt.VerifiedJwtCache;
 import io.helidon.security.providers.common.OutboundConfig;
 import io.helidon.security.providers.common.OutboundTarget;
 import io.helidon.security.providers.common.TokenCredential;
@@ -82,6 +83,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
     private final OidcOutboundConfig outboundConfig;
     private final boolean useJwtGroups;
     private final LruCache<String, TenantAuthenticationHandler> tenantAuthHandlers = LruCache.create();
+    private final VerifiedJwtCache verifiedTokenCache;
 
     private OidcProvider(Builder builder, OidcOutboundConfig oidcOutboundConfig) {
         this.optional = builder.optional;
@@ -89,6 +91,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
         this.propagate = builder.propagate && (oidcOutboundConfig.hasOutbound());
         this.useJwtGroups = builder.useJwtGroups;
         this.outboundConfig = oidcOutboundConfig;
+        this.verifiedTokenCache = builder.verifiedTokenCache;
 
         tenantConfigFinders = List.copyOf(builder.tenantConfigFinders);
         tenantIdFinders = List.copyOf(builder.tenantIdFinders);
@@ -155,7 +158,8 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
             TenantAuthenticationHandler handler = new TenantAuthenticationHandler(oidcConfig,
                                                                                   tenant,
                                                                                   useJwtGroups,
-                                                                                  optional);
+                                                                                  optional,
+                                                                                  verifiedTokenCache);
             return tenantAuthHandlers.computeValue(tenantId, () -> Optional.of(handler)).get()
                     .authenticate(tenantId, providerRequest);
         }
@@ -260,6 +264,7 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
         private boolean useJwtGroups = true;
         private OutboundConfig outboundConfig;
         private Config config = Config.empty();
+        private VerifiedJwtCache verifiedTokenCache;
         private TokenHandler defaultOutboundHandler = TokenHandler.builder()
                 .tokenHeader("Authorization")
                 .tokenPrefix("Bearer ")
@@ -320,6 +325,12 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
          *     and {@code token} to configure outbound {@link io.helidon.security.util.TokenHandler} for an
          *     outbound target. Default token handler uses {@code Authorization} header with a {@code bearer } prefix</td>
          * </tr>
+         * <tr>
+         *     <td>verified-token-cache</td>
+         *     <td>&nbsp;</td>
+         *     <td>Configuration of {@link io.helidon.security.jwt.VerifiedJwtCache} of tokens with verified signature,
+         *     disabled if not configured</td>
+         * </tr>
          * </table>
          *
          * @param config OIDC provider configuration
@@ -344,6 +355,13 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
             config.get("use-jwt-groups").asBoolean().ifPresent(this::useJwtGroups);
             config.get("discover-tenant-config-providers").asBoolean().ifPresent(this::discoverTenantConfigProviders);
             config.get("discover-tenant-id-providers").asBoolean().ifPresent(this::discoverTenantIdProviders);
+            Config cacheConfig = config.get("verified-token-cache");
+            if (cacheConfig.exists() && cacheConfig.get("enabled").asBoolean().orElse(true)) {
+                verifiedTokenCache(VerifiedJwtCache.builder()
+                                           .name(config.key().isRoot() ? "oidc" : config.key().toString())
+                                           .config(cacheConfig)
+                                           .build());
+            }
             return this;
         }
 
@@ -399,6 +417,22 @@ public final class OidcProvider implements AuthenticationProvider, OutboundSecur
             return this;
         }
 
+        /**
+         * Cache of tokens with verified signatures. When configured, the signature of a token that was already verified
+         * using the JWK of the tenant is not verified again until the token expires (or until the cache maximal
+         * time to live is reached). The cache is only used when tokens are validated using JWK, and is shared by all tenants.
+         * <p>
+         * The cache is disabled by default. When configured, it can be disabled using {@code enabled: false}.
+         *
+         * @param verifiedTokenCache cache of verified tokens
+         * @return updated builder instance
+         */
+        @ConfiguredOption(key = "verified-token-cache")
+        public Builder verifiedTokenCache(VerifiedJwtCache verifiedTokenCache) {
+            this.verifiedTokenCache = verifiedTokenCache;
+            return this;
+        }
+
         /**
          * Claim {@code groups} from JWT will be used to automatically add
          *  groups to current subject (may be used with {@link jakarta.annotation.security.RolesAllowed} annotation).
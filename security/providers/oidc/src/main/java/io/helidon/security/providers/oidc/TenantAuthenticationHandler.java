@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -62,6 +62,7 @@ import io.helidon.security.jwt.JwtException;
 import io.helidon.security.jwt.JwtUtil;
 import io.helidon.security.jwt.JwtValidator;
 import io.helidon.security.jwt.SignedJwt;
+import io.helidon.security.jwt.VerifiedJwtCache;
 import io.helidon.security.jwt.jwk.JwkKeys;
 import io.helidon.security.providers.common.TokenCredential;
 import io.helidon.security.providers.oidc.common.OidcConfig;
@@ -100,6 +101,14 @@ class TenantAuthenticationHandler {
     private final Pattern attemptPattern;
 
     TenantAuthenticationHandler(OidcConfig oidcConfig, Tenant tenant, boolean useJwtGroups, boolean optional) {
+        this(oidcConfig, tenant, useJwtGroups, optional, null);
+    }
+
+    TenantAuthenticationHandler(OidcConfig oidcConfig,
+                                Tenant tenant,
+                                boolean useJwtGroups,
+                                boolean optional,
+                                VerifiedJwtCache verifiedTokenCache) {
         this.oidcConfig = oidcConfig;
         this.tenant = tenant;
         this.tenantConfig = tenant.tenantConfig();
@@ -110,7 +119,15 @@ class TenantAuthenticationHandler {
         if (tenantConfig.validateJwtWithJwk()) {
             this.jwtValidator = (signedJwt, collector) -> {
                 JwkKeys jwk = tenant.signJwk();
+                if (verifiedTokenCache != null
+                        && verifiedTokenCache.get(signedJwt.tokenContent(), jwk).isPresent()) {
+                    // signature of this token was already verified with the same keys
+                    return collector;
+                }
                 Errors errors = signedJwt.verifySignature(jwk);
+                if (verifiedTokenCache != null && errors.isValid()) {
+                    verifiedTokenCache.put(signedJwt.tokenContent(), jwk, signedJwt);
+                }
                 errors.forEach(errorMessage -> {
                     switch (errorMessage.getSeverity()) {
                     case FATAL:
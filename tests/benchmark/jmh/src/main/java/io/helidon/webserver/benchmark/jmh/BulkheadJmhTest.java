@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.faulttolerance.Bulkhead;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+Measures bulkhead throughput under contention.
+Each caller runs in its own virtual thread and repeatedly invokes a short task through a bulkhead that allows
+fewer concurrent executions than there are callers, so most calls are queued.
+The same number of calls is made in each invocation, results are in calls per second.
+Compare lockFree=false (fair lock and semaphore) with the lock-free implementation.
+ */
+@State(Scope.Benchmark)
+public class BulkheadJmhTest {
+    private static final int CALLS = 8192;
+    private static final int LIMIT = 8;
+
+    @Param({"1", "16", "256"})
+    private int callers;
+
+    @Param({"false", "true"})
+    private boolean lockFree;
+
+    private Bulkhead bulkhead;
+
+    @Setup
+    public void setup() {
+        bulkhead = Bulkhead.builder()
+                .limit(LIMIT)
+                .queueLength(callers)
+                .lockFree(lockFree)
+                .build();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CALLS)
+    public void invoke(Blackhole bh) throws InterruptedException {
+        int callsPerCaller = CALLS / callers;
+        List<Thread> threads = new ArrayList<>(callers);
+        for (int i = 0; i < callers; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (int j = 0; j < callsPerCaller; j++) {
+                    bh.consume(bulkhead.invoke(() -> {
+                        Blackhole.consumeCPU(64);
+                        return Boolean.TRUE;
+                    }));
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.http.encoding.ContentEncoding;
+import io.helidon.http.encoding.brotli.BrotliEncoding;
+import io.helidon.http.encoding.gzip.GzipEncoding;
+import io.helidon.http.encoding.zstd.ZstdEncoding;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+Compares throughput of content encodings on a JSON payload typical for REST responses.
+Compression ratio (original size / encoded size) is reported as an auxiliary counter of the encode benchmark,
+and printed once per trial.
+ */
+@State(Scope.Benchmark)
+public class ContentEncodingJmhTest {
+    @Param({"gzip", "zstd", "br"})
+    private String encoding;
+
+    @Param({"1024", "65536"})
+    private int payloadSize;
+
+    private ContentEncoding contentEncoding;
+    private byte[] payload;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        contentEncoding = switch (encoding) {
+        case "gzip" -> GzipEncoding.create();
+        case "zstd" -> ZstdEncoding.create();
+        case "br" -> BrotliEncoding.create();
+        default -> throw new IllegalArgumentException("Unsupported encoding: " + encoding);
+        };
+        if (!contentEncoding.supportsEncoding()) {
+            throw new IllegalStateException("Encoding " + encoding + " is not available on this platform");
+        }
+        payload = payload(payloadSize);
+        encoded = encode(contentEncoding, payload);
+    }
+
+    @Benchmark
+    public byte[] encode(Ratio ratio) {
+        byte[] result = encode(contentEncoding, payload);
+        ratio.originalBytes += payload.length;
+        ratio.encodedBytes += result.length;
+        return result;
+    }
+
+    @Benchmark
+    public byte[] decode() {
+        try (InputStream in = contentEncoding.decoder().apply(new ByteArrayInputStream(encoded))) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encode(ContentEncoding contentEncoding, byte[] payload) {
+        ByteArrayOutputStream network = new ByteArrayOutputStream(payload.length);
+        try (OutputStream out = contentEncoding.encoder().apply(network)) {
+            out.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return network.toByteArray();
+    }
+
+    private static byte[] payload(int size) {
+        StringBuilder sb = new StringBuilder(size + 128);
+        sb.append('[');
+        int i = 0;
+        while (sb.length() < size) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":")
+                    .append(i)
+                    .append(",\"name\":\"Customer ")
+                    .append(i * 7919 % 1000)
+                    .append("\",\"email\":\"customer")
+                    .append(i)
+                    .append("@example.com\",\"active\":")
+                    .append(i % 3 != 0)
+                    .append(",\"balance\":")
+                    .append(i * 31 % 10000)
+                    .append('.')
+                    .append(i % 100)
+                    .append('}');
+            i++;
+        }
+        sb.append(']');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Compressed and original bytes of the encode benchmark, the ratio of the two is the compression ratio.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Ratio {
+        public long originalBytes;
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            originalBytes = 0;
+            encodedBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.util.Optional;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+Measures the per-request cost of contexts: creating a request context as a child of a server context, running code in it,
+and looking up instances registered in the request context, in its parents, or not registered at all.
+ */
+@State(Scope.Benchmark)
+public class ContextJmhTest {
+    @Param({"false", "true"})
+    private boolean compact;
+
+    private Context serverContext;
+    private Context requestContext;
+
+    @Setup
+    public void setup() {
+        // each trial runs in a new fork, so this also applies to the global context, which is the parent of the server context
+        System.setProperty("io.helidon.common.context.compact", String.valueOf(compact));
+        serverContext = Context.create();
+        serverContext.register(new ServerValue());
+        serverContext.register("server", new ServerValue());
+        requestContext = request();
+    }
+
+    @Benchmark
+    public Context create() {
+        return Context.create(serverContext);
+    }
+
+    @Benchmark
+    public Context createAndRegister() {
+        return request();
+    }
+
+    @Benchmark
+    public Optional<RequestValue> runInContext() {
+        return Contexts.runInContext(requestContext, () -> Contexts.context().flatMap(it -> it.get(RequestValue.class)));
+    }
+
+    @Benchmark
+    public Optional<RequestValue> lookup() {
+        return requestContext.get(RequestValue.class);
+    }
+
+    @Benchmark
+    public Optional<ServerValue> lookupParent() {
+        return requestContext.get(ServerValue.class);
+    }
+
+    @Benchmark
+    public Optional<ServerValue> lookupParentClassifier() {
+        return requestContext.get("server", ServerValue.class);
+    }
+
+    @Benchmark
+    public Optional<Integer> lookupMissing() {
+        return requestContext.get(Integer.class);
+    }
+
+    private Context request() {
+        Context context = Context.create(serverContext);
+        context.register(new RequestValue());
+        context.register("request", "value");
+        context.supply(StringBuilder.class, StringBuilder::new);
+        return context;
+    }
+
+    private static final class ServerValue {
+    }
+
+    private static final class RequestValue {
+    }
+}
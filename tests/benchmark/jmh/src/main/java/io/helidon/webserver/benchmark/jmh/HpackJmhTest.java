@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+import io.helidon.http.http2.Http2Headers;
+import io.helidon.http.http2.Http2HuffmanDecoder;
+import io.helidon.http.http2.Http2HuffmanEncoder;
+import io.helidon.http.http2.Http2Setting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/*
+HPACK encoding and decoding of typical headers.
+Response encoding uses a dynamic table of a long living connection (headers already indexed), and a new table
+(first response on a connection).
+Request decoding uses a table that already contains the indexed headers, as is the case for all but the first requests.
+ */
+@State(Scope.Benchmark)
+public class HpackJmhTest {
+    private static final long TABLE_SIZE = Http2Setting.HEADER_TABLE_SIZE.defaultValue();
+
+    private final Http2HuffmanEncoder huffmanEncoder = Http2HuffmanEncoder.create();
+    private final Http2HuffmanDecoder huffmanDecoder = Http2HuffmanDecoder.create();
+    private final BufferData buffer = BufferData.growing(512);
+
+    private Http2Headers.DynamicTable connectionTable;
+    private Http2Headers.DynamicTable requestTable;
+    private byte[] encodedRequest;
+
+    @Setup
+    public void setup() {
+        connectionTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        for (int i = 0; i < 2; i++) {
+            buffer.clear();
+            responseHeaders().write(connectionTable, huffmanEncoder, buffer);
+        }
+
+        // first requests index the headers (repeated values are indexed on second use), then they are only referenced
+        Http2Headers.DynamicTable clientTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        requestTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        for (int i = 0; i < 2; i++) {
+            buffer.clear();
+            requestHeaders().write(clientTable, huffmanEncoder, buffer);
+            decode(buffer);
+        }
+        buffer.clear();
+        requestHeaders().write(clientTable, huffmanEncoder, buffer);
+        encodedRequest = new byte[buffer.available()];
+        buffer.read(encodedRequest);
+    }
+
+    @Benchmark
+    public int encodeResponse() {
+        buffer.clear();
+        responseHeaders().write(connectionTable, huffmanEncoder, buffer);
+        return buffer.available();
+    }
+
+    @Benchmark
+    public int encodeFirstResponse() {
+        buffer.clear();
+        responseHeaders().write(Http2Headers.DynamicTable.create(TABLE_SIZE), huffmanEncoder, buffer);
+        return buffer.available();
+    }
+
+    @Benchmark
+    public Http2Headers decodeRequest() {
+        return decode(BufferData.create(encodedRequest));
+    }
+
+    private Http2Headers decode(BufferData data) {
+        Http2FrameHeader header = Http2FrameHeader.create(data.available(),
+                                                          Http2FrameTypes.HEADERS,
+                                                          Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
+                                                          1);
+        // stream is only used for priority, which is not sent
+        return Http2Headers.create(null, requestTable, huffmanDecoder, new Http2FrameData(header, data));
+    }
+
+    private static Http2Headers responseHeaders() {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(HeaderNames.CONTENT_TYPE, "application/json");
+        headers.set(HeaderNames.SERVER, "Helidon");
+        headers.set(HeaderNames.CACHE_CONTROL, "no-cache, no-store, must-revalidate");
+        headers.set(HeaderNames.VARY, "Accept-Encoding");
+        headers.set(HeaderValues.create(HeaderNames.CONTENT_LENGTH, true, false, "2048"));
+        headers.set(HeaderValues.create(HeaderNames.DATE, true, false, "Tue, 3 Jun 2008 11:05:30 GMT"));
+        Http2Headers http2Headers = Http2Headers.create(headers);
+        http2Headers.status(Status.OK_200);
+        return http2Headers;
+    }
+
+    private static Http2Headers requestHeaders() {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(HeaderNames.ACCEPT, "application/json");
+        headers.set(HeaderNames.ACCEPT_ENCODING, "gzip, deflate, br");
+        headers.set(HeaderNames.USER_AGENT, "Helidon/4 benchmark");
+        Http2Headers http2Headers = Http2Headers.create(headers);
+        http2Headers.method(Method.GET);
+        http2Headers.scheme("https");
+        http2Headers.path("/api/customers/42");
+        http2Headers.authority("localhost:8080");
+        return http2Headers;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.http.http2.Http2ConnectionWriter;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/*
+Measures how HTTP/2 frame writes of a single connection scale with the number of concurrent streams.
+Each stream runs in its own virtual thread and writes small DATA frames (typical for gRPC messages) to a loopback socket.
+The same number of frames is written in each invocation, results are in frames per second.
+Compare writeBatchFrames=1 (each frame written separately) with the default batching.
+ */
+@State(Scope.Benchmark)
+public class Http2ConnectionWriterJmhTest {
+    private static final int FRAMES = 8192;
+    private static final byte[] PAYLOAD = new byte[128];
+
+    @Param({"1", "16", "128", "512"})
+    private int streams;
+
+    @Param({"1", "64"})
+    private int writeBatchFrames;
+
+    private ServerSocket serverSocket;
+    private Socket clientSocket;
+    private Thread drainThread;
+    private Http2ConnectionWriter writer;
+
+    @Setup
+    public void setup() throws IOException {
+        serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        clientSocket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        clientSocket.setTcpNoDelay(true);
+        Socket accepted = serverSocket.accept();
+        // discard everything, we only care about the cost of writing
+        drainThread = Thread.ofPlatform().daemon().start(() -> {
+            byte[] buffer = new byte[64 * 1024];
+            try (InputStream in = accepted.getInputStream()) {
+                while (in.read(buffer) != -1) {
+                    // discard
+                }
+            } catch (IOException ignored) {
+                // socket closed in tear down
+            }
+        });
+        OutputStream out = clientSocket.getOutputStream();
+        // no frame listeners are used, so the socket context is never accessed
+        writer = new Http2ConnectionWriter(null,
+                                           new SocketDataWriter(out),
+                                           List.of(),
+                                           writeBatchFrames,
+                                           Http2ConnectionWriter.DEFAULT_WRITE_BATCH_BYTES);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException, InterruptedException {
+        clientSocket.close();
+        serverSocket.close();
+        drainThread.join();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FRAMES)
+    public void writeFrames() throws InterruptedException {
+        int framesPerStream = FRAMES / streams;
+        CountDownLatch finished = new CountDownLatch(streams);
+        for (int i = 0; i < streams; i++) {
+            int streamId = i * 2 + 1;
+            Thread.ofVirtual().start(() -> {
+                try {
+                    for (int frame = 0; frame < framesPerStream; frame++) {
+                        writer.write(frame(streamId));
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await();
+    }
+
+    private static Http2FrameData frame(int streamId) {
+        Http2FrameHeader header = Http2FrameHeader.create(PAYLOAD.length,
+                                                          Http2FrameTypes.DATA,
+                                                          Http2Flag.DataFlags.create(0),
+                                                          streamId);
+        return new Http2FrameData(header, BufferData.create(PAYLOAD));
+    }
+
+    private static final class SocketDataWriter implements DataWriter {
+        private final OutputStream out;
+
+        private SocketDataWriter(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(BufferData... buffers) {
+            writeNow(buffers);
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            writeNow(buffer);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            writeNow(BufferData.create(buffers));
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            buffer.writeTo(out);
+            try {
+                out.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import io.helidon.common.LruCache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+Compares the LRU cache policies when the cache is used from many threads: reads of cached records only,
+and a mixed load where some keys are not cached, so records are added and removed.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class LruCacheJmhTest {
+    private static final int CAPACITY = 1000;
+
+    @Param({"STRICT", "CLOCK"})
+    private LruCache.Policy policy;
+
+    private LruCache<Integer, Integer> cache;
+
+    @Setup
+    public void setup() {
+        cache = LruCache.create(CAPACITY, policy);
+        for (int i = 0; i < CAPACITY; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> get() {
+        return cache.get(ThreadLocalRandom.current().nextInt(CAPACITY));
+    }
+
+    @Benchmark
+    public Optional<Integer> computeValue() {
+        // about 10% of keys are outside of the cached range
+        int key = ThreadLocalRandom.current().nextInt(CAPACITY + CAPACITY / 10);
+        return cache.computeValue(key, () -> Optional.of(key));
+    }
+}
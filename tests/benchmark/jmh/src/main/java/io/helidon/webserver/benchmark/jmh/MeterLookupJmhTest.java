@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.util.List;
+
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/*
+Measures throughput of looking up an already registered meter, as done by code that looks meters up per request.
+The registry contains the given number of other meters with the same name and different tags.
+ */
+@State(Scope.Benchmark)
+public class MeterLookupJmhTest {
+    private static final String NAME = "requests";
+    private static final List<Tag> TAGS = List.of(Tag.create("method", "GET"), Tag.create("path", "/greet"));
+
+    @Param({"10", "1000"})
+    private int meters;
+
+    private MeterRegistry registry;
+
+    @Setup
+    public void setup() {
+        registry = Metrics.createMeterRegistry();
+        for (int i = 0; i < meters; i++) {
+            registry.getOrCreate(Counter.builder(NAME)
+                                         .tags(List.of(Tag.create("method", "GET"), Tag.create("path", "/other" + i))));
+        }
+        registry.getOrCreate(Counter.builder(NAME).tags(TAGS));
+    }
+
+    @TearDown
+    public void tearDown() {
+        registry.close();
+    }
+
+    @Benchmark
+    public Counter lookup() {
+        return registry.meter(Counter.class, NAME, TAGS).orElseThrow();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Counter lookupContended() {
+        return registry.meter(Counter.class, NAME, TAGS).orElseThrow();
+    }
+
+    @Benchmark
+    public Counter getOrCreate() {
+        return registry.getOrCreate(Counter.builder(NAME).tags(TAGS));
+    }
+}
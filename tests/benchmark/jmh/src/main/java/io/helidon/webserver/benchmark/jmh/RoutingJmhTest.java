@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import io.helidon.logging.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.http.HttpService;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/*
+Measures cost of routing as the number of routes grows, with and without compiled routes.
+Routes are split into services of 10 exact and 10 pattern routes each.
+Requests target the last registered routes of the last service, which is the worst case for linear routing.
+ */
+@State(Scope.Benchmark)
+public class RoutingJmhTest {
+    @Param({"10", "100", "1000"})
+    private int routeCount;
+
+    @Param({"false", "true"})
+    private boolean compileRoutes;
+
+    private WebServer server;
+    private HttpClient client;
+    private URI exactUri;
+    private URI patternUri;
+
+    @Setup
+    public void setup() {
+        LogConfig.configureRuntime();
+
+        int services = Math.max(1, routeCount / 10);
+        HttpRouting.Builder routing = HttpRouting.builder()
+                .compileRoutes(compileRoutes);
+        for (int i = 0; i < services; i++) {
+            routing.register("/service" + i, new BenchService(routeCount / services));
+        }
+
+        server = WebServer.builder()
+                .connectionOptions(builder -> builder
+                        .readTimeout(Duration.ZERO)
+                        .connectTimeout(Duration.ZERO))
+                .host("127.0.0.1")
+                .routing(routing)
+                .build()
+                .start();
+
+        int last = services - 1;
+        int lastRoute = routeCount / services - 1;
+        exactUri = URI.create("http://localhost:" + server.port() + "/service" + last + "/exact" + lastRoute);
+        patternUri = URI.create("http://localhost:" + server.port() + "/service" + last + "/pattern" + lastRoute + "/42");
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void exact(Blackhole bh) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .GET()
+                .uri(exactUri)
+                .build();
+        bh.consume(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    @Benchmark
+    public void pattern(Blackhole bh) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .GET()
+                .uri(patternUri)
+                .build();
+        bh.consume(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    private static final class BenchService implements HttpService {
+        private final int routes;
+
+        private BenchService(int routes) {
+            this.routes = routes;
+        }
+
+        @Override
+        public void routing(HttpRules rules) {
+            for (int i = 0; i < routes; i++) {
+                rules.get("/exact" + i, (req, res) -> res.send("exact"));
+                rules.get("/pattern" + i + "/{id}", (req, res) -> res.send(req.path().pathParameters().get("id")));
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,11 @@ package io.helidon.tracing.config;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import io.helidon.common.config.Config;
+import io.helidon.tracing.Sampler;
 
 /**
  * Tracing configuration that contains traced components (such as WebServer, Security) and their traced spans and span logs.
@@ -83,6 +85,16 @@ public abstract class TracingConfig extends Traceable {
         return ComponentTracingConfig.DISABLED;
     }
 
+    /**
+     * Sampler deciding whether a new trace started by a traced component (such as an HTTP request without an inbound
+     * span context) is recorded. This allows different sampling of routes, when used with path based tracing configuration.
+     *
+     * @return sampler, or empty if the sampling of the tracer should be used
+     */
+    public Optional<Sampler> sampler() {
+        return Optional.empty();
+    }
+
     @Override
     public String toString() {
         return "TracingConfig(" + name() + ")";
@@ -141,6 +153,12 @@ public abstract class TracingConfig extends Traceable {
                 return newer.isEnabled()
                         .or(older::isEnabled);
             }
+
+            @Override
+            public Optional<Sampler> sampler() {
+                return newer.sampler()
+                        .or(older::sampler);
+            }
         };
     }
 
@@ -163,13 +181,14 @@ public abstract class TracingConfig extends Traceable {
     public static final class Builder implements io.helidon.common.Builder<Builder, TracingConfig> {
         private final Map<String, ComponentTracingConfig> components = new HashMap<>();
         private Optional<Boolean> enabled = Optional.empty();
+        private Sampler sampler;
 
         private Builder() {
         }
 
         @Override
         public TracingConfig build() {
-            return new RootTracingConfig("helidon", new HashMap<>(components), enabled);
+            return new RootTracingConfig("helidon", new HashMap<>(components), enabled, Optional.ofNullable(sampler));
         }
 
         /**
@@ -180,6 +199,10 @@ public abstract class TracingConfig extends Traceable {
          */
         public Builder config(Config config) {
             config.get("enabled").asBoolean().ifPresent(this::enabled);
+            Config samplerConfig = config.get("sampler");
+            if (samplerConfig.exists()) {
+                sampler(Sampler.create(samplerConfig));
+            }
             Config compConfig = config.get("components");
             compConfig.asNodeList()
                     .ifPresent(compList -> {
@@ -213,18 +236,33 @@ public abstract class TracingConfig extends Traceable {
             this.enabled = Optional.of(enabled);
             return this;
         }
+
+        /**
+         * Sampler of new traces started by traced components using this configuration.
+         *
+         * @param sampler sampler to use
+         * @return updated builder instance
+         * @see TracingConfig#sampler()
+         */
+        public Builder sampler(Sampler sampler) {
+            this.sampler = Objects.requireNonNull(sampler);
+            return this;
+        }
     }
 
     static final class RootTracingConfig extends TracingConfig {
         private final Map<String, ComponentTracingConfig> components;
         private final Optional<Boolean> enabled;
+        private final Optional<Sampler> sampler;
 
         RootTracingConfig(String name,
                           Map<String, ComponentTracingConfig> components,
-                          Optional<Boolean> enabled) {
+                          Optional<Boolean> enabled,
+                          Optional<Sampler> sampler) {
             super(name);
             this.components = components;
             this.enabled = enabled;
+            this.sampler = sampler;
         }
 
         @Override
@@ -237,5 +275,9 @@ public abstract class TracingConfig extends Traceable {
             return enabled;
         }
 
+        @Override
+        public Optional<Sampler> sampler() {
+            return sampler;
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ module io.helidon.tracing.config {
     requires transitive io.helidon.common.config;
     requires transitive io.helidon.common.context;
     requires transitive io.helidon.common;
+    requires transitive io.helidon.tracing;
 
     exports io.helidon.tracing.config;
 
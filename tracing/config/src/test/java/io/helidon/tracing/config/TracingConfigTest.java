@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2021 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,7 @@ package io.helidon.tracing.config;
 import java.util.Optional;
 
 import io.helidon.config.Config;
+import io.helidon.tracing.Sampler;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -58,6 +59,21 @@ class TracingConfigTest {
                              .build());
     }
 
+    @Test
+    void testSampler() {
+        TracingConfig tracingConfig = TracingConfig.create(config.get("unit4.tracing"));
+        assertThat(tracingConfig.sampler(), is(Optional.of(Sampler.alwaysOff())));
+        assertThat(TracingConfig.create(config.get("unit2.tracing")).sampler(), is(EMPTY));
+
+        TracingConfig merged = TracingConfig.merge(tracingConfig, TracingConfig.ENABLED);
+        assertThat(merged.sampler(), is(Optional.of(Sampler.alwaysOff())));
+
+        merged = TracingConfig.merge(tracingConfig, TracingConfig.builder()
+                .sampler(Sampler.alwaysOn())
+                .build());
+        assertThat(merged.sampler(), is(Optional.of(Sampler.alwaysOn())));
+    }
+
     void testDisabled(TracingConfig tracingConfig) {
 
         // make sure everything is disabled
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package io.helidon.tracing.providers.opentelemetry;
 
+import java.util.Optional;
+
 import io.helidon.tracing.Baggage;
 import io.helidon.tracing.SpanContext;
 
@@ -54,4 +56,13 @@ class OpenTelemetrySpanContext implements SpanContext {
     public Baggage baggage() {
         return baggage;
     }
+
+    @Override
+    public Optional<Boolean> sampled() {
+        io.opentelemetry.api.trace.SpanContext spanContext = Span.fromContext(context).getSpanContext();
+        if (spanContext.isValid()) {
+            return Optional.of(spanContext.isSampled());
+        }
+        return Optional.empty();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
 
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.LazyValue;
@@ -36,6 +37,9 @@ import io.helidon.tracing.TracerBuilder;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapGetter;
 import io.opentelemetry.context.propagation.TextMapPropagator;
@@ -95,6 +99,27 @@ class OpenTelemetryTracer implements Tracer {
         propagator.inject(((OpenTelemetrySpanContext) spanContext).openTelemetry(), outboundHeadersConsumer, SETTER);
     }
 
+    @Override
+    public Optional<SpanContext> unsampledContext(Optional<SpanContext> parent) {
+        Context parentContext = parent.filter(OpenTelemetrySpanContext.class::isInstance)
+                .map(it -> ((OpenTelemetrySpanContext) it).openTelemetry())
+                .orElseGet(Context::root);
+        io.opentelemetry.api.trace.SpanContext parentSpanContext = io.opentelemetry.api.trace.Span.fromContext(parentContext)
+                .getSpanContext();
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String traceId = parentSpanContext.isValid()
+                ? parentSpanContext.getTraceId()
+                : TraceId.fromLongs(random.nextLong(), nonZeroLong(random));
+        // a non-recording span with the sampled flag cleared, children follow it when the sampler is parent based
+        io.opentelemetry.api.trace.SpanContext unsampled =
+                io.opentelemetry.api.trace.SpanContext.create(traceId,
+                                                              SpanId.fromLong(nonZeroLong(random)),
+                                                              TraceFlags.getDefault(),
+                                                              parentSpanContext.getTraceState());
+        return Optional.of(new OpenTelemetrySpanContext(parentContext.with(io.opentelemetry.api.trace.Span.wrap(unsampled))));
+    }
+
     @Override
     public <T> T unwrap(Class<T> tracerClass) {
         if (tracerClass.isAssignableFrom(delegate.getClass())) {
@@ -118,6 +143,14 @@ class OpenTelemetryTracer implements Tracer {
         return Collections.unmodifiableList(spanListeners);
     }
 
+    private static long nonZeroLong(ThreadLocalRandom random) {
+        long value;
+        do {
+            value = random.nextLong();
+        } while (value == 0);
+        return value;
+    }
+
     static class Builder implements TracerBuilder<Builder> {
         private OpenTelemetry ot;
         private String serviceName = "helidon-service";
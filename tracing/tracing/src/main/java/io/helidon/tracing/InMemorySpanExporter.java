@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Span exporter that keeps all exported spans in memory, intended for tests.
+ */
+public final class InMemorySpanExporter implements SpanExporter {
+    private final ConcurrentLinkedQueue<Span> spans = new ConcurrentLinkedQueue<>();
+
+    private InMemorySpanExporter() {
+    }
+
+    /**
+     * Create a new in-memory exporter.
+     *
+     * @return a new exporter
+     */
+    public static InMemorySpanExporter create() {
+        return new InMemorySpanExporter();
+    }
+
+    @Override
+    public void export(List<Span> spans) {
+        this.spans.addAll(spans);
+    }
+
+    /**
+     * Spans exported so far, in the order of export.
+     *
+     * @return exported spans
+     */
+    public List<Span> spans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Remove all exported spans.
+     */
+    public void clear() {
+        spans.clear();
+    }
+}
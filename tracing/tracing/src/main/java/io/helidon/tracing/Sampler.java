@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.Optional;
+
+import io.helidon.common.config.Config;
+
+/**
+ * Head based sampling decision, made before a span is started.
+ * Samplers are independent of the tracer implementation; a span that is not sampled is not started at all, which avoids
+ * the cost of creating and exporting it.
+ * <p>
+ * A sampler can be created from configuration:
+ * <table class="config">
+ * <caption>Sampler configuration</caption>
+ * <tr>
+ *     <th>key</th>
+ *     <th>default value</th>
+ *     <th>description</th>
+ * </tr>
+ * <tr>
+ *     <td>{@code type}</td>
+ *     <td>{@code const}</td>
+ *     <td>Sampler type {@code const} (0 to sample no spans, 1 to sample all spans), {@code ratio} (ratio of spans to sample,
+ *          {@code 0.0} to {@code 1.0}), or {@code rate-limiting} (maximal number of spans to sample per second)</td>
+ * </tr>
+ * <tr>
+ *     <td>{@code param}</td>
+ *     <td>{@code 1}</td>
+ *     <td>Numeric parameter of the sampler type</td>
+ * </tr>
+ * <tr>
+ *     <td>{@code parent-based}</td>
+ *     <td>{@code true}</td>
+ *     <td>Whether to follow the sampling decision of the parent span, if known</td>
+ * </tr>
+ * </table>
+ */
+@FunctionalInterface
+public interface Sampler {
+    /**
+     * Create a sampler from configuration.
+     *
+     * @param config configuration of the sampler
+     * @return a new sampler
+     * @throws java.lang.IllegalArgumentException in case the configured sampler type is not supported
+     */
+    static Sampler create(Config config) {
+        String type = config.get("type").asString().orElse("const");
+        double param = config.get("param").asDouble().orElse(1D);
+        Sampler sampler = switch (type) {
+            case "const" -> param == 1 ? alwaysOn() : alwaysOff();
+            case "ratio" -> ratio(param);
+            case "rate-limiting" -> rateLimited(param);
+            default -> throw new IllegalArgumentException("Sampler type " + type + " is not supported");
+        };
+        return config.get("parent-based").asBoolean().orElse(true) ? parentBased(sampler) : sampler;
+    }
+
+    /**
+     * Sampler that samples all spans.
+     *
+     * @return sampler always sampling
+     */
+    static Sampler alwaysOn() {
+        return Samplers.ALWAYS_ON;
+    }
+
+    /**
+     * Sampler that does not sample any span.
+     *
+     * @return sampler never sampling
+     */
+    static Sampler alwaysOff() {
+        return Samplers.ALWAYS_OFF;
+    }
+
+    /**
+     * Sampler that samples the provided ratio of spans.
+     *
+     * @param ratio ratio of spans to sample, {@code 0.0} to sample no spans, {@code 1.0} to sample all spans
+     * @return sampler sampling the ratio of spans
+     */
+    static Sampler ratio(double ratio) {
+        if (ratio < 0 || ratio > 1) {
+            throw new IllegalArgumentException("Sampling ratio must be between 0 and 1, but is " + ratio);
+        }
+        if (ratio == 0) {
+            return alwaysOff();
+        }
+        if (ratio == 1) {
+            return alwaysOn();
+        }
+        return new Samplers.RatioSampler(ratio);
+    }
+
+    /**
+     * Sampler that samples at most the provided number of spans per second.
+     * Short bursts of up to the number of spans per second are sampled even if they arrive within a fraction of a second.
+     *
+     * @param spansPerSecond maximal number of spans to sample per second
+     * @return rate limited sampler
+     */
+    static Sampler rateLimited(double spansPerSecond) {
+        if (spansPerSecond < 0) {
+            throw new IllegalArgumentException("Spans per second must not be negative, but is " + spansPerSecond);
+        }
+        if (spansPerSecond == 0) {
+            return alwaysOff();
+        }
+        return new Samplers.RateLimitedSampler(spansPerSecond);
+    }
+
+    /**
+     * Sampler that follows the sampling decision of the parent span if it is known, and uses the root sampler
+     * otherwise (for spans without a parent, or when the parent does not carry the sampling decision).
+     *
+     * @param root sampler to use when the decision of the parent is not known
+     * @return parent based sampler
+     * @see io.helidon.tracing.SpanContext#sampled()
+     */
+    static Sampler parentBased(Sampler root) {
+        return new Samplers.ParentBasedSampler(root);
+    }
+
+    /**
+     * Whether to sample a new span.
+     *
+     * @param parent context of the parent span, if any
+     * @return {@code true} if the span should be started and exported, {@code false} otherwise
+     */
+    boolean sample(Optional<SpanContext> parent);
+}
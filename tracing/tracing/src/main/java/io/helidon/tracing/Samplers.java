@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementations of {@link io.helidon.tracing.Sampler}.
+ */
+final class Samplers {
+    static final Sampler ALWAYS_ON = new ConstantSampler(true);
+    static final Sampler ALWAYS_OFF = new ConstantSampler(false);
+
+    private Samplers() {
+    }
+
+    private record ConstantSampler(boolean decision) implements Sampler {
+        @Override
+        public boolean sample(Optional<SpanContext> parent) {
+            return decision;
+        }
+
+        @Override
+        public String toString() {
+            return decision ? "AlwaysOn" : "AlwaysOff";
+        }
+    }
+
+    record RatioSampler(double ratio) implements Sampler {
+        @Override
+        public boolean sample(Optional<SpanContext> parent) {
+            return ThreadLocalRandom.current().nextDouble() < ratio;
+        }
+
+        @Override
+        public String toString() {
+            return "Ratio(" + ratio + ")";
+        }
+    }
+
+    record ParentBasedSampler(Sampler root) implements Sampler {
+        ParentBasedSampler {
+            Objects.requireNonNull(root, "Root sampler must not be null");
+        }
+
+        @Override
+        public boolean sample(Optional<SpanContext> parent) {
+            if (parent.isPresent()) {
+                Optional<Boolean> sampled = parent.get().sampled();
+                if (sampled.isPresent()) {
+                    return sampled.get();
+                }
+            }
+            return root.sample(parent);
+        }
+
+        @Override
+        public String toString() {
+            return "ParentBased(" + root + ")";
+        }
+    }
+
+    /**
+     * Rate limiting sampler based on a virtual scheduling of sampled spans. Each sampled span moves the scheduled time
+     * by the interval between spans; a span is sampled if the scheduled time is not ahead of the current time.
+     * Unused capacity of up to one second (or one interval, if longer) is kept, which allows short bursts.
+     */
+    static final class RateLimitedSampler implements Sampler {
+        private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+        private final double spansPerSecond;
+        private final long intervalNanos;
+        private final long burstNanos;
+        private final AtomicLong scheduled;
+
+        RateLimitedSampler(double spansPerSecond) {
+            this.spansPerSecond = spansPerSecond;
+            this.intervalNanos = Math.max(1, (long) (SECOND_NANOS / spansPerSecond));
+            this.burstNanos = Math.max(SECOND_NANOS, intervalNanos);
+            this.scheduled = new AtomicLong(System.nanoTime() - burstNanos);
+        }
+
+        @Override
+        public boolean sample(Optional<SpanContext> parent) {
+            long now = System.nanoTime();
+            long current = scheduled.get();
+            while (true) {
+                // do not accumulate more than a burst of unused capacity
+                long next = Math.max(current, now - burstNanos) + intervalNanos;
+                if (next - now > 0) {
+                    return false;
+                }
+                long witness = scheduled.compareAndExchange(current, next);
+                if (witness == current) {
+                    return true;
+                }
+                current = witness;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "RateLimited(" + spansPerSecond + ")";
+        }
+    }
+}
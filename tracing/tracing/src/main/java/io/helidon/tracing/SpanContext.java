@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package io.helidon.tracing;
 
+import java.util.Optional;
+
 /**
  * Context of a tracing {@link io.helidon.tracing.Span}.
  */
@@ -46,4 +48,16 @@ public interface SpanContext {
      * @return {@link io.helidon.tracing.Baggage} instance; empty if no baggage is available from the span context
      */
     Baggage baggage();
+
+    /**
+     * Whether the trace of the associated span is sampled, if known.
+     * Tracer implementations that propagate the sampling decision (such as the {@code sampled} flag of W3C trace context)
+     * should override this method, so {@link io.helidon.tracing.Sampler#parentBased(Sampler) parent based} sampling
+     * can follow the decision of the parent.
+     *
+     * @return whether the trace is sampled, empty if not known
+     */
+    default Optional<Boolean> sampled() {
+        return Optional.empty();
+    }
 }
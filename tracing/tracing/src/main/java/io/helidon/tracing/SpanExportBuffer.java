@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded buffer of ended spans, exporting them in batches to a {@link io.helidon.tracing.SpanExporter}.
+ * Register the buffer as a {@link io.helidon.tracing.SpanListener} with a {@link Tracer#register(SpanListener) tracer}.
+ * <p>
+ * Adding a span to the buffer does not block and does not take any lock. When the buffer is full, ended spans are dropped
+ * and counted, so a slow exporter never slows down the traced code. Once the buffer holds a full batch of spans, the spans are
+ * exported on a new virtual thread; use {@link #flush()} to export the remaining spans (for example on shutdown).
+ * Ended spans of traces that are {@link io.helidon.tracing.SpanContext#sampled() not sampled} are ignored.
+ */
+public final class SpanExportBuffer implements SpanListener {
+    /**
+     * Default capacity of the buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 2048;
+    /**
+     * Default number of spans exported at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 512;
+
+    private static final System.Logger LOGGER = System.getLogger(SpanExportBuffer.class.getName());
+
+    private final SpanExporter exporter;
+    private final int batchSize;
+    private final int mask;
+    // bounded multi-producer multi-consumer queue: each slot has a sequence number telling whether it can be written
+    // (sequence equals the producer position) or read (sequence equals the consumer position + 1)
+    private final AtomicReferenceArray<Span> spans;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+    // whether an export thread is scheduled or running
+    private final AtomicBoolean exporting = new AtomicBoolean();
+    // exports run one at a time, a flush waits for a running export to finish
+    private final ReentrantLock exportLock = new ReentrantLock();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder exported = new LongAdder();
+
+    private SpanExportBuffer(SpanExporter exporter, int capacity, int batchSize) {
+        this.exporter = Objects.requireNonNull(exporter, "Exporter must not be null");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, but is " + capacity);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive, but is " + batchSize);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size = size << 1;
+        }
+        this.mask = size - 1;
+        this.batchSize = Math.min(batchSize, size);
+        this.spans = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Create a new buffer with default capacity and batch size.
+     *
+     * @param exporter exporter to export spans to
+     * @return a new buffer
+     */
+    public static SpanExportBuffer create(SpanExporter exporter) {
+        return create(exporter, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create a new buffer.
+     *
+     * @param exporter  exporter to export spans to
+     * @param capacity  maximal number of spans waiting for export, rounded up to a power of two
+     * @param batchSize number of spans exported at once
+     * @return a new buffer
+     */
+    public static SpanExportBuffer create(SpanExporter exporter, int capacity, int batchSize) {
+        return new SpanExportBuffer(exporter, capacity, batchSize);
+    }
+
+    @Override
+    public void ended(Span span) {
+        if (sampled(span)) {
+            add(span);
+        }
+    }
+
+    @Override
+    public void ended(Span span, Throwable t) {
+        if (sampled(span)) {
+            add(span);
+        }
+    }
+
+    /**
+     * Add an ended span to the buffer.
+     *
+     * @param span span to add
+     * @return {@code true} if the span was added, {@code false} if it was dropped, as the buffer is full
+     */
+    public boolean add(Span span) {
+        Objects.requireNonNull(span, "Span must not be null");
+        if (!offer(span)) {
+            dropped.increment();
+            return false;
+        }
+        if (size() >= batchSize && exporting.compareAndSet(false, true)) {
+            Thread.ofVirtual()
+                    .name("helidon-span-export")
+                    .start(this::exportBatches);
+        }
+        return true;
+    }
+
+    /**
+     * Export all spans currently in the buffer, in the caller thread.
+     * Waits for an export running on another thread to finish first.
+     */
+    public void flush() {
+        exportLock.lock();
+        try {
+            exportAll();
+        } finally {
+            exportLock.unlock();
+        }
+    }
+
+    /**
+     * Number of spans in the buffer waiting for export.
+     *
+     * @return number of buffered spans
+     */
+    public int size() {
+        long size = producerPosition.get() - consumerPosition.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    /**
+     * Number of spans dropped, because the buffer was full, or because the exporter failed.
+     *
+     * @return number of dropped spans
+     */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of spans successfully exported.
+     *
+     * @return number of exported spans
+     */
+    public long exported() {
+        return exported.sum();
+    }
+
+    // spans of traces that were not sampled still end (to propagate the decision), but must not be exported
+    private static boolean sampled(Span span) {
+        return span.context().sampled().orElse(true);
+    }
+
+    private void exportBatches() {
+        try {
+            flush();
+        } finally {
+            exporting.set(false);
+        }
+        // spans may have been added after we have drained the buffer, but before we cleared the flag
+        if (size() >= batchSize && exporting.compareAndSet(false, true)) {
+            exportBatches();
+        }
+    }
+
+    // must only be called while holding the export lock
+    private void exportAll() {
+        List<Span> batch = new ArrayList<>(batchSize);
+        Span span;
+        while ((span = poll()) != null) {
+            batch.add(span);
+            if (batch.size() == batchSize) {
+                export(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            export(batch);
+        }
+    }
+
+    private void export(List<Span> batch) {
+        try {
+            exporter.export(batch);
+            exported.add(batch.size());
+        } catch (Exception e) {
+            dropped.add(batch.size());
+            LOGGER.log(Level.WARNING, "Failed to export " + batch.size() + " spans", e);
+        }
+    }
+
+    private boolean offer(Span span) {
+        long position = producerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                long witness = producerPosition.compareAndExchange(position, position + 1);
+                if (witness == position) {
+                    spans.set(index, span);
+                    // publish the slot to consumers
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = witness;
+            } else if (difference < 0) {
+                // the slot was not consumed yet, the buffer is full
+                return false;
+            } else {
+                // another producer took this slot
+                position = producerPosition.get();
+            }
+        }
+    }
+
+    private Span poll() {
+        long position = consumerPosition.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                long witness = consumerPosition.compareAndExchange(position, position + 1);
+                if (witness == position) {
+                    Span span = spans.getAndSet(index, null);
+                    // make the slot available to producers for the next round
+                    sequences.set(index, position + mask + 1);
+                    return span;
+                }
+                position = witness;
+            } else if (difference < 0) {
+                // the slot was not published yet, the buffer is empty
+                return null;
+            } else {
+                position = consumerPosition.get();
+            }
+        }
+    }
+}
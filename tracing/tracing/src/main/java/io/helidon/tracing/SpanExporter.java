@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.List;
+
+/**
+ * Exporter of ended spans, used by {@link io.helidon.tracing.SpanExportBuffer}.
+ * Spans are provided as created by the tracer implementation, an exporter may {@link Span#unwrap(Class) unwrap} them to
+ * access implementation specific data.
+ *
+ * @see io.helidon.tracing.InMemorySpanExporter
+ */
+@FunctionalInterface
+public interface SpanExporter {
+    /**
+     * Export a batch of ended spans.
+     * This method is never called concurrently by the same {@link io.helidon.tracing.SpanExportBuffer}.
+     *
+     * @param spans spans to export
+     */
+    void export(List<Span> spans);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -84,6 +84,21 @@ public interface Tracer {
      */
     void inject(SpanContext spanContext, HeaderProvider inboundHeadersProvider, HeaderConsumer outboundHeadersConsumer);
 
+    /**
+     * Create a span context carrying a decision not to sample the trace, to act as a parent of spans of a request
+     * that was not sampled.
+     * Spans started as children of the returned context are not recorded, and the decision is sent to downstream services
+     * when the context is {@link #inject(SpanContext, HeaderProvider, HeaderConsumer) injected}.
+     * Tracer implementations that can propagate a sampling decision should override this method.
+     *
+     * @param parent parent span context, such as the context extracted from inbound headers; the trace of the parent is
+     *               continued, a new trace is started if empty
+     * @return span context that is not sampled, empty if this tracer cannot propagate a sampling decision
+     */
+    default Optional<SpanContext> unsampledContext(Optional<SpanContext> parent) {
+        return Optional.empty();
+    }
+
     /**
      * Access the underlying tracer by specific type.
      * This is a dangerous operation that will succeed only if the tracer is of expected type. This practically
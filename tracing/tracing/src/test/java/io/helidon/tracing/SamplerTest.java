@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.util.Map;
+import java.util.Optional;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link Sampler}.
+ */
+class SamplerTest {
+    @Test
+    void testConstant() {
+        assertThat(Sampler.alwaysOn().sample(Optional.empty()), is(true));
+        assertThat(Sampler.alwaysOff().sample(Optional.empty()), is(false));
+        assertThat(Sampler.ratio(1), sameInstance(Sampler.alwaysOn()));
+        assertThat(Sampler.ratio(0), sameInstance(Sampler.alwaysOff()));
+        assertThat(Sampler.rateLimited(0), sameInstance(Sampler.alwaysOff()));
+    }
+
+    @Test
+    void testRatio() {
+        Sampler sampler = Sampler.ratio(0.25);
+        int sampled = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (sampler.sample(Optional.empty())) {
+                sampled++;
+            }
+        }
+        assertThat(sampled, allOf(greaterThan(2000), lessThan(3000)));
+        assertThrows(IllegalArgumentException.class, () -> Sampler.ratio(1.5));
+    }
+
+    @Test
+    void testRateLimited() {
+        Sampler sampler = Sampler.rateLimited(10);
+        int sampled = 0;
+        for (int i = 0; i < 1000; i++) {
+            if (sampler.sample(Optional.empty())) {
+                sampled++;
+            }
+        }
+        // a burst of one second worth of spans is allowed, plus whatever became available while we were sampling
+        assertThat(sampled, allOf(greaterThan(9), lessThan(15)));
+    }
+
+    @Test
+    void testRateLimitedBelowOnePerSecond() {
+        Sampler sampler = Sampler.rateLimited(0.5);
+        assertThat(sampler.sample(Optional.empty()), is(true));
+        assertThat(sampler.sample(Optional.empty()), is(false));
+    }
+
+    @Test
+    void testParentBased() {
+        Sampler sampler = Sampler.parentBased(Sampler.alwaysOff());
+        assertThat(sampler.sample(Optional.empty()), is(false));
+        assertThat(sampler.sample(Optional.of(new TestSpanContext(Optional.empty()))), is(false));
+        assertThat(sampler.sample(Optional.of(new TestSpanContext(Optional.of(true)))), is(true));
+
+        sampler = Sampler.parentBased(Sampler.alwaysOn());
+        assertThat(sampler.sample(Optional.of(new TestSpanContext(Optional.of(false)))), is(false));
+    }
+
+    @Test
+    void testConfig() {
+        Config config = Config.just(ConfigSources.create(Map.of("type", "ratio",
+                                                                "param", "0",
+                                                                "parent-based", "false")));
+        assertThat(Sampler.create(config), sameInstance(Sampler.alwaysOff()));
+
+        config = Config.just(ConfigSources.create(Map.of("type", "rate-limiting",
+                                                         "param", "5")));
+        Sampler sampler = Sampler.create(config);
+        assertThat(sampler.sample(Optional.of(new TestSpanContext(Optional.of(false)))), is(false));
+        assertThat(sampler.sample(Optional.empty()), is(true));
+
+        Config invalid = Config.just(ConfigSources.create(Map.of("type", "unknown")));
+        assertThrows(IllegalArgumentException.class, () -> Sampler.create(invalid));
+    }
+
+    private record TestSpanContext(Optional<Boolean> sampled) implements SpanContext {
+        @Override
+        public String traceId() {
+            return "trace";
+        }
+
+        @Override
+        public String spanId() {
+            return "span";
+        }
+
+        @Override
+        public void asParent(Span.Builder<?> spanBuilder) {
+        }
+
+        @Override
+        public Baggage baggage() {
+            return NoOpTracer.instance().spanBuilder("parent").start().baggage();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.tracing;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasSize;
+
+/**
+ * Unit test for {@link SpanExportBuffer}.
+ */
+class SpanExportBufferTest {
+    @Test
+    void testFlush() {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        SpanExportBuffer buffer = SpanExportBuffer.create(exporter, 16, 16);
+
+        List<Span> spans = spans(5);
+        spans.forEach(buffer::ended);
+        assertThat(buffer.size(), is(5));
+        assertThat(exporter.spans(), hasSize(0));
+
+        buffer.flush();
+        assertThat(buffer.size(), is(0));
+        assertThat(buffer.exported(), is(5L));
+        assertThat(exporter.spans(), contains(spans.toArray()));
+
+        exporter.clear();
+        assertThat(exporter.spans(), hasSize(0));
+    }
+
+    @Test
+    void testDropWhenFull() throws InterruptedException {
+        CountDownLatch exportStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemorySpanExporter delegate = InMemorySpanExporter.create();
+        // capacity is rounded up to 4
+        SpanExportBuffer buffer = SpanExportBuffer.create(spans -> {
+            exportStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.export(spans);
+        }, 3, 4);
+
+        List<Span> spans = spans(20);
+        spans.forEach(buffer::ended);
+        assertThat(exportStarted.await(10, TimeUnit.SECONDS), is(true));
+        spans.forEach(buffer::ended);
+
+        // the exporter is blocked with at most one batch, so at most one more batch fits into the buffer
+        assertThat(buffer.dropped(), greaterThanOrEqualTo(32L));
+
+        release.countDown();
+        buffer.flush();
+        assertThat(buffer.exported() + buffer.dropped(), is(40L));
+        assertThat((long) delegate.spans().size(), is(buffer.exported()));
+    }
+
+    @Test
+    void testBatchExport() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        List<List<Span>> batches = new ArrayList<>();
+        SpanExportBuffer buffer = SpanExportBuffer.create(spans -> {
+            batches.add(spans);
+            latch.countDown();
+        }, 64, 4);
+
+        spans(4).forEach(buffer::ended);
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+        buffer.flush();
+        assertThat(batches, hasSize(1));
+        assertThat(batches.getFirst(), hasSize(4));
+    }
+
+    @Test
+    void testFlushWaitsForRunningExport() throws InterruptedException {
+        CountDownLatch exportStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InMemorySpanExporter delegate = InMemorySpanExporter.create();
+        SpanExportBuffer buffer = SpanExportBuffer.create(spans -> {
+            exportStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delegate.export(spans);
+        }, 16, 4);
+
+        spans(4).forEach(buffer::ended);
+        assertThat(exportStarted.await(10, TimeUnit.SECONDS), is(true));
+        spans(2).forEach(buffer::ended);
+
+        Thread flushing = Thread.ofPlatform().start(buffer::flush);
+        // the flush must park until the export finishes, not spin
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (flushing.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(flushing.getState(), is(Thread.State.WAITING));
+        release.countDown();
+        flushing.join(10_000);
+
+        assertThat(flushing.isAlive(), is(false));
+        assertThat(buffer.exported(), is(6L));
+        assertThat(delegate.spans(), hasSize(6));
+    }
+
+    @Test
+    void testFailingExporter() {
+        SpanExportBuffer buffer = SpanExportBuffer.create(spans -> {
+            throw new IllegalStateException("Failed intentionally");
+        }, 16, 16);
+        spans(3).forEach(buffer::ended);
+        buffer.flush();
+        assertThat(buffer.dropped(), is(3L));
+        assertThat(buffer.exported(), is(0L));
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        SpanExportBuffer buffer = SpanExportBuffer.create(exporter, 128, 16);
+        int threads = 8;
+        int perThread = 1000;
+        List<Thread> started = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            started.add(Thread.ofVirtual().start(() -> spans(perThread).forEach(buffer::ended)));
+        }
+        for (Thread thread : started) {
+            thread.join();
+        }
+        buffer.flush();
+        assertThat(buffer.exported() + buffer.dropped(), is((long) threads * perThread));
+        assertThat((long) exporter.spans().size(), is(buffer.exported()));
+    }
+
+    @Test
+    void testUnsampledSpansIgnored() {
+        InMemorySpanExporter exporter = InMemorySpanExporter.create();
+        SpanExportBuffer buffer = SpanExportBuffer.create(exporter, 16, 16);
+
+        Span sampled = NoOpTracer.instance().spanBuilder("sampled").start();
+        buffer.ended(sampled);
+        buffer.ended(unsampledSpan());
+        buffer.ended(unsampledSpan(), new IllegalStateException("Failed intentionally"));
+        assertThat(buffer.size(), is(1));
+
+        buffer.flush();
+        assertThat(buffer.dropped(), is(0L));
+        assertThat(exporter.spans(), contains(sampled));
+    }
+
+    private static List<Span> spans(int count) {
+        List<Span> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(NoOpTracer.instance().spanBuilder("span-" + i).start());
+        }
+        return result;
+    }
+
+    private static Span unsampledSpan() {
+        Span span = NoOpTracer.instance().spanBuilder("unsampled").start();
+        SpanContext spanContext = span.context();
+        SpanContext unsampled = new SpanContext() {
+            @Override
+            public String traceId() {
+                return spanContext.traceId();
+            }
+
+            @Override
+            public String spanId() {
+                return spanContext.spanId();
+            }
+
+            @Override
+            public void asParent(Span.Builder<?> spanBuilder) {
+                spanContext.asParent(spanBuilder);
+            }
+
+            @Override
+            public Baggage baggage() {
+                return spanContext.baggage();
+            }
+
+            @Override
+            public Optional<Boolean> sampled() {
+                return Optional.of(false);
+            }
+        };
+        return (Span) Proxy.newProxyInstance(Span.class.getClassLoader(),
+                                             new Class<?>[] {Span.class},
+                                             (proxy, method, args) -> "context".equals(method.getName())
+                                                     ? unsampled
+                                                     : method.invoke(span, args));
+    }
+}
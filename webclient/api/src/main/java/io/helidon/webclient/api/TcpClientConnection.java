@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -338,6 +338,7 @@ public class TcpClientConnection implements ClientConnection {
             // have space in writerBuffer?
             if (buffer.available() <= writerBuffer.capacity()) {
                 writerBuffer.write(buffer);
+                buffer.release();
                 return;
             }
             // write and reset writerBuffer if we have data
@@ -347,6 +348,7 @@ public class TcpClientConnection implements ClientConnection {
                 // have space now?
                 if (buffer.available() <= writerBuffer.capacity()) {
                     writerBuffer.write(buffer);
+                    buffer.release();
                     return;
                 }
             }
@@ -358,14 +360,14 @@ public class TcpClientConnection implements ClientConnection {
         public void writeNow(BufferData... buffers) {
             flush();
             for (BufferData buffer : buffers) {
-                helidonSocket.write(buffer);
+                writeAndRelease(buffer);
             }
         }
 
         @Override
         public void writeNow(BufferData buffer) {
             flush();
-            helidonSocket.write(buffer);
+            writeAndRelease(buffer);
         }
 
         @Override
@@ -375,5 +377,13 @@ public class TcpClientConnection implements ClientConnection {
                 writerBuffer.reset();
             }
         }
+
+        private void writeAndRelease(BufferData buffer) {
+            try {
+                helidonSocket.write(buffer);
+            } finally {
+                buffer.release();
+            }
+        }
     }
 }
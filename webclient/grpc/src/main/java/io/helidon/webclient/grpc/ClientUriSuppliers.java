@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.security.SecureRandom;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.webclient.api.ClientUri;
 
@@ -78,7 +79,7 @@ public class ClientUriSuppliers {
      */
     public static class RoundRobinSupplier implements ClientUriSupplier {
 
-        private int next;
+        private final AtomicInteger next = new AtomicInteger();
         private final ClientUri[] clientUris;
 
         /**
@@ -112,7 +113,7 @@ public class ClientUriSuppliers {
 
         @Override
         public ClientUri next() {
-            return clientUris[next++ % clientUris.length];
+            return clientUris[Math.floorMod(next.getAndIncrement(), clientUris.length)];
         }
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
@@ -55,11 +56,15 @@ import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.http2.Http2ClientConnection;
 import io.helidon.webclient.http2.Http2ClientImpl;
 import io.helidon.webclient.http2.Http2StreamConfig;
+import io.helidon.webclient.loadbalancer.Endpoint;
+import io.helidon.webclient.loadbalancer.LoadBalancer;
 
 import io.grpc.CallOptions;
 import io.grpc.ClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
+import io.grpc.Status;
 
 import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 import static java.lang.System.Logger.Level.DEBUG;
@@ -94,6 +99,7 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
     private final boolean abortPollTimeExpired;
     private final Duration heartbeatPeriod;
     private final ClientUriSupplier clientUriSupplier;
+    private final LoadBalancer loadBalancer;
     private final GrpcClientConfig grpcConfig;
 
     private final MethodDescriptor.Marshaller<ReqT> requestMarshaller;
@@ -122,14 +128,15 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
         this.abortPollTimeExpired = grpcClient.prototype().protocolConfig().abortPollTimeExpired();
         this.heartbeatPeriod = grpcClient.prototype().protocolConfig().heartbeatPeriod();
         this.clientUriSupplier = grpcClient.prototype().clientUriSupplier().orElse(null);
+        // load balancer is an optional dependency, its types must not be used if it is not configured
+        Optional<LoadBalancer> loadBalancer = grpcClient.prototype().loadBalancer();
+        this.loadBalancer = loadBalancer.isPresent() ? loadBalancer.get() : null;
     }
 
     @Override
     public void start(Listener<ResT> responseListener, Metadata metadata) {
         LOGGER.log(DEBUG, "start called");
 
-        this.responseListener = responseListener;
-
         // init metrics
         if (grpcConfig.enableMetrics()) {
             initMetrics();
@@ -139,8 +146,34 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
             methodMetrics.callStarted.increment();
         }
 
+        // choose endpoint, outcome of the call is reported to the load balancer
+        ClientUri clientUri;
+        Endpoint.Call endpointCall = null;
+        if (loadBalancer == null) {
+            clientUri = nextClientUri();
+            this.responseListener = responseListener;
+        } else {
+            Endpoint endpoint = loadBalancer.select();
+            clientUri = ClientUri.create(endpoint.uri());
+            endpointCall = endpoint.start();
+            this.responseListener = new EndpointCallListener<>(responseListener, endpointCall);
+        }
+
+        try {
+            startStream(clientUri);
+        } catch (RuntimeException e) {
+            if (endpointCall != null) {
+                // the response listener may never be closed, a call is only reported to the load balancer once
+                endpointCall.failure();
+            }
+            throw e;
+        }
+    }
+
+    abstract void startStreamingThreads();
+
+    private void startStream(ClientUri clientUri) {
         // obtain HTTP2 connection
-        ClientUri clientUri = nextClientUri();
         ClientConnection clientConnection = clientConnection(clientUri);
         socket = clientConnection.helidonSocket();
         connection = Http2ClientConnection.create((Http2ClientImpl) grpcClient.http2Client(),
@@ -185,8 +218,6 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
         clientStream.writeHeaders(Http2Headers.create(headers), false);
     }
 
-    abstract void startStreamingThreads();
-
     /**
      * Unary blocking calls that use stubs provide their own executor which needs
      * to be used at least once to unblock the calling thread and complete the
@@ -354,4 +385,26 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
             return new MethodMetrics(callStarted, callDuration, sentMessageSize, recvMessageSize);
         });
     }
+
+    /**
+     * Reports the outcome of a call to the endpoint chosen by the load balancer.
+     */
+    private static final class EndpointCallListener<ResT> extends SimpleForwardingClientCallListener<ResT> {
+        private final Endpoint.Call endpointCall;
+
+        private EndpointCallListener(Listener<ResT> delegate, Endpoint.Call endpointCall) {
+            super(delegate);
+            this.endpointCall = endpointCall;
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            switch (status.getCode()) {
+            case UNAVAILABLE, DEADLINE_EXCEEDED, UNKNOWN, INTERNAL, DATA_LOSS -> endpointCall.failure();
+            case CANCELLED -> endpointCall.release();
+            default -> endpointCall.success();
+            }
+            super.onClose(status, trailers);
+        }
+    }
 }
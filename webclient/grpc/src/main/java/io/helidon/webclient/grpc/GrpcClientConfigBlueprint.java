@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,11 +21,12 @@ import java.util.Optional;
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.webclient.api.HttpClientConfig;
+import io.helidon.webclient.loadbalancer.LoadBalancer;
 
 /**
  * Configuration of a grpc client.
  */
-@Prototype.Blueprint
+@Prototype.Blueprint(decorator = GrpcClientConfigSupport.GrpcBuilderDecorator.class)
 @Prototype.Configured
 interface GrpcClientConfigBlueprint extends HttpClientConfig, Prototype.Factory<GrpcClient> {
 
@@ -46,6 +47,19 @@ interface GrpcClientConfigBlueprint extends HttpClientConfig, Prototype.Factory<
      */
     Optional<ClientUriSupplier> clientUriSupplier();
 
+    /**
+     * Load balancer to choose an endpoint for each call. If configured, it takes precedence
+     * over both {@link #clientUriSupplier()} and base URI. The outcome of each call
+     * is reported to the load balancer, so endpoints that keep failing are ejected.
+     * <p>
+     * Load balancer can also be configured using the {@code load-balancer} configuration key,
+     * see {@link io.helidon.webclient.loadbalancer.LoadBalancerConfig}. Both require the
+     * {@code helidon-webclient-loadbalancer} module, which is an optional dependency of the gRPC client.
+     *
+     * @return load balancer
+     */
+    Optional<LoadBalancer> loadBalancer();
+
     /**
      * Whether to collect metrics for gRPC client calls.
      *
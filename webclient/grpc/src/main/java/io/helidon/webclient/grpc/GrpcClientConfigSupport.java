@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.grpc;
+
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.config.Config;
+import io.helidon.webclient.loadbalancer.LoadBalancerConfig;
+
+class GrpcClientConfigSupport {
+    static class GrpcBuilderDecorator implements Prototype.BuilderDecorator<GrpcClientConfig.BuilderBase<?, ?>> {
+        @Override
+        public void decorate(GrpcClientConfig.BuilderBase<?, ?> target) {
+            if (target.loadBalancer().isPresent()) {
+                return;
+            }
+            // load balancer is an optional dependency, its types must only be used when it is configured
+            target.config()
+                    .map(it -> it.get("load-balancer"))
+                    .filter(Config::exists)
+                    .ifPresent(it -> target.loadBalancer(LoadBalancerConfig.create(it)));
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import io.helidon.common.features.api.HelidonFlavor;
 module io.helidon.webclient.grpc {
 
     requires static io.helidon.common.features.api;
+    requires static io.helidon.webclient.loadbalancer;
 
     requires transitive io.grpc;
     requires transitive io.grpc.stub;
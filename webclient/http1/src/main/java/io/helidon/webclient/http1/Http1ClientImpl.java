@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,11 +34,12 @@ class Http1ClientImpl implements Http1Client, HttpClientSpi {
         this.webClient = webClient;
         this.clientConfig = clientConfig;
         this.protocolConfig = clientConfig.protocolConfig();
+        Http1ConnectionPoolConfig poolConfig = protocolConfig.connectionPool();
         if (clientConfig.shareConnectionCache()) {
-            this.connectionCache = Http1ConnectionCache.shared();
+            this.connectionCache = Http1ConnectionCache.shared(poolConfig);
             this.clientCache = null;
         } else {
-            this.connectionCache = Http1ConnectionCache.create();
+            this.connectionCache = Http1ConnectionCache.create(poolConfig);
             this.clientCache = connectionCache;
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -87,4 +87,14 @@ interface Http1ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultBoolean(true)
     boolean validateResponseHeaders();
+
+    /**
+     * Configuration of the pool of keep-alive connections, such as connection limits, and idle connection eviction.
+     * By default, the number of connections is not limited, and idle connections are kept until closed by the server.
+     *
+     * @return connection pool configuration
+     */
+    @Option.Configured
+    @Option.DefaultMethod("create")
+    Http1ConnectionPoolConfig connectionPool();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,18 +17,31 @@
 package io.helidon.webclient.http1;
 
 import java.time.Duration;
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+import io.helidon.common.LazyValue;
 import io.helidon.common.tls.Tls;
 import io.helidon.http.ClientRequestHeaders;
 import io.helidon.http.HeaderValues;
 import io.helidon.http.WritableHeaders;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.ConnectionKey;
@@ -37,31 +50,80 @@ import io.helidon.webclient.api.TcpClientConnection;
 import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.spi.ClientConnectionCache;
 
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 import static java.lang.System.Logger.Level.DEBUG;
 
 /**
  * Cache of HTTP/1.1 connections for keep alive.
+ * <p>
+ * The cache is a pool of connections, that enforces the limits of {@link io.helidon.webclient.http1.Http1ConnectionPoolConfig}.
+ * Open connections are counted from the moment a new connection is requested until it is closed, idle connections
+ * keep their slot.
  */
 class Http1ConnectionCache extends ClientConnectionCache {
     private static final System.Logger LOGGER = System.getLogger(Http1ConnectionCache.class.getName());
     private static final Tls NO_TLS = Tls.builder().enabled(false).build();
     private static final String HTTPS = "https";
-    private static final Http1ConnectionCache SHARED = new Http1ConnectionCache(true);
+    private static final Map<Http1ConnectionPoolConfig, Http1ConnectionCache> SHARED = new ConcurrentHashMap<>();
     private static final List<String> ALPN_ID = List.of(Http1Client.PROTOCOL_ID);
-    private static final Duration QUEUE_TIMEOUT = Duration.ofMillis(10);
-    private final Map<ConnectionKey, LinkedBlockingDeque<TcpClientConnection>> cache = new ConcurrentHashMap<>();
-    private final AtomicBoolean closed = new AtomicBoolean();
+    // distinguishes metrics of caches with the same pool name
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+    private static final LazyValue<ScheduledExecutorService> REAPER = LazyValue.create(() -> {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(
+                1,
+                Thread.ofPlatform()
+                        .daemon()
+                        .name("helidon-http1-connection-reaper")
+                        .factory());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    });
 
-    protected Http1ConnectionCache(boolean shared) {
+    private final Map<ConnectionKey, HostPool> cache = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition connectionAvailable = lock.newCondition();
+    private final Http1ConnectionPoolConfig poolConfig;
+    private final int maxConnections;
+    private final int maxConnectionsPerHost;
+    private final long maxIdleNanos;
+    private final long timeToLiveNanos;
+    private final List<Gauge<Integer>> gauges = new ArrayList<>();
+    private final ScheduledFuture<?> reaperTask;
+
+    // all guarded by lock
+    private int open;
+    private int idle;
+    private int pending;
+    private boolean closed;
+
+    protected Http1ConnectionCache(boolean shared, Http1ConnectionPoolConfig poolConfig) {
         super(shared);
+
+        this.poolConfig = poolConfig;
+        this.maxConnections = poolConfig.maxConnections() < 0 ? Integer.MAX_VALUE : poolConfig.maxConnections();
+        this.maxConnectionsPerHost = poolConfig.maxConnectionsPerHost() < 0
+                ? Integer.MAX_VALUE
+                : poolConfig.maxConnectionsPerHost();
+        this.maxIdleNanos = poolConfig.maxIdleTime().map(Duration::toNanos).orElse(Long.MAX_VALUE);
+        this.timeToLiveNanos = poolConfig.timeToLive().map(Duration::toNanos).orElse(Long.MAX_VALUE);
+
+        if (poolConfig.maxIdleTime().isPresent() || poolConfig.timeToLive().isPresent()) {
+            long period = poolConfig.reapPeriod().toMillis();
+            this.reaperTask = REAPER.get().scheduleWithFixedDelay(this::reap, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            this.reaperTask = null;
+        }
+        if (poolConfig.enableMetrics()) {
+            initMetrics();
+        }
     }
 
-    static Http1ConnectionCache shared() {
-        return SHARED;
+    static Http1ConnectionCache shared(Http1ConnectionPoolConfig poolConfig) {
+        return SHARED.computeIfAbsent(poolConfig, it -> new Http1ConnectionCache(true, it));
     }
 
-    static Http1ConnectionCache create() {
-        return new Http1ConnectionCache(false);
+    static Http1ConnectionCache create(Http1ConnectionPoolConfig poolConfig) {
+        return new Http1ConnectionCache(false, poolConfig);
     }
 
     ClientConnection connection(Http1ClientImpl http1Client,
@@ -82,19 +144,87 @@ class Http1ConnectionCache extends ClientConnectionCache {
 
     @Override
     public void evict() {
-        cache.values().stream()
-                .flatMap(Collection::stream)
-                .forEach(TcpClientConnection::closeResource);
+        List<TcpClientConnection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            for (HostPool hostPool : cache.values()) {
+                IdleConnection idleConnection;
+                while ((idleConnection = hostPool.idle.pollFirst()) != null) {
+                    idle--;
+                    toClose.add(idleConnection.connection());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(TcpClientConnection::closeResource);
     }
 
     @Override
     public void closeResource() {
-        if (closed.getAndSet(true)) {
-            return;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // fail requests waiting for a connection
+            connectionAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (reaperTask != null) {
+            reaperTask.cancel(false);
+        }
+        if (!gauges.isEmpty()) {
+            MeterRegistry meterRegistry = Metrics.globalRegistry();
+            gauges.forEach(meterRegistry::remove);
         }
         evict();
     }
 
+    /**
+     * Number of connections currently used by requests.
+     *
+     * @return leased connections
+     */
+    int leased() {
+        lock.lock();
+        try {
+            return open - idle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of open connections waiting to be reused.
+     *
+     * @return idle connections
+     */
+    int idle() {
+        lock.lock();
+        try {
+            return idle;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Number of requests waiting for a connection, because a limit was reached.
+     *
+     * @return pending requests
+     */
+    int pending() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private boolean handleKeepAlive(boolean defaultKeepAlive, WritableHeaders<?> headers) {
         if (headers.contains(HeaderValues.CONNECTION_CLOSE)) {
             return false;
@@ -116,10 +246,6 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                                  ClientUri uri,
                                                  Proxy proxy) {
 
-        if (closed.get()) {
-            throw new IllegalStateException("Connection cache is closed");
-        }
-
         Http1ClientConfig clientConfig = http1Client.clientConfig();
 
         ConnectionKey connectionKey = new ConnectionKey(uri.scheme(),
@@ -131,30 +257,113 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                                         clientConfig.dnsAddressLookup(),
                                                         proxy);
 
-        LinkedBlockingDeque<TcpClientConnection> connectionQueue =
-                cache.computeIfAbsent(connectionKey,
-                                      it -> new LinkedBlockingDeque<>(clientConfig.connectionCacheSize()));
-
-        TcpClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
-        }
-
-        if (connection == null) {
-            connection = TcpClientConnection.create(http1Client.webClient(),
-                                                    connectionKey,
-                                                    ALPN_ID,
-                                                    conn -> finishRequest(connectionQueue, conn),
-                                                    conn -> {
-                                                    })
-                    .connect();
-        } else {
+        Lease lease = lease(connectionKey, clientConfig.connectionCacheSize());
+        if (lease.connection() != null) {
+            TcpClientConnection connection = lease.connection();
             if (LOGGER.isLoggable(DEBUG)) {
                 LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
                                                 connection.channelId(),
                                                 Thread.currentThread().getName()));
             }
+            return connection;
+        }
+
+        HostPool hostPool = lease.hostPool();
+        long created = System.nanoTime();
+        try {
+            return TcpClientConnection.create(http1Client.webClient(),
+                                              connectionKey,
+                                              ALPN_ID,
+                                              conn -> finishRequest(hostPool, conn, created),
+                                              conn -> connectionClosed(hostPool, conn))
+                    .connect();
+        } catch (RuntimeException e) {
+            // the slot reserved for the connection is free again
+            connectionClosed(hostPool);
+            throw e;
+        }
+    }
+
+    /*
+    Either obtains an idle connection, or reserves a slot for a new connection (returned lease has no connection).
+     */
+    private Lease lease(ConnectionKey connectionKey, int connectionCacheSize) {
+        List<TcpClientConnection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            HostPool hostPool = cache.computeIfAbsent(connectionKey, it -> new HostPool(connectionCacheSize));
+            long deadline = 0;
+            while (true) {
+                if (closed) {
+                    throw new IllegalStateException("Connection cache is closed");
+                }
+                long now = System.nanoTime();
+                // connections are reused in the order they were returned
+                IdleConnection idleConnection;
+                while ((idleConnection = hostPool.idle.pollFirst()) != null) {
+                    idle--;
+                    TcpClientConnection connection = idleConnection.connection();
+                    if (connection.isConnected() && !expired(idleConnection, now)) {
+                        return new Lease(hostPool, connection);
+                    }
+                    toClose.add(connection);
+                }
+                if (hostPool.open < maxConnectionsPerHost) {
+                    if (open < maxConnections || evictIdle(toClose)) {
+                        hostPool.open++;
+                        open++;
+                        return new Lease(hostPool, null);
+                    }
+                }
+                if (deadline == 0) {
+                    deadline = now + poolConfig.acquireTimeout().toNanos();
+                }
+                long remaining = deadline - now;
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Timed out after " + poolConfig.acquireTimeout()
+                                                            + " waiting for a connection to " + connectionKey.host()
+                                                            + ":" + connectionKey.port()
+                                                            + ", connection pool limit reached");
+                }
+                pending++;
+                try {
+                    connectionAvailable.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a connection", e);
+                } finally {
+                    pending--;
+                }
+            }
+        } finally {
+            lock.unlock();
+            // closing a connection may block on I/O, so it is done without holding the lock
+            toClose.forEach(TcpClientConnection::closeResource);
         }
-        return connection;
+    }
+
+    // total limit reached, close the least recently used idle connection of any host to make space
+    private boolean evictIdle(List<TcpClientConnection> toClose) {
+        HostPool victimPool = null;
+        long oldest = Long.MAX_VALUE;
+        for (HostPool hostPool : cache.values()) {
+            IdleConnection candidate = hostPool.idle.peekFirst();
+            if (candidate != null && candidate.idleSince() < oldest) {
+                oldest = candidate.idleSince();
+                victimPool = hostPool;
+            }
+        }
+        if (victimPool == null) {
+            return false;
+        }
+        idle--;
+        // counted as closed right away, so the slot can be used by the caller
+        victimPool.open--;
+        open--;
+        TcpClientConnection victim = victimPool.idle.pollFirst().connection();
+        victimPool.evicted.add(victim);
+        toClose.add(victim);
+        return true;
     }
 
     private ClientConnection oneOffConnection(Http1ClientImpl http1Client,
@@ -182,34 +391,137 @@ class Http1ConnectionCache extends ClientConnectionCache {
                 .connect();
     }
 
-    private boolean finishRequest(LinkedBlockingDeque<TcpClientConnection> connectionQueue, TcpClientConnection conn) {
-        if (conn.isConnected()) {
-            try {
-                if (connectionQueue.offer(conn, QUEUE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
-                    conn.helidonSocket().idle(); // mark it as idle to stay blocked at read for closed conn detection
-                    if (LOGGER.isLoggable(DEBUG)) {
-                        LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
-                                                        conn.channelId(),
-                                                        Thread.currentThread().getName()));
-                    }
-                    return true;
-                } else {
-                    if (LOGGER.isLoggable(DEBUG)) {
-                        LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because queue is full %s",
-                                                        conn.channelId(),
-                                                        Thread.currentThread().getName()));
-                    }
+    private boolean finishRequest(HostPool hostPool, TcpClientConnection conn, long created) {
+        if (!conn.isConnected()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (now - created >= timeToLiveNanos) {
+                if (LOGGER.isLoggable(DEBUG)) {
+                    LOGGER.log(DEBUG, String.format("[%s] Client connection exceeded its time to live %s",
+                                                    conn.channelId(),
+                                                    Thread.currentThread().getName()));
                 }
-            } catch (InterruptedException e) {
+                return false;
+            }
+            if (hostPool.idle.size() >= hostPool.maxIdle) {
                 if (LOGGER.isLoggable(DEBUG)) {
-                    LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection due to '%s' %s",
+                    LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because queue is full %s",
                                                     conn.channelId(),
-                                                    e.getMessage(),
                                                     Thread.currentThread().getName()));
                 }
+                return false;
             }
+            hostPool.idle.addLast(new IdleConnection(conn, created, now));
+            idle++;
+            connectionAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        conn.helidonSocket().idle(); // mark it as idle to stay blocked at read for closed conn detection
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
+                                            conn.channelId(),
+                                            Thread.currentThread().getName()));
         }
+        return true;
+    }
 
-        return false;
+    private void connectionClosed(HostPool hostPool) {
+        lock.lock();
+        try {
+            hostPool.open--;
+            open--;
+            connectionAvailable.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // closing a connection evicted to make space, it was already uncounted
+    private void connectionClosed(HostPool hostPool, TcpClientConnection connection) {
+        lock.lock();
+        try {
+            if (!hostPool.evicted.remove(connection)) {
+                connectionClosed(hostPool);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean expired(IdleConnection idleConnection, long now) {
+        return now - idleConnection.idleSince() >= maxIdleNanos
+                || now - idleConnection.created() >= timeToLiveNanos;
+    }
+
+    private void reap() {
+        List<TcpClientConnection> toClose = new ArrayList<>();
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Iterator<HostPool> hostPools = cache.values().iterator();
+            while (hostPools.hasNext()) {
+                HostPool hostPool = hostPools.next();
+                Iterator<IdleConnection> idleConnections = hostPool.idle.iterator();
+                while (idleConnections.hasNext()) {
+                    IdleConnection idleConnection = idleConnections.next();
+                    if (expired(idleConnection, now) || !idleConnection.connection().isConnected()) {
+                        idleConnections.remove();
+                        idle--;
+                        toClose.add(idleConnection.connection());
+                    }
+                }
+                if (hostPool.open == 0) {
+                    hostPools.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (LOGGER.isLoggable(DEBUG) && !toClose.isEmpty()) {
+            LOGGER.log(DEBUG, "Closing " + toClose.size() + " idle client connections");
+        }
+        toClose.forEach(TcpClientConnection::closeResource);
+    }
+
+    private void initMetrics() {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        MeterRegistry meterRegistry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("pool", poolConfig.name()),
+                                 Tag.create("instance", String.valueOf(INSTANCE_COUNTER.incrementAndGet())));
+
+        gauges.add(meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("http1_client_connections_leased", this::leased)
+                                                     .scope(VENDOR)
+                                                     .tags(tags)));
+        gauges.add(meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("http1_client_connections_idle", this::idle)
+                                                     .scope(VENDOR)
+                                                     .tags(tags)));
+        gauges.add(meterRegistry.getOrCreate(metricsFactory.gaugeBuilder("http1_client_connections_pending", this::pending)
+                                                     .scope(VENDOR)
+                                                     .tags(tags)));
+    }
+
+    private record Lease(HostPool hostPool, TcpClientConnection connection) {
+    }
+
+    private record IdleConnection(TcpClientConnection connection, long created, long idleSince) {
+    }
+
+    // guarded by the lock of the cache
+    private static final class HostPool {
+        private final ArrayDeque<IdleConnection> idle = new ArrayDeque<>();
+        private final List<TcpClientConnection> evicted = new ArrayList<>();
+        private final int maxIdle;
+        private int open;
+
+        private HostPool(int maxIdle) {
+            this.maxIdle = maxIdle;
+        }
     }
 }
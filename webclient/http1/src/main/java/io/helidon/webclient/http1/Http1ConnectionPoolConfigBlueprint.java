@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of the pool of HTTP/1.1 keep-alive connections.
+ * <p>
+ * Limits count all open connections of the pool, both the ones used by a request (leased), and the ones waiting
+ * to be reused (idle). When a limit is reached, a request waits for a connection to be returned to the pool or closed,
+ * for up to {@link #acquireTimeout()}.
+ * Clients that share the connection cache (see {@link io.helidon.webclient.api.HttpClientConfig#shareConnectionCache()})
+ * share a pool only if they have the same pool configuration.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface Http1ConnectionPoolConfigBlueprint {
+    /**
+     * Maximal number of open connections of the pool across all hosts.
+     * Defaults to {@code -1}, which means unlimited.
+     *
+     * @return maximal number of connections
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnections();
+
+    /**
+     * Maximal number of open connections of the pool to a single host (distinguished by scheme, host, port and
+     * connection settings such as TLS and proxy).
+     * Defaults to {@code -1}, which means unlimited.
+     *
+     * @return maximal number of connections per host
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnectionsPerHost();
+
+    /**
+     * How long to wait for a connection when a limit of the pool is reached. When the timeout elapses,
+     * the request fails with an {@link java.lang.IllegalStateException}.
+     *
+     * @return acquire timeout
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration acquireTimeout();
+
+    /**
+     * How long an idle connection is kept in the pool. Idle connections are closed by a background task.
+     * If not configured, idle connections are kept until closed by the server.
+     *
+     * @return maximal idle time of a connection
+     */
+    @Option.Configured
+    Optional<Duration> maxIdleTime();
+
+    /**
+     * Maximal time to live of a connection, counted from the moment it was opened. Connections older than this
+     * are not reused, and are closed by a background task when idle.
+     * If not configured, connections are reused regardless of their age.
+     *
+     * @return time to live of a connection
+     */
+    @Option.Configured
+    Optional<Duration> timeToLive();
+
+    /**
+     * How often to check the pool for connections that exceeded {@link #maxIdleTime()}, or {@link #timeToLive()}.
+     * Only used if at least one of these is configured.
+     *
+     * @return period of idle connection checks
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration reapPeriod();
+
+    /**
+     * Whether to publish gauges of the pool (number of leased, idle connections and pending requests)
+     * using Helidon metrics.
+     * The gauges are tagged with the {@link #name()} of the pool, and with an {@code instance} tag unique for each
+     * connection cache, as several clients may use pools of the same name. Gauges are removed when the cache is closed.
+     *
+     * @return whether metrics are enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+
+    /**
+     * Name of the pool, used as a value of the {@code pool} tag of the pool metrics.
+     *
+     * @return name of the pool
+     */
+    @Option.Configured
+    @Option.Default("default")
+    String name();
+}
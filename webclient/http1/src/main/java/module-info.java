@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,8 @@ module io.helidon.webclient.http1 {
 
     requires static io.helidon.common.features.api;
 
+    requires io.helidon.metrics.api;
+
     requires transitive io.helidon.webclient.api;
 
     exports io.helidon.webclient.http1;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -103,7 +103,11 @@ public class Http2ClientConnection {
         this.ctx = connection.helidonSocket();
         this.dataWriter = connection.writer();
         this.reader = connection.reader();
-        this.writer = new Http2ConnectionWriter(connection.helidonSocket(), connection.writer(), List.of());
+        this.writer = new Http2ConnectionWriter(connection.helidonSocket(),
+                                                connection.writer(),
+                                                List.of(),
+                                                protocolConfig.writeBatchFrames(),
+                                                protocolConfig.writeBatchBytes());
     }
 
     /**
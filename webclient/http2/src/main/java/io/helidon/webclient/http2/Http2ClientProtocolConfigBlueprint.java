@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.time.Duration;
 
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
+import io.helidon.http.http2.Http2ConnectionWriter;
 import io.helidon.webclient.spi.ProtocolConfig;
 
 @Prototype.Blueprint(decorator = Http2ClientConfigSupport.ProtocolConfigDecorator.class)
@@ -116,4 +117,26 @@ interface Http2ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.Default("PT0.5S")
     Duration pingTimeout();
+
+    /**
+     * Maximal number of frames written to the socket with a single write.
+     * Frames of all streams of a connection are queued, and pending frames are written together.
+     * Set to {@code 1} to write each frame separately.
+     * Defaults to {@value io.helidon.http.http2.Http2ConnectionWriter#DEFAULT_WRITE_BATCH_FRAMES}.
+     *
+     * @return maximal number of frames in a single write
+     */
+    @Option.Configured
+    @Option.DefaultInt(Http2ConnectionWriter.DEFAULT_WRITE_BATCH_FRAMES)
+    int writeBatchFrames();
+
+    /**
+     * Number of bytes after which pending frames are written to the socket, even if more frames are queued.
+     * Defaults to {@value io.helidon.http.http2.Http2ConnectionWriter#DEFAULT_WRITE_BATCH_BYTES}.
+     *
+     * @return number of bytes that triggers a write
+     */
+    @Option.Configured
+    @Option.DefaultInt(Http2ConnectionWriter.DEFAULT_WRITE_BATCH_BYTES)
+    int writeBatchBytes();
 }
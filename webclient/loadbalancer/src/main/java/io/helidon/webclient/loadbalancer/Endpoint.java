@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * An endpoint of a {@link io.helidon.webclient.loadbalancer.LoadBalancer}.
+ */
+public interface Endpoint {
+    /**
+     * URI of this endpoint, requests are sent to its scheme, host and port.
+     *
+     * @return endpoint URI
+     */
+    URI uri();
+
+    /**
+     * Number of requests started and not yet completed.
+     *
+     * @return outstanding requests
+     */
+    int outstandingRequests();
+
+    /**
+     * Exponentially weighted moving average of the latency of successful requests.
+     * The average follows latency peaks immediately, and decays over
+     * {@link io.helidon.webclient.loadbalancer.LoadBalancerConfig#decayTime()}.
+     *
+     * @return latency, {@link java.time.Duration#ZERO} if no request completed yet
+     */
+    Duration latency();
+
+    /**
+     * Number of requests that failed since the last successful request.
+     *
+     * @return consecutive failures
+     */
+    int consecutiveFailures();
+
+    /**
+     * Whether this endpoint is ejected, and will not be chosen by the load balancer.
+     *
+     * @return whether ejected
+     */
+    boolean ejected();
+
+    /**
+     * Start a request to this endpoint.
+     *
+     * @return call to report the outcome of the request
+     */
+    Call start();
+
+    /**
+     * A request started on an endpoint. Exactly one of the methods should be called once the request completes,
+     * subsequent invocations are ignored.
+     */
+    interface Call {
+        /**
+         * The request succeeded. Records the latency of the request and resets consecutive failures of the endpoint.
+         */
+        void success();
+
+        /**
+         * The request failed. The endpoint is ejected when its consecutive failures reach
+         * {@link io.helidon.webclient.loadbalancer.LoadBalancerConfig#failureThreshold()}.
+         */
+        void failure();
+
+        /**
+         * The request completed without an outcome that reflects the endpoint health, such as when cancelled
+         * by the caller.
+         */
+        void release();
+    }
+}
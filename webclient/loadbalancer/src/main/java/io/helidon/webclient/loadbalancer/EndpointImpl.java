@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+class EndpointImpl implements Endpoint {
+    private static final long NOT_EJECTED = Long.MIN_VALUE;
+
+    private final LoadBalancerImpl loadBalancer;
+    private final URI uri;
+    private final double decayTime;
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    // multiplier of the ejection time, grows with each ejection and is reset by a successful request
+    private final AtomicInteger ejectionMultiplier = new AtomicInteger();
+    private final AtomicLong ejectedUntil = new AtomicLong(NOT_EJECTED);
+    private final AtomicReference<Ewma> latency = new AtomicReference<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder ejections = new LongAdder();
+
+    EndpointImpl(LoadBalancerImpl loadBalancer, URI uri, double decayTime) {
+        this.loadBalancer = loadBalancer;
+        this.uri = uri;
+        this.decayTime = decayTime;
+    }
+
+    @Override
+    public URI uri() {
+        return uri;
+    }
+
+    @Override
+    public int outstandingRequests() {
+        return outstanding.get();
+    }
+
+    @Override
+    public Duration latency() {
+        return Duration.ofNanos((long) latencyNanos(loadBalancer.now()));
+    }
+
+    @Override
+    public int consecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    @Override
+    public boolean ejected() {
+        long until = ejectedUntil.get();
+        return until != NOT_EJECTED && until - loadBalancer.now() > 0;
+    }
+
+    @Override
+    public Call start() {
+        requests.increment();
+        outstanding.incrementAndGet();
+        return new CallImpl(loadBalancer.now());
+    }
+
+    @Override
+    public String toString() {
+        return uri.toString();
+    }
+
+    long requests() {
+        return requests.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    long ejections() {
+        return ejections.sum();
+    }
+
+    /*
+    Latency decayed to the provided time, so an endpoint that is not used (such as after a single slow response)
+    is eventually tried again.
+     */
+    double latencyNanos(long now) {
+        Ewma current = latency.get();
+        if (current == null) {
+            return 0;
+        }
+        long elapsed = Math.max(0, now - current.stamp());
+        return current.value() * Math.exp(-elapsed / decayTime);
+    }
+
+    /*
+    Cost used by the power of two choices policy, combining latency and load.
+     */
+    double cost(long now) {
+        return (latencyNanos(now) + 1) * (outstanding.get() + 1);
+    }
+
+    /*
+    Whether this endpoint can be selected, reinstates the endpoint if its ejection time has elapsed.
+     */
+    boolean available(long now) {
+        long until = ejectedUntil.get();
+        if (until == NOT_EJECTED) {
+            return true;
+        }
+        if (until - now > 0) {
+            return false;
+        }
+        if (ejectedUntil.compareAndSet(until, NOT_EJECTED)) {
+            consecutiveFailures.set(0);
+            loadBalancer.reinstated();
+        }
+        return true;
+    }
+
+    /*
+    Eject this endpoint, returns false if it is already ejected.
+     */
+    boolean eject(long now, long ejectionTime, long maxEjectionTime) {
+        if (ejectedUntil.get() != NOT_EJECTED) {
+            return false;
+        }
+        int multiplier = ejectionMultiplier.incrementAndGet();
+        long duration = ejectionTime > maxEjectionTime / multiplier
+                ? maxEjectionTime
+                : ejectionTime * multiplier;
+        // never use the sentinel as an actual value
+        long until = now + duration;
+        if (until == NOT_EJECTED) {
+            until++;
+        }
+        if (ejectedUntil.compareAndSet(NOT_EJECTED, until)) {
+            ejections.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private void success(long startedAt) {
+        long now = loadBalancer.now();
+        double rtt = Math.max(0, now - startedAt);
+        consecutiveFailures.set(0);
+        ejectionMultiplier.set(0);
+
+        Ewma current;
+        Ewma updated;
+        do {
+            current = latency.get();
+            if (current == null) {
+                updated = new Ewma(rtt, now);
+            } else {
+                // peak EWMA: react to latency spikes immediately, decay slowly when the endpoint recovers
+                if (rtt > current.value()) {
+                    updated = new Ewma(rtt, now);
+                } else {
+                    long elapsed = Math.max(0, now - current.stamp());
+                    double weight = Math.exp(-elapsed / decayTime);
+                    updated = new Ewma(current.value() * weight + rtt * (1 - weight), now);
+                }
+            }
+        } while (!latency.compareAndSet(current, updated));
+    }
+
+    private void failure() {
+        failures.increment();
+        if (consecutiveFailures.incrementAndGet() >= loadBalancer.failureThreshold()
+                && ejectedUntil.get() == NOT_EJECTED) {
+            loadBalancer.eject(this);
+        }
+    }
+
+    private record Ewma(double value, long stamp) {
+    }
+
+    private final class CallImpl implements Call {
+        private final AtomicBoolean completed = new AtomicBoolean();
+        private final long startedAt;
+
+        private CallImpl(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void success() {
+            if (complete()) {
+                EndpointImpl.this.success(startedAt);
+            }
+        }
+
+        @Override
+        public void failure() {
+            if (complete()) {
+                EndpointImpl.this.failure();
+            }
+        }
+
+        @Override
+        public void release() {
+            complete();
+        }
+
+        private boolean complete() {
+            if (completed.compareAndSet(false, true)) {
+                outstanding.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+
+/**
+ * Client side load balancer.
+ * <p>
+ * The load balancer chooses an {@link Endpoint} for each request according to its {@link Policy}.
+ * Each request must be reported back using the {@link Endpoint.Call} obtained from {@link Endpoint#start()}, so
+ * the load balancer can track the number of outstanding requests and the latency of each endpoint, and eject
+ * endpoints that fail repeatedly. Ejected endpoints are not chosen until their ejection time passes.
+ */
+@RuntimeType.PrototypedBy(LoadBalancerConfig.class)
+public interface LoadBalancer extends RuntimeType.Api<LoadBalancerConfig> {
+    /**
+     * Create a load balancer from its configuration.
+     *
+     * @param config configuration of the load balancer
+     * @return a new load balancer
+     */
+    static LoadBalancer create(LoadBalancerConfig config) {
+        return new LoadBalancerImpl(config, System::nanoTime);
+    }
+
+    /**
+     * Create a load balancer customizing its configuration.
+     *
+     * @param consumer consumer to update configuration of the load balancer
+     * @return a new load balancer
+     */
+    static LoadBalancer create(Consumer<LoadBalancerConfig.Builder> consumer) {
+        LoadBalancerConfig.Builder builder = LoadBalancerConfig.builder();
+        consumer.accept(builder);
+        return create(builder.buildPrototype());
+    }
+
+    /**
+     * Create a new load balancer fluent API builder.
+     *
+     * @return a new builder
+     */
+    static LoadBalancerConfig.Builder builder() {
+        return LoadBalancerConfig.builder();
+    }
+
+    /**
+     * Choose an endpoint for the next request.
+     * If all endpoints are ejected, the endpoint is chosen from all endpoints.
+     *
+     * @return endpoint to use
+     */
+    Endpoint select();
+
+    /**
+     * All endpoints of this load balancer, including ejected endpoints.
+     *
+     * @return endpoints
+     */
+    List<Endpoint> endpoints();
+
+    /**
+     * Load balancing policy.
+     */
+    enum Policy {
+        /**
+         * Endpoints are chosen in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * Two endpoints are chosen at random, and the one with lower cost is used. The cost of an endpoint
+         * is its latency multiplied by the number of its outstanding requests.
+         */
+        POWER_OF_TWO_CHOICES,
+        /**
+         * The endpoint with the least outstanding requests is used, endpoints with the same number of outstanding
+         * requests are compared by their latency.
+         */
+        LEAST_OUTSTANDING_REQUESTS
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * {@link LoadBalancer} configuration.
+ */
+@Prototype.Configured
+@Prototype.Blueprint
+interface LoadBalancerConfigBlueprint extends Prototype.Factory<LoadBalancer> {
+    /**
+     * Default number of consecutive failures to eject an endpoint.
+     *
+     * @see #failureThreshold()
+     */
+    int DEFAULT_FAILURE_THRESHOLD = 5;
+
+    /**
+     * Default maximal percentage of ejected endpoints.
+     *
+     * @see #maxEjectionPercent()
+     */
+    int DEFAULT_MAX_EJECTION_PERCENT = 50;
+
+    /**
+     * Endpoints to balance requests between. At least one endpoint is required.
+     *
+     * @return endpoint URIs
+     */
+    @Option.Configured
+    @Option.Singular
+    List<URI> endpoints();
+
+    /**
+     * Load balancing policy.
+     *
+     * @return policy, defaults to {@link LoadBalancer.Policy#POWER_OF_TWO_CHOICES}
+     */
+    @Option.Configured
+    @Option.Default("POWER_OF_TWO_CHOICES")
+    LoadBalancer.Policy policy();
+
+    /**
+     * Time over which the latency average of an endpoint decays. Shorter time reacts faster
+     * to changes of latency, longer time is less sensitive to outliers.
+     *
+     * @return decay time
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration decayTime();
+
+    /**
+     * Number of consecutive failed requests that ejects an endpoint.
+     *
+     * @return failure threshold, defaults to {@value #DEFAULT_FAILURE_THRESHOLD}
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_FAILURE_THRESHOLD)
+    int failureThreshold();
+
+    /**
+     * Base time an endpoint is ejected for. Each time an endpoint is ejected again without
+     * a successful request in between, the ejection time is prolonged by this time,
+     * up to {@link #maxEjectionTime()}.
+     *
+     * @return ejection time
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration ejectionTime();
+
+    /**
+     * Maximal time an endpoint is ejected for.
+     *
+     * @return maximal ejection time
+     */
+    @Option.Configured
+    @Option.Default("PT5M")
+    Duration maxEjectionTime();
+
+    /**
+     * Maximal percentage of endpoints that can be ejected at the same time. One endpoint can always be ejected,
+     * as long as at least one other endpoint is not ejected.
+     *
+     * @return maximal ejection percentage, defaults to {@value #DEFAULT_MAX_EJECTION_PERCENT}
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_MAX_EJECTION_PERCENT)
+    int maxEjectionPercent();
+
+    /**
+     * Name of this load balancer, used as a tag of metrics.
+     *
+     * @return name
+     */
+    @Option.Configured
+    @Option.Default("default")
+    String name();
+
+    /**
+     * Whether to collect metrics for each endpoint.
+     *
+     * @return metrics flag
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.Tag;
+
+class LoadBalancerImpl implements LoadBalancer {
+    static final String REQUESTS_METRIC = "webclient.lb.endpoint.requests";
+    static final String FAILURES_METRIC = "webclient.lb.endpoint.failures";
+    static final String EJECTIONS_METRIC = "webclient.lb.endpoint.ejections";
+    static final String OUTSTANDING_METRIC = "webclient.lb.endpoint.outstanding";
+    static final String LATENCY_METRIC = "webclient.lb.endpoint.latency";
+    static final String EJECTED_METRIC = "webclient.lb.endpoint.ejected";
+
+    private final LoadBalancerConfig config;
+    private final LongSupplier clock;
+    private final EndpointImpl[] endpoints;
+    private final List<Endpoint> endpointList;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger ejected = new AtomicInteger();
+    private final int maxEjected;
+    private final int failureThreshold;
+    private final long ejectionTime;
+    private final long maxEjectionTime;
+
+    LoadBalancerImpl(LoadBalancerConfig config, LongSupplier clock) {
+        String name = config.name();
+        if (config.endpoints().isEmpty()) {
+            throw new IllegalArgumentException("Load balancer \"" + name + "\" requires at least one endpoint");
+        }
+        if (config.failureThreshold() < 1) {
+            throw new IllegalArgumentException("Failure threshold of load balancer \"" + name + "\" must be positive");
+        }
+        if (config.maxEjectionPercent() < 0 || config.maxEjectionPercent() > 100) {
+            throw new IllegalArgumentException("Max ejection percent of load balancer \"" + name
+                                                       + "\" must be between 0 and 100");
+        }
+
+        this.config = config;
+        this.clock = clock;
+        this.failureThreshold = config.failureThreshold();
+        this.ejectionTime = config.ejectionTime().toNanos();
+        this.maxEjectionTime = config.maxEjectionTime().toNanos();
+
+        double decayTime = Math.max(1, config.decayTime().toNanos());
+        this.endpoints = config.endpoints()
+                .stream()
+                .map(uri -> new EndpointImpl(this, uri, decayTime))
+                .toArray(EndpointImpl[]::new);
+        this.endpointList = List.of(endpoints);
+        this.maxEjected = maxEjected(endpoints.length, config.maxEjectionPercent());
+
+        if (config.enableMetrics()) {
+            registerMetrics();
+        }
+    }
+
+    @Override
+    public LoadBalancerConfig prototype() {
+        return config;
+    }
+
+    @Override
+    public Endpoint select() {
+        long now = clock.getAsLong();
+        EndpointImpl[] candidates = available(now);
+        if (candidates.length == 1) {
+            return candidates[0];
+        }
+        return switch (config.policy()) {
+            case ROUND_ROBIN -> candidates[Math.floorMod(next.getAndIncrement(), candidates.length)];
+            case POWER_OF_TWO_CHOICES -> powerOfTwoChoices(candidates, now);
+            case LEAST_OUTSTANDING_REQUESTS -> leastOutstandingRequests(candidates, now);
+        };
+    }
+
+    @Override
+    public List<Endpoint> endpoints() {
+        return endpointList;
+    }
+
+    long now() {
+        return clock.getAsLong();
+    }
+
+    int failureThreshold() {
+        return failureThreshold;
+    }
+
+    /*
+    Eject an endpoint, unless the maximal number of endpoints is already ejected.
+     */
+    void eject(EndpointImpl endpoint) {
+        // reserve a slot for the endpoint
+        int current = ejected.get();
+        while (true) {
+            if (current >= maxEjected) {
+                return;
+            }
+            int witness = ejected.compareAndExchange(current, current + 1);
+            if (witness == current) {
+                break;
+            }
+            current = witness;
+        }
+        if (!endpoint.eject(clock.getAsLong(), ejectionTime, maxEjectionTime)) {
+            // ejected concurrently
+            ejected.decrementAndGet();
+        }
+    }
+
+    void reinstated() {
+        ejected.decrementAndGet();
+    }
+
+    private EndpointImpl[] available(long now) {
+        if (ejected.get() == 0) {
+            return endpoints;
+        }
+        EndpointImpl[] result = new EndpointImpl[endpoints.length];
+        int count = 0;
+        for (EndpointImpl endpoint : endpoints) {
+            if (endpoint.available(now)) {
+                result[count++] = endpoint;
+            }
+        }
+        if (count == 0 || count == endpoints.length) {
+            // use all endpoints rather than failing, if all are ejected
+            return endpoints;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static EndpointImpl powerOfTwoChoices(EndpointImpl[] candidates, long now) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.length);
+        int second = random.nextInt(candidates.length - 1);
+        if (second >= first) {
+            second++;
+        }
+        EndpointImpl a = candidates[first];
+        EndpointImpl b = candidates[second];
+        return a.cost(now) <= b.cost(now) ? a : b;
+    }
+
+    private static EndpointImpl leastOutstandingRequests(EndpointImpl[] candidates, long now) {
+        // start at a random position, so ties are not always resolved in favor of the first endpoint
+        int start = ThreadLocalRandom.current().nextInt(candidates.length);
+        EndpointImpl best = null;
+        int bestOutstanding = 0;
+        double bestLatency = 0;
+        for (int i = 0; i < candidates.length; i++) {
+            EndpointImpl endpoint = candidates[(start + i) % candidates.length];
+            int outstanding = endpoint.outstandingRequests();
+            if (best == null || outstanding < bestOutstanding) {
+                best = endpoint;
+                bestOutstanding = outstanding;
+                bestLatency = endpoint.latencyNanos(now);
+            } else if (outstanding == bestOutstanding) {
+                double latency = endpoint.latencyNanos(now);
+                if (latency < bestLatency) {
+                    best = endpoint;
+                    bestLatency = latency;
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int maxEjected(int endpoints, int maxEjectionPercent) {
+        if (maxEjectionPercent == 0) {
+            return 0;
+        }
+        // always allow to eject one endpoint, never eject all of them
+        return Math.min(endpoints - 1, Math.max(1, endpoints * maxEjectionPercent / 100));
+    }
+
+    private void registerMetrics() {
+        MeterRegistry registry = Metrics.globalRegistry();
+        for (EndpointImpl endpoint : endpoints) {
+            List<Tag> tags = List.of(Tag.create("name", config.name()),
+                                     Tag.create("endpoint", endpoint.uri().toString()));
+            registry.getOrCreate(FunctionalCounter.builder(REQUESTS_METRIC, endpoint, EndpointImpl::requests)
+                                         .scope(Meter.Scope.VENDOR)
+                                         .tags(tags));
+            registry.getOrCreate(FunctionalCounter.builder(FAILURES_METRIC, endpoint, EndpointImpl::failures)
+                                         .scope(Meter.Scope.VENDOR)
+                                         .tags(tags));
+            registry.getOrCreate(FunctionalCounter.builder(EJECTIONS_METRIC, endpoint, EndpointImpl::ejections)
+                                         .scope(Meter.Scope.VENDOR)
+                                         .tags(tags));
+            registry.getOrCreate(Gauge.builder(OUTSTANDING_METRIC, endpoint, EndpointImpl::outstandingRequests)
+                                         .scope(Meter.Scope.VENDOR)
+                                         .tags(tags));
+            registry.getOrCreate(Gauge.builder(LATENCY_METRIC, endpoint, e -> e.latencyNanos(now()) / 1_000_000)
+                                         .scope(Meter.Scope.VENDOR)
+                                         .baseUnit(Meter.BaseUnits.MILLISECONDS)
+                                         .tags(tags));
+            registry.getOrCreate(Gauge.builder(EJECTED_METRIC, endpoint, e -> e.ejected() ? 1 : 0)
+                                         .scope(Meter.Scope.VENDOR)
+                                         .tags(tags));
+        }
+    }
+}
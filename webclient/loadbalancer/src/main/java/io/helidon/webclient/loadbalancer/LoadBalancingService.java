@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.net.URI;
+import java.util.Objects;
+
+import io.helidon.common.config.Config;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+/**
+ * WebClient service that sends each request to an endpoint chosen by a {@link LoadBalancer}.
+ * The scheme, host and port of the request URI are replaced with the ones of the selected endpoint, path
+ * and query are kept.
+ * A response with a server error status ({@code 5xx}), or an exception when sending the request is reported as
+ * a failure of the endpoint.
+ */
+public final class LoadBalancingService implements WebClientService {
+    static final String TYPE = "load-balancer";
+
+    private final LoadBalancer loadBalancer;
+
+    private LoadBalancingService(LoadBalancer loadBalancer) {
+        this.loadBalancer = loadBalancer;
+    }
+
+    /**
+     * Create a new service using the provided load balancer.
+     *
+     * @param loadBalancer load balancer to choose endpoints
+     * @return a new load balancing service
+     */
+    public static LoadBalancingService create(LoadBalancer loadBalancer) {
+        Objects.requireNonNull(loadBalancer, "loadBalancer must not be null");
+        return new LoadBalancingService(loadBalancer);
+    }
+
+    /**
+     * Create a new service from configuration of its load balancer.
+     *
+     * @param config configuration of the load balancer
+     * @return a new load balancing service
+     * @see io.helidon.webclient.loadbalancer.LoadBalancerConfig
+     */
+    public static LoadBalancingService create(Config config) {
+        return create(LoadBalancerConfig.create(config).build());
+    }
+
+    /**
+     * Load balancer used by this service.
+     *
+     * @return load balancer
+     */
+    public LoadBalancer loadBalancer() {
+        return loadBalancer;
+    }
+
+    @Override
+    public String name() {
+        return loadBalancer.prototype().name();
+    }
+
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest clientRequest) {
+        Endpoint endpoint = loadBalancer.select();
+        URI uri = endpoint.uri();
+        ClientUri requestUri = clientRequest.uri();
+        requestUri.scheme(uri.getScheme());
+        requestUri.host(uri.getHost());
+        requestUri.port(port(uri));
+
+        Endpoint.Call call = endpoint.start();
+        WebClientServiceResponse response;
+        try {
+            response = chain.proceed(clientRequest);
+        } catch (RuntimeException e) {
+            call.failure();
+            throw e;
+        }
+        if (response.status().code() >= 500) {
+            call.failure();
+        } else {
+            call.success();
+        }
+        return response;
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() != -1) {
+            return uri.getPort();
+        }
+        return "https".equals(uri.getScheme()) ? 443 : 80;
+    }
+}
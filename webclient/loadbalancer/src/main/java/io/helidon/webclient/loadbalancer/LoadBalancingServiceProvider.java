@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import io.helidon.common.config.Config;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+import io.helidon.webclient.spi.WebClientServiceProvider;
+
+/**
+ * Load balancing SPI provider implementation.
+ * <p>
+ * WebClient creates a service from each discovered provider, even if it is not configured. Requests are only load
+ * balanced if the {@code load-balancer} service is explicitly configured, otherwise the service created by this
+ * provider passes all requests through unchanged.
+ *
+ * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+ *  Use {@link LoadBalancingService} instead
+ */
+@Deprecated
+public class LoadBalancingServiceProvider implements WebClientServiceProvider {
+    /**
+     * Required public constructor.
+     *
+     * @deprecated This class should only be used via {@link java.util.ServiceLoader}.
+     */
+    @Deprecated
+    public LoadBalancingServiceProvider() {
+    }
+
+    @Override
+    public String configKey() {
+        return LoadBalancingService.TYPE;
+    }
+
+    @Override
+    public WebClientService create(Config config, String name) {
+        if (!config.exists()) {
+            // discovered, not configured
+            return new NoOpService(name);
+        }
+        return LoadBalancingService.create(LoadBalancerConfig.builder()
+                                                   .name(name)
+                                                   .config(config)
+                                                   .build());
+    }
+
+    private static final class NoOpService implements WebClientService {
+        private final String name;
+
+        private NoOpService(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String type() {
+            return LoadBalancingService.TYPE;
+        }
+
+        @Override
+        public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest clientRequest) {
+            return chain.proceed(clientRequest);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+/**
+ * Client side load balancing for Helidon WebClient and gRPC client.
+ * <p>
+ * A {@link io.helidon.webclient.loadbalancer.LoadBalancer} chooses one of the configured endpoints for each request,
+ * tracks the latency and outstanding requests of each endpoint, and ejects endpoints that keep failing.
+ * Use {@link io.helidon.webclient.loadbalancer.LoadBalancingService} to load balance requests of a
+ * {@link io.helidon.webclient.api.WebClient}.
+ */
+package io.helidon.webclient.loadbalancer;
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import io.helidon.common.features.api.Feature;
+import io.helidon.common.features.api.HelidonFlavor;
+
+/**
+ * Helidon WebClient Load Balancer.
+ */
+@Feature(value = "Load Balancer",
+         description = "WebClient client side load balancing",
+         in = HelidonFlavor.SE,
+         path = {"WebClient", "LoadBalancer"}
+)
+module io.helidon.webclient.loadbalancer {
+
+    requires static io.helidon.common.features.api;
+
+    requires io.helidon.metrics.api;
+
+    requires transitive io.helidon.builder.api;
+    requires transitive io.helidon.common.config;
+    requires transitive io.helidon.webclient.api;
+
+    exports io.helidon.webclient.loadbalancer;
+
+    provides io.helidon.webclient.spi.WebClientServiceProvider
+            with io.helidon.webclient.loadbalancer.LoadBalancingServiceProvider;
+}
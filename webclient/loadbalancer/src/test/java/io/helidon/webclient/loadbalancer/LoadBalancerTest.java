@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LoadBalancerTest {
+    private static final URI FIRST = URI.create("http://first:8080");
+    private static final URI SECOND = URI.create("http://second:8080");
+    private static final URI THIRD = URI.create("http://third:8080");
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testRoundRobin() {
+        LoadBalancer lb = create(LoadBalancer.Policy.ROUND_ROBIN, FIRST, SECOND, THIRD);
+
+        Set<URI> selected = new HashSet<>();
+        for (int i = 0; i < 3; i++) {
+            selected.add(lb.select().uri());
+        }
+        assertThat(selected, is(Set.of(FIRST, SECOND, THIRD)));
+        assertThat(lb.select().uri(), is(FIRST));
+    }
+
+    @Test
+    void testLeastOutstandingRequests() {
+        LoadBalancer lb = create(LoadBalancer.Policy.LEAST_OUTSTANDING_REQUESTS, FIRST, SECOND);
+        Endpoint first = endpoint(lb, FIRST);
+        first.start();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(lb.select().uri(), is(SECOND));
+        }
+    }
+
+    @Test
+    void testPowerOfTwoChoicesPrefersFasterEndpoint() {
+        LoadBalancer lb = create(LoadBalancer.Policy.POWER_OF_TWO_CHOICES, FIRST, SECOND);
+        request(endpoint(lb, FIRST), Duration.ofMillis(100), true);
+        request(endpoint(lb, SECOND), Duration.ofMillis(10), true);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(lb.select().uri(), is(SECOND));
+        }
+    }
+
+    @Test
+    void testPowerOfTwoChoicesPrefersLessLoadedEndpoint() {
+        LoadBalancer lb = create(LoadBalancer.Policy.POWER_OF_TWO_CHOICES, FIRST, SECOND);
+        Endpoint first = endpoint(lb, FIRST);
+        first.start();
+        first.start();
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(lb.select().uri(), is(SECOND));
+        }
+    }
+
+    @Test
+    void testPeakEwma() {
+        LoadBalancer lb = create(LoadBalancer.Policy.POWER_OF_TWO_CHOICES, FIRST);
+        Endpoint endpoint = endpoint(lb, FIRST);
+        assertThat(endpoint.latency(), is(Duration.ZERO));
+
+        request(endpoint, Duration.ofMillis(10), true);
+        assertThat(endpoint.latency(), is(Duration.ofMillis(10)));
+
+        // a peak is followed immediately
+        request(endpoint, Duration.ofMillis(500), true);
+        assertThat(endpoint.latency(), is(Duration.ofMillis(500)));
+
+        // and decays slowly afterward
+        request(endpoint, Duration.ofMillis(10), true);
+        assertThat(endpoint.latency().toMillis(), greaterThan(400L));
+
+        // decays over time without any requests
+        clock.addAndGet(Duration.ofSeconds(60).toNanos());
+        assertThat(endpoint.latency().toMillis(), lessThan(10L));
+    }
+
+    @Test
+    void testPeakEwmaBlendsStoredValue() {
+        LoadBalancer lb = create(LoadBalancer.Policy.POWER_OF_TWO_CHOICES, FIRST);
+        EndpointImpl endpoint = (EndpointImpl) endpoint(lb, FIRST);
+        request(endpoint, Duration.ofMillis(100), true);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        request(endpoint, Duration.ofMillis(20), true);
+
+        // the stored value is decayed once, by the time elapsed since the first sample
+        double weight = Math.exp(-Duration.ofMillis(1020).toNanos() / (double) Duration.ofSeconds(10).toNanos());
+        double expected = Duration.ofMillis(100).toNanos() * weight + Duration.ofMillis(20).toNanos() * (1 - weight);
+        assertThat(endpoint.latencyNanos(clock.get()), closeTo(expected, 1));
+    }
+
+    @Test
+    void testEjection() {
+        LoadBalancer lb = create(LoadBalancer.Policy.ROUND_ROBIN, FIRST, SECOND);
+        Endpoint first = endpoint(lb, FIRST);
+
+        for (int i = 0; i < LoadBalancerConfigBlueprint.DEFAULT_FAILURE_THRESHOLD - 1; i++) {
+            request(first, Duration.ofMillis(1), false);
+        }
+        assertThat(first.ejected(), is(false));
+        // success resets consecutive failures
+        request(first, Duration.ofMillis(1), true);
+        assertThat(first.consecutiveFailures(), is(0));
+
+        for (int i = 0; i < LoadBalancerConfigBlueprint.DEFAULT_FAILURE_THRESHOLD; i++) {
+            request(first, Duration.ofMillis(1), false);
+        }
+        assertThat(first.ejected(), is(true));
+        for (int i = 0; i < 10; i++) {
+            assertThat(lb.select().uri(), is(SECOND));
+        }
+
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(first.ejected(), is(false));
+        Set<URI> selected = new HashSet<>();
+        selected.add(lb.select().uri());
+        selected.add(lb.select().uri());
+        assertThat(selected, is(Set.of(FIRST, SECOND)));
+        assertThat(first.consecutiveFailures(), is(0));
+    }
+
+    @Test
+    void testEjectionTimeGrows() {
+        LoadBalancerConfig config = LoadBalancerConfig.builder()
+                .addEndpoint(FIRST)
+                .addEndpoint(SECOND)
+                .failureThreshold(1)
+                .ejectionTime(Duration.ofSeconds(30))
+                .maxEjectionTime(Duration.ofSeconds(80))
+                .buildPrototype();
+        LoadBalancer lb = new LoadBalancerImpl(config, clock::get);
+        Endpoint first = endpoint(lb, FIRST);
+
+        request(first, Duration.ofMillis(1), false);
+        assertEjectedFor(lb, first, Duration.ofSeconds(30));
+        request(first, Duration.ofMillis(1), false);
+        assertEjectedFor(lb, first, Duration.ofSeconds(60));
+        // limited by max ejection time
+        request(first, Duration.ofMillis(1), false);
+        assertEjectedFor(lb, first, Duration.ofSeconds(80));
+
+        // success resets the ejection time
+        request(first, Duration.ofMillis(1), true);
+        request(first, Duration.ofMillis(1), false);
+        assertEjectedFor(lb, first, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void testMaxEjectionPercent() {
+        LoadBalancer lb = create(LoadBalancer.Policy.ROUND_ROBIN, FIRST, SECOND, THIRD);
+        for (Endpoint endpoint : lb.endpoints()) {
+            for (int i = 0; i < LoadBalancerConfigBlueprint.DEFAULT_FAILURE_THRESHOLD; i++) {
+                request(endpoint, Duration.ofMillis(1), false);
+            }
+        }
+        // 50 % of three endpoints, at least one must stay
+        long ejected = lb.endpoints().stream()
+                .filter(Endpoint::ejected)
+                .count();
+        assertThat(ejected, is(1L));
+    }
+
+    @Test
+    void testSingleEndpointNeverEjected() {
+        LoadBalancer lb = create(LoadBalancer.Policy.ROUND_ROBIN, FIRST);
+        Endpoint first = endpoint(lb, FIRST);
+        for (int i = 0; i < 2 * LoadBalancerConfigBlueprint.DEFAULT_FAILURE_THRESHOLD; i++) {
+            request(first, Duration.ofMillis(1), false);
+        }
+        assertThat(first.ejected(), is(false));
+        assertThat(lb.select(), is(first));
+    }
+
+    @Test
+    void testCallCompletesOnce() {
+        LoadBalancer lb = create(LoadBalancer.Policy.ROUND_ROBIN, FIRST);
+        Endpoint endpoint = endpoint(lb, FIRST);
+        Endpoint.Call call = endpoint.start();
+        assertThat(endpoint.outstandingRequests(), is(1));
+        call.failure();
+        call.success();
+        call.release();
+        assertThat(endpoint.outstandingRequests(), is(0));
+        assertThat(endpoint.consecutiveFailures(), is(1));
+
+        endpoint.start().release();
+        assertThat(endpoint.outstandingRequests(), is(0));
+        assertThat(endpoint.consecutiveFailures(), is(1));
+    }
+
+    @Test
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> LoadBalancer.create(builder -> { }));
+        assertThrows(IllegalArgumentException.class, () -> LoadBalancer.create(builder -> builder.addEndpoint(FIRST)
+                .failureThreshold(0)));
+        assertThrows(IllegalArgumentException.class, () -> LoadBalancer.create(builder -> builder.addEndpoint(FIRST)
+                .maxEjectionPercent(101)));
+    }
+
+    @Test
+    void testConfig() {
+        Config config = Config.just(ConfigSources.create(Map.of("load-balancer.endpoints.0", "http://first:8080",
+                                                                "load-balancer.endpoints.1", "http://second:8080",
+                                                                "load-balancer.policy", "ROUND_ROBIN",
+                                                                "load-balancer.failure-threshold", "3")));
+        LoadBalancingService service = LoadBalancingService.create(config.get("load-balancer"));
+        LoadBalancerConfig lbConfig = service.loadBalancer().prototype();
+
+        assertThat(service.type(), is("load-balancer"));
+        assertThat(lbConfig.endpoints(), is(List.of(FIRST, SECOND)));
+        assertThat(lbConfig.policy(), is(LoadBalancer.Policy.ROUND_ROBIN));
+        assertThat(lbConfig.failureThreshold(), is(3));
+        assertThat(service.loadBalancer().endpoints(), hasSize(2));
+    }
+
+    private LoadBalancer create(LoadBalancer.Policy policy, URI... endpoints) {
+        LoadBalancerConfig config = LoadBalancerConfig.builder()
+                .endpoints(List.of(endpoints))
+                .policy(policy)
+                .buildPrototype();
+        return new LoadBalancerImpl(config, clock::get);
+    }
+
+    private void request(Endpoint endpoint, Duration duration, boolean success) {
+        Endpoint.Call call = endpoint.start();
+        clock.addAndGet(duration.toNanos());
+        if (success) {
+            call.success();
+        } else {
+            call.failure();
+        }
+    }
+
+    private void assertEjectedFor(LoadBalancer lb, Endpoint endpoint, Duration duration) {
+        assertThat(endpoint.ejected(), is(true));
+        clock.addAndGet(duration.toNanos() - 1);
+        assertThat(endpoint.ejected(), is(true));
+        clock.incrementAndGet();
+        assertThat(endpoint.ejected(), is(false));
+        // reinstate
+        lb.select();
+    }
+
+    private static Endpoint endpoint(LoadBalancer lb, URI uri) {
+        return lb.endpoints()
+                .stream()
+                .filter(it -> it.uri().equals(uri))
+                .findFirst()
+                .orElseThrow();
+    }
+}
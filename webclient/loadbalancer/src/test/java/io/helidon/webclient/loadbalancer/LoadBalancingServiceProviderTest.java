@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.loadbalancer;
+
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webclient.spi.WebClientService;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+class LoadBalancingServiceProviderTest {
+    @Test
+    void testPlainClient() {
+        // the provider is discovered, but the client must not be load balanced unless configured
+        WebClient client = WebClient.builder().build();
+
+        List<WebClientService> services = client.prototype()
+                .services()
+                .stream()
+                .filter(it -> it.type().equals("load-balancer"))
+                .toList();
+        for (WebClientService service : services) {
+            assertThat(service, not(instanceOf(LoadBalancingService.class)));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void testConfiguredName() {
+        Config config = Config.just(ConfigSources.create(Map.of("load-balancer.endpoints.0", "http://first:8080")));
+        WebClientService service = new LoadBalancingServiceProvider().create(config.get("load-balancer"), "first");
+
+        assertThat(service, instanceOf(LoadBalancingService.class));
+        assertThat(service.name(), is("first"));
+        assertThat(((LoadBalancingService) service).loadBalancer().prototype().name(), is("first"));
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+
+import io.helidon.http.Status;
+import io.helidon.metrics.api.Gauge;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.webclient.api.HttpClientResponse;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/*
+Uses package local API to validate the state of the connection pool
+ */
+@ServerTest
+class Http1ConnectionPoolTest {
+    private final int port;
+
+    Http1ConnectionPoolTest(WebServer webServer) {
+        this.port = webServer.port();
+    }
+
+    @SetUpRoute
+    static void routing(HttpRules rules) {
+        rules.get("/", (req, res) -> res.send("hello"));
+    }
+
+    @Test
+    void testPerHostLimit() {
+        Http1ClientImpl client = client(pool -> pool.maxConnectionsPerHost(1)
+                .acquireTimeout(Duration.ofMillis(100)));
+        Http1ConnectionCache cache = client.connectionCache();
+
+        try (HttpClientResponse response = client.get("http://localhost:" + port).request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(cache.leased(), is(1));
+
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                                                   () -> client.get("http://localhost:" + port).request());
+            assertThat(e.getMessage().startsWith("Timed out"), is(true));
+        }
+        assertThat(cache.leased(), is(0));
+        assertThat(cache.idle(), is(1));
+
+        // the idle connection is reused
+        assertOk(client, "localhost");
+        assertThat(cache.idle(), is(1));
+    }
+
+    @Test
+    void testPendingRequestGetsReturnedConnection() throws Exception {
+        Http1ClientImpl client = client(pool -> pool.maxConnectionsPerHost(1));
+        Http1ConnectionCache cache = client.connectionCache();
+
+        CompletableFuture<Status> pending;
+        try (HttpClientResponse response = client.get("http://localhost:" + port).request()) {
+            assertThat(response.status(), is(Status.OK_200));
+
+            pending = CompletableFuture.supplyAsync(() -> {
+                try (HttpClientResponse pendingResponse = client.get("http://localhost:" + port).request()) {
+                    return pendingResponse.status();
+                }
+            });
+            awaitValue(cache::pending, 1);
+        }
+        assertThat(pending.get(10, TimeUnit.SECONDS), is(Status.OK_200));
+        assertThat(cache.pending(), is(0));
+        assertThat(cache.leased(), is(0));
+        assertThat(cache.idle(), is(1));
+    }
+
+    @Test
+    void testTotalLimitEvictsIdleConnection() {
+        Http1ClientImpl client = client(pool -> pool.maxConnections(1)
+                .acquireTimeout(Duration.ofMillis(100)));
+        Http1ConnectionCache cache = client.connectionCache();
+
+        assertOk(client, "localhost");
+        assertThat(cache.idle(), is(1));
+
+        // different host, idle connection to the first host is closed to make space
+        assertOk(client, "127.0.0.1");
+        assertThat(cache.idle(), is(1));
+        assertThat(cache.leased(), is(0));
+    }
+
+    @Test
+    void testIdleConnectionsReaped() {
+        Http1ClientImpl client = client(pool -> pool.maxIdleTime(Duration.ofMillis(50))
+                .reapPeriod(Duration.ofMillis(50)));
+        Http1ConnectionCache cache = client.connectionCache();
+
+        assertOk(client, "localhost");
+        awaitValue(cache::idle, 0);
+        assertThat(cache.leased(), is(0));
+    }
+
+    @Test
+    void testSharedCachePerPoolConfig() {
+        Http1ConnectionPoolConfig poolConfig = Http1ConnectionPoolConfig.builder()
+                .maxConnectionsPerHost(5)
+                .build();
+        Http1ConnectionPoolConfig samePoolConfig = Http1ConnectionPoolConfig.builder()
+                .maxConnectionsPerHost(5)
+                .build();
+
+        assertThat(Http1ConnectionCache.shared(poolConfig) == Http1ConnectionCache.shared(samePoolConfig), is(true));
+        assertThat(Http1ConnectionCache.shared(poolConfig) == Http1ConnectionCache.shared(Http1ConnectionPoolConfig.create()),
+                   is(false));
+    }
+
+    @Test
+    void testMetricsOfPoolsWithSameName() {
+        Http1ClientImpl first = client(pool -> pool.enableMetrics(true));
+        Http1ClientImpl second = client(pool -> pool.enableMetrics(true));
+
+        try (HttpClientResponse response = first.get("http://localhost:" + port).request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            // each cache has its own gauges, even though both pools are named "default"
+            assertThat(leasedGauges(), containsInAnyOrder(1, 0));
+
+            second.connectionCache().closeResource();
+            // closing the second cache must not remove gauges of the first one
+            assertThat(leasedGauges(), contains(1));
+        }
+        first.connectionCache().closeResource();
+    }
+
+    private static List<Integer> leasedGauges() {
+        return Metrics.globalRegistry()
+                .meters(meter -> meter.id().name().equals("http1_client_connections_leased")
+                        && "default".equals(meter.id().tagsMap().get("pool")))
+                .stream()
+                .map(meter -> ((Gauge<?>) meter).value().intValue())
+                .toList();
+    }
+
+    private static Http1ClientImpl client(Consumer<Http1ConnectionPoolConfig.Builder> pool) {
+        Http1ConnectionPoolConfig poolConfig = Http1ConnectionPoolConfig.builder()
+                .update(pool)
+                .build();
+        return (Http1ClientImpl) Http1Client.builder()
+                .shareConnectionCache(false)
+                .protocolConfig(Http1ClientProtocolConfig.builder()
+                                        .connectionPool(poolConfig)
+                                        .build())
+                .build();
+    }
+
+    private static void awaitValue(IntSupplier value, int expected) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (value.getAsInt() != expected && System.nanoTime() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(10);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        assertThat(value.getAsInt(), is(expected));
+    }
+
+    private void assertOk(Http1ClientImpl client, String host) {
+        try (HttpClientResponse response = client.get("http://" + host + ":" + port).request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.entity().as(String.class), is("hello"));
+        }
+    }
+}
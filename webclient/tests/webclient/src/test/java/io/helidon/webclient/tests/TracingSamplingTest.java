@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.tests;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.tracing.Sampler;
+import io.helidon.tracing.Span;
+import io.helidon.tracing.SpanContext;
+import io.helidon.tracing.Tracer;
+import io.helidon.tracing.config.TracingConfig;
+import io.helidon.tracing.providers.opentelemetry.HelidonOpenTelemetry;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webclient.tracing.WebClientTracing;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.observe.ObserveFeature;
+import io.helidon.webserver.observe.tracing.TracingObserver;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+/**
+ * Requests that are not sampled must not record any spans, neither the web server span, nor spans of components
+ * used to handle the request, and the decision not to sample must be propagated to downstream services.
+ */
+@ServerTest
+class TracingSamplingTest {
+    private static final HeaderName TRACEPARENT = HeaderNames.create("traceparent");
+    private static final String INBOUND_TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final List<SpanData> EXPORTED = new CopyOnWriteArrayList<>();
+    private static final AtomicReference<String> DOWNSTREAM_TRACEPARENT = new AtomicReference<>();
+
+    private final Http1Client client;
+
+    TracingSamplingTest(URI uri) {
+        this.client = Http1Client.builder()
+                .baseUri(uri)
+                .servicesDiscoverServices(false)
+                .build();
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder server) {
+        OpenTelemetrySdk sdk = OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                                           .addSpanProcessor(SimpleSpanProcessor.create(new RecordingExporter()))
+                                           .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .build();
+        Tracer tracer = HelidonOpenTelemetry.create(sdk, sdk.getTracer("sampling-test"), Map.of());
+        // components that do not get a tracer from the request context use the tracer of the server context
+        Context serverContext = Context.create();
+        serverContext.register(tracer);
+        server.serverContext(serverContext)
+                .addFeature(ObserveFeature.builder()
+                                    .addObserver(TracingObserver.builder()
+                                                         .tracer(tracer)
+                                                         .envConfig(TracingConfig.builder()
+                                                                            .sampler(Sampler.alwaysOff())
+                                                                            .build())
+                                                         .build())
+                                    .build());
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder http) {
+        http.get("/greet", (req, res) -> {
+                    DOWNSTREAM_TRACEPARENT.set(req.headers().first(TRACEPARENT).orElse(null));
+                    res.send("Hello");
+                })
+                .get("/outbound", (req, res) -> {
+                    // an outbound call and a span of a component using the tracer of the request context
+                    Tracer tracer = req.context().get(Tracer.class).orElseGet(Tracer::global);
+                    Span.Builder<?> spanBuilder = tracer.spanBuilder("component");
+                    req.context().get(SpanContext.class).ifPresent(spanBuilder::parent);
+                    spanBuilder.start().end();
+                    Http1Client outbound = Http1Client.builder()
+                            .baseUri("http://localhost:" + req.localPeer().port())
+                            .servicesDiscoverServices(false)
+                            .addService(WebClientTracing.create())
+                            .build();
+                    try (Http1ClientResponse response = outbound.get("/greet").request()) {
+                        res.send(response.as(String.class));
+                    }
+                });
+    }
+
+    @BeforeEach
+    void reset() {
+        EXPORTED.clear();
+        DOWNSTREAM_TRACEPARENT.set(null);
+    }
+
+    @Test
+    void testUnsampledRequestExportsNoSpans() {
+        try (Http1ClientResponse response = client.get("/outbound").request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.as(String.class), is("Hello"));
+        }
+
+        assertThat(EXPORTED, is(empty()));
+        // a new trace, with the sampled flag cleared
+        assertThat(DOWNSTREAM_TRACEPARENT.get(), allOf(startsWith("00-"), endsWith("-00")));
+    }
+
+    @Test
+    void testUnsampledRequestContinuesInboundTrace() {
+        try (Http1ClientResponse response = client.get("/outbound")
+                .header(TRACEPARENT, "00-" + INBOUND_TRACE_ID + "-00f067aa0ba902b7-01")
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+        }
+
+        assertThat(EXPORTED, is(empty()));
+        // the inbound trace continues, but downstream services are told it is not sampled
+        assertThat(DOWNSTREAM_TRACEPARENT.get(), allOf(startsWith("00-" + INBOUND_TRACE_ID + "-"), endsWith("-00")));
+    }
+
+    private static class RecordingExporter implements SpanExporter {
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            EXPORTED.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+    }
+}
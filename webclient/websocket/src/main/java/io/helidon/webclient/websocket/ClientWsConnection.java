@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import io.helidon.common.socket.HelidonSocket;
 import io.helidon.common.socket.SocketContext;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.websocket.ClientWsFrame;
+import io.helidon.websocket.PerMessageDeflate;
 import io.helidon.websocket.ServerWsFrame;
 import io.helidon.websocket.WsCloseCodes;
 import io.helidon.websocket.WsCloseException;
@@ -44,19 +45,29 @@ public class ClientWsConnection implements WsSession, Runnable {
     private final BufferData sendBuffer = BufferData.growing(1024);
     private final ClientConnection connection;
     private final HelidonSocket helidonSocket;
+    private final PerMessageDeflate deflate;
 
     private ContinuationType recvContinuation = ContinuationType.NONE;
+    private boolean recvCompressed;
     private boolean sendContinuation;
     private boolean closeSent;
     private boolean terminated;
 
     ClientWsConnection(ClientConnection connection,
                        WsListener listener,
-                       String subProtocol) {
+                       String subProtocol,
+                       PerMessageDeflate deflate) {
         this.connection = connection;
         this.listener = listener;
         this.subProtocol = subProtocol;
         this.helidonSocket = connection.helidonSocket();
+        this.deflate = deflate;
+    }
+
+    ClientWsConnection(ClientConnection connection,
+                       WsListener listener,
+                       String subProtocol) {
+        this(connection, listener, subProtocol, null);
     }
 
     ClientWsConnection(ClientConnection connection,
@@ -107,6 +118,9 @@ public class ClientWsConnection implements WsSession, Runnable {
                 }
             }
         } finally {
+            if (deflate != null) {
+                deflate.close();
+            }
             connection.closeResource();
         }
     }
@@ -177,7 +191,13 @@ public class ClientWsConnection implements WsSession, Runnable {
 
     private ClientWsConnection send(ClientWsFrame frame) {
         WsOpCode opCode = frame.opCode();
+        boolean compressed = false;
         if (opCode == WsOpCode.TEXT || opCode == WsOpCode.BINARY) {
+            if (deflate != null) {
+                // RSV1 marks the first frame of a compressed message
+                compressed = !sendContinuation;
+                frame = ClientWsFrame.data(deflate.compress(frame.payloadData(), frame.fin()), frame.fin());
+            }
             if (sendContinuation) {
                 opCode = WsOpCode.CONTINUATION;
             }
@@ -191,6 +211,9 @@ public class ClientWsConnection implements WsSession, Runnable {
 
         sendBuffer.clear();
         int opCodeFull = frame.fin() ? 0b10000000 : 0;
+        if (compressed) {
+            opCodeFull |= 0b01000000;
+        }
         opCodeFull |= opCode.code();
         sendBuffer.write(opCodeFull);
 
@@ -253,7 +276,7 @@ public class ClientWsConnection implements WsSession, Runnable {
     }
 
     private boolean processFrame(ServerWsFrame frame) {
-        BufferData payload = frame.payloadData();
+        BufferData payload = deflate == null ? frame.payloadData() : inflate(frame);
         switch (frame.opCode()) {
         case CONTINUATION -> {
             boolean finalFrame = frame.fin();
@@ -296,9 +319,29 @@ public class ClientWsConnection implements WsSession, Runnable {
         return true;
     }
 
+    private BufferData inflate(ServerWsFrame frame) {
+        BufferData payload = frame.payloadData();
+        switch (frame.opCode()) {
+        case TEXT, BINARY -> recvCompressed = frame.compressed();
+        case CONTINUATION -> {
+            // compression is defined by the first frame of the message
+        }
+        default -> {
+            return payload;
+        }
+        }
+        if (!recvCompressed) {
+            return payload;
+        }
+        if (frame.fin()) {
+            recvCompressed = false;
+        }
+        return deflate.decompress(payload, frame.fin());
+    }
+
     private ServerWsFrame readFrame() {
         try {
-            return ServerWsFrame.read(helidonSocket, connection.reader(), Integer.MAX_VALUE);
+            return ServerWsFrame.read(helidonSocket, connection.reader(), Integer.MAX_VALUE, deflate != null);
         } catch (WsCloseException e) {
             close(e.closeCode(), e.getMessage());
             throw e;
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.websocket;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of the {@code permessage-deflate} WebSocket extension (RFC 7692), used to compress messages.
+ * When enabled, the extension is offered to the server, and messages are compressed only if the server accepts it.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface WsClientDeflateConfigBlueprint {
+    /**
+     * Whether to offer the {@code permessage-deflate} extension to the server.
+     * Defaults to {@code false}.
+     *
+     * @return whether compression is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enabled();
+
+    /**
+     * Whether the client resets its compression context after each message. Uses less memory per connection,
+     * at the cost of worse compression of similar messages.
+     * Always used if requested by the server.
+     *
+     * @return whether to disable client context takeover
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean clientNoContextTakeover();
+
+    /**
+     * Whether to request the server to reset its compression context after each message.
+     *
+     * @return whether to disable server context takeover
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean serverNoContextTakeover();
+
+    /**
+     * Maximal size of the LZ77 sliding window (in bits, 8 to 15) the server should use to compress messages.
+     * Smaller window requires less memory to decompress messages, though servers may decline such an offer.
+     * The window used by the client is always 15 bits.
+     *
+     * @return server window bits
+     */
+    @Option.Configured
+    @Option.DefaultInt(15)
+    int serverMaxWindowBits();
+
+    /**
+     * Compression level (0 to 9), defaults to the default level of {@link java.util.zip.Deflater}.
+     *
+     * @return compression level
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int compressionLevel();
+}
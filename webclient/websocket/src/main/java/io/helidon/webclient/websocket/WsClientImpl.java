@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,8 @@ import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 
@@ -41,6 +43,7 @@ import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.http1.Http1Client;
 import io.helidon.webclient.http1.Http1ClientRequest;
 import io.helidon.webclient.http1.UpgradeResponse;
+import io.helidon.websocket.PerMessageDeflate;
 import io.helidon.websocket.WsListener;
 
 class WsClientImpl implements WsClient {
@@ -50,6 +53,7 @@ class WsClientImpl implements WsClient {
     static final String SUPPORTED_VERSION = "13";
     static final Header HEADER_UPGRADE_WS = HeaderValues.createCached(HeaderNames.UPGRADE, "websocket");
     static final HeaderName HEADER_WS_PROTOCOL = HeaderNames.create("Sec-WebSocket-Protocol");
+    static final HeaderName HEADER_WS_EXTENSIONS = HeaderNames.create("Sec-WebSocket-Extensions");
     private static final Header HEADER_WS_VERSION = HeaderValues.createCached(HeaderNames.create(
             "Sec-WebSocket-Version"), SUPPORTED_VERSION);
 
@@ -83,6 +87,16 @@ class WsClientImpl implements WsClient {
         } else {
             headers.set(HEADER_WS_PROTOCOL, clientConfig.protocolConfig().subProtocols());
         }
+        WsClientDeflateConfig deflateConfig = clientConfig.protocolConfig().permessageDeflate();
+        if (deflateConfig.enabled()) {
+            PerMessageDeflate.Parameters offer = new PerMessageDeflate.Parameters(deflateConfig.serverNoContextTakeover(),
+                                                                                  deflateConfig.clientNoContextTakeover(),
+                                                                                  deflateConfig.serverMaxWindowBits(),
+                                                                                  PerMessageDeflate.MAX_WINDOW_BITS);
+            headers.set(HEADER_WS_EXTENSIONS, offer.headerValue());
+        } else {
+            headers.remove(HEADER_WS_EXTENSIONS);
+        }
         this.headers = headers;
     }
 
@@ -147,11 +161,12 @@ class WsClientImpl implements WsClient {
                 throw new WsClientException("Failed to upgrade to WebSocket, expected valid secWsKey. Headers: "
                                                     + responseHeaders);
             }
+            PerMessageDeflate deflate = deflate(responseHeaders).orElse(null);
             // we are upgraded, let's switch to web socket
             if (headers.contains(HEADER_WS_PROTOCOL)) {
-                session = new ClientWsConnection(connection, listener, headers.get(HEADER_WS_PROTOCOL).get());
+                session = new ClientWsConnection(connection, listener, headers.get(HEADER_WS_PROTOCOL).get(), deflate);
             } else {
-                session = new ClientWsConnection(connection, listener);
+                session = new ClientWsConnection(connection, listener, null, deflate);
             }
         }
 
@@ -185,4 +200,24 @@ class WsClientImpl implements WsClient {
         }
     }
 
+    private Optional<PerMessageDeflate> deflate(ClientResponseHeaders responseHeaders) {
+        WsClientDeflateConfig deflateConfig = clientConfig.protocolConfig().permessageDeflate();
+        if (!deflateConfig.enabled()) {
+            return Optional.empty();
+        }
+        Optional<PerMessageDeflate.Parameters> accepted;
+        try {
+            accepted = PerMessageDeflate.accepted(responseHeaders.all(HEADER_WS_EXTENSIONS, List::of));
+        } catch (IllegalArgumentException e) {
+            throw new WsClientException("Failed to upgrade to WebSocket, invalid Sec-WebSocket-Extensions header. Headers: "
+                                                + responseHeaders, e);
+        }
+        // we may reset our context even if the server did not require it
+        return accepted.map(it -> new PerMessageDeflate.Parameters(it.serverNoContextTakeover(),
+                                                                   it.clientNoContextTakeover()
+                                                                           || deflateConfig.clientNoContextTakeover(),
+                                                                   it.serverMaxWindowBits(),
+                                                                   it.clientMaxWindowBits()))
+                .map(it -> PerMessageDeflate.client(it, deflateConfig.compressionLevel(), Integer.MAX_VALUE));
+    }
 }
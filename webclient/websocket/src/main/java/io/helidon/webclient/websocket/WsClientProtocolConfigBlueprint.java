@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,4 +41,13 @@ interface WsClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.Singular
     List<String> subProtocols();
+
+    /**
+     * Configuration of the {@code permessage-deflate} extension, used to compress messages.
+     *
+     * @return compression configuration
+     */
+    @Option.Configured
+    @Option.DefaultMethod("create")
+    WsClientDeflateConfig permessageDeflate();
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,12 @@ import io.helidon.webserver.spi.ProtocolConfigProvider;
 @Prototype.Configured(root = false, value = GrpcProtocolProvider.CONFIG_NAME)
 @Prototype.Provides(ProtocolConfigProvider.class)
 interface GrpcConfigBlueprint extends ProtocolConfig {
+    /**
+     * Default maximal size of an inbound message.
+     *
+     * @see #maxInboundMessageSize()
+     */
+    int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
 
     /**
      * Protocol configuration name.
@@ -50,4 +56,26 @@ interface GrpcConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultBoolean(false)
     boolean enableMetrics();
+
+    /**
+     * Maximal size in bytes of a single message received from a client.
+     * When a compressed message is received, the limit applies both to the message as received
+     * and to the decompressed message. Calls that exceed the limit are closed with
+     * {@code RESOURCE_EXHAUSTED} status.
+     *
+     * @return maximal inbound message size, defaults to {@value #DEFAULT_MAX_INBOUND_MESSAGE_SIZE}
+     */
+    @Option.Configured
+    @Option.DefaultInt(DEFAULT_MAX_INBOUND_MESSAGE_SIZE)
+    int maxInboundMessageSize();
+
+    /**
+     * Maximal size in bytes of a single message sent to a client, after compression.
+     * Calls that attempt to send a larger message are closed with {@code RESOURCE_EXHAUSTED} status.
+     *
+     * @return maximal outbound message size, not limited by default
+     */
+    @Option.Configured
+    @Option.DefaultInt(Integer.MAX_VALUE)
+    int maxOutboundMessageSize();
 }
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.buffers.BufferData;
+
+import io.grpc.KnownLength;
+import io.grpc.Status;
+
+/**
+ * Splits the content of HTTP/2 DATA frames into gRPC messages.
+ * <p>
+ * Each message is prefixed by a compressed flag and the length of the message, the prefix and the message
+ * may span any number of frames. The received frame buffers are not copied, the message is provided
+ * as an {@link java.io.InputStream} reading directly from them.
+ */
+final class GrpcMessageDeframer {
+    static final int PREFIX_LENGTH = 5;
+
+    private final int maxMessageSize;
+
+    private List<BufferData> parts = new ArrayList<>();
+    private int prefixRead;
+    private boolean compressed;
+    private long length;
+    private int remaining;
+
+    GrpcMessageDeframer(int maxMessageSize) {
+        this.maxMessageSize = maxMessageSize;
+    }
+
+    /**
+     * Limit the number of bytes that can be read from a stream, such as a stream of a decompressed message.
+     *
+     * @param stream         stream to limit
+     * @param maxMessageSize maximal number of bytes to read
+     * @return stream that fails with {@code RESOURCE_EXHAUSTED} status when the limit is exceeded
+     */
+    static InputStream limit(InputStream stream, int maxMessageSize) {
+        return new LimitedInputStream(stream, maxMessageSize);
+    }
+
+    /**
+     * Process the content of a DATA frame. The consumer is invoked for each message completed by the
+     * data, and must read the message before it returns.
+     *
+     * @param data     content of a DATA frame
+     * @param consumer consumer of messages
+     * @throws IOException                   in case the consumer fails to read a message
+     * @throws io.grpc.StatusRuntimeException in case a message exceeds the maximal size
+     */
+    void deframe(BufferData data, MessageConsumer consumer) throws IOException {
+        while (readPrefix(data)) {
+            int available = data.available();
+            if (available < remaining) {
+                // the message continues in the next frame
+                if (available > 0) {
+                    parts.add(data);
+                    remaining -= available;
+                }
+                return;
+            }
+            if (remaining > 0) {
+                parts.add(data);
+            }
+            MessageInputStream message = new MessageInputStream(parts, (int) length);
+            boolean messageCompressed = compressed;
+            reset();
+            consumer.accept(messageCompressed, message);
+            // make sure the next message is read from the correct position
+            message.skipRemaining();
+        }
+    }
+
+    /**
+     * Whether a part of a message has been received, but the message is not complete.
+     *
+     * @return whether a message is in progress
+     */
+    boolean inProgress() {
+        return prefixRead > 0;
+    }
+
+    private boolean readPrefix(BufferData data) {
+        if (prefixRead == PREFIX_LENGTH) {
+            return true;
+        }
+        while (prefixRead < PREFIX_LENGTH) {
+            if (data.available() == 0) {
+                return false;
+            }
+            int value = data.read();
+            if (prefixRead == 0) {
+                compressed = (value == 1);
+            } else {
+                length = (length << 8) | value;
+            }
+            prefixRead++;
+        }
+        if (length > maxMessageSize) {
+            long messageLength = length;
+            reset();
+            throw Status.RESOURCE_EXHAUSTED
+                    .withDescription("gRPC message exceeds maximum size " + maxMessageSize + ": " + messageLength)
+                    .asRuntimeException();
+        }
+        remaining = (int) length;
+        return true;
+    }
+
+    private void reset() {
+        if (!parts.isEmpty()) {
+            parts = new ArrayList<>();
+        }
+        prefixRead = 0;
+        compressed = false;
+        length = 0;
+        remaining = 0;
+    }
+
+    /**
+     * Consumer of received messages.
+     */
+    @FunctionalInterface
+    interface MessageConsumer {
+        /**
+         * Consume a message.
+         *
+         * @param compressed whether the message is compressed
+         * @param message    message stream, {@link java.io.InputStream#available()} returns the remaining bytes
+         * @throws IOException in case the message cannot be read
+         */
+        void accept(boolean compressed, InputStream message) throws IOException;
+    }
+
+    /*
+    Stream over the frame buffers of a single message. Implements KnownLength, so that marshallers
+    can read the message in one go.
+     */
+    private static final class MessageInputStream extends InputStream implements KnownLength {
+        private final List<BufferData> parts;
+        private int index;
+        private int remaining;
+
+        private MessageInputStream(List<BufferData> parts, int length) {
+            this.parts = parts;
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return current().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            int total = 0;
+            while (len > 0 && remaining > 0) {
+                BufferData part = current();
+                int read = part.read(b, off, Math.min(len, Math.min(remaining, part.available())));
+                off += read;
+                len -= read;
+                remaining -= read;
+                total += read;
+            }
+            return total;
+        }
+
+        @Override
+        public long skip(long n) {
+            long toSkip = Math.min(n, remaining);
+            long skipped = 0;
+            while (skipped < toSkip) {
+                BufferData part = current();
+                int count = (int) Math.min(toSkip - skipped, part.available());
+                part.skip(count);
+                skipped += count;
+            }
+            remaining -= (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return remaining;
+        }
+
+        private void skipRemaining() {
+            skip(remaining);
+        }
+
+        private BufferData current() {
+            BufferData part = parts.get(index);
+            while (part.available() == 0) {
+                part = parts.get(++index);
+            }
+            return part;
+        }
+    }
+
+    private static final class LimitedInputStream extends FilterInputStream {
+        private final int maxMessageSize;
+        private long count;
+
+        private LimitedInputStream(InputStream in, int maxMessageSize) {
+            super(in);
+            this.maxMessageSize = maxMessageSize;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result != -1) {
+                count(result);
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count(result);
+            return result;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private void count(long read) {
+            count += read;
+            if (count > maxMessageSize) {
+                throw Status.RESOURCE_EXHAUSTED
+                        .withDescription("Decompressed gRPC message exceeds maximum size " + maxMessageSize)
+                        .asRuntimeException();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+
+import io.grpc.Compressor;
+import io.grpc.Drainable;
+import io.grpc.KnownLength;
+import io.grpc.Status;
+
+import static io.helidon.http.http2.Http2Flag.DataFlags;
+import static io.helidon.webserver.grpc.GrpcMessageDeframer.PREFIX_LENGTH;
+
+/**
+ * Writes gRPC messages as HTTP/2 DATA frames.
+ * <p>
+ * Messages are serialized directly into buffers of frame size. When the length of a message is known in advance
+ * (such as for protocol buffer messages), frames are written as soon as they are filled, otherwise the message is
+ * collected in frame buffers first, so the length prefix can be computed.
+ */
+final class GrpcMessageFramer {
+    private static final DataFlags DATA_FLAGS_ZERO = DataFlags.create(0);
+
+    private final int streamId;
+    private final int maxMessageSize;
+    private final Consumer<Http2FrameData> frameWriter;
+
+    GrpcMessageFramer(int streamId, int maxMessageSize, Consumer<Http2FrameData> frameWriter) {
+        this.streamId = streamId;
+        this.maxMessageSize = maxMessageSize;
+        this.frameWriter = frameWriter;
+    }
+
+    /**
+     * Write a message.
+     *
+     * @param message      message stream
+     * @param compressor   compressor to use, or {@code null} to write the message uncompressed
+     * @param maxFrameSize maximal size of a DATA frame
+     * @return number of bytes written, including the length prefix
+     * @throws IOException                   in case the message cannot be read or compressed
+     * @throws io.grpc.StatusRuntimeException in case the message exceeds the maximal size
+     */
+    long write(InputStream message, Compressor compressor, int maxFrameSize) throws IOException {
+        if (compressor == null && message instanceof KnownLength) {
+            int length = message.available();
+            checkSize(length);
+            return writeKnownLength(message, length, maxFrameSize);
+        }
+
+        // length is not known, collect the message in frame buffers first
+        FrameOutputStream out = new FrameOutputStream(BufferData.create(maxFrameSize - PREFIX_LENGTH),
+                                                      maxFrameSize,
+                                                      maxMessageSize,
+                                                      true);
+        if (compressor == null) {
+            message.transferTo(out);
+        } else {
+            try (OutputStream os = compressor.compress(out)) {
+                message.transferTo(os);
+            }
+        }
+        List<BufferData> chunks = out.finish();
+        long length = out.written();
+
+        BufferData prefix = BufferData.create(PREFIX_LENGTH);
+        prefix.write(compressor == null ? 0 : 1);
+        prefix.writeUnsignedInt32(length);
+        writeFrame(BufferData.create(prefix, chunks.getFirst()));
+        for (int i = 1; i < chunks.size(); i++) {
+            writeFrame(chunks.get(i));
+        }
+        return PREFIX_LENGTH + length;
+    }
+
+    private long writeKnownLength(InputStream message, int length, int maxFrameSize) throws IOException {
+        long total = PREFIX_LENGTH + (long) length;
+        BufferData frame = BufferData.create((int) Math.min(maxFrameSize, total));
+        frame.write(0);
+        frame.writeUnsignedInt32(length);
+
+        if (total <= maxFrameSize) {
+            // serialize directly into the frame buffer
+            while (frame.capacity() > 0) {
+                if (frame.readFrom(message) == -1) {
+                    throw new IllegalStateException("Message is shorter than its declared length " + length);
+                }
+            }
+            writeFrame(frame);
+            return total;
+        }
+
+        FrameOutputStream out = new FrameOutputStream(frame, maxFrameSize, length, false);
+        if (message instanceof Drainable drainable) {
+            drainable.drainTo(out);
+        } else {
+            message.transferTo(out);
+        }
+        out.finish();
+        if (out.written() != length) {
+            throw new IllegalStateException("Message is shorter than its declared length " + length);
+        }
+        return total;
+    }
+
+    private void checkSize(long length) {
+        if (length > maxMessageSize) {
+            throw Status.RESOURCE_EXHAUSTED
+                    .withDescription("gRPC message exceeds maximum size " + maxMessageSize + ": " + length)
+                    .asRuntimeException();
+        }
+    }
+
+    private void writeFrame(BufferData data) {
+        Http2FrameHeader header = Http2FrameHeader.create(data.available(),
+                                                          Http2FrameTypes.DATA,
+                                                          DATA_FLAGS_ZERO,
+                                                          streamId);
+        frameWriter.accept(new Http2FrameData(header, data));
+    }
+
+    /*
+    Output stream filling buffers of frame size. Full buffers are either written as frames right away,
+    or collected, if the length prefix is not yet known.
+     */
+    private final class FrameOutputStream extends OutputStream {
+        private final int maxFrameSize;
+        private final long limit;
+        private final boolean collect;
+        private final List<BufferData> chunks = new ArrayList<>();
+
+        private BufferData current;
+        private long written;
+
+        private FrameOutputStream(BufferData first, int maxFrameSize, long limit, boolean collect) {
+            this.current = first;
+            this.maxFrameSize = maxFrameSize;
+            this.limit = limit;
+            this.collect = collect;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(1);
+            current.write(b);
+            written++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            while (len > 0) {
+                ensureCapacity(len);
+                int toWrite = Math.min(len, current.capacity());
+                current.write(b, off, toWrite);
+                off += toWrite;
+                len -= toWrite;
+                written += toWrite;
+            }
+        }
+
+        private void ensureCapacity(int requested) {
+            if (written + requested > limit) {
+                if (collect) {
+                    checkSize(written + requested);
+                }
+                throw new IllegalStateException("Message is longer than its declared length " + limit);
+            }
+            if (current.capacity() == 0) {
+                next(current);
+                current = BufferData.create((int) Math.min(maxFrameSize, limit - written));
+            }
+        }
+
+        private void next(BufferData chunk) {
+            if (collect) {
+                chunks.add(chunk);
+            } else {
+                writeFrame(chunk);
+            }
+        }
+
+        private List<BufferData> finish() {
+            if (current.available() > 0 || (collect && chunks.isEmpty())) {
+                next(current);
+            }
+            return chunks;
+        }
+
+        private long written() {
+            return written;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,8 @@
 
 package io.helidon.webserver.grpc;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
@@ -37,7 +35,8 @@ import io.helidon.http.HeaderValues;
 import io.helidon.http.Headers;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.WritableHeaders;
-import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2ErrorCode;
+import io.helidon.http.http2.Http2Flag;
 import io.helidon.http.http2.Http2FrameHeader;
 import io.helidon.http.http2.Http2FrameTypes;
 import io.helidon.http.http2.Http2Headers;
@@ -65,9 +64,9 @@ import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
 
 import static io.helidon.http.HeaderNames.CONTENT_TYPE;
-import static io.helidon.http.http2.Http2Flag.DataFlags;
 import static io.helidon.http.http2.Http2Flag.END_OF_HEADERS;
 import static io.helidon.http.http2.Http2Flag.END_OF_STREAM;
 import static io.helidon.http.http2.Http2Flag.HeaderFlags;
@@ -82,8 +81,6 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
     private static final Header GRPC_CONTENT_TYPE = HeaderValues.createCached(CONTENT_TYPE, "application/grpc");
     private static final Header GRPC_ENCODING_IDENTITY = HeaderValues.createCached(GRPC_ENCODING, "identity");
 
-    private static final DataFlags DATA_FLAGS_ZERO = DataFlags.create(0);
-
     private static final DecompressorRegistry DECOMPRESSOR_REGISTRY = DecompressorRegistry.getDefaultInstance();
     private static final CompressorRegistry COMPRESSOR_REGISTRY = CompressorRegistry.getDefaultInstance();
 
@@ -105,10 +102,12 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
     private final LinkedBlockingQueue<REQ> listenerQueue = new LinkedBlockingQueue<>();
     private final StreamFlowControl flowControl;
     private final GrpcConfig grpcConfig;
+    private final GrpcMessageDeframer deframer;
+    private final GrpcMessageFramer framer;
 
     private Http2StreamState currentStreamState;
+    private ServerCall<REQ, RES> serverCall;
     private ServerCall.Listener<REQ> listener;
-    private BufferData entityBytes;
     private Compressor compressor;
     private Decompressor decompressor;
     private boolean isIdentityCompressor;
@@ -136,12 +135,16 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
         this.currentStreamState = currentStreamState;
         this.route = route;
         this.grpcConfig = grpcConfig;
+        this.deframer = new GrpcMessageDeframer(grpcConfig.maxInboundMessageSize());
+        this.framer = new GrpcMessageFramer(streamId,
+                                            grpcConfig.maxOutboundMessageSize(),
+                                            frame -> streamWriter.writeData(frame, flowControl.outbound()));
     }
 
     @Override
     public void init() {
         try {
-            ServerCall<REQ, RES> serverCall = createServerCall();
+            serverCall = createServerCall();
             Headers httpHeaders = headers.httpHeaders();
 
             // setup compression
@@ -181,42 +184,17 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
     @Override
     public void data(Http2FrameHeader header, BufferData data) {
+        boolean endOfStream = header.flags(Http2FrameTypes.DATA).endOfStream();
         try {
-            boolean isCompressed = false;
-
-            while (data.available() > 0) {
-                // start of new chunk?
-                if (entityBytes == null) {
-                    isCompressed = (data.read() == 1);
-                    long length = data.readUnsignedInt32();
-                    entityBytes = BufferData.create((int) length);
-                }
-
-                // append data to current chunk
-                entityBytes.write(data);
-
-                // is chunk complete?
-                if (entityBytes.capacity() == 0) {
-                    // fail if compressed and no decompressor
-                    if (isCompressed && decompressor == null) {
-                        throw new IllegalStateException("Unable to codec for compressed data");
-                    }
-
-                    // read and possibly decompress data
-                    int readLength = entityBytes.available();
-                    bytesReceived += readLength;
-                    byte[] bytes = new byte[readLength];
-                    entityBytes.read(bytes);
-                    ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
-                    REQ request = route.method().parseRequest(isCompressed ? decompressor.decompress(bais) : bais);
-                    listenerQueue.add(request);
-                    flushQueue();
-                    entityBytes = null;
-                }
-            }
+            deframer.deframe(data, this::message);
 
             // if EOS then half close
-            if (header.flags(Http2FrameTypes.DATA).endOfStream()) {
+            if (endOfStream) {
+                if (deframer.inProgress()) {
+                    throw Status.INTERNAL
+                            .withDescription("End of stream received in the middle of a gRPC message")
+                            .asRuntimeException();
+                }
                 listener.onHalfClose();
                 currentStreamState = Http2StreamState.HALF_CLOSED_LOCAL;
 
@@ -225,12 +203,37 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                     methodMetrics.recvMessageSize.record(bytesReceived);
                 }
             }
+        } catch (StatusRuntimeException e) {
+            listener.onCancel();
+            serverCall.close(e.getStatus(), new Metadata());
+            if (!endOfStream) {
+                // rest of the request will not be processed, let the client know it should stop sending it
+                Http2RstStream rstStream = new Http2RstStream(Http2ErrorCode.NO_ERROR);
+                streamWriter.write(rstStream.toFrameData(clientSettings, streamId, Http2Flag.NoFlags.create()));
+                currentStreamState = Http2StreamState.CLOSED;
+            }
         } catch (Exception e) {
             listener.onCancel();
             LOGGER.log(ERROR, "Failed to process grpc request: " + data.debugDataHex(true), e);
         }
     }
 
+    private void message(boolean compressed, InputStream message) throws IOException {
+        // fail if compressed and no decompressor
+        if (compressed && decompressor == null) {
+            throw new IllegalStateException("Unable to codec for compressed data");
+        }
+
+        // possibly decompress and parse data
+        bytesReceived += message.available();
+        InputStream stream = compressed
+                ? GrpcMessageDeframer.limit(decompressor.decompress(message), grpcConfig.maxInboundMessageSize())
+                : message;
+        REQ request = route.method().parseRequest(stream);
+        listenerQueue.add(request);
+        flushQueue();
+    }
+
     void initCompression(ServerCall<REQ, RES> serverCall, Headers httpHeaders) {
         // check for encoding and respond using same algorithm
         if (httpHeaders.contains(GRPC_ENCODING)) {
@@ -289,6 +292,7 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
         return new ServerCall<>() {
 
             private long bytesSent;
+            private boolean closed;
 
             @Override
             public void request(int numMessages) {
@@ -322,36 +326,13 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             @Override
             public void sendMessage(RES message) {
                 try (InputStream inputStream = route.method().streamResponse(message)) {
-                    // prepare buffer for writing
-                    BufferData bufferData;
-                    if (compressor == null || isIdentityCompressor) {
-                        byte[] bytes = inputStream.readAllBytes();
-                        bufferData = BufferData.create(5 + bytes.length);
-                        bufferData.write(0);        // off for identity compressor
-                        bufferData.writeUnsignedInt32(bytes.length);
-                        bufferData.write(bytes);
-                    } else {
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        try (OutputStream os = compressor.compress(baos)) {
-                            inputStream.transferTo(os);
-                        }
-                        byte[] bytes = baos.toByteArray();
-                        bufferData = BufferData.create(5 + bytes.length);
-                        bufferData.write(1);
-                        bufferData.writeUnsignedInt32(bytes.length);
-                        bufferData.write(bytes);
-                    }
-
-                    // create data frame, EOS sent in close with trailers
-                    int writeLength = bufferData.available();
-                    Http2FrameHeader header = Http2FrameHeader.create(writeLength,
-                                                                      Http2FrameTypes.DATA,
-                                                                      DATA_FLAGS_ZERO,
-                                                                      streamId);
-
-                    // write data frame
-                    streamWriter.writeData(new Http2FrameData(header, bufferData), flowControl.outbound());
-                    bytesSent += writeLength;
+                    // write data frames, EOS sent in close with trailers
+                    bytesSent += framer.write(inputStream,
+                                              isIdentityCompressor ? null : compressor,
+                                              flowControl.outbound().maxFrameSize());
+                } catch (StatusRuntimeException e) {
+                    listener.onCancel();
+                    close(e.getStatus(), new Metadata());
                 } catch (Exception e) {
                     listener.onCancel();
                     LOGGER.log(ERROR, "Failed to respond to grpc request: " + route.method(), e);
@@ -360,6 +341,12 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
             @Override
             public void close(Status status, Metadata trailers) {
+                // call may have been closed already due to a failure to read or write a message
+                if (closed) {
+                    return;
+                }
+                closed = true;
+
                 // prepare trailers
                 WritableHeaders<?> writable = WritableHeaders.create();
                 GrpcHeadersUtil.updateHeaders(writable, trailers);
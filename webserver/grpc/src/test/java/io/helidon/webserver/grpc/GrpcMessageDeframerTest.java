@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.helidon.common.buffers.BufferData;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GrpcMessageDeframerTest {
+
+    @Test
+    void testMessagesInSingleFrame() throws IOException {
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer(1024);
+        List<String> messages = new ArrayList<>();
+        deframer.deframe(BufferData.create(frame(message("first"), message(""), message("second"))),
+                         (compressed, message) -> messages.add(read(message)));
+
+        assertThat(messages, is(List.of("first", "", "second")));
+        assertThat(deframer.inProgress(), is(false));
+    }
+
+    @Test
+    void testMessagesAcrossFrames() throws IOException {
+        byte[] bytes = frame(message("a".repeat(100)), message("b".repeat(10)), message("c"));
+
+        // any split of the data, including splits of the prefix, must produce the same messages
+        for (int size = 1; size <= bytes.length; size++) {
+            GrpcMessageDeframer deframer = new GrpcMessageDeframer(1024);
+            List<String> messages = new ArrayList<>();
+            for (int i = 0; i < bytes.length; i += size) {
+                byte[] part = Arrays.copyOfRange(bytes, i, Math.min(bytes.length, i + size));
+                deframer.deframe(BufferData.create(part), (compressed, message) -> messages.add(read(message)));
+            }
+            assertThat("Frame size " + size, messages, is(List.of("a".repeat(100), "b".repeat(10), "c")));
+            assertThat(deframer.inProgress(), is(false));
+        }
+    }
+
+    @Test
+    void testKnownLength() throws IOException {
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer(1024);
+        byte[] bytes = message("hello");
+        List<Integer> lengths = new ArrayList<>();
+        deframer.deframe(BufferData.create(Arrays.copyOfRange(bytes, 0, 7)),
+                         (compressed, message) -> lengths.add(message.available()));
+        assertThat(deframer.inProgress(), is(true));
+        deframer.deframe(BufferData.create(Arrays.copyOfRange(bytes, 7, bytes.length)),
+                         (compressed, message) -> lengths.add(message.available()));
+        assertThat(lengths, is(List.of(5)));
+    }
+
+    @Test
+    void testUnreadMessageSkipped() throws IOException {
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer(1024);
+        List<String> messages = new ArrayList<>();
+        deframer.deframe(BufferData.create(frame(message("ignored"), message("read"))), (compressed, message) -> {
+            if (messages.isEmpty()) {
+                messages.add(String.valueOf((char) message.read()));
+            } else {
+                messages.add(read(message));
+            }
+        });
+        assertThat(messages, is(List.of("i", "read")));
+    }
+
+    @Test
+    void testMaxMessageSize() {
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer(10);
+        List<String> messages = new ArrayList<>();
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                                                () -> deframer.deframe(BufferData.create(message("a".repeat(11))),
+                                                                       (c, m) -> messages.add(read(m))));
+        assertThat(e.getStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(messages, hasSize(0));
+    }
+
+    @Test
+    void testLimit() throws IOException {
+        InputStream limited = GrpcMessageDeframer.limit(new ByteArrayInputStream(new byte[20]), 10);
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, limited::readAllBytes);
+        assertThat(e.getStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+
+        limited = GrpcMessageDeframer.limit(new ByteArrayInputStream(new byte[10]), 10);
+        assertThat(limited.readAllBytes().length, is(10));
+    }
+
+    private static byte[] message(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        BufferData data = BufferData.create(5 + bytes.length);
+        data.write(0);
+        data.writeUnsignedInt32(bytes.length);
+        data.write(bytes);
+        return data.readBytes();
+    }
+
+    private static byte[] frame(byte[]... messages) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        for (byte[] message : messages) {
+            baos.writeBytes(message);
+        }
+        return baos.toByteArray();
+    }
+
+    private static String read(InputStream message) throws IOException {
+        return new String(message.readAllBytes(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import io.helidon.http.http2.Http2FrameData;
+
+import io.grpc.Codec;
+import io.grpc.KnownLength;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GrpcMessageFramerTest {
+    private static final int MAX_FRAME_SIZE = 100;
+
+    private final List<Http2FrameData> frames = new ArrayList<>();
+    private final GrpcMessageFramer framer = new GrpcMessageFramer(1, 1000, frames::add);
+
+    @Test
+    void testKnownLengthSingleFrame() throws IOException {
+        byte[] payload = payload(MAX_FRAME_SIZE - 5);
+        long written = framer.write(new KnownLengthInputStream(payload), null, MAX_FRAME_SIZE);
+
+        assertThat(written, is(MAX_FRAME_SIZE + 0L));
+        assertThat(frames, hasSize(1));
+        assertMessage(deframe(false), payload);
+    }
+
+    @Test
+    void testKnownLengthMultipleFrames() throws IOException {
+        byte[] payload = payload(950);
+        long written = framer.write(new KnownLengthInputStream(payload), null, MAX_FRAME_SIZE);
+
+        assertThat(written, is(955L));
+        assertThat(frames, hasSize(10));
+        assertFrameSizes();
+        assertMessage(deframe(false), payload);
+    }
+
+    @Test
+    void testUnknownLength() throws IOException {
+        byte[] payload = payload(950);
+        long written = framer.write(new ByteArrayInputStream(payload), null, MAX_FRAME_SIZE);
+
+        assertThat(written, is(955L));
+        assertThat(frames, hasSize(10));
+        assertFrameSizes();
+        assertMessage(deframe(false), payload);
+    }
+
+    @Test
+    void testEmptyMessage() throws IOException {
+        framer.write(new KnownLengthInputStream(new byte[0]), null, MAX_FRAME_SIZE);
+        framer.write(new ByteArrayInputStream(new byte[0]), null, MAX_FRAME_SIZE);
+
+        assertThat(frames, hasSize(2));
+        List<byte[]> messages = deframe(false);
+        assertThat(messages, hasSize(2));
+        assertThat(messages.get(0).length, is(0));
+        assertThat(messages.get(1).length, is(0));
+    }
+
+    @Test
+    void testCompressed() throws IOException {
+        byte[] payload = new byte[5000];
+        framer.write(new KnownLengthInputStream(payload), new Codec.Gzip(), MAX_FRAME_SIZE);
+
+        assertFrameSizes();
+        assertMessage(deframe(true), payload);
+    }
+
+    @Test
+    void testMaxMessageSize() {
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                                                () -> framer.write(new KnownLengthInputStream(payload(1001)),
+                                                                   null,
+                                                                   MAX_FRAME_SIZE));
+        assertThat(e.getStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+
+        e = assertThrows(StatusRuntimeException.class,
+                         () -> framer.write(new ByteArrayInputStream(payload(1001)), null, MAX_FRAME_SIZE));
+        assertThat(e.getStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+        assertThat(frames, hasSize(0));
+    }
+
+    private static void assertMessage(List<byte[]> messages, byte[] expected) {
+        assertThat(messages, hasSize(1));
+        assertThat(messages.getFirst(), is(expected));
+    }
+
+    private void assertFrameSizes() {
+        for (Http2FrameData frame : frames) {
+            assertThat(frame.header().length(), lessThanOrEqualTo(MAX_FRAME_SIZE));
+            assertThat(frame.header().length(), is(frame.data().available()));
+        }
+    }
+
+    private List<byte[]> deframe(boolean compressed) throws IOException {
+        List<byte[]> messages = new ArrayList<>();
+        GrpcMessageDeframer deframer = new GrpcMessageDeframer(Integer.MAX_VALUE);
+        for (Http2FrameData frame : frames) {
+            deframer.deframe(frame.data(), (messageCompressed, message) -> {
+                assertThat(messageCompressed, is(compressed));
+                InputStream stream = compressed ? new Codec.Gzip().decompress(message) : message;
+                messages.add(stream.readAllBytes());
+            });
+        }
+        assertThat(deframer.inProgress(), is(false));
+        return messages;
+    }
+
+    private static byte[] payload(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class KnownLengthInputStream extends ByteArrayInputStream implements KnownLength {
+        private KnownLengthInputStream(byte[] buf) {
+            super(buf);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -138,7 +138,10 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 .build();
         this.connectionWriter = new Http2ConnectionWriter(ctx,
                                                           ctx.dataWriter(),
-                                                          List.of(new Http2LoggingFrameListener("send")));
+                                                          List.of(new Http2LoggingFrameListener("send")),
+                                                          http2Config.writeBatchFrames(),
+                                                          http2Config.writeBatchBytes(),
+                                                          ctx.listenerContext().bufferAllocator());
         this.subProviders = subProviders;
         this.requestDynamicTable = Http2Headers.DynamicTable.create(
                 serverSettings.value(Http2Setting.HEADER_TABLE_SIZE));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,8 @@
  */
 package io.helidon.webserver.observe.metrics;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
@@ -115,6 +117,18 @@ class MetricsFeature {
         return formatter.format();
     }
 
+    Optional<MeterRegistryFormatter.StreamingOutput> streamingOutput(MediaType mediaType,
+                                                                     Iterable<String> scopeSelection,
+                                                                     Iterable<String> nameSelection) {
+        MeterRegistryFormatter formatter = chooseFormatter(meterRegistry,
+                                                           mediaType,
+                                                           SystemTagsManager.instance().scopeTagName(),
+                                                           scopeSelection,
+                                                           nameSelection);
+
+        return formatter.formatStreaming();
+    }
+
     Optional<?> outputMetadata(MediaType mediaType,
                        Iterable<String> scopeSelection,
                        Iterable<String> nameSelection) {
@@ -176,14 +190,14 @@ class MetricsFeature {
                                 true);
     }
 
-    private void getAll(ServerRequest req, ServerResponse res) {
+    private void getAll(ServerRequest req, ServerResponse res) throws IOException {
         getMatching(req, res, req.query().all("scope", List::of), req.query().all("name", List::of));
     }
 
     private void getMatching(ServerRequest req,
                              ServerResponse res,
                              Iterable<String> scopeSelection,
-                             Iterable<String> nameSelection) {
+                             Iterable<String> nameSelection) throws IOException {
         MediaType mediaType = bestAccepted(req);
         res.header(HeaderValues.CACHE_NO_CACHE)
                 .header(HeaderValues.X_CONTENT_TYPE_OPTIONS_NOSNIFF);
@@ -193,9 +207,27 @@ class MetricsFeature {
             return;
         }
 
-        getOrOptionsMatching(mediaType, res, () -> output(mediaType,
-                                                          scopeSelection,
-                                                          nameSelection));
+        if (mediaType.equals(MediaTypes.APPLICATION_JSON)) {
+            getOrOptionsMatching(mediaType, res, () -> output(mediaType,
+                                                              scopeSelection,
+                                                              nameSelection));
+            return;
+        }
+
+        // text formats can get large with many meters, write them directly to the response instead of preparing them first
+        Optional<MeterRegistryFormatter.StreamingOutput> output = streamingOutput(mediaType,
+                                                                                  scopeSelection,
+                                                                                  nameSelection);
+        if (output.isPresent()) {
+            res.status(OK_200)
+                    .headers().contentType(mediaType);
+            try (OutputStream outputStream = res.outputStream()) {
+                output.get().write(outputStream);
+            }
+        } else {
+            res.status(NOT_FOUND_404);
+            res.send();
+        }
     }
 
     private void getOrOptionsMatching(MediaType mediaType,
@@ -246,7 +278,7 @@ class MetricsFeature {
                 });
     }
 
-    private void getByName(ServerRequest req, ServerResponse res, Iterable<String> scopeSelection) {
+    private void getByName(ServerRequest req, ServerResponse res, Iterable<String> scopeSelection) throws IOException {
         String metricName = req.path().pathParameters().get("metric");
         getMatching(req, res, scopeSelection, Set.of(metricName));
     }
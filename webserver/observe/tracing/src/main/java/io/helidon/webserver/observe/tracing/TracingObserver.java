@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -186,11 +186,22 @@ public class TracingObserver implements Observer, RuntimeType.Api<TracingObserve
             Find configuration of the web server span (can customize name, disable etc.)
              */
             SpanTracingConfig spanConfig = resolved.spanConfig("web-server", TRACING_SPAN_HTTP_REQUEST);
-            if (!spanConfig.enabled()) {
+            boolean sampled = resolved.sampler()
+                    .map(it -> it.sample(inboundSpanContext))
+                    .orElse(true);
+            if (!spanConfig.enabled() || !sampled) {
                 // nope, do not start this span, but still register parent span context for components further down
-                if (inboundSpanContext.isPresent()) {
-                    context.register(inboundSpanContext.get());
-                    context.register(TracingConfig.class, inboundSpanContext.get());
+                Optional<SpanContext> parentSpanContext = inboundSpanContext;
+                if (!sampled) {
+                    // components further down continue the trace with spans that are not recorded, and propagate
+                    // the decision to downstream services, instead of starting new (orphaned) traces
+                    parentSpanContext = tracer.unsampledContext(inboundSpanContext)
+                            .or(() -> inboundSpanContext);
+                    context.register(tracer);
+                }
+                if (parentSpanContext.isPresent()) {
+                    context.register(parentSpanContext.get());
+                    context.register(TracingConfig.class, parentSpanContext.get());
                 }
                 Contexts.runInContext(context, chain::proceed);
                 return;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -115,6 +115,18 @@ interface BaseHandlerConfigBlueprint {
     @Option.Singular
     Map<String, MediaType> contentTypes();
 
+    /**
+     * Whether to serve pre-compressed variants of resources. If enabled, a file (or classpath resource) with {@code .br}
+     * or {@code .gz} suffix next to the requested resource (such as {@code app.js.br} for {@code app.js}) is sent instead
+     * of the resource to clients that accept the brotli or gzip encoding, with the media type of the requested resource.
+     * Brotli is preferred if both are present and accepted.
+     *
+     * @return whether to serve pre-compressed variants, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean precompressed();
+
     /**
      * Map request path to resource path. Default uses the same path as requested.
      * This can be used to resolve all paths to a single file, or to filter out files.
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.IOException;
+import java.util.List;
+
+import io.helidon.common.configurable.LruCache;
+import io.helidon.http.Method;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+/**
+ * Handles a resource that has pre-compressed siblings, the variant to send is chosen based on the {@code Accept-Encoding}
+ * request header.
+ *
+ * @param identity handler of the resource itself
+ * @param variants encoded variants of the resource, in order of preference
+ */
+record CachedHandlerEncoded(CachedHandler identity, List<EncodedVariant> variants) implements CachedHandler {
+    @Override
+    public boolean handle(LruCache<String, CachedHandler> cache,
+                          Method method,
+                          ServerRequest request,
+                          ServerResponse response,
+                          String requestedResource) throws IOException {
+        return EncodedVariant.select(variants, request, response)
+                .orElse(identity)
+                .handle(cache, method, request, response, requestedResource);
+    }
+}
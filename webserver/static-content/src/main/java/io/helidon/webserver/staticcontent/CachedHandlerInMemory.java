@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,12 +36,33 @@ import io.helidon.webserver.http.ServerResponse;
 import static io.helidon.webserver.staticcontent.StaticContentHandler.processEtag;
 import static io.helidon.webserver.staticcontent.StaticContentHandler.processModifyHeaders;
 
+/**
+ * Handles a resource cached in memory.
+ *
+ * @param mediaType             media type of the resource
+ * @param lastModified          last modification instant, may be {@code null}
+ * @param setLastModifiedHeader sets the {@code Last-Modified} header
+ * @param bytes                 content of the resource
+ * @param contentLength         length of the content
+ * @param contentLengthHeader   {@code Content-Length} header
+ * @param variants              encoded variants of the resource (also in memory), in order of preference
+ */
 record CachedHandlerInMemory(MediaType mediaType,
                              Instant lastModified,
                              BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
                              byte[] bytes,
                              int contentLength,
-                             Header contentLengthHeader) implements CachedHandler {
+                             Header contentLengthHeader,
+                             List<EncodedVariant> variants) implements CachedHandler {
+
+    CachedHandlerInMemory(MediaType mediaType,
+                          Instant lastModified,
+                          BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
+                          byte[] bytes,
+                          int contentLength,
+                          Header contentLengthHeader) {
+        this(mediaType, lastModified, setLastModifiedHeader, bytes, contentLength, contentLengthHeader, List.of());
+    }
 
     @Override
     public boolean handle(LruCache<String, CachedHandler> cache,
@@ -49,6 +70,14 @@ record CachedHandlerInMemory(MediaType mediaType,
                           ServerRequest request,
                           ServerResponse response,
                           String requestedResource) {
+        if (!variants.isEmpty()) {
+            var variant = EncodedVariant.select(variants, request, response);
+            if (variant.isPresent()) {
+                // variants are in memory as well, so this never throws an IOException
+                return ((CachedHandlerInMemory) variant.get()).handle(cache, method, request, response, requestedResource);
+            }
+        }
+
         // etag etc.
         if (lastModified != null) {
             processEtag(String.valueOf(lastModified.toEpochMilli()), request.headers(), response.headers());
@@ -67,6 +96,19 @@ record CachedHandlerInMemory(MediaType mediaType,
         return true;
     }
 
+    /**
+     * Number of bytes this handler keeps in memory, including its encoded variants.
+     *
+     * @return size in bytes
+     */
+    long memorySize() {
+        long size = contentLength;
+        for (EncodedVariant variant : variants) {
+            size += ((CachedHandlerInMemory) variant.handler()).memorySize();
+        }
+        return size;
+    }
+
     private void send(ServerRequest request, ServerResponse response) {
         ServerRequestHeaders headers = request.headers();
 
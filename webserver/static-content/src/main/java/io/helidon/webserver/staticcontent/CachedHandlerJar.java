@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -93,6 +93,22 @@ class CachedHandlerJar implements CachedHandler {
         }
     }
 
+    URL url() {
+        return url;
+    }
+
+    MediaType mediaType() {
+        return mediaType;
+    }
+
+    Instant lastModified() {
+        return lastModified;
+    }
+
+    long contentLength() {
+        return contentLength.getLong();
+    }
+
     @Override
     public boolean handle(LruCache<String, CachedHandler> cache,
                           Method method,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,12 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -110,7 +115,8 @@ class ClassPathContentHandler extends FileBasedContentHandler {
 
         if (cached.isPresent()) {
             // this requested resource is cached and can be safely returned
-            return cached.get().handle(handlerCache(), method, request, response, requestedResource);
+            return promoteToMemory(requestedResource, cached.get())
+                    .handle(handlerCache(), method, request, response, requestedResource);
         }
 
         // if it is not cached, find the resource and cache it (or return 404 and do not cache)
@@ -118,6 +124,8 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         // try to find the resource on classpath (cannot use root URL and then resolve, as root and sub-resource
         // may be from different jar files/directories
         URL url = classLoader.getResource(requestedResource);
+        // name of the resource that is sent, differs from requested resource for welcome files
+        String resource = requestedResource;
 
         String welcomeFileName = welcomePageName();
         if (welcomeFileName != null) {
@@ -143,6 +151,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                     }
 
                     url = welcomeUrl;
+                    resource = welcomeFileResource;
                 } else {
                     // must redirect
                     String redirectLocation = rawPath + "/";
@@ -169,7 +178,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         // now read the URL - we have direct support for files and jar files, others are handled by stream only
         Optional<CachedHandler> handler = switch (url.getProtocol()) {
             case "file" -> fileHandler(Paths.get(url.toURI()));
-            case "jar" -> jarHandler(requestedResource, url);
+            case "jar" -> jarHandler(requestedResource, resource, url);
             default -> urlStreamHandler(url);
         };
 
@@ -178,7 +187,10 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
 
         CachedHandler cachedHandler = handler.get();
-        cacheHandler(requestedResource, cachedHandler);
+        if (!(cachedHandler instanceof CachedHandlerInMemory)) {
+            // in memory handlers are looked up from memory cache, so they can be evicted from it
+            cacheHandler(requestedResource, cachedHandler);
+        }
 
         return cachedHandler.handle(handlerCache(), method, request, response, requestedResource);
     }
@@ -211,7 +223,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         return rawPath.endsWith("/") ? result + "/" : result;
     }
 
-    private Optional<CachedHandler> jarHandler(String requestedResource, URL url) throws IOException {
+    private Optional<CachedHandler> jarHandler(String requestedResource, String resource, URL url) throws IOException {
         JarURLConnection jarUrlConnection = (JarURLConnection) url.openConnection();
         JarEntry jarEntry = jarUrlConnection.getJarEntry();
 
@@ -234,6 +246,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
 
         var lastModifiedHandler = lastModifiedHandler(lastModified);
+        Map<String, URL> precompressedUrls = precompressedUrls(resource);
 
         /*
         We have all the information we need to process a jar file
@@ -249,7 +262,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                                                         lastModified.orElse(null),
                                                         lastModifiedHandler,
                                                         contentType,
-                                                        contentLength));
+                                                        precompressedUrls));
             if (cached.isPresent()) {
                 // we have successfully cached the entry in memory
                 return Optional.of(cached.get());
@@ -262,8 +275,54 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                                                               lastModified.orElse(null),
                                                               contentType,
                                                               contentLength);
+        if (precompressedUrls.isEmpty()) {
+            return Optional.of(jarHandler);
+        }
 
-        return Optional.of(jarHandler);
+        List<EncodedVariant> variants = new ArrayList<>();
+        for (Map.Entry<String, URL> entry : precompressedUrls.entrySet()) {
+            URL variantUrl = entry.getValue();
+            // the variant is sent with the media type of the requested resource
+            variants.add(new EncodedVariant(entry.getKey(),
+                                            CachedHandlerJar.create(tmpStorage,
+                                                                    variantUrl,
+                                                                    lastModified.orElse(null),
+                                                                    contentType,
+                                                                    variantUrl.openConnection().getContentLengthLong())));
+        }
+        return Optional.of(new CachedHandlerEncoded(jarHandler, List.copyOf(variants)));
+    }
+
+    // a jar entry that was not admitted to memory cache may be admitted later, when it is requested often enough
+    private CachedHandler promoteToMemory(String requestedResource, CachedHandler cached) {
+        Map<String, URL> precompressedUrls = new LinkedHashMap<>();
+        CachedHandler identity = cached;
+        if (cached instanceof CachedHandlerEncoded encoded) {
+            identity = encoded.identity();
+            for (EncodedVariant variant : encoded.variants()) {
+                if (variant.handler() instanceof CachedHandlerJar jarVariant) {
+                    precompressedUrls.put(variant.encoding(), jarVariant.url());
+                }
+            }
+        }
+        if (identity instanceof CachedHandlerJar jarHandler
+                && jarHandler.contentLength() <= Integer.MAX_VALUE
+                && admissibleInMemory(requestedResource, (int) jarHandler.contentLength())) {
+
+            Optional<Instant> lastModified = Optional.ofNullable(jarHandler.lastModified());
+            var inMemory = cacheInMemory(requestedResource,
+                                         (int) jarHandler.contentLength(),
+                                         inMemorySupplier(jarHandler.url(),
+                                                          jarHandler.lastModified(),
+                                                          lastModifiedHandler(lastModified),
+                                                          jarHandler.mediaType(),
+                                                          precompressedUrls));
+            if (inMemory.isPresent()) {
+                handlerCache().remove(requestedResource);
+                return inMemory.get();
+            }
+        }
+        return cached;
     }
 
     private BiConsumer<ServerResponseHeaders, Instant> lastModifiedHandler(Optional<Instant> lastModified) {
@@ -283,27 +342,51 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                                                              Instant lastModified,
                                                              BiConsumer<ServerResponseHeaders, Instant> lastModifiedHandler,
                                                              MediaType contentType,
-                                                             long contentLength) {
-
-        Header contentLengthHeader = HeaderValues.create(HeaderNames.CONTENT_LENGTH,
-                                                         contentLength);
+                                                             Map<String, URL> precompressedUrls) {
         return () -> {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            try (InputStream in = url.openStream()) {
-                in.transferTo(baos);
+            try {
+                return inMemoryHandler(contentType,
+                                       lastModified,
+                                       lastModifiedHandler,
+                                       readBytes(url),
+                                       readBytes(precompressedUrls));
             } catch (IOException e) {
                 throw new InternalServerException("Cannot load resource", e);
             }
-            byte[] bytes = baos.toByteArray();
-            return new CachedHandlerInMemory(contentType,
-                                             lastModified,
-                                             lastModifiedHandler,
-                                             bytes,
-                                             bytes.length,
-                                             contentLengthHeader);
         };
     }
 
+    // pre-compressed siblings of a resource, by content coding, in order of preference
+    private Map<String, URL> precompressedUrls(String resource) {
+        if (!precompressed()) {
+            return Map.of();
+        }
+        Map<String, URL> result = new LinkedHashMap<>();
+        for (String encoding : EncodedVariant.ENCODINGS) {
+            URL sibling = classLoader.getResource(resource + EncodedVariant.fileSuffix(encoding));
+            if (sibling != null) {
+                result.put(encoding, sibling);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, byte[]> readBytes(Map<String, URL> urls) throws IOException {
+        Map<String, byte[]> result = new HashMap<>();
+        for (Map.Entry<String, URL> entry : urls.entrySet()) {
+            result.put(entry.getKey(), readBytes(entry.getValue()));
+        }
+        return result;
+    }
+
+    private static byte[] readBytes(URL url) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (InputStream in = url.openStream()) {
+            in.transferTo(baos);
+        }
+        return baos.toByteArray();
+    }
+
     private Optional<CachedHandler> urlStreamHandler(URL url) {
         return Optional.of(new CachedHandlerUrlStream(detectType(fileName(url)), url));
     }
@@ -343,13 +426,13 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         // we are not checking the size, as this is explicitly configured by the user, and if we run out of memory, we just do...
         Optional<Instant> lastModified = lastModified(url);
         MediaType contentType = detectType(fileName(url));
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        try (InputStream in = url.openStream()) {
-            in.transferTo(baos);
-        }
-        byte[] entityBytes = baos.toByteArray();
+        byte[] entityBytes = readBytes(url);
 
-        cacheInMemory(requestedResource, contentType, entityBytes, lastModified);
+        cacheInMemory(requestedResource,
+                      contentType,
+                      entityBytes,
+                      lastModified,
+                      readBytes(precompressedUrls(requestedResource)));
     }
 
     private Optional<Instant> lastModified(URL url) {
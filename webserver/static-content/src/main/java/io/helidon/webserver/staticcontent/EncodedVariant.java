@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.common.media.type.MediaType;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+/**
+ * Content of a resource encoded using a content coding, such as a pre-compressed {@code .gz} file next to the resource.
+ *
+ * @param encoding content coding, as used in the {@code Content-Encoding} header
+ * @param handler  handler that sends the encoded content
+ */
+record EncodedVariant(String encoding, CachedHandler handler) {
+    static final String BROTLI = "br";
+    static final String GZIP = "gzip";
+    /**
+     * Supported content codings, in order of preference.
+     */
+    static final List<String> ENCODINGS = List.of(BROTLI, GZIP);
+
+    private static final Header VARY_ACCEPT_ENCODING = HeaderValues.createCached(HeaderNames.VARY,
+                                                                                 HeaderNames.ACCEPT_ENCODING.defaultCase());
+    private static final Header CONTENT_ENCODING_BROTLI = HeaderValues.createCached(HeaderNames.CONTENT_ENCODING, BROTLI);
+    private static final Header CONTENT_ENCODING_GZIP = HeaderValues.createCached(HeaderNames.CONTENT_ENCODING, GZIP);
+
+    /**
+     * File name suffix of a pre-compressed sibling of a resource.
+     *
+     * @param encoding content coding
+     * @return file name suffix, including the leading dot
+     */
+    static String fileSuffix(String encoding) {
+        return BROTLI.equals(encoding) ? ".br" : ".gz";
+    }
+
+    /**
+     * Select the most preferred variant accepted by the client, and set the {@code Content-Encoding} header of the response
+     * if one is found. The {@code Vary} header is always updated, as the response depends on the {@code Accept-Encoding}
+     * header.
+     *
+     * @param variants variants in order of preference
+     * @param request  server request
+     * @param response server response
+     * @return handler of the selected variant, or empty if the identity should be sent
+     */
+    static Optional<CachedHandler> select(List<EncodedVariant> variants, ServerRequest request, ServerResponse response) {
+        ServerResponseHeaders responseHeaders = response.headers();
+        vary(responseHeaders);
+
+        ServerRequestHeaders requestHeaders = request.headers();
+        if (!requestHeaders.contains(HeaderNames.ACCEPT_ENCODING)) {
+            return Optional.empty();
+        }
+        List<String> accepted = requestHeaders.get(HeaderNames.ACCEPT_ENCODING).allValues(true);
+        for (EncodedVariant variant : variants) {
+            if (accepts(accepted, variant.encoding())) {
+                responseHeaders.set(BROTLI.equals(variant.encoding()) ? CONTENT_ENCODING_BROTLI : CONTENT_ENCODING_GZIP);
+                return Optional.of(variant.handler());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether it makes sense to compress content of the media type (text based types).
+     *
+     * @param mediaType media type of the resource
+     * @return whether the content is compressible
+     */
+    static boolean compressible(MediaType mediaType) {
+        if ("text".equals(mediaType.type())) {
+            return true;
+        }
+        String subtype = mediaType.subtype();
+        return switch (subtype) {
+            case "json", "xml", "javascript", "x-javascript", "ecmascript", "wasm", "svg+xml" -> true;
+            default -> subtype.endsWith("+json") || subtype.endsWith("+xml");
+        };
+    }
+
+    /**
+     * Compress the bytes using gzip.
+     *
+     * @param bytes bytes to compress
+     * @return compressed bytes, or empty if compression does not make the content smaller
+     */
+    static Optional<byte[]> gzip(byte[] bytes) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+            out.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (baos.size() >= bytes.length) {
+            return Optional.empty();
+        }
+        return Optional.of(baos.toByteArray());
+    }
+
+    private static void vary(ServerResponseHeaders headers) {
+        if (headers.contains(HeaderNames.VARY)) {
+            for (String value : headers.get(HeaderNames.VARY).allValues(true)) {
+                if (value.equalsIgnoreCase(HeaderNames.ACCEPT_ENCODING.defaultCase()) || "*".equals(value)) {
+                    return;
+                }
+            }
+            headers.add(VARY_ACCEPT_ENCODING);
+        } else {
+            headers.set(VARY_ACCEPT_ENCODING);
+        }
+    }
+
+    // an explicitly listed coding wins over the wildcard, q=0 means "not acceptable"
+    private static boolean accepts(List<String> accepted, String encoding) {
+        boolean wildcard = false;
+        for (String value : accepted) {
+            int index = value.indexOf(';');
+            String coding = (index < 0 ? value : value.substring(0, index)).trim();
+            boolean acceptable = index < 0 || acceptableQuality(value.substring(index + 1));
+            if (coding.equalsIgnoreCase(encoding)) {
+                return acceptable;
+            }
+            if ("*".equals(coding)) {
+                wildcard = acceptable;
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean acceptableQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,16 +17,14 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.io.UncheckedIOException;
-import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.SeekableByteChannel;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -86,35 +84,23 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
                 range.setContentRange(response);
 
                 // only send a part of the file
-                try (OutputStream out = response.outputStream(); SeekableByteChannel channel = Files.newByteChannel(path)) {
-                    WritableByteChannel outChannel = Channels.newChannel(out);
-                    channel.position(range.offset());
-                    long toRead = range.length();
-                    ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(toRead, 1000));
-                    while (toRead != 0) {
-                        int read = channel.read(buffer);
-                        int toWrite = (int) Math.min(toRead, read);
-                        buffer.flip();
-                        buffer.limit(toWrite);
-                        outChannel.write(buffer);
-                        buffer.flip();
-                        toRead -= toWrite;
-                    }
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                    response.send(channel, range.offset(), range.length());
                 }
             } else {
                 // multipart response not yet supported, send all
-                processContentLength(path, response.headers());
-                // send the full file
-                try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                    in.transferTo(out);
-                }
+                sendFile(response, path);
             }
         } else {
-            processContentLength(path, response.headers());
-            // send the full file
-            try (InputStream in = Files.newInputStream(path); OutputStream out = response.outputStream()) {
-                in.transferTo(out);
-            }
+            sendFile(response, path);
+        }
+    }
+
+    // send the full file, the response may transfer the file directly to the connection
+    private static void sendFile(ServerResponse response, Path path) throws IOException {
+        processContentLength(path, response.headers());
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            response.send(channel, 0, channel.size());
         }
     }
 
@@ -132,10 +118,58 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
 
     Optional<CachedHandler> fileHandler(Path path) {
         // we know the file exists and is a file
-        return Optional.of(new CachedHandlerPath(path,
-                                                 detectType(fileName(path)),
-                                                 FileBasedContentHandler::lastModified,
-                                                 ServerResponseHeaders::lastModified));
+        return Optional.of(pathHandler(path));
+    }
+
+    /**
+     * Handler of a file, with its pre-compressed siblings if enabled.
+     *
+     * @param path path of an existing file
+     * @return handler of the file
+     */
+    CachedHandler pathHandler(Path path) {
+        MediaType mediaType = detectType(fileName(path));
+        CachedHandler identity = new CachedHandlerPath(path,
+                                                       mediaType,
+                                                       FileBasedContentHandler::lastModified,
+                                                       ServerResponseHeaders::lastModified);
+        if (!precompressed()) {
+            return identity;
+        }
+
+        List<EncodedVariant> variants = new ArrayList<>();
+        for (String encoding : EncodedVariant.ENCODINGS) {
+            Path sibling = path.resolveSibling(fileName(path) + EncodedVariant.fileSuffix(encoding));
+            if (Files.isRegularFile(sibling)) {
+                // the variant is sent with the media type of the requested file
+                variants.add(new EncodedVariant(encoding, new CachedHandlerPath(sibling,
+                                                                                mediaType,
+                                                                                FileBasedContentHandler::lastModified,
+                                                                                ServerResponseHeaders::lastModified)));
+            }
+        }
+        return variants.isEmpty() ? identity : new CachedHandlerEncoded(identity, List.copyOf(variants));
+    }
+
+    /**
+     * Content of pre-compressed siblings of a file, if enabled.
+     *
+     * @param path path of an existing file
+     * @return map of content coding to the pre-compressed bytes
+     * @throws IOException in case a sibling cannot be read
+     */
+    Map<String, byte[]> precompressedBytes(Path path) throws IOException {
+        if (!precompressed()) {
+            return Map.of();
+        }
+        Map<String, byte[]> result = new HashMap<>();
+        for (String encoding : EncodedVariant.ENCODINGS) {
+            Path sibling = path.resolveSibling(fileName(path) + EncodedVariant.fileSuffix(encoding));
+            if (Files.isRegularFile(sibling)) {
+                result.put(encoding, Files.readAllBytes(sibling));
+            }
+        }
+        return result;
     }
 
     MediaType detectType(String fileName) {
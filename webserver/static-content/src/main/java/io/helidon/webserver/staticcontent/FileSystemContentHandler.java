@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -26,7 +26,6 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.http.Method;
-import io.helidon.http.ServerResponseHeaders;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
 
@@ -155,10 +154,7 @@ class FileSystemContentHandler extends FileBasedContentHandler {
             }
         }
 
-        CachedHandler handler = new CachedHandlerPath(path,
-                                                      detectType(fileName(path)),
-                                                      FileBasedContentHandler::lastModified,
-                                                      ServerResponseHeaders::lastModified);
+        CachedHandler handler = pathHandler(path);
         cacheHandler(requestedResource, handler);
         return handler.handle(handlerCache(), method, req, res, requestedResource);
     }
@@ -204,7 +200,7 @@ class FileSystemContentHandler extends FileBasedContentHandler {
 
     private void addToInMemoryCache(String resource, Path path) throws IOException {
         byte[] fileBytes = Files.readAllBytes(path);
-        cacheInMemory(resource, detectType(fileName(path)), fileBytes, lastModified(path));
+        cacheInMemory(resource, detectType(fileName(path)), fileBytes, lastModified(path), precompressedBytes(path));
     }
 
     private Path requestedPath(String requestedPath) {
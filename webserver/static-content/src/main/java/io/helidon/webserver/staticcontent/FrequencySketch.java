@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Approximate access frequency of keys (a count-min sketch with four rows of 4-bit counters), as used by TinyLFU.
+ * <p>
+ * Counters are updated without locking. Once the number of recorded accesses reaches ten times the size of the table,
+ * all counters are halved, so the sketch favors recent popularity over historical popularity.
+ */
+final class FrequencySketch {
+    private static final int MAX_FREQUENCY = 15;
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger samples = new AtomicInteger();
+
+    private FrequencySketch(int expectedEntries) {
+        int tableSize = Integer.highestOneBit(Math.clamp(expectedEntries, 16, 1 << 24) - 1) << 1;
+        this.table = new AtomicLongArray(tableSize);
+        this.tableMask = tableSize - 1;
+        this.sampleSize = 10 * tableSize;
+    }
+
+    /**
+     * Create a new sketch.
+     *
+     * @param expectedEntries expected number of distinct keys that are tracked at the same time
+     * @return a new sketch
+     */
+    static FrequencySketch create(int expectedEntries) {
+        return new FrequencySketch(expectedEntries);
+    }
+
+    /**
+     * Estimated number of accesses of the key, capped at {@code 15}.
+     *
+     * @param key key to check
+     * @return estimated frequency
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long slot = slot(hash, i);
+            frequency = Math.min(frequency, counter(table.get(index(slot)), offset(slot)));
+        }
+        return frequency;
+    }
+
+    /**
+     * Record an access of the key.
+     *
+     * @param key key that was accessed
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long slot = slot(hash, i);
+            added |= increment(index(slot), offset(slot));
+        }
+        if (added) {
+            int current = samples.incrementAndGet();
+            if (current >= sampleSize && samples.compareAndSet(current, current / 2)) {
+                reset();
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        int result = hash * 0x9e3779b9;
+        return result ^ (result >>> 16);
+    }
+
+    private static int counter(long value, int offset) {
+        return (int) ((value >>> (offset << 2)) & 0xF);
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot & 0xF);
+    }
+
+    private static long slot(int hash, int row) {
+        long result = (hash + SEEDS[row]) * SEEDS[row];
+        return result ^ (result >>> 32);
+    }
+
+    private int index(long slot) {
+        return (int) (slot >>> 4) & tableMask;
+    }
+
+    private boolean increment(int index, int offset) {
+        int shift = offset << 2;
+        long mask = 0xFL << shift;
+        while (true) {
+            long current = table.get(index);
+            if ((current & mask) == mask) {
+                // already at maximal frequency
+                return false;
+            }
+            if (table.compareAndSet(index, current, current + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    // halve all counters, concurrent increments may be lost, which is fine for an estimate
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            while (true) {
+                long current = table.get(i);
+                if (table.compareAndSet(i, current, (current >>> 1) & RESET_MASK)) {
+                    break;
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,32 +16,65 @@
 
 package io.helidon.webserver.staticcontent;
 
-import java.util.HashMap;
-import java.util.IdentityHashMap;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.helidon.builder.api.RuntimeType;
+import io.helidon.metrics.api.Meter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.Metrics;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.metrics.api.Tag;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 
 /**
  * Memory cache to allow in-memory storage of static content, rather than reading it from file system each time the
  * resource is requested.
+ * <p>
+ * Lookups do not lock. When the cache is full, a new resource is admitted only if its estimated request frequency
+ * (see {@link io.helidon.webserver.staticcontent.FrequencySketch}) is higher than the frequency of the least recently
+ * used resources that must be evicted to make space for it (TinyLFU admission with LRU eviction).
+ * The least recently used resource is approximated by sampling: a cursor moves over the cached resources, and
+ * the least recently used of the next {@value #EVICTION_SAMPLE_SIZE} resources is the eviction candidate,
+ * so making space does not need to order all resources.
  */
 @RuntimeType.PrototypedBy(MemoryCacheConfig.class)
 public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
+    static final String HITS_METRIC = "webserver.static-content.cache.hits";
+    static final String MISSES_METRIC = "webserver.static-content.cache.misses";
+    static final String EVICTIONS_METRIC = "webserver.static-content.cache.evictions";
+    static final String SIZE_METRIC = "webserver.static-content.cache.size";
+
+    private static final System.Logger LOGGER = System.getLogger(MemoryCache.class.getName());
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+
     private final MemoryCacheConfig config;
     private final long maxSize;
-    // cache is Map<instance of handler -> Map<resource path -> CachedHandlerInMemory>>
-    private final Map<StaticContentHandler, Map<String, CachedHandlerInMemory>> cache = new IdentityHashMap<>();
-    private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
+    private final long expireAfterAccess;
+    private final Map<Key, Entry> cache = new ConcurrentHashMap<>();
+    // admission and eviction are serialized, lookups never lock
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLong currentSize = new AtomicLong();
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
 
-    private final ReentrantLock sizeLock = new ReentrantLock();
-    private long currentSize;
+    // frequency a resource must exceed to be admitted into a full cache, updated when we evict or reject
+    private volatile int admissionThreshold;
+    // guarded by the eviction lock, weakly consistent, so it never fails on concurrent modification
+    private Iterator<Map.Entry<Key, Entry>> evictionCursor;
 
     private MemoryCache(MemoryCacheConfig config) {
         this.config = config;
@@ -51,6 +84,22 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
         } else {
             this.maxSize = 0;
         }
+        this.expireAfterAccess = config.expireAfterAccess()
+                .map(Duration::toNanos)
+                .orElse(0L);
+        if (maxSize == 0 || maxSize == Long.MAX_VALUE) {
+            // we never evict, so we do not need to track frequency
+            this.sketch = null;
+        } else {
+            // assume an average resource of 8 kB to size the sketch
+            this.sketch = FrequencySketch.create((int) Math.min(maxSize / 8192, Integer.MAX_VALUE));
+        }
+
+        this.evictionCursor = cache.entrySet().iterator();
+
+        if (config.enableMetrics()) {
+            registerMetrics();
+        }
     }
 
     /**
@@ -100,81 +149,289 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
     }
 
     void clear(StaticContentHandler staticContentHandler) {
+        evictionLock.lock();
         try {
-            cacheLock.writeLock().lock();
-            cache.remove(staticContentHandler);
+            Iterator<Map.Entry<Key, Entry>> iterator = cache.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> next = iterator.next();
+                if (next.getKey().handler() == staticContentHandler) {
+                    iterator.remove();
+                    currentSize.addAndGet(-next.getValue().size);
+                }
+            }
         } finally {
-            cacheLock.writeLock().unlock();
+            evictionLock.unlock();
         }
     }
 
     /**
      * Is there a possibility to cache the bytes.
-     * There may be a race, so {@link #cache(StaticContentHandler, String, int, java.util.function.Supplier)} may still return
-     * empty.
+     * The resource may still be rejected by {@link #cache(StaticContentHandler, String, int, java.util.function.Supplier)},
+     * if the cache is full and the resource is not requested often enough.
      *
-     * @return if there is space in the cache for the number of bytes requested
+     * @return if the cache is enabled and the number of bytes requested fits into it
      */
     boolean available(int bytes) {
-        return maxSize != 0 && (currentSize + bytes) <= maxSize;
+        return maxSize != 0 && bytes <= maxSize;
+    }
+
+    /**
+     * Whether a resource that was previously rejected is likely to be admitted now.
+     * This method does not lock, and it is only an estimate.
+     *
+     * @param handler  handler of the resource
+     * @param resource resource
+     * @param bytes    size of the resource
+     * @return whether it makes sense to try to cache the resource
+     */
+    boolean admissible(StaticContentHandler handler, String resource, int bytes) {
+        if (!available(bytes)) {
+            return false;
+        }
+        if (currentSize.get() + bytes <= maxSize) {
+            return true;
+        }
+        return sketch != null && sketch.frequency(new Key(handler, resource)) > admissionThreshold;
     }
 
     Optional<CachedHandlerInMemory> cache(StaticContentHandler handler,
                                           String resource,
                                           int size,
                                           Supplier<CachedHandlerInMemory> handlerSupplier) {
+        if (!admissible(handler, resource, size)) {
+            // either we are not enabled, the size is bigger than maximal size, or the resource is not requested often enough
+            return Optional.empty();
+        }
+        Key key = new Key(handler, resource);
+        Entry existing = cache.get(key);
+        if (existing != null) {
+            return Optional.of(existing.handler);
+        }
+        // loading (and compressing) the resource is done without the lock, so it does not block admission of other resources
+        CachedHandlerInMemory cachedHandlerInMemory = handlerSupplier.get();
+        // encoded variants are only known once loaded, and need space as well
+        long memorySize = cachedHandlerInMemory.memorySize();
+        if (memorySize > maxSize) {
+            return Optional.empty();
+        }
+        evictionLock.lock();
         try {
-            sizeLock.lock();
-            if (maxSize == 0 || currentSize + size > maxSize) {
-                // either we are not enabled, or the size would be bigger than maximal size
+            existing = cache.get(key);
+            if (existing != null) {
+                // loaded concurrently
+                return Optional.of(existing.handler);
+            }
+            if (!makeSpace(key, memorySize)) {
                 return Optional.empty();
             }
-            // increase current size
-            currentSize += size;
-        } finally {
-            sizeLock.unlock();
-        }
-        try {
-            cacheLock.writeLock().lock();
-            CachedHandlerInMemory cachedHandlerInMemory = handlerSupplier.get();
-            cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, cachedHandlerInMemory);
+            cache.put(key, new Entry(cachedHandlerInMemory, memorySize, false, System.nanoTime()));
+            currentSize.addAndGet(memorySize);
             return Optional.of(cachedHandlerInMemory);
         } finally {
-            cacheLock.writeLock().unlock();
+            evictionLock.unlock();
         }
     }
 
-    // hard add to cache, even if disabled (for explicitly configured resources to cache in memory)
+    // hard add to cache, even if disabled (for explicitly configured resources to cache in memory), never evicted
     void cache(StaticContentHandler handler, String resource, CachedHandlerInMemory inMemoryHandler) {
+        // only count size if enabled, otherwise it does not matter
+        long size = maxSize == 0 ? 0 : inMemoryHandler.memorySize();
+        evictionLock.lock();
         try {
-            sizeLock.lock();
-            if (maxSize != 0) {
-                // only increase current size if enabled, otherwise it does not matter
-                currentSize += inMemoryHandler.contentLength();
-            }
-        } finally {
-            sizeLock.unlock();
-        }
-        try {
-            cacheLock.writeLock().lock();
-            cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, inMemoryHandler);
+            Entry previous = cache.put(new Key(handler, resource), new Entry(inMemoryHandler, size, true, System.nanoTime()));
+            currentSize.addAndGet(previous == null ? size : size - previous.size);
         } finally {
-            cacheLock.writeLock().unlock();
+            evictionLock.unlock();
         }
     }
 
     Optional<CachedHandlerInMemory> get(StaticContentHandler handler, String resource) {
-        try {
-            cacheLock.readLock().lock();
-            Map<String, CachedHandlerInMemory> resourceCache = cache.get(handler);
-            if (resourceCache == null) {
-                return Optional.empty();
+        Key key = new Key(handler, resource);
+        if (sketch != null) {
+            sketch.increment(key);
+        }
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        long now = System.nanoTime();
+        if (expired(entry, now)) {
+            remove(key, entry);
+            misses.increment();
+            return Optional.empty();
+        }
+        entry.lastAccess = now;
+        hits.increment();
+        return Optional.of(entry.handler);
+    }
+
+    /**
+     * Whether compressed variants of resources should be cached.
+     *
+     * @return whether to compress resources when caching them
+     */
+    boolean compressVariants() {
+        return config.compressVariants();
+    }
+
+    long size() {
+        return currentSize.get();
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long evictions() {
+        return evictions.sum();
+    }
+
+    /*
+    Must be called while holding the eviction lock.
+    Evicts the least recently used resources if the candidate is requested more often than each of them,
+    returns whether there is enough space for the candidate.
+     */
+    private boolean makeSpace(Key candidate, long size) {
+        if (currentSize.get() + size <= maxSize) {
+            return true;
+        }
+        long now = System.nanoTime();
+        int candidateFrequency = sketch.frequency(candidate);
+        List<Victim> victims = new ArrayList<>();
+        long freed = 0;
+        // expired resources found while sampling are removed right away, so the size is checked again
+        while (currentSize.get() + size - freed > maxSize) {
+            Victim victim = sampleVictim(now, victims);
+            if (victim == null) {
+                // the rest of the cache is occupied by resources that cannot be evicted
+                return false;
             }
-            return Optional.ofNullable(resourceCache.get(resource));
-        } finally {
-            cacheLock.readLock().unlock();
+            int victimFrequency = sketch.frequency(victim.key());
+            if (candidateFrequency <= victimFrequency) {
+                // the candidate is not popular enough
+                admissionThreshold = victimFrequency;
+                return false;
+            }
+            victims.add(victim);
+            freed += victim.entry().size;
+        }
+        for (Victim victim : victims) {
+            remove(victim.key(), victim.entry());
+        }
+        Victim next = sampleVictim(now, List.of());
+        admissionThreshold = next == null ? 0 : sketch.frequency(next.key());
+        return true;
+    }
+
+    /*
+    Must be called while holding the eviction lock.
+    Least recently used resource of the next sample of the cache, not including already selected victims,
+    or null if there is no resource that can be evicted.
+     */
+    private Victim sampleVictim(long now, List<Victim> selected) {
+        Victim result = null;
+        int sampled = 0;
+        // at most one pass over the cache
+        int remaining = cache.size();
+        while (sampled < EVICTION_SAMPLE_SIZE && remaining-- > 0) {
+            if (!evictionCursor.hasNext()) {
+                evictionCursor = cache.entrySet().iterator();
+                if (!evictionCursor.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<Key, Entry> mapEntry = evictionCursor.next();
+            Key key = mapEntry.getKey();
+            Entry entry = mapEntry.getValue();
+            if (entry.pinned || cache.get(key) != entry || selected(selected, entry)) {
+                continue;
+            }
+            if (expired(entry, now)) {
+                remove(key, entry);
+                continue;
+            }
+            sampled++;
+            long lastAccess = entry.lastAccess;
+            if (result == null || lastAccess < result.lastAccess()) {
+                result = new Victim(key, entry, lastAccess);
+            }
+        }
+        return result;
+    }
+
+    private static boolean selected(List<Victim> selected, Entry entry) {
+        for (Victim victim : selected) {
+            if (victim.entry() == entry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void registerMetrics() {
+        MetricsFactory metricsFactory = MetricsFactory.getInstance();
+        MeterRegistry meterRegistry = Metrics.globalRegistry();
+        List<Tag> tags = List.of(Tag.create("name", config.name()));
+
+        boolean registered = !meterRegistry.meters(meter -> meter.id().name().equals(HITS_METRIC)
+                && config.name().equals(meter.id().tagsMap().get("name")))
+                .isEmpty();
+        if (registered) {
+            // the meters would report another cache
+            LOGGER.log(System.Logger.Level.WARNING, "Metrics of static content memory cache \"" + config.name()
+                    + "\" are already registered by another cache, metrics of this cache are not registered."
+                    + " Configure a distinct name of each memory cache.");
+            return;
+        }
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder(HITS_METRIC, hits, LongAdder::sum)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder(MISSES_METRIC, misses, LongAdder::sum)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.functionalCounterBuilder(EVICTIONS_METRIC, evictions, LongAdder::sum)
+                                          .scope(VENDOR)
+                                          .tags(tags));
+        meterRegistry.getOrCreate(metricsFactory.gaugeBuilder(SIZE_METRIC, currentSize::get)
+                                          .scope(VENDOR)
+                                          .baseUnit(Meter.BaseUnits.BYTES)
+                                          .tags(tags));
+    }
+
+    private boolean expired(Entry entry, long now) {
+        return expireAfterAccess != 0 && !entry.pinned && now - entry.lastAccess > expireAfterAccess;
+    }
+
+    private void remove(Key key, Entry entry) {
+        if (cache.remove(key, entry)) {
+            currentSize.addAndGet(-entry.size);
+            evictions.increment();
+        }
+    }
+
+    // handlers do not override equals and hash code, so this is identity of the handler
+    private record Key(StaticContentHandler handler, String resource) {
+    }
+
+    private record Victim(Key key, Entry entry, long lastAccess) {
+    }
+
+    private static final class Entry {
+        private final CachedHandlerInMemory handler;
+        private final long size;
+        private final boolean pinned;
+        private volatile long lastAccess;
+
+        private Entry(CachedHandlerInMemory handler, long size, boolean pinned, long lastAccess) {
+            this.handler = handler;
+            this.size = size;
+            this.pinned = pinned;
+            this.lastAccess = lastAccess;
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,19 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.common.Size;
 
 /**
  * Configuration of memory cache for static content.
- * The memory cache will cache the first {@link #capacity() bytes} that fit into the configured memory size for the
- * duration of the service uptime.
+ * The memory cache caches resources up to the configured {@link #capacity() size in bytes}. When the cache is full,
+ * a new resource is only admitted if it is requested more often than the least recently used resources it would
+ * replace, which are then evicted.
+ * Resources explicitly configured to be cached in memory are never evicted.
  */
 @Prototype.Blueprint
 @Prototype.Configured
@@ -50,4 +55,48 @@ interface MemoryCacheConfigBlueprint extends Prototype.Factory<MemoryCache> {
     @Option.Default("50 mB")
     @Option.Configured
     Size capacity();
+
+    /**
+     * Resources that were not requested for this duration are removed from the cache.
+     * If not configured, resources are only removed to make space for more frequently requested resources.
+     * Resources explicitly configured to be cached in memory never expire.
+     *
+     * @return duration after last access when a resource expires
+     */
+    @Option.Configured
+    Optional<Duration> expireAfterAccess();
+
+    /**
+     * Whether to compress text based resources (such as HTML, CSS, JavaScript, JSON) using gzip when they are added to
+     * the cache. The compressed variant is kept in the cache next to the resource and sent to clients that accept gzip
+     * encoding, so the content is compressed only once, and not on each request.
+     * The size of the compressed variant counts towards the {@link #capacity()} of the cache.
+     *
+     * @return whether to cache compressed variants of resources
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean compressVariants();
+
+    /**
+     * Whether to collect metrics of the cache (hits, misses, evictions, and size in bytes).
+     * Metrics are registered in the global {@link io.helidon.metrics.api.MeterRegistry}, tagged with the
+     * {@link #name()} of the cache.
+     *
+     * @return metrics flag
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enableMetrics();
+
+    /**
+     * Name of the cache, used as a value of the {@code name} tag of the cache metrics.
+     * Caches with metrics enabled must have distinct names, metrics of a cache whose name is already used are not
+     * registered.
+     *
+     * @return name of the cache
+     */
+    @Option.Configured
+    @Option.Default("default")
+    String name();
 }
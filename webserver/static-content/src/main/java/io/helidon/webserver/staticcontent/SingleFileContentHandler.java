@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,7 +22,6 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import io.helidon.http.Method;
-import io.helidon.http.ServerResponseHeaders;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
 
@@ -45,7 +44,7 @@ class SingleFileContentHandler extends FileBasedContentHandler {
             if (cacheInMemory) {
                 // directly cache in memory
                 byte[] fileBytes = Files.readAllBytes(path);
-                cacheInMemory(".", detectType(fileName(path)), fileBytes, lastModified(path));
+                cacheInMemory(".", detectType(fileName(path)), fileBytes, lastModified(path), precompressedBytes(path));
             } else {
                 // cache a handler that loads it from file system
                 cacheFileHandler();
@@ -78,10 +77,7 @@ class SingleFileContentHandler extends FileBasedContentHandler {
     }
 
     private CachedHandler cacheFileHandler() {
-        CachedHandler handler = new CachedHandlerPath(path,
-                                                      detectType(fileName(path)),
-                                                      FileBasedContentHandler::lastModified,
-                                                      ServerResponseHeaders::lastModified);
+        CachedHandler handler = pathHandler(path);
         cacheHandler(".", handler);
 
         return handler;
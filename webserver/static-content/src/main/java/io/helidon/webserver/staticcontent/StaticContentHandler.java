@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,7 +23,9 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
@@ -60,6 +62,7 @@ abstract class StaticContentHandler implements StaticContentService {
     private final Function<String, String> resolvePathFunction;
     private final AtomicInteger webServerCounter = new AtomicInteger();
     private final MemoryCache memoryCache;
+    private final boolean precompressed;
 
     StaticContentHandler(BaseHandlerConfig config) {
         this.welcomeFilename = config.welcome().orElse(null);
@@ -68,11 +71,14 @@ abstract class StaticContentHandler implements StaticContentService {
                 .update(it -> config.recordCacheCapacity().ifPresent(it::capacity))
                 .build();
         this.memoryCache = config.memoryCache().orElseGet(MemoryCache::create);
+        this.precompressed = config.precompressed();
     }
 
     /**
      * Put {@code etag} parameter (if provided ) into the response headers, than validates {@code If-Match} and
      * {@code If-None-Match} headers and react accordingly.
+     * If the response has a {@code Content-Encoding}, the encoding is added to the {@code etag}, as each encoded variant
+     * of a resource must have a different entity tag.
      *
      * @param etag            the proposed ETag. If {@code null} then method returns false
      * @param requestHeaders  an HTTP request headers
@@ -84,6 +90,10 @@ abstract class StaticContentHandler implements StaticContentService {
             return;
         }
         etag = unquoteETag(etag);
+        Optional<String> contentEncoding = responseHeaders.first(HeaderNames.CONTENT_ENCODING);
+        if (contentEncoding.isPresent()) {
+            etag = etag + "-" + contentEncoding.get();
+        }
 
         Header newEtag = HeaderValues.create(HeaderNames.ETAG, true, false, '"' + etag + '"');
         // Put ETag into the response
@@ -269,6 +279,15 @@ abstract class StaticContentHandler implements StaticContentService {
         return welcomeFilename;
     }
 
+    /**
+     * Whether pre-compressed siblings of resources should be served.
+     *
+     * @return whether to look for pre-compressed variants
+     */
+    boolean precompressed() {
+        return precompressed;
+    }
+
     /**
      * Cache in memory.
      * Only use when explicitly requested by a user, we NEVER clear the cache during runtime. If you cache too much,
@@ -297,6 +316,10 @@ abstract class StaticContentHandler implements StaticContentService {
         return memoryCache.available(size);
     }
 
+    boolean admissibleInMemory(String resource, int size) {
+        return memoryCache.admissible(this, resource, size);
+    }
+
     Optional<CachedHandlerInMemory> cacheInMemory(String resource, int size, Supplier<CachedHandlerInMemory> supplier) {
         return memoryCache.cache(this, resource, size, supplier);
     }
@@ -323,17 +346,16 @@ abstract class StaticContentHandler implements StaticContentService {
     }
 
     void cacheInMemory(String resource, MediaType contentType, byte[] bytes, Optional<Instant> lastModified) {
-        int contentLength = bytes.length;
-        Header contentLengthHeader = HeaderValues.create(HeaderNames.CONTENT_LENGTH, contentLength);
+        cacheInMemory(resource, contentType, bytes, lastModified, Map.of());
+    }
 
-        CachedHandlerInMemory inMemoryResource;
+    void cacheInMemory(String resource,
+                       MediaType contentType,
+                       byte[] bytes,
+                       Optional<Instant> lastModified,
+                       Map<String, byte[]> encodedBytes) {
         if (lastModified.isEmpty()) {
-            inMemoryResource = new CachedHandlerInMemory(contentType,
-                                                         null,
-                                                         null,
-                                                         bytes,
-                                                         contentLength,
-                                                         contentLengthHeader);
+            cacheInMemory(resource, inMemoryHandler(contentType, null, null, bytes, encodedBytes));
         } else {
             // we can cache this, as this is a jar record
             Header lastModifiedHeader = HeaderValues.create(HeaderNames.LAST_MODIFIED,
@@ -341,15 +363,64 @@ abstract class StaticContentHandler implements StaticContentService {
                                                             false,
                                                             formatLastModified(lastModified.get()));
 
-            inMemoryResource = new CachedHandlerInMemory(contentType,
-                                                         lastModified.get(),
-                                                         (headers, instant) -> headers.set(lastModifiedHeader),
-                                                         bytes,
-                                                         contentLength,
-                                                         contentLengthHeader);
+            cacheInMemory(resource, inMemoryHandler(contentType,
+                                                    lastModified.get(),
+                                                    (headers, instant) -> headers.set(lastModifiedHeader),
+                                                    bytes,
+                                                    encodedBytes));
         }
+    }
+
+    /**
+     * Create an in memory handler, including its encoded variants.
+     * Variants are created from the provided pre-compressed bytes, and if configured on the memory cache, a gzip variant
+     * is created for compressible content that does not have one.
+     *
+     * @param contentType           media type of the resource
+     * @param lastModified          last modification instant, may be {@code null}
+     * @param setLastModifiedHeader sets the {@code Last-Modified} header, may be {@code null} if last modified is not known
+     * @param bytes                 content of the resource
+     * @param encodedBytes          pre-compressed content, by content coding
+     * @return a new in memory handler
+     */
+    CachedHandlerInMemory inMemoryHandler(MediaType contentType,
+                                          Instant lastModified,
+                                          BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
+                                          byte[] bytes,
+                                          Map<String, byte[]> encodedBytes) {
+        List<EncodedVariant> variants = new ArrayList<>();
+        for (String encoding : EncodedVariant.ENCODINGS) {
+            Optional<byte[]> variantBytes = Optional.ofNullable(encodedBytes.get(encoding));
+            if (variantBytes.isEmpty()
+                    && EncodedVariant.GZIP.equals(encoding)
+                    && memoryCache.compressVariants()
+                    && EncodedVariant.compressible(contentType)) {
+                variantBytes = EncodedVariant.gzip(bytes);
+            }
+            if (variantBytes.isPresent()) {
+                CachedHandlerInMemory variant = createInMemory(contentType,
+                                                               lastModified,
+                                                               setLastModifiedHeader,
+                                                               variantBytes.get(),
+                                                               List.of());
+                variants.add(new EncodedVariant(encoding, variant));
+            }
+        }
+        return createInMemory(contentType, lastModified, setLastModifiedHeader, bytes, List.copyOf(variants));
+    }
 
-        cacheInMemory(resource, inMemoryResource);
+    private static CachedHandlerInMemory createInMemory(MediaType contentType,
+                                                        Instant lastModified,
+                                                        BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
+                                                        byte[] bytes,
+                                                        List<EncodedVariant> variants) {
+        return new CachedHandlerInMemory(contentType,
+                                         lastModified,
+                                         setLastModifiedHeader,
+                                         bytes,
+                                         bytes.length,
+                                         HeaderValues.create(HeaderNames.CONTENT_LENGTH, bytes.length),
+                                         variants);
     }
 
     private static String unquoteETag(String etag) {
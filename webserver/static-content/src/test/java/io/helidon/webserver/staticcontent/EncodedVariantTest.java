@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.ServerResponseHeaders;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webserver.http.ServerRequest;
+import io.helidon.webserver.http.ServerResponse;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.noHeader;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalEmpty;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalValue;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EncodedVariantTest {
+    private static final CachedHandler BROTLI = mock(CachedHandler.class);
+    private static final CachedHandler GZIP = mock(CachedHandler.class);
+    private static final List<EncodedVariant> VARIANTS = List.of(new EncodedVariant(EncodedVariant.BROTLI, BROTLI),
+                                                                 new EncodedVariant(EncodedVariant.GZIP, GZIP));
+
+    @Test
+    void testNoAcceptEncoding() {
+        ServerResponseHeaders responseHeaders = ServerResponseHeaders.create();
+
+        assertThat(select(null, responseHeaders), optionalEmpty());
+        assertThat(responseHeaders, hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+        assertThat(responseHeaders, noHeader(HeaderNames.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testPreferred() {
+        ServerResponseHeaders responseHeaders = ServerResponseHeaders.create();
+
+        assertThat(select("gzip, deflate, br", responseHeaders), optionalValue(sameInstance(BROTLI)));
+        assertThat(responseHeaders, hasHeader(HeaderNames.CONTENT_ENCODING, "br"));
+    }
+
+    @Test
+    void testQuality() {
+        ServerResponseHeaders responseHeaders = ServerResponseHeaders.create();
+
+        assertThat(select("br;q=0, gzip;q=0.5", responseHeaders), optionalValue(sameInstance(GZIP)));
+        assertThat(responseHeaders, hasHeader(HeaderNames.CONTENT_ENCODING, "gzip"));
+        assertThat(select("br;q=0, gzip;q=0", ServerResponseHeaders.create()), optionalEmpty());
+        assertThat(select("identity", ServerResponseHeaders.create()), optionalEmpty());
+    }
+
+    @Test
+    void testWildcard() {
+        assertThat(select("*", ServerResponseHeaders.create()), optionalValue(sameInstance(BROTLI)));
+        assertThat(select("br;q=0, *", ServerResponseHeaders.create()), optionalValue(sameInstance(GZIP)));
+        assertThat(select("gzip, *;q=0", ServerResponseHeaders.create()), optionalValue(sameInstance(GZIP)));
+    }
+
+    @Test
+    void testVaryAppended() {
+        ServerResponseHeaders responseHeaders = ServerResponseHeaders.create();
+        responseHeaders.set(HeaderValues.create(HeaderNames.VARY, "Origin"));
+
+        select("gzip", responseHeaders);
+        select("gzip", responseHeaders);
+        assertThat(responseHeaders.get(HeaderNames.VARY).allValues(true), is(List.of("Origin", "Accept-Encoding")));
+    }
+
+    @Test
+    void testCompressible() {
+        assertThat(EncodedVariant.compressible(MediaTypes.TEXT_HTML), is(true));
+        assertThat(EncodedVariant.compressible(MediaTypes.APPLICATION_JSON), is(true));
+        assertThat(EncodedVariant.compressible(MediaTypes.create("image/svg+xml")), is(true));
+        assertThat(EncodedVariant.compressible(MediaTypes.create("image/png")), is(false));
+        assertThat(EncodedVariant.compressible(MediaTypes.APPLICATION_OCTET_STREAM), is(false));
+    }
+
+    @Test
+    void testGzipOnlyIfSmaller() {
+        assertThat(EncodedVariant.gzip("a".repeat(1000).getBytes()).map(it -> it.length < 1000), optionalValue(is(true)));
+        assertThat(EncodedVariant.gzip(new byte[] {42}), optionalEmpty());
+    }
+
+    private static Optional<CachedHandler> select(String acceptEncoding, ServerResponseHeaders responseHeaders) {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        if (acceptEncoding != null) {
+            requestHeaders.set(HeaderNames.ACCEPT_ENCODING, acceptEncoding);
+        }
+        ServerRequest req = mock(ServerRequest.class);
+        when(req.headers()).thenReturn(ServerRequestHeaders.create(requestHeaders));
+        ServerResponse res = mock(ServerResponse.class);
+        when(res.headers()).thenReturn(responseHeaders);
+
+        return EncodedVariant.select(VARIANTS, req, res);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.Size;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.metrics.api.FunctionalCounter;
+import io.helidon.metrics.api.Metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalEmpty;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalPresent;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MemoryCacheTest {
+    private StaticContentHandler handler;
+
+    @BeforeEach
+    void init() {
+        handler = mock(StaticContentHandler.class);
+    }
+
+    @Test
+    void testCacheUntilFull() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+
+        assertThat(cache.cache(handler, "/first", 60, () -> resource(60)), optionalPresent());
+        assertThat(cache.size(), is(60L));
+        assertThat(cache.get(handler, "/first"), optionalPresent());
+        assertThat(cache.get(handler, "/other"), optionalEmpty());
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(1L));
+
+        // too big to ever fit
+        assertThat(cache.available(101), is(false));
+        assertThat(cache.cache(handler, "/huge", 101, () -> resource(101)), optionalEmpty());
+    }
+
+    @Test
+    void testPopularResourceEvictsLeastRecentlyUsed() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+
+        assertThat(cache.cache(handler, "/first", 50, () -> resource(50)), optionalPresent());
+        assertThat(cache.cache(handler, "/second", 50, () -> resource(50)), optionalPresent());
+        cache.get(handler, "/first");
+        cache.get(handler, "/second");
+
+        // requested only once, less than the cached resources - rejected
+        cache.get(handler, "/third");
+        assertThat(cache.cache(handler, "/third", 50, () -> resource(50)), optionalEmpty());
+        assertThat(cache.admissible(handler, "/third", 50), is(false));
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(handler, "/third");
+        }
+        cache.get(handler, "/second");
+        assertThat(cache.admissible(handler, "/third", 50), is(true));
+        assertThat(cache.cache(handler, "/third", 50, () -> resource(50)), optionalPresent());
+
+        // first is least recently used
+        assertThat(cache.get(handler, "/first"), optionalEmpty());
+        assertThat(cache.get(handler, "/second"), optionalPresent());
+        assertThat(cache.get(handler, "/third"), optionalPresent());
+        assertThat(cache.evictions(), is(1L));
+        assertThat(cache.size(), is(100L));
+    }
+
+    @Test
+    void testRequiredResourcesNotEvicted() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+
+        cache.cache(handler, "/required", resource(80));
+        for (int i = 0; i < 10; i++) {
+            cache.get(handler, "/popular");
+        }
+        assertThat(cache.cache(handler, "/popular", 50, () -> resource(50)), optionalEmpty());
+        assertThat(cache.get(handler, "/required"), optionalPresent());
+    }
+
+    @Test
+    void testExpireAfterAccess() throws InterruptedException {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100))
+                .expireAfterAccess(Duration.ofMillis(10)));
+
+        cache.cache(handler, "/required", resource(10));
+        assertThat(cache.cache(handler, "/first", 50, () -> resource(50)), optionalPresent());
+        Thread.sleep(50);
+
+        assertThat(cache.get(handler, "/first"), optionalEmpty());
+        assertThat(cache.get(handler, "/required"), optionalPresent());
+        assertThat(cache.size(), is(10L));
+    }
+
+    @Test
+    void testClear() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+        StaticContentHandler otherHandler = mock(StaticContentHandler.class);
+
+        cache.cache(handler, "/first", 50, () -> resource(50));
+        cache.cache(otherHandler, "/first", 20, () -> resource(20));
+        cache.clear(handler);
+
+        assertThat(cache.get(handler, "/first"), optionalEmpty());
+        assertThat(cache.get(otherHandler, "/first"), optionalPresent());
+        assertThat(cache.size(), is(20L));
+    }
+
+    @Test
+    void testDisabled() {
+        MemoryCache cache = MemoryCache.create();
+
+        assertThat(cache.available(1), is(false));
+        assertThat(cache.cache(handler, "/first", 1, () -> resource(1)), optionalEmpty());
+
+        cache.cache(handler, "/required", resource(10));
+        Optional<CachedHandlerInMemory> required = cache.get(handler, "/required");
+        assertThat(required, optionalPresent());
+    }
+
+    @Test
+    void testVariantsCounted() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+        CachedHandlerInMemory gzipVariant = resource(20);
+        CachedHandlerInMemory withVariant = new CachedHandlerInMemory(MediaTypes.TEXT_PLAIN,
+                                                                      null,
+                                                                      null,
+                                                                      new byte[50],
+                                                                      50,
+                                                                      HeaderValues.create(HeaderNames.CONTENT_LENGTH, 50),
+                                                                      List.of(new EncodedVariant(EncodedVariant.GZIP,
+                                                                                                 gzipVariant)));
+
+        assertThat(cache.cache(handler, "/first", 50, () -> withVariant), optionalPresent());
+        assertThat(cache.size(), is(70L));
+
+        // variant does not fit
+        assertThat(cache.cache(handler, "/second", 20, () -> withVariant), optionalEmpty());
+        assertThat(cache.size(), is(70L));
+    }
+
+    @Test
+    void testResourceLoadedWithoutLock() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            assertThat(cache.cache(handler, "/first", 50, () -> {
+                // another resource is admitted while this one is loaded (and compressed)
+                Future<Optional<CachedHandlerInMemory>> other = executor.submit(
+                        () -> cache.cache(handler, "/second", 20, () -> resource(20)));
+                try {
+                    assertThat(other.get(10, TimeUnit.SECONDS), optionalPresent());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return resource(50);
+            }), optionalPresent());
+        }
+        assertThat(cache.size(), is(70L));
+    }
+
+    @Test
+    void testMetricsTaggedWithName() {
+        MemoryCache first = MemoryCache.create(builder -> builder.capacity(Size.create(100))
+                .enableMetrics(true)
+                .name("first"));
+        MemoryCache second = MemoryCache.create(builder -> builder.capacity(Size.create(100))
+                .enableMetrics(true)
+                .name("second"));
+
+        first.get(handler, "/first");
+        second.get(handler, "/first");
+        second.get(handler, "/second");
+
+        assertThat(counter(MemoryCache.MISSES_METRIC, "first"), is(1L));
+        assertThat(counter(MemoryCache.MISSES_METRIC, "second"), is(2L));
+    }
+
+    private static long counter(String name, String cacheName) {
+        return Metrics.globalRegistry()
+                .meters(meter -> meter.id().name().equals(name) && cacheName.equals(meter.id().tagsMap().get("name")))
+                .stream()
+                .map(meter -> ((FunctionalCounter) meter).count())
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Counter " + name + " of cache " + cacheName + " is not registered"));
+    }
+
+    private static CachedHandlerInMemory resource(int size) {
+        return new CachedHandlerInMemory(MediaTypes.APPLICATION_OCTET_STREAM,
+                                         null,
+                                         null,
+                                         new byte[size],
+                                         size,
+                                         HeaderValues.create(HeaderNames.CONTENT_LENGTH, size));
+    }
+}
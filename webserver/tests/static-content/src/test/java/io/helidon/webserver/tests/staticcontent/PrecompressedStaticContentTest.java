@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.staticcontent.FileSystemHandlerConfig;
+import io.helidon.webserver.staticcontent.MemoryCache;
+import io.helidon.webserver.staticcontent.StaticContentFeature;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.noHeader;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+class PrecompressedStaticContentTest {
+    private static final String CONTENT = "function hello() {\n    return 'hello';\n}\n".repeat(100);
+    private static final byte[] GZIP_CONTENT = gzip(CONTENT);
+    // we cannot create brotli content in the JDK, the server does not care about the bytes
+    private static final byte[] BROTLI_CONTENT = "brotli".getBytes(StandardCharsets.US_ASCII);
+    private static final Path DIRECTORY;
+
+    static {
+        try {
+            DIRECTORY = Files.createTempDirectory("helidon-precompressed-test");
+            Files.writeString(DIRECTORY.resolve("app.js"), CONTENT);
+            Files.write(DIRECTORY.resolve("app.js.gz"), GZIP_CONTENT);
+            Files.write(DIRECTORY.resolve("app.js.br"), BROTLI_CONTENT);
+            Files.writeString(DIRECTORY.resolve("style.css"), CONTENT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final Http1Client client;
+
+    PrecompressedStaticContentTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        routing.register("/files", StaticContentFeature.createService(FileSystemHandlerConfig.builder()
+                                                                              .location(DIRECTORY)
+                                                                              .precompressed(true)
+                                                                              .build()));
+        routing.register("/memory", StaticContentFeature.createService(FileSystemHandlerConfig.builder()
+                                                                               .location(DIRECTORY)
+                                                                               .memoryCache(MemoryCache.create(
+                                                                                       cache -> cache.compressVariants(true)))
+                                                                               .addCachedFile("style.css")
+                                                                               .build()));
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        for (String file : new String[] {"app.js", "app.js.gz", "app.js.br", "style.css"}) {
+            Files.deleteIfExists(DIRECTORY.resolve(file));
+        }
+        Files.deleteIfExists(DIRECTORY);
+    }
+
+    @Test
+    void testIdentity() {
+        try (Http1ClientResponse response = client.get("/files/app.js")
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), noHeader(HeaderNames.CONTENT_ENCODING));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.as(String.class), is(CONTENT));
+        }
+    }
+
+    @Test
+    void testPreferBrotli() {
+        try (Http1ClientResponse response = client.get("/files/app.js")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip, deflate, br")
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_ENCODING, "br"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_TYPE, "text/javascript"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_LENGTH, String.valueOf(BROTLI_CONTENT.length)));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.headers().get(HeaderNames.ETAG).get().endsWith("-br\""), is(true));
+        }
+    }
+
+    @Test
+    void testGzip() {
+        try (Http1ClientResponse response = client.get("/files/app.js")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip, br;q=0")
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_ENCODING, "gzip"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_LENGTH, String.valueOf(GZIP_CONTENT.length)));
+            assertThat(response.headers().get(HeaderNames.ETAG).get().endsWith("-gzip\""), is(true));
+        }
+    }
+
+    @Test
+    void testEtagPerVariant() {
+        String identityEtag;
+        try (Http1ClientResponse response = client.get("/files/app.js")
+                .request()) {
+            identityEtag = response.headers().get(HeaderNames.ETAG).get();
+        }
+        // the identity entity tag does not match the encoded variant
+        String gzipEtag;
+        try (Http1ClientResponse response = client.get("/files/app.js")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip")
+                .header(HeaderNames.IF_NONE_MATCH, identityEtag)
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            gzipEtag = response.headers().get(HeaderNames.ETAG).get();
+            assertThat(gzipEtag, not(identityEtag));
+        }
+        try (Http1ClientResponse response = client.get("/files/app.js")
+                .header(HeaderNames.ACCEPT_ENCODING, "gzip")
+                .header(HeaderNames.IF_NONE_MATCH, gzipEtag)
+                .request()) {
+            assertThat(response.status(), is(Status.NOT_MODIFIED_304));
+        }
+    }
+
+    @Test
+    void testCompressedInMemory() {
+        try (Http1ClientResponse response = client.get("/memory/style.css")
+                .header(HeaderNames.ACCEPT_ENCODING, "br, gzip")
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_ENCODING, "gzip"));
+            assertThat(response.headers(), hasHeader(HeaderNames.VARY, "Accept-Encoding"));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_TYPE, "text/css"));
+            long contentLength = response.headers().contentLength().orElseThrow();
+            assertThat(contentLength < CONTENT.length(), is(true));
+        }
+        try (Http1ClientResponse response = client.get("/memory/style.css")
+                .request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), noHeader(HeaderNames.CONTENT_ENCODING));
+            assertThat(response.as(String.class), is(CONTENT));
+        }
+    }
+
+    private static byte[] gzip(String content) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests.staticcontent;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.staticcontent.StaticContentService;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.http.junit5.HttpHeaderMatcher.hasHeader;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+class ZeroCopyStaticContentTest {
+    // larger than any socket or file buffer, so the file is transferred in more than one step
+    private static final byte[] CONTENT = new byte[3 * 1024 * 1024 + 17];
+    private static final Path DIRECTORY;
+
+    static {
+        new Random(42).nextBytes(CONTENT);
+        try {
+            DIRECTORY = Files.createTempDirectory("helidon-zero-copy-test");
+            Files.write(DIRECTORY.resolve("content.bin"), CONTENT);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private final Http1Client client;
+
+    ZeroCopyStaticContentTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder server) {
+        server.enableZeroCopy(true);
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        routing.register("/files", StaticContentService.builder(DIRECTORY)
+                .build());
+    }
+
+    @AfterAll
+    static void cleanup() throws IOException {
+        Files.deleteIfExists(DIRECTORY.resolve("content.bin"));
+        Files.deleteIfExists(DIRECTORY);
+    }
+
+    @Test
+    void testFullFile() {
+        // send twice to make sure the connection is still usable after the transfer
+        for (int i = 0; i < 2; i++) {
+            try (Http1ClientResponse response = client.get("/files/content.bin")
+                    .request()) {
+                assertThat(response.status(), is(Status.OK_200));
+                assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_LENGTH, String.valueOf(CONTENT.length)));
+                assertThat(Arrays.equals(response.as(byte[].class), CONTENT), is(true));
+            }
+        }
+    }
+
+    @Test
+    void testRange() {
+        int start = 1024 * 1024 + 5;
+        int end = 2 * 1024 * 1024 + 10;
+        try (Http1ClientResponse response = client.get("/files/content.bin")
+                .header(HeaderNames.RANGE, "bytes=" + start + "-" + end)
+                .request()) {
+            assertThat(response.status(), is(Status.PARTIAL_CONTENT_206));
+            assertThat(response.headers(), hasHeader(HeaderNames.CONTENT_LENGTH, String.valueOf(end - start + 1)));
+            assertThat(Arrays.equals(response.as(byte[].class), Arrays.copyOfRange(CONTENT, start, end + 1)), is(true));
+        }
+    }
+}
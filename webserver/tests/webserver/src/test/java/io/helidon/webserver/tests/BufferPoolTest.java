@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.buffers.PooledBufferAllocator;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.api.HttpClientResponse;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.RepeatedTest;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Responses written using pooled buffers, repeated so buffers are reused.
+ */
+@ServerTest
+class BufferPoolTest {
+    private static final HeaderName HELIDON = HeaderNames.create("helidon");
+    // bigger than the biggest pooled buffer
+    private static final String LARGE = "0123456789".repeat(300);
+    private static final String SMALL = "The quick brown fox jumps over the lazy dog";
+
+    private final Http1Client client;
+
+    BufferPoolTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder server) {
+        server.bufferAllocator(PooledBufferAllocator.create(4, 1024, true));
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder builder) {
+        builder.get("/small", (req, res) -> res.send(SMALL))
+                .get("/large", (req, res) -> res.send(LARGE))
+                .get("/stream", (req, res) -> {
+                    try (OutputStream out = res.outputStream()) {
+                        for (int i = 0; i < 3; i++) {
+                            out.write(SMALL.getBytes(StandardCharsets.UTF_8));
+                            out.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                })
+                .get("/trailers", (req, res) -> {
+                    res.header(HeaderNames.TRAILER, "helidon");
+                    res.beforeTrailers(trailers -> trailers.add(HELIDON, "rocks"));
+                    res.send(LARGE);
+                });
+    }
+
+    @RepeatedTest(5)
+    void testSmall() {
+        assertEntity("/small", SMALL);
+    }
+
+    @RepeatedTest(5)
+    void testLarge() {
+        assertEntity("/large", LARGE);
+    }
+
+    @RepeatedTest(5)
+    void testStream() {
+        assertEntity("/stream", SMALL.repeat(3));
+    }
+
+    @RepeatedTest(5)
+    void testTrailers() {
+        try (HttpClientResponse res = client.get("/trailers").request()) {
+            assertThat(res.status(), is(Status.OK_200));
+            assertThat(res.entity().as(String.class), is(LARGE));
+            assertThat(res.trailers().get(HELIDON).get(), is("rocks"));
+        }
+    }
+
+    private void assertEntity(String path, String expected) {
+        try (HttpClientResponse res = client.get(path).request()) {
+            assertThat(res.status(), is(Status.OK_200));
+            assertThat(res.entity().as(String.class), is(expected));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests;
+
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+// same routes as RulesTest, with compiled routes and additional nested services
+@ServerTest
+class CompiledRoutingTest extends RoutingTestBase {
+
+    CompiledRoutingTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder routing) {
+        routing.compileRoutes(true)
+                .register("/service", rules -> rules
+                        .register("/nested", nested -> nested
+                                .get("/", (req, res) -> res.send("nested")))
+                        .get("/hello", (req, res) -> res.next())
+                        .get("/{name}", (req, res) -> res.send("Hello " + req.path().pathParameters().get("name"))));
+        RulesTest.routing(routing);
+    }
+
+    @Test
+    void testServiceNext() {
+        try (Http1ClientResponse response = client.get("/service/hello").request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.as(String.class), is("Hello hello"));
+        }
+    }
+
+    @Test
+    void testNestedService() {
+        try (Http1ClientResponse response = client.get("/service/nested").request()) {
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.as(String.class), is("nested"));
+        }
+    }
+}
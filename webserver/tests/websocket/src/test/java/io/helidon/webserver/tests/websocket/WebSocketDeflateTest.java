@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests.websocket;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.http.HeaderNames;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.UpgradeResponse;
+import io.helidon.webclient.websocket.WsClient;
+import io.helidon.webclient.websocket.WsClientDeflateConfig;
+import io.helidon.webclient.websocket.WsClientProtocolConfig;
+import io.helidon.webserver.Router;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+import io.helidon.webserver.websocket.WsConfig;
+import io.helidon.webserver.websocket.WsDeflateConfig;
+import io.helidon.webserver.websocket.WsRouting;
+import io.helidon.webserver.websocket.WsUpgrader;
+import io.helidon.websocket.WsCloseCodes;
+import io.helidon.websocket.WsListener;
+import io.helidon.websocket.WsSession;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.webserver.tests.websocket.WebSocketTest.randomString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+class WebSocketDeflateTest {
+    private final Http1Client http1Client;
+    private final WsClient wsClient;
+
+    WebSocketDeflateTest(URI uri, Http1Client http1Client) {
+        this.http1Client = http1Client;
+        this.wsClient = WsClient.builder()
+                .baseUri("ws://localhost:" + uri.getPort())
+                .shareConnectionCache(false)
+                .protocolConfig(WsClientProtocolConfig.builder()
+                                        .permessageDeflate(WsClientDeflateConfig.builder()
+                                                                   .enabled(true)
+                                                                   .build())
+                                        .build())
+                .build();
+    }
+
+    @SetUpServer
+    static void setup(WebServerConfig.Builder builder) {
+        builder.addProtocol(WsConfig.builder()
+                                    .maxFrameLength(200000)     // also limits decompressed messages
+                                    .permessageDeflate(WsDeflateConfig.builder()
+                                                               .enabled(true)
+                                                               .clientMaxWindowBits(10)
+                                                               .build())
+                                    .build());
+    }
+
+    @SetUpRoute
+    static void router(Router.RouterBuilder<?> router) {
+        router.addRouting(WsRouting.builder().endpoint("/echo", new DeflateEchoService()));
+    }
+
+    @Test
+    void testNegotiation() {
+        Optional<String> extensions = upgrade("permessage-deflate; client_max_window_bits, permessage-deflate");
+
+        assertThat(extensions, is(Optional.of("permessage-deflate; client_max_window_bits=10")));
+    }
+
+    @Test
+    void testNegotiationFallback() {
+        // the JDK deflater cannot use a smaller window, the second offer must be used
+        Optional<String> extensions = upgrade("permessage-deflate; server_max_window_bits=10, "
+                                                      + "permessage-deflate; server_no_context_takeover");
+
+        assertThat(extensions, is(Optional.of("permessage-deflate; server_no_context_takeover")));
+    }
+
+    @Test
+    void testNegotiationDeclined() {
+        Optional<String> extensions = upgrade("permessage-deflate; server_max_window_bits=10, x-unknown");
+
+        assertThat(extensions, is(Optional.empty()));
+    }
+
+    @Test
+    void testTextMessages() throws Exception {
+        List<String> sent = List.of("Hello", "Hello", "a".repeat(100000), randomString(10000), "");
+        List<String> received = exchange(session -> sent.forEach(text -> session.send(text, true)), sent.size());
+
+        assertThat(received, is(sent));
+    }
+
+    @Test
+    void testFragmentedMessage() throws Exception {
+        String first = "Hello ".repeat(1000);
+        String second = "World ".repeat(1000);
+        List<String> received = exchange(session -> {
+            session.send(first, false);
+            session.send(second, true);
+        }, 2);
+
+        assertThat(received, is(List.of(first, second)));
+    }
+
+    @Test
+    void testDecompressedMessageTooLarge() throws Exception {
+        CompletableFuture<Integer> closeCode = new CompletableFuture<>();
+
+        wsClient.connect("/echo", new WsListener() {
+            @Override
+            public void onOpen(WsSession session) {
+                // compresses to a single small frame
+                session.send("a".repeat(300000), true);
+            }
+
+            @Override
+            public void onClose(WsSession session, int status, String reason) {
+                closeCode.complete(status);
+            }
+        });
+
+        assertThat(closeCode.get(10, TimeUnit.SECONDS), is(WsCloseCodes.TOO_BIG));
+    }
+
+    @Test
+    void testBinaryMessage() throws Exception {
+        byte[] bytes = "binary ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        CompletableFuture<byte[]> received = new CompletableFuture<>();
+
+        wsClient.connect("/echo", new WsListener() {
+            @Override
+            public void onOpen(WsSession session) {
+                session.send(BufferData.create(bytes), true);
+            }
+
+            @Override
+            public void onMessage(WsSession session, BufferData buffer, boolean last) {
+                received.complete(buffer.readBytes());
+                session.close(WsCloseCodes.NORMAL_CLOSE, "Bye!");
+            }
+        });
+
+        assertThat(received.get(10, TimeUnit.SECONDS), is(bytes));
+    }
+
+    private List<String> exchange(Consumer<WsSession> sender, int expected) throws InterruptedException {
+        List<String> received = new ArrayList<>();
+        CountDownLatch latch = new CountDownLatch(expected);
+
+        wsClient.connect("/echo", new WsListener() {
+            @Override
+            public void onOpen(WsSession session) {
+                sender.accept(session);
+            }
+
+            @Override
+            public void onMessage(WsSession session, String text, boolean last) {
+                synchronized (received) {
+                    received.add(text);
+                }
+                latch.countDown();
+                if (latch.getCount() == 0) {
+                    session.close(WsCloseCodes.NORMAL_CLOSE, "Bye!");
+                }
+            }
+        });
+
+        assertThat(latch.await(10, TimeUnit.SECONDS), is(true));
+        synchronized (received) {
+            return List.copyOf(received);
+        }
+    }
+
+    private Optional<String> upgrade(String offer) {
+        byte[] nonce = new byte[16];
+        UpgradeResponse response = http1Client.get("/echo")
+                .header(HeaderNames.CONNECTION, "Upgrade")
+                .header(WsUpgrader.WS_KEY, Base64.getEncoder().encodeToString(nonce))
+                .header(WsUpgrader.WS_VERSION, "13")
+                .header(WsUpgrader.EXTENSIONS, offer)
+                .upgrade("websocket");
+        assertThat(response.isUpgraded(), is(true));
+        try {
+            return response.response().headers().first(WsUpgrader.EXTENSIONS);
+        } finally {
+            response.connection().closeResource();
+        }
+    }
+
+    private static class DeflateEchoService implements WsListener {
+        @Override
+        public void onMessage(WsSession session, String text, boolean last) {
+            session.send(text, last);
+        }
+
+        @Override
+        public void onMessage(WsSession session, BufferData buffer, boolean last) {
+            session.send(buffer, last);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.buffers.PooledBufferAllocator;
+
+/**
+ * Configuration of a pool of buffers used to write responses of a listener.
+ *
+ * @see io.helidon.common.buffers.PooledBufferAllocator
+ */
+@Prototype.Configured
+@Prototype.Blueprint
+interface BufferPoolConfigBlueprint {
+    /**
+     * Maximal number of buffers kept in the pool for each buffer size. The pool is split into stripes
+     * (based on the number of processors), this limit applies to each stripe.
+     *
+     * @return maximal number of pooled buffers per size
+     */
+    @Option.Configured
+    @Option.DefaultInt(PooledBufferAllocator.DEFAULT_MAX_POOLED_BUFFERS)
+    int maxPooledBuffers();
+
+    /**
+     * Size of the biggest pooled buffer in bytes. Bigger buffers are not pooled.
+     *
+     * @return maximal size of a pooled buffer
+     */
+    @Option.Configured
+    @Option.DefaultInt(PooledBufferAllocator.DEFAULT_MAX_BUFFER_SIZE)
+    int maxBufferSize();
+
+    /**
+     * Whether to report buffers that were not released back to the pool. This is expensive, and should only be
+     * enabled in tests.
+     *
+     * @return whether leak detection is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean leakDetection();
+}
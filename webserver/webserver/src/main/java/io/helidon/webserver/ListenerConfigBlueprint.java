@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,6 +28,7 @@ import java.util.Optional;
 
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.spi.LimitProvider;
 import io.helidon.common.context.Context;
@@ -375,6 +376,38 @@ interface ListenerConfigBlueprint {
     @Option.Default("false")
     boolean enableProxyProtocol();
 
+    /**
+     * Enable zero copy transfer of files for this socket. If enabled, connections of a plaintext (non-TLS) socket
+     * are backed by a {@link java.nio.channels.SocketChannel}, and files sent using
+     * {@link io.helidon.webserver.http.ServerResponse#send(java.nio.channels.FileChannel, long, long)} are transferred
+     * directly to the connection by the operating system, without copying through the heap.
+     * Files are still copied when TLS is used, or when the response entity is encoded (such as with gzip).
+     * Default is {@code false}.
+     *
+     * @return whether zero copy file transfer is enabled
+     */
+    @Option.Configured
+    @Option.Default("false")
+    boolean enableZeroCopy();
+
+    /**
+     * Pool of buffers used to write responses. If configured, buffers used to write response headers and entities
+     * are obtained from a pool and returned to it once written to the connection, instead of being allocated
+     * for each response.
+     * If neither this, nor {@link #bufferAllocator()} is configured, buffers are not pooled.
+     *
+     * @return buffer pool configuration
+     */
+    @Option.Configured
+    Optional<BufferPoolConfig> bufferPool();
+
+    /**
+     * Explicit buffer allocator used to write responses, takes precedence over {@link #bufferPool()}.
+     *
+     * @return buffer allocator
+     */
+    Optional<BufferAllocator> bufferAllocator();
+
     /**
      * Requested URI discovery context.
      *
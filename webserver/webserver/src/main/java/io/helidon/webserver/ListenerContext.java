@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package io.helidon.webserver;
 
 import java.util.concurrent.ExecutorService;
 
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.context.Context;
 import io.helidon.http.encoding.ContentEncodingContext;
 import io.helidon.http.media.MediaContext;
@@ -56,6 +57,17 @@ public interface ListenerContext {
      */
     DirectHandlers directHandlers();
 
+    /**
+     * Allocator of buffers used to write responses.
+     * Buffers obtained from the allocator are released when written to the connection.
+     *
+     * @return buffer allocator
+     * @see io.helidon.webserver.ListenerConfig#bufferPool()
+     */
+    default BufferAllocator bufferAllocator() {
+        return BufferAllocator.unpooled();
+    }
+
     /**
      * Configuration of this listener.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -410,6 +410,12 @@ class ServerFeatureContextImpl implements ServerFeature.ServerFeatureContext {
             return this;
         }
 
+        @Override
+        public HttpRouting.Builder compileRoutes(boolean compileRoutes) {
+            delegate.compileRoutes(compileRoutes);
+            return this;
+        }
+
         @Override
         public HttpRouting.Builder security(HttpSecurity security) {
             delegate.security(security);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -43,6 +45,8 @@ import javax.net.ssl.SSLServerSocket;
 
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.BufferAllocator;
+import io.helidon.common.buffers.PooledBufferAllocator;
 import io.helidon.common.concurrency.limits.FixedLimit;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.NoopSemaphore;
@@ -84,6 +88,7 @@ class ServerListener implements ListenerContext {
 
     private final MediaContext mediaContext;
     private final ContentEncodingContext contentEncodingContext;
+    private final BufferAllocator bufferAllocator;
     private final Context context;
     private final Semaphore connectionSemaphore;
     private final Limit requestLimit;
@@ -141,6 +146,12 @@ class ServerListener implements ListenerContext {
         this.directHandlers = listenerConfig.directHandlers().orElse(defaultDirectHandlers);
         this.mediaContext = listenerConfig.mediaContext().orElse(defaultMediaContext);
         this.contentEncodingContext = listenerConfig.contentEncoding().orElse(defaultContentEncodingContext);
+        this.bufferAllocator = listenerConfig.bufferAllocator()
+                .or(() -> listenerConfig.bufferPool()
+                        .map(it -> PooledBufferAllocator.create(it.maxPooledBuffers(),
+                                                                it.maxBufferSize(),
+                                                                it.leakDetection())))
+                .orElseGet(BufferAllocator::unpooled);
         this.context = listenerConfig.listenerContext().orElseGet(() -> Context.builder()
                 .id("listener-" + socketName)
                 .parent(serverContext)
@@ -188,6 +199,11 @@ class ServerListener implements ListenerContext {
         return contentEncodingContext;
     }
 
+    @Override
+    public BufferAllocator bufferAllocator() {
+        return bufferAllocator;
+    }
+
     @Override
     public DirectHandlers directHandlers() {
         return directHandlers;
@@ -279,7 +295,14 @@ class ServerListener implements ListenerContext {
     private void startIt() {
         try {
             SSLServerSocket sslServerSocket = tls.enabled() ? tls.createServerSocket() : null;
-            serverSocket = tls.enabled() ? sslServerSocket : new ServerSocket();
+            if (tls.enabled()) {
+                serverSocket = sslServerSocket;
+            } else if (listenerConfig.enableZeroCopy()) {
+                // accepted sockets are backed by a channel, so files can be transferred to them directly
+                serverSocket = ServerSocketChannel.open().socket();
+            } else {
+                serverSocket = new ServerSocket();
+            }
             listenerConfig.configureSocket(serverSocket);
 
             serverSocket.bind(configuredAddress, listenerConfig.backlog());
@@ -410,6 +433,13 @@ class ServerListener implements ListenerContext {
                 } else if (running) {
                     stop();
                 }
+            } catch (ClosedChannelException e) {
+                // server socket backed by a channel (zero copy enabled) was closed
+                if (inCheckpoint) {
+                    break;
+                } else if (running) {
+                    stop();
+                }
             } catch (Throwable e) {
                 LOGGER.log(ERROR, "Got a throwable while listening, this server socket is terminating now", e);
                 if (inCheckpoint) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,9 @@
 
 package io.helidon.webserver.http;
 
-import java.util.List;
+import java.util.Iterator;
 
+import io.helidon.common.uri.UriPath;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.PathMatchers;
 
@@ -26,11 +27,20 @@ abstract class HttpRouteBase implements HttpRoute {
         throw new IllegalStateException("This is not a list route");
     }
 
-    List<HttpRouteBase> routes() {
+    Iterator<HttpRouteBase> routes(UriPath path) {
         throw new IllegalStateException("This is not a list route");
     }
 
     boolean isList() {
         return false;
     }
+
+    /**
+     * Literal path of this route, used to index routes in {@link io.helidon.webserver.http.RouteIndex}.
+     *
+     * @return literal path, defaults to a path that may match anything
+     */
+    PathMatchers.LiteralPath literalPath() {
+        return PathMatchers.LiteralPath.any();
+    }
 }
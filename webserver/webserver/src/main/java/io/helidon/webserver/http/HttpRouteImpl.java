@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -70,6 +70,11 @@ class HttpRouteImpl extends HttpRouteBase implements HttpRoute {
         return Optional.of(pathMatcher);
     }
 
+    @Override
+    PathMatchers.LiteralPath literalPath() {
+        return pathMatcher.literalPath();
+    }
+
     @Override
     public void beforeStart() {
         handler.beforeStart();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -455,6 +455,24 @@ public interface HttpRouting extends Routing, Prototype.Api {
          */
         Builder maxReRouteCount(int maxReRouteCount);
 
+        /**
+         * Whether to compile routes into a prefix tree of path segments when the routing is built.
+         * <p>
+         * Without compilation, each request is matched against all routes in order of registration. With compilation,
+         * only routes that can accept the requested path (based on the literal part of their path pattern)
+         * are evaluated, so the cost of routing depends on the length of the path rather than on the number of routes.
+         * Order of routes and behavior of {@link ServerResponse#next()} is not changed.
+         * <p>
+         * Compiling routes is recommended for routings with a large number of routes.
+         * Defaults to {@code false}.
+         *
+         * @param compileRoutes whether to compile routes
+         * @return updated builder
+         */
+        default Builder compileRoutes(boolean compileRoutes) {
+            return this;
+        }
+
         /**
          * Configure security for this routing.
          *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -47,7 +47,11 @@ final class HttpRoutingImpl implements HttpRouting {
     HttpRoutingImpl(RealBuilder builder) {
         ErrorHandlers errorHandlers = ErrorHandlers.create(builder.errorHandlers);
         this.filters = Filters.create(errorHandlers, List.copyOf(builder.filters));
-        this.rootRoute = builder.rootRules.build();
+        ServiceRoute rootRoute = builder.rootRules.build();
+        if (builder.compileRoutes) {
+            rootRoute.compile();
+        }
+        this.rootRoute = rootRoute;
         this.features = List.copyOf(builder.features);
         this.maxReRouteCount = builder.maxReRouteCount;
         this.security = builder.security;
@@ -222,15 +226,21 @@ final class HttpRoutingImpl implements HttpRouting {
         private final HttpRoutingFeature mainRouting = new HttpRoutingFeature();
         private HttpSecurity security = HttpSecurity.create();
         private int maxReRouteCount = 10;
+        private boolean compileRoutes;
 
         private BuilderImpl() {
         }
 
-        private BuilderImpl(List<HttpFeature> features, HttpRoutingFeature mainRouting, HttpSecurity security, int maxReroute) {
+        private BuilderImpl(List<HttpFeature> features,
+                            HttpRoutingFeature mainRouting,
+                            HttpSecurity security,
+                            int maxReroute,
+                            boolean compileRoutes) {
             this.features.addAll(features);
             this.mainRouting.copyFrom(mainRouting);
             this.security = security;
             this.maxReRouteCount = maxReroute;
+            this.compileRoutes = compileRoutes;
         }
 
         @Override
@@ -241,7 +251,8 @@ final class HttpRoutingImpl implements HttpRouting {
 
             RealBuilder realBuilder = new RealBuilder(features,
                 security,
-                maxReRouteCount);
+                maxReRouteCount,
+                compileRoutes);
 
             // now we need to do the final setup in the correct order
             for (HttpFeature feature : features) {
@@ -297,6 +308,12 @@ final class HttpRoutingImpl implements HttpRouting {
             return this;
         }
 
+        @Override
+        public Builder compileRoutes(boolean compileRoutes) {
+            this.compileRoutes = compileRoutes;
+            return this;
+        }
+
         @Override
         public Builder security(HttpSecurity security) {
             this.security = security;
@@ -305,7 +322,7 @@ final class HttpRoutingImpl implements HttpRouting {
 
         @Override
         public Builder copy() {
-            return new BuilderImpl(features, mainRouting, security, maxReRouteCount);
+            return new BuilderImpl(features, mainRouting, security, maxReRouteCount, compileRoutes);
         }
     }
 
@@ -317,15 +334,18 @@ final class HttpRoutingImpl implements HttpRouting {
 
         private HttpSecurity security;
         private int maxReRouteCount;
+        private boolean compileRoutes;
 
         private RealBuilder(List<HttpFeature> features,
             HttpSecurity security,
-            int maxReRouteCount) {
+            int maxReRouteCount,
+            boolean compileRoutes) {
 
             // we need a new instance, as features may add additional features
             this.features = new ArrayList<>(features);
             this.security = security;
             this.maxReRouteCount = maxReRouteCount;
+            this.compileRoutes = compileRoutes;
         }
 
         @Override
@@ -377,6 +397,12 @@ final class HttpRoutingImpl implements HttpRouting {
             return this;
         }
 
+        @Override
+        public Builder compileRoutes(boolean compileRoutes) {
+            this.compileRoutes = compileRoutes;
+            return this;
+        }
+
         @Override
         public Builder security(HttpSecurity security) {
             this.security = security;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -86,6 +86,17 @@ public interface Registration {
         return new Registrations.MaxRerouteCountRegistration(maxReRouteCount);
     }
 
+    /**
+     * Create a registration for configuration of route compilation.
+     *
+     * @param compileRoutes whether to compile routes
+     * @return a new registration
+     * @see io.helidon.webserver.http.HttpRouting.Builder#compileRoutes(boolean)
+     */
+    static Registration createCompileRoutes(boolean compileRoutes) {
+        return new Registrations.CompileRoutesRegistration(compileRoutes);
+    }
+
     /**
      * Create a registration for HTTP security instance.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -100,6 +100,19 @@ class Registrations {
         }
     }
 
+    static final class CompileRoutesRegistration implements Registration {
+        private final boolean compileRoutes;
+
+        CompileRoutesRegistration(boolean compileRoutes) {
+            this.compileRoutes = compileRoutes;
+        }
+
+        @Override
+        public void register(HttpRouting.Builder routing) {
+            routing.compileRoutes(compileRoutes);
+        }
+    }
+
     static final class SecurityRegistration implements Registration {
         private final HttpSecurity security;
 
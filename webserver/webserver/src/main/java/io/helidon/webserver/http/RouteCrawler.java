@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -40,9 +40,9 @@ class RouteCrawler {
     private CrawlerItem next;
     private RouteCrawler subCrawler;
 
-    RouteCrawler(ConnectionContext ctx, RoutingRequest request, List<HttpRouteBase> rootRoute) {
+    RouteCrawler(ConnectionContext ctx, RoutingRequest request, Iterator<HttpRouteBase> rootRoute) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
+        this.routeIterator = rootRoute;
         this.matchingPath = request.prologue().uriPath();
         this.prologue = request.prologue();
         this.request = request;
@@ -51,11 +51,11 @@ class RouteCrawler {
 
     RouteCrawler(ConnectionContext ctx,
                  RoutingRequest request,
-                 List<HttpRouteBase> rootRoute,
+                 Iterator<HttpRouteBase> rootRoute,
                  RoutedPath parent,
                  UriPath child) {
         this.ctx = ctx;
-        this.routeIterator = rootRoute.iterator();
+        this.routeIterator = rootRoute;
         this.matchingPath = child;
         this.request = request;
         this.parent = parent;
@@ -95,7 +95,7 @@ class RouteCrawler {
                 if (accepts.accepted()) {
                     subCrawler = new RouteCrawler(ctx,
                                                   request,
-                                                  nextRoute.routes(),
+                                                  nextRoute.routes(accepts.unmatchedPath()),
                                                   accepts.matchedPath(),
                                                   accepts.unmatchedPath());
                     if (subCrawler.hasNext()) {
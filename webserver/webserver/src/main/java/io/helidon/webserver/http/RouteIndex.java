@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.PathMatchers;
+
+/**
+ * Prefix tree of routes of a single route list (root routing, or a service), keyed by path segments.
+ * <p>
+ * Each route is registered on the node of its {@link io.helidon.http.PathMatchers.LiteralPath}, either as an exact
+ * route (only a candidate when the requested path ends on that node), or as a subtree route (a candidate for any path
+ * that passes through the node). Routes without a literal path (patterns starting with a parameter, custom matchers)
+ * are always candidates.
+ * <p>
+ * The index only pre-selects candidates, each candidate is still evaluated by its own path matcher, so routing
+ * semantics are not changed. Candidates are always returned in registration order, to honor
+ * {@link io.helidon.webserver.http.ServerResponse#next()}.
+ */
+final class RouteIndex {
+    private final HttpRouteBase[] routes;
+    private final Node root = new Node();
+    private final long[] always;
+
+    private RouteIndex(List<HttpRouteBase> routes) {
+        this.routes = routes.toArray(new HttpRouteBase[0]);
+        this.always = new long[words(this.routes.length)];
+
+        for (int i = 0; i < this.routes.length; i++) {
+            PathMatchers.LiteralPath literal = this.routes[i].literalPath();
+            String path = literal.path();
+            if (path.equals("/") && !literal.exact()) {
+                set(always, i);
+                continue;
+            }
+            Node node = root;
+            if (path.length() > 1) {
+                int index = 1;
+                while (index <= path.length()) {
+                    int next = path.indexOf('/', index);
+                    if (next == -1) {
+                        next = path.length();
+                    }
+                    node = node.child(path.substring(index, next));
+                    index = next + 1;
+                }
+            }
+            if (literal.exact()) {
+                node.exact = set(node.exact, i, this.routes.length);
+            } else {
+                node.subtree = set(node.subtree, i, this.routes.length);
+            }
+        }
+    }
+
+    static RouteIndex create(List<HttpRouteBase> routes) {
+        return new RouteIndex(routes);
+    }
+
+    /**
+     * Routes that may accept the provided path, in registration order.
+     *
+     * @param path path to route
+     * @return iterator of candidate routes
+     */
+    Iterator<HttpRouteBase> candidates(UriPath path) {
+        long[] bits = always.clone();
+        String decoded = path.path();
+        collect(decoded, bits);
+
+        String raw = path.rawPath();
+        if (!raw.equals(decoded)) {
+            // exact path matcher also accepts the raw path
+            collect(raw, bits);
+        }
+        return new CandidateIterator(routes, bits);
+    }
+
+    private static int words(int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static long[] set(long[] bits, int index, int size) {
+        long[] result = bits == null ? new long[words(size)] : bits;
+        set(result, index);
+        return result;
+    }
+
+    private static void or(long[] target, long[] source) {
+        if (source == null) {
+            return;
+        }
+        for (int i = 0; i < target.length; i++) {
+            target[i] |= source[i];
+        }
+    }
+
+    private void collect(String path, long[] bits) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            // not a path we can index, evaluate all routes
+            Arrays.fill(bits, -1L);
+            return;
+        }
+        Node node = root;
+        int index = 1;
+        int length = path.length();
+        if (length == 1) {
+            // root path
+            or(bits, node.exact);
+            return;
+        }
+        while (index <= length) {
+            int next = path.indexOf('/', index);
+            if (next == -1) {
+                next = length;
+            }
+            node = node.children.get(path.substring(index, next));
+            if (node == null) {
+                return;
+            }
+            or(bits, node.subtree);
+            if (next == length) {
+                or(bits, node.exact);
+                return;
+            }
+            index = next + 1;
+        }
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private long[] exact;
+        private long[] subtree;
+
+        private Node child(String segment) {
+            return children.computeIfAbsent(segment, it -> new Node());
+        }
+    }
+
+    private static final class CandidateIterator implements Iterator<HttpRouteBase> {
+        private final HttpRouteBase[] routes;
+        private final long[] bits;
+        private int next;
+
+        private CandidateIterator(HttpRouteBase[] routes, long[] bits) {
+            this.routes = routes;
+            this.bits = bits;
+            this.next = nextSetBit(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < routes.length;
+        }
+
+        @Override
+        public HttpRouteBase next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            HttpRouteBase result = routes[next];
+            next = nextSetBit(next + 1);
+            return result;
+        }
+
+        private int nextSetBit(int from) {
+            int word = from >>> 6;
+            if (word >= bits.length) {
+                return routes.length;
+            }
+            long current = bits[word] & (-1L << from);
+            while (true) {
+                if (current != 0) {
+                    return Math.min(routes.length, (word << 6) + Long.numberOfTrailingZeros(current));
+                }
+                word++;
+                if (word == bits.length) {
+                    return routes.length;
+                }
+                current = bits[word];
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,12 @@
 
 package io.helidon.webserver.http;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -125,6 +130,38 @@ public interface ServerResponse {
         send(Arrays.copyOfRange(bytes, position, length));
     }
 
+    /**
+     * Send a region of a file as the response entity.
+     * Content length of the response is set to the length of the region.
+     * <p>
+     * Implementations may transfer the file directly to the connection without copying it through the heap
+     * (see {@link io.helidon.webserver.ListenerConfig#enableZeroCopy()}), the default implementation copies
+     * the file to {@link #outputStream()}. The file channel is not closed by this method.
+     *
+     * @param file     file to send
+     * @param position position of the first byte of the file to send
+     * @param length   number of bytes to send
+     * @throws java.io.UncheckedIOException in case the file cannot be read, or it is shorter than requested
+     */
+    default void send(FileChannel file, long position, long length) {
+        header(HeaderValues.create(HeaderNames.CONTENT_LENGTH, length));
+        try (OutputStream out = outputStream()) {
+            WritableByteChannel channel = Channels.newChannel(out);
+            long current = position;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = file.transferTo(current, remaining, channel);
+                if (written == 0 && current >= file.size()) {
+                    throw new IOException("File ended before all " + length + " bytes were sent");
+                }
+                current += written;
+                remaining -= written;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Send an entity, a {@link io.helidon.http.media.MediaContext} will be used to serialize the entity.
      *
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -216,7 +216,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding. Does not attempt encoding
-     * if entity is empty.
+     * if entity is empty, or if the entity is already encoded (the {@code Content-Encoding} header is set).
      *
      * @param configuredEntity plain bytes
      * @return encoded bytes or same entity array if encoding is disabled
@@ -227,7 +227,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
 
     /**
      * Entity bytes encoded using content encoding. Does not attempt encoding
-     * if entity is empty.
+     * if entity is empty, or if the entity is already encoded (the {@code Content-Encoding} header is set).
      *
      * @param configuredEntity plain bytes
      * @param position starting position
@@ -236,7 +236,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
      */
     protected byte[] entityBytes(byte[] configuredEntity, int position, int length) {
         byte[] entity = configuredEntity;
-        if (contentEncodingContext.contentEncodingEnabled() && length > 0) {
+        if (contentEncodingContext.contentEncodingEnabled() && length > 0 && !preEncoded()) {
             ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
             // we want to preserve optimization here, let's create a new byte array
             ByteArrayOutputStream baos = new ByteArrayOutputStream(length);
@@ -260,7 +260,7 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
      * @return output stream to write plain data to
      */
     protected OutputStream contentEncode(OutputStream outputStream) {
-        if (contentEncodingContext.contentEncodingEnabled()) {
+        if (contentEncodingContext.contentEncodingEnabled() && !preEncoded()) {
             ContentEncoder encoder = contentEncodingContext.encoder(requestHeaders);
             encoder.headers(headers());
 
@@ -269,6 +269,22 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
         return outputStream;
     }
 
+    /**
+     * Whether the entity of this response would be encoded using a content encoder (such as gzip).
+     *
+     * @return {@code true} if the entity would be encoded, {@code false} if it would be sent as is
+     */
+    protected boolean contentEncoded() {
+        return contentEncodingContext.contentEncodingEnabled()
+                && !preEncoded()
+                && contentEncodingContext.encoder(requestHeaders) != ContentEncoder.NO_OP;
+    }
+
+    // the entity was encoded by the application (such as a pre-compressed static file), we must not encode it again
+    private boolean preEncoded() {
+        return headers().contains(HeaderNames.CONTENT_ENCODING);
+    }
+
     /**
      * Execute after send runnables.
      */
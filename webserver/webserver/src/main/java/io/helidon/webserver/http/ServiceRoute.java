@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,10 +16,12 @@
 
 package io.helidon.webserver.http;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import io.helidon.common.uri.UriPath;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.Method;
 import io.helidon.http.PathMatcher;
@@ -33,6 +35,8 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     private final PathMatcher pathMatcher;
     private final List<HttpRouteBase> routes;
 
+    private RouteIndex routeIndex;
+
     ServiceRoute(HttpService theService,
                  Predicate<Method> methodPredicate,
                  PathMatcher pathMatcher,
@@ -86,8 +90,11 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     }
 
     @Override
-    List<HttpRouteBase> routes() {
-        return routes;
+    Iterator<HttpRouteBase> routes(UriPath path) {
+        if (routeIndex == null) {
+            return routes.iterator();
+        }
+        return routeIndex.candidates(path);
     }
 
     @Override
@@ -95,12 +102,32 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
         return true;
     }
 
+    @Override
+    PathMatchers.LiteralPath literalPath() {
+        // services use prefix matching, so any path under the literal path may be accepted
+        PathMatchers.LiteralPath literalPath = pathMatcher.literalPath();
+        return literalPath.exact() ? new PathMatchers.LiteralPath(literalPath.path(), false) : literalPath;
+    }
+
     @Override
     public Optional<PathMatcher> pathMatcher() {
         return Optional.of(pathMatcher);
     }
 
     RouteCrawler crawler(ConnectionContext ctx, RoutingRequest request) {
-        return new RouteCrawler(ctx, request, routes);
+        return new RouteCrawler(ctx, request, routes(request.prologue().uriPath()));
+    }
+
+    /**
+     * Compile this route list (and all nested service route lists) into a prefix tree.
+     * Must be called before the routing is used.
+     */
+    void compile() {
+        for (HttpRouteBase route : routes) {
+            if (route instanceof ServiceRoute serviceRoute) {
+                serviceRoute.compile();
+            }
+        }
+        this.routeIndex = RouteIndex.create(routes);
     }
 }
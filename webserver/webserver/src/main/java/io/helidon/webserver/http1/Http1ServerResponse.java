@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
@@ -30,6 +31,7 @@ import java.util.function.UnaryOperator;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.HelidonServiceLoader;
+import io.helidon.common.buffers.BufferAllocator;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.media.type.MediaType;
@@ -76,6 +78,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
     private final ServerResponseHeaders headers;
     private final ServerResponseTrailers trailers;
     private final boolean keepAlive;
+    private final BufferAllocator bufferAllocator;
 
     private boolean streamingEntity;
     private boolean isSent;
@@ -103,6 +106,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         this.trailers = ServerResponseTrailers.create();
         this.keepAlive = keepAlive;
         this.validateHeaders = validateHeaders;
+        this.bufferAllocator = ctx.listenerContext().bufferAllocator();
     }
 
     static void nonEntityBytes(ServerResponseHeaders headers,
@@ -224,6 +228,41 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
     }
 
+    @Override
+    public void send(FileChannel file, long position, long length) {
+        if (!directFileTransfer()) {
+            // encoded, filtered, or trailers - copy through the output stream
+            super.send(file, position, length);
+            return;
+        }
+        if (isSent) {
+            throw new IllegalStateException("Response already sent");
+        }
+        if (streamingEntity) {
+            throw new IllegalStateException("When output stream is used, response is completed by closing the output stream"
+                                                    + ", do not call send().");
+        }
+
+        headers.setIfAbsent(HeaderValues.CONNECTION_KEEP_ALIVE);
+        headers.contentLength(length);
+
+        Status usedStatus = status();
+        sendListener.status(ctx, usedStatus);
+        sendListener.headers(ctx, headers);
+
+        BufferData responseBuffer = bufferAllocator.allocate(256);
+        nonEntityBytes(headers, usedStatus, responseBuffer, keepAlive, validateHeaders);
+        sendListener.data(ctx, responseBuffer);
+
+        bytesWritten = responseBuffer.available() + length;
+        isSent = true;
+        request.reset();
+        // writes are direct, so the headers are on the wire before we write the file
+        dataWriter.writeNow(responseBuffer);
+        dataWriter.writeNow(file, position, length);
+        afterSend();
+    }
+
     @Override
     public boolean isSent() {
         return isSent;
@@ -368,6 +407,19 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
     }
 
+    /*
+    File can be written directly to the socket only if we do not need to modify the bytes, and if the socket writer
+    does not queue data (as we would otherwise write the file before the headers)
+     */
+    private boolean directFileTransfer() {
+        return !isNoEntityStatus
+                && outputStreamFilter == null
+                && ctx.listenerContext().config().writeQueueLength() <= 1
+                && !headers.contains(HeaderNames.TRAILER)
+                && !headers.contains(HeaderValues.TRANSFER_ENCODING_CHUNKED)
+                && !contentEncoded();
+    }
+
     private static void writeHeaders(io.helidon.http.Headers headers, BufferData buffer, boolean validate) {
         if (validate) {
             headers.forEach(Header::validate);
@@ -406,7 +458,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         sendListener.headers(ctx, headers);
 
         // give some space for code and headers + entity
-        BufferData responseBuffer = BufferData.growing(256 + length);
+        BufferData responseBuffer = bufferAllocator.allocate(256 + length);
 
         nonEntityBytes(headers, usedStatus, responseBuffer, keepAlive, validateHeaders);
         if (forcedChunkedEncoding) {
@@ -448,6 +500,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                                                                 request.reset();
                                                             },
                                                             ctx,
+                                                            bufferAllocator,
                                                             sendListener,
                                                             request,
                                                             keepAlive,
@@ -486,6 +539,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         private final DataWriter dataWriter;
         private final Runnable responseCloseRunnable;
         private final ConnectionContext ctx;
+        private final BufferAllocator bufferAllocator;
         private final Http1ConnectionListener sendListener;
         private final Http1ServerRequest request;
         private final boolean keepAlive;
@@ -512,6 +566,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                                      DataWriter dataWriter,
                                      Runnable responseCloseRunnable,
                                      ConnectionContext ctx,
+                                     BufferAllocator bufferAllocator,
                                      Http1ConnectionListener sendListener,
                                      Http1ServerRequest request,
                                      boolean keepAlive,
@@ -525,6 +580,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             this.dataWriter = dataWriter;
             this.responseCloseRunnable = responseCloseRunnable;
             this.ctx = ctx;
+            this.bufferAllocator = bufferAllocator;
             this.sendListener = sendListener;
             this.contentLength = headers.contentLength().orElse(-1);
             this.request = request;
@@ -621,7 +677,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                 if (beforeTrailers != null) {
                     beforeTrailers.accept(ServerResponseTrailers.wrap(trailers));
                 }
-                BufferData buffer = BufferData.growing(128);
+                BufferData buffer = bufferAllocator.allocate(128);
                 writeHeaders(trailers, buffer, this.validateHeaders);
                 buffer.write('\r');        // "\r\n" - empty line after headers
                 buffer.write('\n');
@@ -679,7 +735,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
                     sendListener.status(ctx, usedStatus);
                     sendListener.headers(ctx, headers);
                     // write headers and payload part in one buffer to avoid TCP/ACK delay problems
-                    BufferData growing = BufferData.growing(256 + buffer.available());
+                    BufferData growing = bufferAllocator.allocate(256 + buffer.available());
                     nonEntityBytes(headers, usedStatus, growing, keepAlive, validateHeaders);
                     // check not exceeding content-length
                     bytesWritten += buffer.available();
@@ -741,7 +797,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             Status usedStatus = status.get();
             sendListener.status(ctx, usedStatus);
             sendListener.headers(ctx, headers);
-            BufferData bufferData = BufferData.growing(contentLength + 256);
+            BufferData bufferData = bufferAllocator.allocate(contentLength + 256);
             nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
 
             if (firstBuffer != null) {
@@ -774,7 +830,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             Status usedStatus = status.get();
             sendListener.status(ctx, usedStatus);
             sendListener.headers(ctx, headers);
-            BufferData bufferData = BufferData.growing(256);
+            BufferData bufferData = bufferAllocator.allocate(256);
             nonEntityBytes(headers, usedStatus, bufferData, keepAlive, validateHeaders);
             sendListener.data(ctx, bufferData);
             responseBytesTotal += bufferData.available();
@@ -785,7 +841,7 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             int available = buffer.available();
             byte[] hex = Integer.toHexString(available).getBytes(StandardCharsets.US_ASCII);
 
-            BufferData toWrite = BufferData.create(available + hex.length + 4); // \r\n after size, another after chunk
+            BufferData toWrite = bufferAllocator.allocate(available + hex.length + 4); // \r\n after size, another after chunk
             toWrite.write(hex);
             toWrite.write('\r');
             toWrite.write('\n');
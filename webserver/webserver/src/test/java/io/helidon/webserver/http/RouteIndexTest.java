@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.Method;
+import io.helidon.http.PathMatchers;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+class RouteIndexTest {
+    private static final Handler HANDLER = (req, res) -> res.send("done");
+
+    private static List<HttpRouteBase> routes;
+    private static RouteIndex index;
+
+    @BeforeAll
+    static void init() {
+        routes = new ArrayList<>();
+        routes.add(route("/greet"));                // 0
+        routes.add(route("/greet/{name}"));         // 1
+        routes.add(route("/greet/*"));              // 2
+        routes.add(route("/{any}"));                // 3
+        routes.add(route("/"));                     // 4
+        routes.add(route("/greet/hello/world"));    // 5
+        routes.add(route("/other"));                // 6
+        routes.add(route("/greet/"));               // 7
+
+        ServiceRules serviceRules = new ServiceRules(rules -> rules.get("/hello", HANDLER),
+                                                     PathMatchers.create("/service"),
+                                                     method -> true);
+        routes.add(serviceRules.build());           // 8
+
+        index = RouteIndex.create(routes);
+    }
+
+    @Test
+    void testExact() {
+        assertThat(candidates("/greet"), contains(0, 1, 2, 3));
+        assertThat(candidates("/other"), contains(3, 6));
+        assertThat(candidates("/"), contains(3, 4));
+    }
+
+    @Test
+    void testTrailingSlash() {
+        assertThat(candidates("/greet/"), contains(1, 2, 3, 7));
+    }
+
+    @Test
+    void testNested() {
+        assertThat(candidates("/greet/hello"), contains(1, 2, 3));
+        assertThat(candidates("/greet/hello/world"), contains(1, 2, 3, 5));
+    }
+
+    @Test
+    void testService() {
+        assertThat(candidates("/service"), contains(3, 8));
+        assertThat(candidates("/service/hello"), contains(3, 8));
+    }
+
+    @Test
+    void testUnknown() {
+        // only routes without a literal path are candidates
+        assertThat(candidates("/unknown/path"), contains(3));
+        assertThat(candidates("/unknown"), contains(3));
+    }
+
+    @Test
+    void testEmpty() {
+        RouteIndex emptyIndex = RouteIndex.create(List.of());
+        assertThat(emptyIndex.candidates(UriPath.create("/greet")).hasNext(), is(false));
+    }
+
+    private static HttpRouteBase route(String path) {
+        return new HttpRouteImpl(HttpRoute.builder()
+                                         .methods(Method.GET)
+                                         .path(path)
+                                         .handler(HANDLER));
+    }
+
+    private static List<Integer> candidates(String path) {
+        List<Integer> result = new ArrayList<>();
+        Iterator<HttpRouteBase> iterator = index.candidates(UriPath.create(path));
+        while (iterator.hasNext()) {
+            result.add(routes.indexOf(iterator.next()));
+        }
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,4 +67,14 @@ interface WsConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultInt(WsConnection.MAX_FRAME_LENGTH)
     int maxFrameLength();
+
+    /**
+     * Configuration of the {@code permessage-deflate} extension, used to compress messages.
+     * Compressed messages are limited to {@link #maxFrameLength()} bytes after decompression.
+     *
+     * @return compression configuration
+     */
+    @Option.Configured
+    @Option.DefaultMethod("create")
+    WsDeflateConfig permessageDeflate();
 }
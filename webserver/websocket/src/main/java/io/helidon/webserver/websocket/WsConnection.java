@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,7 @@ import io.helidon.webserver.CloseConnectionException;
 import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.spi.ServerConnection;
 import io.helidon.websocket.ClientWsFrame;
+import io.helidon.websocket.PerMessageDeflate;
 import io.helidon.websocket.ServerWsFrame;
 import io.helidon.websocket.WsCloseCodes;
 import io.helidon.websocket.WsCloseException;
@@ -57,11 +58,13 @@ public class WsConnection implements ServerConnection, WsSession {
     private final String wsKey;
     private final WsListener listener;
     private final WsConfig wsConfig;
+    private final PerMessageDeflate deflate;
 
     private final BufferData sendBuffer = BufferData.growing(1024);
     private final DataReader dataReader;
 
     private ContinuationType recvContinuation = ContinuationType.NONE;
+    private boolean recvCompressed;
     private boolean sendContinuation;
     private boolean closeSent;
 
@@ -74,12 +77,14 @@ public class WsConnection implements ServerConnection, WsSession {
                          HttpPrologue prologue,
                          Headers upgradeHeaders,
                          String wsKey,
-                         WsListener wsListener) {
+                         WsListener wsListener,
+                         PerMessageDeflate deflate) {
         this.ctx = ctx;
         this.prologue = prologue;
         this.upgradeHeaders = upgradeHeaders;
         this.wsKey = wsKey;
         this.listener = wsListener;
+        this.deflate = deflate;
         this.dataReader = ctx.dataReader();
         this.lastRequestTimestamp = DateTime.timestamp();
         this.wsConfig = (WsConfig) ctx.listenerContext()
@@ -106,7 +111,28 @@ public class WsConnection implements ServerConnection, WsSession {
                                       Headers upgradeHeaders,
                                       String wsKey,
                                       WsListener wsListener) {
-        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsListener);
+        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsListener, null);
+    }
+
+    /**
+     * Create a new connection using a listener, with negotiated {@code permessage-deflate} extension.
+     *
+     * @param ctx            server connection context
+     * @param prologue       prologue of this request
+     * @param upgradeHeaders headers for
+     * @param wsKey          ws key
+     * @param wsListener     a ws listener
+     * @param deflate        compression of messages, or {@code null} if the extension was not negotiated;
+     *                       the connection closes it when done
+     * @return a new connection
+     */
+    public static WsConnection create(ConnectionContext ctx,
+                                      HttpPrologue prologue,
+                                      Headers upgradeHeaders,
+                                      String wsKey,
+                                      WsListener wsListener,
+                                      PerMessageDeflate deflate) {
+        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsListener, deflate);
     }
 
     /**
@@ -124,7 +150,7 @@ public class WsConnection implements ServerConnection, WsSession {
                                       Headers upgradeHeaders,
                                       String wsKey,
                                       WsRoute wsRoute) {
-        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsRoute.listener());
+        return new WsConnection(ctx, prologue, upgradeHeaders, wsKey, wsRoute.listener(), null);
     }
 
     @SuppressWarnings("removal")
@@ -135,43 +161,13 @@ public class WsConnection implements ServerConnection, WsSession {
 
     @Override
     public void handle(Limit limit) {
-        myThread = Thread.currentThread();
-
         try {
-            limit.invoke(() -> listener.onOpen(this));
-        } catch (LimitException e) {
-            close(WsCloseCodes.TRY_AGAIN_LATER, "Too Many Concurrent Requests");
-            return;
-        } catch (Exception e) {
-            close(WsCloseCodes.UNEXPECTED_CONDITION, e.getMessage());
-            return;
-        }
-
-        while (canRun) {
-            readingNetwork = true;
-            ClientWsFrame frame = readFrame();
-            readingNetwork = false;
-            lastRequestTimestamp = DateTime.timestamp();
-            try {
-                boolean result = limit.invoke(() -> processFrame(frame));
-                if (!result) {
-                    lastRequestTimestamp = DateTime.timestamp();
-                    return;
-                }
-                lastRequestTimestamp = DateTime.timestamp();
-            } catch (LimitException e) {
-                listener.onClose(this, WsCloseCodes.TRY_AGAIN_LATER, "Too Many Concurrent Requests");
-                close(WsCloseCodes.TRY_AGAIN_LATER, "Too Many Concurrent Requests");
-                return;
-            } catch (CloseConnectionException e) {
-                throw e;
-            } catch (Exception e) {
-                listener.onError(this, e);
-                this.close(WsCloseCodes.UNEXPECTED_CONDITION, e.getMessage());
-                return;
+            doHandle(limit);
+        } finally {
+            if (deflate != null) {
+                deflate.close();
             }
         }
-        this.close(WsCloseCodes.NORMAL_CLOSE, "Idle timeout");
     }
 
     @Override
@@ -243,8 +239,48 @@ public class WsConnection implements ServerConnection, WsSession {
         }
     }
 
+    private void doHandle(Limit limit) {
+        myThread = Thread.currentThread();
+
+        try {
+            limit.invoke(() -> listener.onOpen(this));
+        } catch (LimitException e) {
+            close(WsCloseCodes.TRY_AGAIN_LATER, "Too Many Concurrent Requests");
+            return;
+        } catch (Exception e) {
+            close(WsCloseCodes.UNEXPECTED_CONDITION, e.getMessage());
+            return;
+        }
+
+        while (canRun) {
+            readingNetwork = true;
+            ClientWsFrame frame = readFrame();
+            readingNetwork = false;
+            lastRequestTimestamp = DateTime.timestamp();
+            try {
+                boolean result = limit.invoke(() -> processFrame(frame));
+                if (!result) {
+                    lastRequestTimestamp = DateTime.timestamp();
+                    return;
+                }
+                lastRequestTimestamp = DateTime.timestamp();
+            } catch (LimitException e) {
+                listener.onClose(this, WsCloseCodes.TRY_AGAIN_LATER, "Too Many Concurrent Requests");
+                close(WsCloseCodes.TRY_AGAIN_LATER, "Too Many Concurrent Requests");
+                return;
+            } catch (CloseConnectionException e) {
+                throw e;
+            } catch (Exception e) {
+                listener.onError(this, e);
+                this.close(WsCloseCodes.UNEXPECTED_CONDITION, e.getMessage());
+                return;
+            }
+        }
+        this.close(WsCloseCodes.NORMAL_CLOSE, "Idle timeout");
+    }
+
     private boolean processFrame(ClientWsFrame frame) {
-        BufferData payload = frame.payloadData();
+        BufferData payload = deflate == null ? frame.payloadData() : inflate(frame);
         switch (frame.opCode()) {
         case CONTINUATION -> {
             boolean finalFrame = frame.fin();
@@ -291,9 +327,34 @@ public class WsConnection implements ServerConnection, WsSession {
         return true;
     }
 
+    private BufferData inflate(ClientWsFrame frame) {
+        BufferData payload = frame.payloadData();
+        switch (frame.opCode()) {
+        case TEXT, BINARY -> recvCompressed = frame.compressed();
+        case CONTINUATION -> {
+            // compression is defined by the first frame of the message
+        }
+        default -> {
+            return payload;
+        }
+        }
+        if (!recvCompressed) {
+            return payload;
+        }
+        if (frame.fin()) {
+            recvCompressed = false;
+        }
+        try {
+            return deflate.decompress(payload, frame.fin());
+        } catch (WsCloseException e) {
+            close(e.closeCode(), e.getMessage());
+            throw new CloseConnectionException("WebSocket failed to decompress client message", e);
+        }
+    }
+
     private ClientWsFrame readFrame() {
         try {
-            return ClientWsFrame.read(ctx, dataReader, wsConfig.maxFrameLength());
+            return ClientWsFrame.read(ctx, dataReader, wsConfig.maxFrameLength(), deflate != null);
         } catch (DataReader.InsufficientDataAvailableException e) {
             throw new CloseConnectionException("Socket closed by the other side", e);
         } catch (WsCloseException e) {
@@ -320,12 +381,21 @@ public class WsConnection implements ServerConnection, WsSession {
             ctx.log(LOGGER, Level.TRACE, "ws server frame send %s", frame);
         }
 
+        BufferData payload = frame.payloadData();
+        long length = frame.payloadLength();
         sendBuffer.clear();
         int opCodeFull = frame.fin() ? 0b10000000 : 0;
+        if (deflate != null && frame.isPayload()) {
+            payload = deflate.compress(payload, frame.fin());
+            length = payload.available();
+            if (usedCode != WsOpCode.CONTINUATION) {
+                // RSV1 marks the first frame of a compressed message
+                opCodeFull |= 0b01000000;
+            }
+        }
         opCodeFull |= usedCode.code();
         sendBuffer.write(opCodeFull);
 
-        long length = frame.payloadLength();
         if (length < 126) {
             sendBuffer.write((int) length);
         } else if (length < 1 << 16) {
@@ -338,7 +408,7 @@ public class WsConnection implements ServerConnection, WsSession {
                 sendBuffer.write((int) (length >>> i) & 0xFF);
             }
         }
-        sendBuffer.write(frame.payloadData());
+        sendBuffer.write(payload);
         ctx.dataWriter().writeNow(sendBuffer);
         return this;
     }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.websocket;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of the {@code permessage-deflate} WebSocket extension (RFC 7692), used to compress messages.
+ * The extension is only used when offered by the client.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface WsDeflateConfigBlueprint {
+    /**
+     * Whether to accept the {@code permessage-deflate} extension when offered by the client.
+     * Defaults to {@code false}.
+     *
+     * @return whether compression is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean enabled();
+
+    /**
+     * Whether the server resets its compression context after each message. Uses less memory per connection,
+     * at the cost of worse compression of similar messages.
+     * Always used if requested by the client.
+     *
+     * @return whether to disable server context takeover
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean serverNoContextTakeover();
+
+    /**
+     * Whether to require the client to reset its compression context after each message.
+     * Allows the server to release the decompression context between messages.
+     *
+     * @return whether to disable client context takeover
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean clientNoContextTakeover();
+
+    /**
+     * Maximal size of the LZ77 sliding window (in bits, 8 to 15) the client should use to compress messages,
+     * only sent to clients that support it. Smaller window requires less memory to decompress messages.
+     * The window used by the server is always 15 bits, offers requiring a smaller server window are declined.
+     *
+     * @return client window bits
+     */
+    @Option.Configured
+    @Option.DefaultInt(15)
+    int clientMaxWindowBits();
+
+    /**
+     * Compression level (0 to 9), defaults to the default level of {@link java.util.zip.Deflater}.
+     *
+     * @return compression level
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int compressionLevel();
+}
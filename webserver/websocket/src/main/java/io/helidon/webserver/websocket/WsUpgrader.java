@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,6 +20,7 @@ import java.lang.System.Logger.Level;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -38,6 +39,7 @@ import io.helidon.http.WritableHeaders;
 import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.http1.spi.Http1Upgrader;
 import io.helidon.webserver.spi.ServerConnection;
+import io.helidon.websocket.PerMessageDeflate;
 import io.helidon.websocket.WsListener;
 import io.helidon.websocket.WsUpgradeException;
 
@@ -99,10 +101,19 @@ public class WsUpgrader implements Http1Upgrader {
     private static final byte[] HEADERS_SEPARATOR = "\r\n".getBytes(US_ASCII);
     private final Set<String> origins;
     private final boolean anyOrigin;
+    private final WsDeflateConfig deflateConfig;
+    private final PerMessageDeflate.Parameters deflatePreferred;
+    private final long maxMessageLength;
 
     protected WsUpgrader(WsConfig wsConfig) {
         this.origins = wsConfig.origins();
         this.anyOrigin = this.origins.isEmpty();
+        this.deflateConfig = wsConfig.permessageDeflate();
+        this.deflatePreferred = new PerMessageDeflate.Parameters(deflateConfig.serverNoContextTakeover(),
+                                                                 deflateConfig.clientNoContextTakeover(),
+                                                                 PerMessageDeflate.MAX_WINDOW_BITS,
+                                                                 deflateConfig.clientMaxWindowBits());
+        this.maxMessageLength = wsConfig.maxFrameLength();
     }
 
     /**
@@ -176,6 +187,14 @@ public class WsUpgrader implements Http1Upgrader {
             return null;
         }
 
+        // negotiate compression, unless the listener handled extensions itself
+        Optional<PerMessageDeflate.Parameters> deflateParameters = Optional.empty();
+        if (deflateConfig.enabled()
+                && headers.contains(EXTENSIONS)
+                && upgradeHeaders.map(hs -> !hs.contains(EXTENSIONS)).orElse(true)) {
+            deflateParameters = PerMessageDeflate.negotiate(headers.all(EXTENSIONS, List::of), deflatePreferred);
+        }
+
         // write switch protocol response including headers from listener
         DataWriter dataWriter = ctx.dataWriter();
         String switchingProtocols = SWITCHING_PROTOCOL_PREFIX + hash(ctx, wsKey);
@@ -187,6 +206,11 @@ public class WsUpgrader implements Http1Upgrader {
             hs.forEach(h -> h.writeHttp1Header(headerData));
             dataWriter.write(headerData);
         });
+        deflateParameters.ifPresent(parameters -> {
+            BufferData headerData = BufferData.growing(64);
+            HeaderValues.create(EXTENSIONS, parameters.headerValue()).writeHttp1Header(headerData);
+            dataWriter.write(headerData);
+        });
         dataWriter.write(separator.rewind());
         dataWriter.flush();
 
@@ -194,7 +218,12 @@ public class WsUpgrader implements Http1Upgrader {
             LOGGER.log(Level.TRACE, "Upgraded to websocket version " + version);
         }
 
-        return WsConnection.create(ctx, prologue, upgradeHeaders.orElse(EMPTY_HEADERS), wsKey, wsListener);
+        PerMessageDeflate deflate = deflateParameters
+                .map(parameters -> PerMessageDeflate.server(parameters,
+                                                            deflateConfig.compressionLevel(),
+                                                            maxMessageLength))
+                .orElse(null);
+        return WsConnection.create(ctx, prologue, upgradeHeaders.orElse(EMPTY_HEADERS), wsKey, wsListener, deflate);
     }
 
     protected boolean anyOrigin() {
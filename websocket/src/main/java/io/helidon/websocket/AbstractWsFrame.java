@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
     private final long payloadLength;
     private final boolean fin;
     private final boolean isPayload;
+    private final boolean compressed;
 
     private volatile WsOpCode opCode;
 
@@ -33,11 +34,21 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
                               boolean fin,
                               boolean isPayload,
                               WsOpCode opCode) {
+        this(unmaskedData, payloadLength, fin, isPayload, opCode, false);
+    }
+
+    protected AbstractWsFrame(LazyValue<BufferData> unmaskedData,
+                              long payloadLength,
+                              boolean fin,
+                              boolean isPayload,
+                              WsOpCode opCode,
+                              boolean compressed) {
         this.unmaskedData = unmaskedData;
         this.payloadLength = payloadLength;
         this.fin = fin;
         this.opCode = opCode;
         this.isPayload = isPayload;
+        this.compressed = compressed;
     }
 
     @Override
@@ -65,6 +76,11 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
         return isPayload;
     }
 
+    @Override
+    public boolean compressed() {
+        return compressed;
+    }
+
     /**
      * Configure the operation code of this frame.
      *
@@ -80,13 +96,23 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
     }
 
     protected static FrameHeader readFrameHeader(DataReader reader, int maxFrameLength) {
+        return readFrameHeader(reader, maxFrameLength, false);
+    }
+
+    protected static FrameHeader readFrameHeader(DataReader reader, int maxFrameLength, boolean compression) {
         int opCodeByte = reader.read();
         boolean fin = (opCodeByte & 0b10000000) != 0;
-        int extensionFlags = opCodeByte & 0b01110000;
+        // RSV1 is used by permessage-deflate, RSV2 and RSV3 are not used by any supported extension
+        boolean rsv1 = (opCodeByte & 0b01000000) != 0;
+        int extensionFlags = opCodeByte & (compression ? 0b00110000 : 0b01110000);
         if (extensionFlags != 0) {
             throw new WsCloseException("Extension flags defined where none should be", WsCloseCodes.PROTOCOL_ERROR);
         }
         WsOpCode opCode = WsOpCode.get(opCodeByte & 0b00001111);
+        if (rsv1 && opCode != WsOpCode.TEXT && opCode != WsOpCode.BINARY) {
+            // only the first frame of a message may be marked as compressed
+            throw new WsCloseException("Compressed flag defined on a " + opCode + " frame", WsCloseCodes.PROTOCOL_ERROR);
+        }
 
         // byte 1 (possible to byte 9 if maximal number of bytes used for length)
         int lenByte = reader.read();
@@ -109,7 +135,7 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
             throw new WsCloseException("Payload too large", WsCloseCodes.TOO_BIG);
         }
 
-        return new FrameHeader(opCode, fin, masked, (int) frameLength);
+        return new FrameHeader(opCode, fin, masked, (int) frameLength, rsv1);
     }
 
     protected static BufferData readPayload(DataReader reader, FrameHeader header) {
@@ -125,6 +151,7 @@ abstract sealed class AbstractWsFrame implements WsFrame permits ServerWsFrame,
     protected record FrameHeader(WsOpCode opCode,
                                  boolean fin,
                                  boolean masked,
-                                 int length) {
+                                 int length,
+                                 boolean compressed) {
     }
 }
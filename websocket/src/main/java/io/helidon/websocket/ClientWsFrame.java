@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,7 +42,18 @@ public final class ClientWsFrame extends AbstractWsFrame {
                           int[] mask,
                           boolean masked,
                           boolean isPayload) {
-        super(unmaskedValue(masked, data, mask), payloadLength, fin, isPayload, opCode);
+        this(opCode, payloadLength, data, fin, mask, masked, isPayload, false);
+    }
+
+    private ClientWsFrame(WsOpCode opCode,
+                          long payloadLength,
+                          BufferData data,
+                          boolean fin,
+                          int[] mask,
+                          boolean masked,
+                          boolean isPayload,
+                          boolean compressed) {
+        super(unmaskedValue(masked, data, mask), payloadLength, fin, isPayload, opCode, compressed);
 
         this.mask = mask;
 
@@ -121,8 +132,27 @@ public final class ClientWsFrame extends AbstractWsFrame {
     public static ClientWsFrame read(SocketContext ctx,
                                      DataReader dataReader,
                                      int maxFrameLength) {
+        return read(ctx, dataReader, maxFrameLength, false);
+    }
+
+    /**
+     * Read client frame from request data.
+     *
+     * @param ctx            socket context
+     * @param dataReader     data reader to get frame bytes from
+     * @param maxFrameLength maximal length of a frame, to protect memory from too big frames
+     * @param compression    whether the {@code permessage-deflate} extension was negotiated, so the {@code RSV1} bit
+     *                       may be set
+     * @return a new client frame
+     * @throws WsCloseException in case of invalid frame
+     * @throws java.lang.RuntimeException                 depending on implementation of dataReader
+     */
+    public static ClientWsFrame read(SocketContext ctx,
+                                     DataReader dataReader,
+                                     int maxFrameLength,
+                                     boolean compression) {
 
-        FrameHeader header = readFrameHeader(dataReader, maxFrameLength);
+        FrameHeader header = readFrameHeader(dataReader, maxFrameLength, compression);
 
         if (!header.masked()) {
             throw new WsCloseException("Unmasked client frame", WsCloseCodes.PROTOCOL_ERROR);
@@ -144,7 +174,8 @@ public final class ClientWsFrame extends AbstractWsFrame {
                                                 header.fin(),
                                                 maskingKey,
                                                 true,
-                                                isPayload(header));
+                                                isPayload(header),
+                                                header.compressed());
 
         if (LOGGER.isLoggable(System.Logger.Level.TRACE)) {
             ctx.log(LOGGER, System.Logger.Level.TRACE, "ws client frame recv %s", frame);
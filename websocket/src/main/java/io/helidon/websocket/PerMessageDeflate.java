@@ -0,0 +1,406 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.websocket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import io.helidon.common.buffers.BufferData;
+
+/**
+ * The {@code permessage-deflate} WebSocket extension, as defined by
+ * <a href="https://www.rfc-editor.org/rfc/rfc7692">RFC 7692</a>.
+ * <p>
+ * Static methods of this class negotiate the extension parameters during the HTTP upgrade, an instance compresses
+ * and decompresses messages of a single connection. The same {@link java.util.zip.Deflater} and
+ * {@link java.util.zip.Inflater} are reused for the whole life of the connection, and are only reset between
+ * messages when context takeover is disabled for the direction.
+ * <p>
+ * The JDK deflater always uses the maximal LZ77 window ({@value #MAX_WINDOW_BITS} bits), so offers that require
+ * a smaller window for our own compression are declined. Smaller windows of the peer are always supported.
+ * <p>
+ * Instances are not thread safe, the connection must not send (or receive) messages concurrently.
+ */
+public final class PerMessageDeflate {
+    /**
+     * Name of the extension, used in the {@code Sec-WebSocket-Extensions} header.
+     */
+    public static final String EXTENSION_NAME = "permessage-deflate";
+    /**
+     * Maximal (and default) size of the LZ77 sliding window in bits.
+     */
+    public static final int MAX_WINDOW_BITS = 15;
+    /**
+     * Minimal size of the LZ77 sliding window in bits.
+     */
+    public static final int MIN_WINDOW_BITS = 8;
+
+    private static final String SERVER_NO_CONTEXT_TAKEOVER = "server_no_context_takeover";
+    private static final String CLIENT_NO_CONTEXT_TAKEOVER = "client_no_context_takeover";
+    private static final String SERVER_MAX_WINDOW_BITS = "server_max_window_bits";
+    private static final String CLIENT_MAX_WINDOW_BITS = "client_max_window_bits";
+    // compressed data of each message ends with an empty stored block, that is not transferred
+    private static final byte[] TAIL = {0, 0, (byte) 0xFF, (byte) 0xFF};
+    private static final int BUFFER_SIZE = 4096;
+
+    private final Deflater deflater;
+    private final Inflater inflater;
+    private final boolean resetDeflater;
+    private final boolean resetInflater;
+    private final long maxMessageLength;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private long messageLength;
+
+    private PerMessageDeflate(int compressionLevel,
+                              boolean resetDeflater,
+                              boolean resetInflater,
+                              long maxMessageLength) {
+        this.deflater = new Deflater(compressionLevel, true);
+        this.inflater = new Inflater(true);
+        this.resetDeflater = resetDeflater;
+        this.resetInflater = resetInflater;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    /**
+     * Create a server side instance for negotiated parameters.
+     *
+     * @param parameters       negotiated parameters
+     * @param compressionLevel compression level, see {@link java.util.zip.Deflater#setLevel(int)}
+     * @param maxMessageLength maximal length of a decompressed message
+     * @return a new instance to be used by a single connection
+     */
+    public static PerMessageDeflate server(Parameters parameters, int compressionLevel, long maxMessageLength) {
+        return new PerMessageDeflate(compressionLevel,
+                                     parameters.serverNoContextTakeover(),
+                                     parameters.clientNoContextTakeover(),
+                                     maxMessageLength);
+    }
+
+    /**
+     * Create a client side instance for negotiated parameters.
+     *
+     * @param parameters       negotiated parameters
+     * @param compressionLevel compression level, see {@link java.util.zip.Deflater#setLevel(int)}
+     * @param maxMessageLength maximal length of a decompressed message
+     * @return a new instance to be used by a single connection
+     */
+    public static PerMessageDeflate client(Parameters parameters, int compressionLevel, long maxMessageLength) {
+        return new PerMessageDeflate(compressionLevel,
+                                     parameters.clientNoContextTakeover(),
+                                     parameters.serverNoContextTakeover(),
+                                     maxMessageLength);
+    }
+
+    /**
+     * Server side negotiation. Chooses the first offer of the client that can be accepted.
+     *
+     * @param offers    values of the {@code Sec-WebSocket-Extensions} request headers
+     * @param preferred parameters preferred by the server; context takeover is disabled if either the client or
+     *                  the server requires it, client window bits are only used if the client supports them
+     * @return accepted parameters, or empty if the client did not offer the extension, or no offer could be accepted
+     */
+    public static Optional<Parameters> negotiate(List<String> offers, Parameters preferred) {
+        for (List<String[]> offer : parseExtensions(offers)) {
+            if (!EXTENSION_NAME.equals(offer.getFirst()[0])) {
+                continue;
+            }
+            Optional<Parameters> accepted = accept(offer, preferred);
+            if (accepted.isPresent()) {
+                return accepted;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Client side negotiation. Validates the response of the server to our offer.
+     *
+     * @param response values of the {@code Sec-WebSocket-Extensions} response headers
+     * @return parameters accepted by the server, or empty if the server declined the extension
+     * @throws java.lang.IllegalArgumentException in case the response is not valid for our offer
+     */
+    public static Optional<Parameters> accepted(List<String> response) {
+        List<List<String[]>> extensions = parseExtensions(response);
+        if (extensions.isEmpty()) {
+            return Optional.empty();
+        }
+        if (extensions.size() > 1 || !EXTENSION_NAME.equals(extensions.getFirst().getFirst()[0])) {
+            throw new IllegalArgumentException("Server accepted extensions that were not offered: " + response);
+        }
+        boolean serverNoContextTakeover = false;
+        boolean clientNoContextTakeover = false;
+        int serverMaxWindowBits = MAX_WINDOW_BITS;
+        List<String[]> extension = extensions.getFirst();
+        for (String[] parameter : extension.subList(1, extension.size())) {
+            switch (parameter[0]) {
+            case SERVER_NO_CONTEXT_TAKEOVER -> serverNoContextTakeover = true;
+            case CLIENT_NO_CONTEXT_TAKEOVER -> clientNoContextTakeover = true;
+            case SERVER_MAX_WINDOW_BITS -> serverMaxWindowBits = windowBits(parameter);
+            // we never offer client window bits, as the JDK deflater cannot use a smaller window
+            default -> throw new IllegalArgumentException("Invalid " + EXTENSION_NAME + " parameter in response: "
+                                                                  + parameter[0]);
+            }
+        }
+        return Optional.of(new Parameters(serverNoContextTakeover,
+                                          clientNoContextTakeover,
+                                          serverMaxWindowBits,
+                                          MAX_WINDOW_BITS));
+    }
+
+    /**
+     * Compress a fragment of a message.
+     * The first fragment of a compressed message must be sent with the {@code RSV1} bit set.
+     *
+     * @param data fragment data
+     * @param last whether this is the last fragment of the message
+     * @return compressed data
+     */
+    public BufferData compress(BufferData data, boolean last) {
+        byte[] bytes = new byte[data.available()];
+        data.read(bytes);
+        deflater.setInput(bytes);
+        BufferData result = BufferData.growing(Math.max(bytes.length / 2, 64));
+        int count;
+        do {
+            count = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+            result.write(buffer, 0, count);
+        } while (count == buffer.length);
+
+        if (last) {
+            if (result.available() < TAIL.length) {
+                // nothing to flush (empty message), represented by a single empty block as defined by the RFC
+                result.clear();
+                result.write(0);
+            } else {
+                result.trim(TAIL.length);
+            }
+            if (resetDeflater) {
+                deflater.reset();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Decompress a fragment of a compressed message.
+     *
+     * @param data compressed fragment data
+     * @param last whether this is the last fragment of the message
+     * @return decompressed data
+     * @throws WsCloseException in case the data is not valid, or the message is too big
+     */
+    public BufferData decompress(BufferData data, boolean last) {
+        byte[] bytes;
+        int length = data.available();
+        if (last) {
+            bytes = new byte[length + TAIL.length];
+            data.read(bytes, 0, length);
+            System.arraycopy(TAIL, 0, bytes, length, TAIL.length);
+        } else {
+            bytes = new byte[length];
+            data.read(bytes, 0, length);
+        }
+        inflater.setInput(bytes);
+        BufferData result = BufferData.growing(Math.max(bytes.length * 2, 64));
+        try {
+            int count;
+            do {
+                count = inflater.inflate(buffer);
+                messageLength += count;
+                if (messageLength > maxMessageLength) {
+                    throw new WsCloseException("Decompressed message too large", WsCloseCodes.TOO_BIG);
+                }
+                result.write(buffer, 0, count);
+            } while (count > 0);
+        } catch (DataFormatException e) {
+            throw new WsCloseException("Invalid compressed data: " + e.getMessage(), WsCloseCodes.NOT_CONSISTENT);
+        }
+        if (last) {
+            messageLength = 0;
+            // the peer may also end the deflate stream, in which case it starts a new one with the next message
+            if (resetInflater || inflater.finished()) {
+                inflater.reset();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Release resources of this instance, it must not be used afterwards.
+     */
+    public void close() {
+        deflater.end();
+        inflater.end();
+    }
+
+    private static Optional<Parameters> accept(List<String[]> offer, Parameters preferred) {
+        boolean serverNoContextTakeover = false;
+        boolean clientNoContextTakeover = false;
+        boolean clientWindowBitsSupported = false;
+        int clientMaxWindowBits = MAX_WINDOW_BITS;
+        List<String> seen = new ArrayList<>();
+        for (String[] parameter : offer.subList(1, offer.size())) {
+            String name = parameter[0];
+            if (seen.contains(name)) {
+                return Optional.empty();
+            }
+            seen.add(name);
+            try {
+                switch (name) {
+                case SERVER_NO_CONTEXT_TAKEOVER -> serverNoContextTakeover = noValue(parameter);
+                case CLIENT_NO_CONTEXT_TAKEOVER -> clientNoContextTakeover = noValue(parameter);
+                case SERVER_MAX_WINDOW_BITS -> {
+                    if (windowBits(parameter) < MAX_WINDOW_BITS) {
+                        // our deflater cannot use a smaller window
+                        return Optional.empty();
+                    }
+                }
+                case CLIENT_MAX_WINDOW_BITS -> {
+                    clientWindowBitsSupported = true;
+                    if (parameter[1] != null) {
+                        clientMaxWindowBits = windowBits(parameter);
+                    }
+                }
+                default -> {
+                    return Optional.empty();
+                }
+                }
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+        }
+        if (clientWindowBitsSupported) {
+            clientMaxWindowBits = Math.min(clientMaxWindowBits, preferred.clientMaxWindowBits());
+        }
+        return Optional.of(new Parameters(serverNoContextTakeover || preferred.serverNoContextTakeover(),
+                                          clientNoContextTakeover || preferred.clientNoContextTakeover(),
+                                          MAX_WINDOW_BITS,
+                                          clientMaxWindowBits));
+    }
+
+    private static boolean noValue(String[] parameter) {
+        if (parameter[1] != null) {
+            throw new IllegalArgumentException("Parameter " + parameter[0] + " must not have a value");
+        }
+        return true;
+    }
+
+    private static int windowBits(String[] parameter) {
+        try {
+            int bits = Integer.parseInt(parameter[1]);
+            if (bits >= MIN_WINDOW_BITS && bits <= MAX_WINDOW_BITS) {
+                return bits;
+            }
+        } catch (NumberFormatException | NullPointerException ignored) {
+            // invalid value is reported below
+        }
+        throw new IllegalArgumentException("Invalid value of " + parameter[0] + ": " + parameter[1]);
+    }
+
+    // each extension is a list of [name, value] pairs, the first pair being the extension name
+    private static List<List<String[]>> parseExtensions(List<String> headerValues) {
+        List<List<String[]>> result = new ArrayList<>();
+        for (String headerValue : headerValues) {
+            for (String extension : split(headerValue, ',')) {
+                List<String[]> parameters = new ArrayList<>();
+                for (String parameter : split(extension, ';')) {
+                    int eq = parameter.indexOf('=');
+                    if (eq == -1) {
+                        parameters.add(new String[] {parameter, null});
+                    } else {
+                        String value = parameter.substring(eq + 1).trim();
+                        if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) {
+                            value = value.substring(1, value.length() - 1);
+                        }
+                        parameters.add(new String[] {parameter.substring(0, eq).trim(), value});
+                    }
+                }
+                if (!parameters.isEmpty()) {
+                    result.add(parameters);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<String> split(String value, char separator) {
+        List<String> result = new ArrayList<>();
+        boolean quoted = false;
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == separator && !quoted) {
+                addTrimmed(result, value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        addTrimmed(result, value.substring(start));
+        return result;
+    }
+
+    private static void addTrimmed(List<String> result, String value) {
+        String trimmed = value.trim();
+        if (!trimmed.isEmpty()) {
+            result.add(trimmed);
+        }
+    }
+
+    /**
+     * Negotiated (or preferred) parameters of the extension.
+     *
+     * @param serverNoContextTakeover whether the server resets its compression context after each message
+     * @param clientNoContextTakeover whether the client resets its compression context after each message
+     * @param serverMaxWindowBits     maximal LZ77 window size used by the server to compress messages
+     * @param clientMaxWindowBits     maximal LZ77 window size used by the client to compress messages
+     */
+    public record Parameters(boolean serverNoContextTakeover,
+                             boolean clientNoContextTakeover,
+                             int serverMaxWindowBits,
+                             int clientMaxWindowBits) {
+
+        /**
+         * Value of the {@code Sec-WebSocket-Extensions} header representing these parameters, used by the client
+         * as an offer, and by the server as a response.
+         *
+         * @return header value
+         */
+        public String headerValue() {
+            StringBuilder result = new StringBuilder(EXTENSION_NAME);
+            if (serverNoContextTakeover) {
+                result.append("; ").append(SERVER_NO_CONTEXT_TAKEOVER);
+            }
+            if (clientNoContextTakeover) {
+                result.append("; ").append(CLIENT_NO_CONTEXT_TAKEOVER);
+            }
+            if (serverMaxWindowBits < MAX_WINDOW_BITS) {
+                result.append("; ").append(SERVER_MAX_WINDOW_BITS).append('=').append(serverMaxWindowBits);
+            }
+            if (clientMaxWindowBits < MAX_WINDOW_BITS) {
+                result.append("; ").append(CLIENT_MAX_WINDOW_BITS).append('=').append(clientMaxWindowBits);
+            }
+            return result.toString();
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -30,7 +30,11 @@ public final class ServerWsFrame extends AbstractWsFrame {
     private static final System.Logger LOGGER = System.getLogger(ServerWsFrame.class.getName());
 
     ServerWsFrame(WsOpCode opCode, BufferData data, boolean fin, boolean isPayload) {
-        super(LazyValue.create(data), data.available(), fin, isPayload, opCode);
+        this(opCode, data, fin, isPayload, false);
+    }
+
+    ServerWsFrame(WsOpCode opCode, BufferData data, boolean fin, boolean isPayload, boolean compressed) {
+        super(LazyValue.create(data), data.available(), fin, isPayload, opCode, compressed);
     }
 
     /**
@@ -91,8 +95,24 @@ public final class ServerWsFrame extends AbstractWsFrame {
      * @throws java.lang.RuntimeException                 depending on implementation of dataReader
      */
     public static ServerWsFrame read(SocketContext ctx, DataReader dataReader, int maxFrameLength) {
+        return read(ctx, dataReader, maxFrameLength, false);
+    }
+
+    /**
+     * Read server frame from request data.
+     *
+     * @param ctx            socket context
+     * @param dataReader     data reader to get frame bytes from
+     * @param maxFrameLength maximal length of a frame, to protect memory from too big frames
+     * @param compression    whether the {@code permessage-deflate} extension was negotiated, so the {@code RSV1} bit
+     *                       may be set
+     * @return a new server frame
+     * @throws WsCloseException in case of invalid frame
+     * @throws java.lang.RuntimeException                 depending on implementation of dataReader
+     */
+    public static ServerWsFrame read(SocketContext ctx, DataReader dataReader, int maxFrameLength, boolean compression) {
 
-        FrameHeader header = readFrameHeader(dataReader, maxFrameLength);
+        FrameHeader header = readFrameHeader(dataReader, maxFrameLength, compression);
 
         if (header.masked()) {
             throw new WsCloseException("Masked server frame", WsCloseCodes.PROTOCOL_ERROR);
@@ -105,7 +125,8 @@ public final class ServerWsFrame extends AbstractWsFrame {
         ServerWsFrame frame = new ServerWsFrame(header.opCode(),
                                                 payload,
                                                 header.fin(),
-                                                isPayload(header));
+                                                isPayload(header),
+                                                header.compressed());
 
         if (LOGGER.isLoggable(System.Logger.Level.TRACE)) {
             ctx.log(LOGGER, System.Logger.Level.TRACE, "ws server frame recv %s", frame);
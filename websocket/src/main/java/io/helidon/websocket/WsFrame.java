@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -65,6 +65,17 @@ public interface WsFrame {
      */
     BufferData payloadData();
 
+    /**
+     * Whether the {@code RSV1} bit is set on this frame. When the {@code permessage-deflate} extension is negotiated,
+     * this bit marks the first frame of a compressed message.
+     *
+     * @return {@code true} if the payload of the message is compressed
+     * @see io.helidon.websocket.PerMessageDeflate
+     */
+    default boolean compressed() {
+        return false;
+    }
+
     /**
      * Helper method to check whether this is a payload frame (text or binary),
      * or a control frame (such as ping, pong, close etc.).